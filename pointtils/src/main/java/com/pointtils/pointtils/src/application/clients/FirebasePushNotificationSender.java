@@ -0,0 +1,65 @@
+package com.pointtils.pointtils.src.application.clients;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.pointtils.pointtils.src.core.domain.entities.enums.PushDeliveryStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notification.push.sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushNotificationSender implements PushNotificationSender {
+
+    private static final Set<MessagingErrorCode> RETRYABLE_ERRORS = Set.of(
+            MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.INTERNAL, MessagingErrorCode.QUOTA_EXCEEDED);
+
+    @Override
+    public List<PushDeliveryStatus> send(List<String> tokens, String title, String body) {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .build();
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
+            return response.getResponses().stream()
+                    .map(FirebasePushNotificationSender::toDeliveryStatus)
+                    .toList();
+        } catch (FirebaseMessagingException ex) {
+            log.error("Erro ao enviar lote de {} notificacoes push para o FCM", tokens.size(), ex);
+            return Collections.nCopies(tokens.size(), toDeliveryStatus(ex.getMessagingErrorCode()));
+        }
+    }
+
+    private static PushDeliveryStatus toDeliveryStatus(SendResponse response) {
+        if (response.isSuccessful()) {
+            return PushDeliveryStatus.SENT;
+        }
+        return toDeliveryStatus(response.getException().getMessagingErrorCode());
+    }
+
+    private static PushDeliveryStatus toDeliveryStatus(MessagingErrorCode errorCode) {
+        if (errorCode == MessagingErrorCode.UNREGISTERED) {
+            return PushDeliveryStatus.UNREGISTERED;
+        }
+        // Sem código específico a falha é de transporte (timeout, conexão) e pode ser repetida
+        if (Objects.isNull(errorCode) || RETRYABLE_ERRORS.contains(errorCode)) {
+            return PushDeliveryStatus.RETRY;
+        }
+        return PushDeliveryStatus.FAILED;
+    }
+}
@@ -0,0 +1,24 @@
+package com.pointtils.pointtils.src.application.clients;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.PushDeliveryStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Substitui o Firebase em ambiente local e nos testes: apenas registra o envio no log
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notification.push.sender", havingValue = "log")
+public class LoggingPushNotificationSender implements PushNotificationSender {
+
+    @Override
+    public List<PushDeliveryStatus> send(List<String> tokens, String title, String body) {
+        log.info("Notificacao push '{}' enviada para {} dispositivos (envio simulado)", title, tokens.size());
+        return Collections.nCopies(tokens.size(), PushDeliveryStatus.SENT);
+    }
+}
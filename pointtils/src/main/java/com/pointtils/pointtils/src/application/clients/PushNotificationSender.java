@@ -0,0 +1,27 @@
+package com.pointtils.pointtils.src.application.clients;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.PushDeliveryStatus;
+
+import java.util.List;
+
+/**
+ * Envia uma mesma notificação push para um lote de dispositivos. A implementação usada é escolhida pela
+ * propriedade {@code app.notification.push.sender}: {@code firebase} (padrão) ou {@code log} (ambiente local e testes).
+ */
+public interface PushNotificationSender {
+
+    /**
+     * Quantidade máxima de tokens aceita pelo FCM em um envio multicast
+     */
+    int MAX_TOKENS_PER_BATCH = 500;
+
+    /**
+     * Envia a notificação para os tokens informados
+     *
+     * @param tokens Tokens dos dispositivos, no máximo {@link #MAX_TOKENS_PER_BATCH}
+     * @param title  Título da notificação
+     * @param body   Corpo da notificação
+     * @return Situação do envio de cada token, na mesma ordem da lista recebida
+     */
+    List<PushDeliveryStatus> send(List<String> tokens, String title, String body);
+}
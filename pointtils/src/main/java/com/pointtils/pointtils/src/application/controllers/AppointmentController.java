@@ -17,6 +17,8 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -41,6 +43,8 @@ import java.util.UUID;
 @Tag(name = "Appointment Controller", description = "Endpoints para gerenciamento de solicitações de agendamento")
 public class AppointmentController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final AppointmentService appointmentService;
 
     @PostMapping
@@ -147,7 +151,8 @@ public class AppointmentController {
     @GetMapping("/filter")
     @Operation(
             summary = "Busca agendamentos com filtros opcionais",
-            description = "Permite buscar agendamentos aplicando filtros por intérprete, usuário, status, modalidade, data e avaliação"
+            description = "Permite buscar agendamentos aplicando filtros por intérprete, usuário, status, modalidade, data e avaliação. " +
+                    "Quando page e size são informados, retorna apenas a página solicitada; os dois devem ser informados juntos"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Agendamentos filtrados encontrados com sucesso",
@@ -165,15 +170,31 @@ public class AppointmentController {
             @RequestParam(required = false) AppointmentModality modality,
             @RequestParam(required = false) String fromDateTime,
             @RequestParam(required = false) Boolean hasRating,
-            @RequestParam(required = false, defaultValue = "-1") int dayLimit) {
+            @RequestParam(required = false, defaultValue = "-1") int dayLimit,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
 
         LocalDateTime from = null;
         if (fromDateTime != null && !fromDateTime.trim().isEmpty()) {
             from = LocalDateTime.parse(fromDateTime);
         }
 
+        if ((page == null) != (size == null)) {
+            throw new IllegalArgumentException("Os parâmetros page e size devem ser informados juntos");
+        }
+        Pageable pageable = Pageable.unpaged();
+        if (page != null) {
+            if (page < 0) {
+                throw new IllegalArgumentException("A página deve ser maior ou igual a zero");
+            }
+            if (size < 1 || size > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE);
+            }
+            pageable = PageRequest.of(page, size);
+        }
+
         List<AppointmentFilterResponseDTO> appointments = appointmentService
-                .searchAppointments(interpreterId, userId, status, modality, from, hasRating, dayLimit);
+                .searchAppointments(interpreterId, userId, status, modality, from, hasRating, dayLimit, pageable);
         return ResponseEntity.ok(ApiResponseDTO.success("Solicitações encontradas com sucesso", appointments));
     }
 
@@ -5,6 +5,7 @@ import com.pointtils.pointtils.src.application.dto.requests.InterpreterBasicRequ
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterPatchRequestDTO;
 import com.pointtils.pointtils.src.application.dto.responses.ApiResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterListResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.InterpreterPageResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterResponseDTO;
 import com.pointtils.pointtils.src.application.services.InterpreterService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,6 +39,8 @@ import java.util.UUID;
 @Tag(name = "Interpreter Controller", description = "Endpoints para gerenciamento de usuários intérprete")
 public class InterpreterController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final InterpreterService service;
 
     @PostMapping("/register")
@@ -66,21 +69,29 @@ public class InterpreterController {
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
             summary = "Busca todos os usuários intérprete",
-            description = "Retorna lista de todos os intérpretes cadastrados no sistema"
+            description = "Retorna lista de todos os intérpretes cadastrados no sistema. Quando size ou cursor são "
+                    + "informados, retorna uma página ordenada por nome, avaliação ou relevância "
+                    + "(sort=name|rating|relevance; relevance é o padrão quando name é informado) e o cursor da "
+                    + "próxima página no cabeçalho " + NEXT_CURSOR_HEADER
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Intérpretes encontrados com sucesso",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ApiResponseDTO.class))
             ),
+            @ApiResponse(responseCode = "400", description = "Filtros, ordenação ou cursor inválidos"),
             @ApiResponse(responseCode = "401", description = "Token de autenticação inválido"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
     })
     public ResponseEntity<ApiResponseDTO<List<InterpreterListResponseDTO>>> findAll(@ModelAttribute FindAllInterpreterDTO dto) {
 
-        List<InterpreterListResponseDTO> interpreters = service.findAll(dto);
+        InterpreterPageResponseDTO page = service.findAll(dto);
 
-        return ResponseEntity.ok(ApiResponseDTO.success("Intérpretes encontrados com sucesso", interpreters));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(ApiResponseDTO.success("Intérpretes encontrados com sucesso", page.getItems()));
     }
 
     @GetMapping("/{id}")
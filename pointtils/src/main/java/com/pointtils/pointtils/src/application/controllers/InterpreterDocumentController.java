@@ -1,15 +1,20 @@
 package com.pointtils.pointtils.src.application.controllers;
 
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentCompleteRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentUploadRequestDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterDocumentResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.PresignedUrlResponseDTO;
 import com.pointtils.pointtils.src.application.services.InterpreterDocumentService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +22,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -59,6 +65,68 @@ public class InterpreterDocumentController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{id}/upload-urls")
+    @Operation(
+            summary = "Gera URLs para upload direto de documentos ao S3",
+            description = "Retorna uma URL pré-assinada de PUT para cada arquivo. Após o envio, o cliente deve "
+                    + "chamar o endpoint de conclusão com as keys retornadas"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "URLs de upload geradas com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = PresignedUrlResponseDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido ou muito grande"),
+            @ApiResponse(responseCode = "404", description = "Intérprete não encontrado"),
+            @ApiResponse(responseCode = "503", description = "Serviço de upload temporariamente indisponível",
+                    content = @Content(mediaType = "text/plain"))
+    })
+    public ResponseEntity<List<PresignedUrlResponseDTO>> createUploadUrls(
+            @PathVariable UUID id,
+            @Valid @RequestBody InterpreterDocumentUploadRequestDTO request) {
+        return ResponseEntity.ok(interpreterDocumentService.createUploadUrls(id, request));
+    }
+
+    @PostMapping("/{id}/complete")
+    @Operation(
+            summary = "Conclui o upload direto de documentos",
+            description = "Confirma que os arquivos foram enviados ao S3 e os registra como documentos do intérprete"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Documentos registrados com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = InterpreterDocumentResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Key inválida ou arquivo não enviado"),
+            @ApiResponse(responseCode = "404", description = "Intérprete não encontrado"),
+            @ApiResponse(responseCode = "503", description = "Serviço de upload temporariamente indisponível",
+                    content = @Content(mediaType = "text/plain"))
+    })
+    public ResponseEntity<InterpreterDocumentResponseDTO> completeUpload(
+            @PathVariable UUID id,
+            @Valid @RequestBody InterpreterDocumentCompleteRequestDTO request) {
+        return ResponseEntity.ok(interpreterDocumentService.completeUpload(id, request));
+    }
+
+    @GetMapping("/{id}/{documentId}/download-url")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Gera URL temporária para download de um documento",
+            description = "Retorna uma URL pré-assinada de GET para o documento do intérprete"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "URL de download gerada com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PresignedUrlResponseDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Token de autenticação inválido"),
+            @ApiResponse(responseCode = "404", description = "Documento não encontrado"),
+            @ApiResponse(responseCode = "503", description = "Serviço de download temporariamente indisponível",
+                    content = @Content(mediaType = "text/plain"))
+    })
+    public ResponseEntity<PresignedUrlResponseDTO> createDownloadUrl(
+            @PathVariable UUID id,
+            @PathVariable UUID documentId) {
+        return ResponseEntity.ok(interpreterDocumentService.createDownloadUrl(id, documentId));
+    }
+
     @GetMapping("/{id}")
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
@@ -3,7 +3,9 @@ package com.pointtils.pointtils.src.application.controllers;
 import com.pointtils.pointtils.src.application.dto.requests.RatingPatchRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.RatingRequestDTO;
 import com.pointtils.pointtils.src.application.dto.responses.ApiResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.RatingPageResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.RatingResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.RatingSummaryResponseDTO;
 import com.pointtils.pointtils.src.application.services.RatingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -81,6 +83,54 @@ public class RatingController {
         return ResponseEntity.ok(apiResponse);
     }
 
+    @GetMapping("/summary")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Obtém o resumo das avaliações de um intérprete",
+            description = "Retorna a média, a quantidade e o histograma de notas (1 a 5 estrelas) das avaliações "
+                    + "de um intérprete, sem a lista de avaliações"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resumo das avaliações obtido com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponseDTO.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "Intérprete não encontrado"),
+            @ApiResponse(responseCode = "401", description = "Token de autenticação inválido"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    public ResponseEntity<ApiResponseDTO<RatingSummaryResponseDTO>> getRatingSummary(@RequestParam UUID interpreterId) {
+        RatingSummaryResponseDTO summary = ratingService.getRatingSummary(interpreterId);
+        return ResponseEntity.ok(ApiResponseDTO.success("Resumo das avaliações obtido com sucesso", summary));
+    }
+
+    @GetMapping("/feed")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+            summary = "Obtém uma página das avaliações de um intérprete",
+            description = "Retorna uma página das avaliações de um intérprete ordenada pelas mais recentes ou pelas "
+                    + "maiores notas (sort=recent|stars) e o cursor da próxima página. A primeira página traz também "
+                    + "a média, a quantidade e o histograma de notas"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Avaliações encontradas com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ApiResponseDTO.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Ordenação, tamanho da página ou cursor inválidos"),
+            @ApiResponse(responseCode = "404", description = "Intérprete não encontrado"),
+            @ApiResponse(responseCode = "401", description = "Token de autenticação inválido"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    public ResponseEntity<ApiResponseDTO<RatingPageResponseDTO>> getRatingFeed(
+            @RequestParam UUID interpreterId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
+        RatingPageResponseDTO page = ratingService.getRatingFeed(interpreterId, sort, size, cursor);
+        return ResponseEntity.ok(ApiResponseDTO.success("Avaliações obtidas com sucesso", page));
+    }
+
     @PatchMapping("/{id}")
     @SecurityRequirement(name = "bearerAuth")
     @Operation(
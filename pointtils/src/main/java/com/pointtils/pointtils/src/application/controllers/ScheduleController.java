@@ -107,4 +107,18 @@ public class ScheduleController {
         ApiResponseDTO<List<AvailableTimeSlotsResponseDTO>> response = new ApiResponseDTO<>(true, "Horários disponíveis obtidos com sucesso", availableTimeSlots);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/available/interpreters")
+    @Operation(
+            summary = "Lista os intérpretes com horários seguidos livres no período",
+            description = "Retorna os ids dos intérpretes que possuem, em algum dia do período, a quantidade informada "
+                    + "de horários de 30 minutos seguidos livres"
+    )
+    public ResponseEntity<ApiResponseDTO<List<UUID>>> listAvailableInterpreters(@RequestParam LocalDate dateFrom,
+                                                                               @RequestParam LocalDate dateTo,
+                                                                               @RequestParam(defaultValue = "2") int slots) {
+        List<UUID> interpreters = service.findAvailableInterpreters(dateFrom, dateTo, slots);
+        ApiResponseDTO<List<UUID>> response = new ApiResponseDTO<>(true, "Intérpretes disponíveis obtidos com sucesso", interpreters);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -1,6 +1,9 @@
 package com.pointtils.pointtils.src.application.controllers;
 
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadCompleteRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.UserPicturePostRequestDTO;
+import com.pointtils.pointtils.src.application.dto.responses.PresignedUrlResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.UserResponseDTO;
 import com.pointtils.pointtils.src.application.services.UserPictureService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,11 +14,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -60,6 +66,71 @@ public class UserPictureController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{id}/picture/upload-url")
+    @Operation(
+            summary = "Gera URL para upload direto da foto de perfil ao S3",
+            description = "Retorna uma URL pré-assinada de PUT. Após o envio do arquivo, o cliente deve chamar "
+                    + "o endpoint de conclusão com a key retornada"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "URL de upload gerada com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PresignedUrlResponseDTO.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido, muito grande ou formato não suportado"),
+            @ApiResponse(responseCode = "401", description = "Token de autenticação inválido"),
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
+            @ApiResponse(responseCode = "503", description = "Serviço de upload temporariamente indisponível",
+                    content = @Content(mediaType = "text/plain"))
+    })
+    public ResponseEntity<PresignedUrlResponseDTO> createPictureUploadUrl(
+            @Parameter(description = "ID do usuário", required = true) @PathVariable UUID id,
+            @Valid @RequestBody PresignedUploadRequestDTO request) {
+        return ResponseEntity.ok(userPictureService.createPictureUploadUrl(id, request));
+    }
+
+    @PostMapping("/{id}/picture/complete")
+    @Operation(
+            summary = "Conclui o upload direto da foto de perfil",
+            description = "Confirma que o arquivo foi enviado ao S3 e o registra como foto de perfil do usuário"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Foto de perfil atualizada com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UserResponseDTO.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Key inválida ou arquivo não enviado"),
+            @ApiResponse(responseCode = "401", description = "Token de autenticação inválido"),
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
+            @ApiResponse(responseCode = "503", description = "Serviço de upload temporariamente indisponível",
+                    content = @Content(mediaType = "text/plain"))
+    })
+    public ResponseEntity<UserResponseDTO> completePictureUpload(
+            @Parameter(description = "ID do usuário", required = true) @PathVariable UUID id,
+            @Valid @RequestBody PresignedUploadCompleteRequestDTO request) throws IOException {
+        return ResponseEntity.ok(userPictureService.completePictureUpload(id, request));
+    }
+
+    @GetMapping("/{id}/picture/download-url")
+    @Operation(
+            summary = "Gera URL temporária para download da foto de perfil",
+            description = "Retorna uma URL pré-assinada de GET para a foto atual do usuário"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "URL de download gerada com sucesso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PresignedUrlResponseDTO.class))
+            ),
+            @ApiResponse(responseCode = "401", description = "Token de autenticação inválido"),
+            @ApiResponse(responseCode = "404", description = "Usuário ou foto não encontrados"),
+            @ApiResponse(responseCode = "503", description = "Serviço de download temporariamente indisponível",
+                    content = @Content(mediaType = "text/plain"))
+    })
+    public ResponseEntity<PresignedUrlResponseDTO> createPictureDownloadUrl(
+            @Parameter(description = "ID do usuário", required = true) @PathVariable UUID id) {
+        return ResponseEntity.ok(userPictureService.createPictureDownloadUrl(id));
+    }
+
     @DeleteMapping("/{id}/picture")
     @Operation(
             summary = "Deleta foto de perfil do usuário",
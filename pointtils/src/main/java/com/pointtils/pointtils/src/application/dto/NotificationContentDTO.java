@@ -0,0 +1,7 @@
+package com.pointtils.pointtils.src.application.dto;
+
+/**
+ * Título e corpo de uma notificação push já prontos para envio
+ */
+public record NotificationContentDTO(String title, String body) {
+}
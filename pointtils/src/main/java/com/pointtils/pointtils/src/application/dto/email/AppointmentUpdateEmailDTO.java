@@ -1,5 +1,6 @@
 package com.pointtils.pointtils.src.application.dto.email;
 
+import com.pointtils.pointtils.src.application.util.CompiledTemplate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,7 +14,7 @@ import lombok.Setter;
 @NoArgsConstructor
 public class AppointmentUpdateEmailDTO {
     private String email;
-    private String template;
+    private CompiledTemplate template;
     private String userName;
     private String appointmentDate;
     private String appointmentDescription;
@@ -0,0 +1,12 @@
+package com.pointtils.pointtils.src.application.dto.email;
+
+import org.springframework.core.io.InputStreamSource;
+
+/**
+ * Anexo de email lido apenas no momento do envio
+ *
+ * @param fileName Nome do arquivo anexado
+ * @param content  Fonte do conteúdo, aberta a cada leitura
+ */
+public record EmailAttachmentDTO(String fileName, InputStreamSource content) {
+}
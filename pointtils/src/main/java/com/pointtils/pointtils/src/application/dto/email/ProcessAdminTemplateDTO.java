@@ -1,5 +1,6 @@
 package com.pointtils.pointtils.src.application.dto.email;
 
+import com.pointtils.pointtils.src.application.util.CompiledTemplate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,7 +13,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 public class ProcessAdminTemplateDTO {
-    private String template;
+    private CompiledTemplate template;
     private String interpreterName;
     private String cpf;
     private String cnpj;
@@ -0,0 +1,22 @@
+package com.pointtils.pointtils.src.application.dto.requests;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentModality;
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AppointmentSpecificationFilterDTO {
+    private UUID interpreterId;
+    private UUID userId;
+    private AppointmentStatus status;
+    private AppointmentModality modality;
+    private LocalDateTime fromDateTime;
+    private Boolean hasRating;
+    private Integer dayLimit;
+}
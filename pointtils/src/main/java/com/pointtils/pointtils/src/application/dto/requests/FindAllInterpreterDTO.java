@@ -18,4 +18,7 @@ public class FindAllInterpreterDTO {
     @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm")
     @JsonProperty("available_date")
     private String availableDate;
+    private String sort;
+    private String cursor;
+    private Integer size;
 }
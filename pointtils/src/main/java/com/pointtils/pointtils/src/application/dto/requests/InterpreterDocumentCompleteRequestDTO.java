@@ -0,0 +1,24 @@
+package com.pointtils.pointtils.src.application.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterpreterDocumentCompleteRequestDTO {
+
+    @NotEmpty(message = "Ao menos uma key de arquivo deve ser informada")
+    private List<@NotBlank String> keys;
+
+    @JsonProperty("replace_existing")
+    private Boolean replaceExisting;
+}
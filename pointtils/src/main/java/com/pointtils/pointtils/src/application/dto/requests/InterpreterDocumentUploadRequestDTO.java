@@ -0,0 +1,20 @@
+package com.pointtils.pointtils.src.application.dto.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterpreterDocumentUploadRequestDTO {
+
+    @NotEmpty(message = "Ao menos um arquivo deve ser informado")
+    private List<@Valid PresignedUploadRequestDTO> files;
+}
@@ -0,0 +1,66 @@
+package com.pointtils.pointtils.src.application.dto.requests;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterListSort;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição da listagem de intérpretes usada na paginação por cursor: o valor da coluna de ordenação e o id do último
+ * intérprete retornado. É enviado ao cliente codificado em Base64 (URL safe). Na ordenação por relevância o valor é
+ * a similaridade calculada pelo banco, escrita sem perda de precisão para que a comparação da próxima página seja exata.
+ */
+@Getter
+@AllArgsConstructor
+public class InterpreterListCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private InterpreterListSort sort;
+    private String name;
+    private BigDecimal rating;
+    private Double relevance;
+    private UUID id;
+
+    public static InterpreterListCursor after(InterpreterListSort sort, String name, BigDecimal rating,
+                                              Double relevance, UUID id) {
+        return new InterpreterListCursor(sort,
+                name != null ? name : "",
+                rating != null ? rating : BigDecimal.ZERO,
+                relevance != null ? relevance : 0d,
+                id);
+    }
+
+    public String encode() {
+        String value = switch (sort) {
+            case RATING -> rating.toPlainString();
+            case RELEVANCE -> Double.toString(relevance);
+            case NAME -> name;
+        };
+        String raw = sort.name() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static InterpreterListCursor decode(String cursor, InterpreterListSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            InterpreterListSort sort = InterpreterListSort.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("Cursor não corresponde à ordenação informada");
+            }
+            UUID id = UUID.fromString(parts[1]);
+            return switch (sort) {
+                case RATING -> new InterpreterListCursor(sort, null, new BigDecimal(parts[2]), null, id);
+                case RELEVANCE -> new InterpreterListCursor(sort, null, null, Double.valueOf(parts[2]), id);
+                case NAME -> new InterpreterListCursor(sort, parts[2], null, null, id);
+            };
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+}
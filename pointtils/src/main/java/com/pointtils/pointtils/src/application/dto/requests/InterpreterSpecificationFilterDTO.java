@@ -20,5 +20,6 @@ public class InterpreterSpecificationFilterDTO {
     private List<UUID> specialties;
     private Gender gender;
     private LocalDateTime availableDate;
+    private boolean materializedAvailability;
     private String name;
 }
@@ -0,0 +1,17 @@
+package com.pointtils.pointtils.src.application.dto.requests;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadCompleteRequestDTO {
+
+    @NotBlank(message = "A key do arquivo é obrigatória")
+    private String key;
+}
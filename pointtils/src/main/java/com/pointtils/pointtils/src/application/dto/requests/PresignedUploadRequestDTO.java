@@ -0,0 +1,30 @@
+package com.pointtils.pointtils.src.application.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadRequestDTO {
+
+    @NotBlank(message = "O nome do arquivo é obrigatório")
+    @JsonProperty("file_name")
+    private String fileName;
+
+    @NotBlank(message = "O tipo do arquivo é obrigatório")
+    @JsonProperty("content_type")
+    private String contentType;
+
+    @NotNull(message = "O tamanho do arquivo é obrigatório")
+    @Positive(message = "O tamanho do arquivo deve ser maior que zero")
+    @JsonProperty("content_length")
+    private Long contentLength;
+}
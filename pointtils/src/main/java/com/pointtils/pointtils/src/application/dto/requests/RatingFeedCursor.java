@@ -0,0 +1,51 @@
+package com.pointtils.pointtils.src.application.dto.requests;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.RatingFeedSort;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição do feed de avaliações usada na paginação por cursor: a nota (na ordenação por nota), a data de criação e
+ * o id da última avaliação retornada. É enviado ao cliente codificado em Base64 (URL safe).
+ */
+@Getter
+@AllArgsConstructor
+public class RatingFeedCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private RatingFeedSort sort;
+    private BigDecimal stars;
+    private LocalDateTime createdAt;
+    private UUID id;
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + id + SEPARATOR + createdAt
+                + (sort == RatingFeedSort.STARS ? SEPARATOR + stars.toPlainString() : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RatingFeedCursor decode(String cursor, RatingFeedSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            RatingFeedSort sort = RatingFeedSort.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("Cursor não corresponde à ordenação informada");
+            }
+            UUID id = UUID.fromString(parts[1]);
+            LocalDateTime createdAt = LocalDateTime.parse(parts[2]);
+            BigDecimal stars = sort == RatingFeedSort.STARS ? new BigDecimal(parts[3]) : null;
+            return new RatingFeedCursor(sort, stars, createdAt, id);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+}
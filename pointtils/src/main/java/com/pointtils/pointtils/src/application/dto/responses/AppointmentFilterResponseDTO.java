@@ -7,6 +7,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
+import java.math.BigDecimal;
+import java.util.UUID;
+
 @Getter
 @Setter
 @SuperBuilder
@@ -16,4 +19,10 @@ public class AppointmentFilterResponseDTO extends AppointmentResponseDTO {
 
     @JsonProperty("contact_data")
     private ContactDataResponseDTO contactData;
+
+    @JsonProperty("rating_id")
+    private UUID ratingId;
+
+    @JsonProperty("rating_stars")
+    private BigDecimal ratingStars;
 }
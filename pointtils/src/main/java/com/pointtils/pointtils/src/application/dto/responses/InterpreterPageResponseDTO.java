@@ -0,0 +1,19 @@
+package com.pointtils.pointtils.src.application.dto.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+public class InterpreterPageResponseDTO {
+    private List<InterpreterListResponseDTO> items;
+    private String nextCursor;
+}
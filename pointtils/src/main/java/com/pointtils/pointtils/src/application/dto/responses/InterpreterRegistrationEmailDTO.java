@@ -1,7 +1,7 @@
 package com.pointtils.pointtils.src.application.dto.responses;
 
+import com.pointtils.pointtils.src.application.dto.email.EmailAttachmentDTO;
 import java.util.List;
-import org.springframework.web.multipart.MultipartFile;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -20,5 +20,5 @@ public class InterpreterRegistrationEmailDTO {
     private String videoUrl;
     private String acceptLink;
     private String rejectLink;
-    private List<MultipartFile> files;
+    private List<EmailAttachmentDTO> attachments;
 }
@@ -0,0 +1,31 @@
+package com.pointtils.pointtils.src.application.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUrlResponseDTO {
+
+    private String url;
+
+    private String method;
+
+    private String key;
+
+    /**
+     * Cabeçalhos que o cliente deve enviar junto com a requisição para que a assinatura seja válida
+     */
+    private Map<String, String> headers;
+
+    @JsonProperty("expires_at")
+    private Instant expiresAt;
+}
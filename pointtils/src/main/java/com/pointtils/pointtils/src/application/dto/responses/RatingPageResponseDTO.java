@@ -0,0 +1,27 @@
+package com.pointtils.pointtils.src.application.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+public class RatingPageResponseDTO {
+
+    /**
+     * Média, quantidade e histograma do intérprete, enviados apenas na primeira página
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private RatingSummaryResponseDTO summary;
+
+    private List<RatingResponseDTO> items;
+    private String nextCursor;
+}
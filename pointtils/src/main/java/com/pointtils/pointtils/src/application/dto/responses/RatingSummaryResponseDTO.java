@@ -0,0 +1,30 @@
+package com.pointtils.pointtils.src.application.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummaryResponseDTO {
+
+    @JsonProperty("interpreter_id")
+    private UUID interpreterId;
+
+    private BigDecimal average;
+
+    private Integer count;
+
+    /**
+     * Quantidade de avaliações por nota, de 5 a 1 estrelas; notas fracionadas contam na nota arredondada
+     */
+    private Map<Integer, Integer> histogram;
+}
@@ -20,6 +20,8 @@ public class UserResponseDTO {
     private String status;
     private String phone;
     private String picture;
+    private String pictureMedium;
+    private String pictureThumbnail;
     private List<SpecialtyResponseDTO> specialties;
 
     public static UserResponseDTO fromEntity(User user) {
@@ -31,6 +33,8 @@ public class UserResponseDTO {
                 .status(user.getStatus() != null ? user.getStatus().name() : null)
                 .phone(user.getPhone())
                 .picture(user.getPicture())
+                .pictureMedium(user.getPictureMedium())
+                .pictureThumbnail(user.getPictureThumbnail())
                 .build();
     }
 }
\ No newline at end of file
@@ -6,10 +6,12 @@ import com.pointtils.pointtils.src.application.dto.responses.AppointmentResponse
 import com.pointtils.pointtils.src.application.dto.responses.ContactDataResponseDTO;
 import com.pointtils.pointtils.src.core.domain.entities.Appointment;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
+import com.pointtils.pointtils.src.core.domain.entities.Rating;
 import com.pointtils.pointtils.src.core.domain.entities.User;
 import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentModality;
 import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -58,6 +60,10 @@ public class AppointmentMapper {
     }
 
     public AppointmentFilterResponseDTO toFilterResponseDTO(Appointment appointment, User user) {
+        return toFilterResponseDTO(appointment, user, null);
+    }
+
+    public AppointmentFilterResponseDTO toFilterResponseDTO(Appointment appointment, User user, Rating rating) {
         return AppointmentFilterResponseDTO.builder()
                 .id(appointment.getId())
                 .uf(appointment.getUf())
@@ -75,6 +81,8 @@ public class AppointmentMapper {
                 .startTime(appointment.getStartTime())
                 .endTime(appointment.getEndTime())
                 .contactData(toContactDataResponseDto(user))
+                .ratingId(rating != null ? rating.getId() : null)
+                .ratingStars(rating != null ? rating.getStars() : null)
                 .build();
     }
 
@@ -86,7 +94,7 @@ public class AppointmentMapper {
                 .picture(user.getPicture())
                 .specialties(userSpecialtyMapper.toDtoList(user.getSpecialties()));
 
-        if (user instanceof Interpreter interpreter) {
+        if (Hibernate.unproxy(user) instanceof Interpreter interpreter) {
             builder.rating(interpreter.getRating());
         }
 
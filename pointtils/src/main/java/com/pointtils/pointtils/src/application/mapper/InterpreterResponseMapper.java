@@ -5,8 +5,10 @@ import com.pointtils.pointtils.src.application.dto.responses.InterpreterListResp
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.ProfessionalDataListResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.ProfessionalDataResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.SpecialtyResponseDTO;
 import com.pointtils.pointtils.src.application.util.MaskUtil;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterListingRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -57,12 +59,33 @@ public class InterpreterResponseMapper {
                         .map(locationMapper::toDto)
                         .toList()
                         : Collections.emptyList())
-                .picture(interpreter.getPicture())
+                .picture(interpreter.getPictureThumbnail() != null
+                        ? interpreter.getPictureThumbnail()
+                        : interpreter.getPicture())
                 .specialties(userSpecialtyMapper.toDtoList(interpreter.getSpecialties()))
                 .professionalData(toProfessionalDataListResponseDTO(interpreter))
                 .build();
     }
 
+    /**
+     * Monta o item da listagem a partir da linha projetada e das localizações e especialidades já carregadas em lote
+     */
+    public InterpreterListResponseDTO toListResponseDTO(InterpreterListingRow row,
+                                                        List<LocationDTO> locations,
+                                                        List<SpecialtyResponseDTO> specialties) {
+        return InterpreterListResponseDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .picture(row.picture())
+                .locations(locations)
+                .specialties(specialties)
+                .professionalData(ProfessionalDataListResponseDTO.builder()
+                        .rating(row.rating() != null ? row.rating() : BigDecimal.ZERO)
+                        .modality(row.modality())
+                        .build())
+                .build();
+    }
+
     private ProfessionalDataResponseDTO toProfessionalDataResponseDTO(Interpreter interpreter) {
         return ProfessionalDataResponseDTO.builder()
                 .cnpj(interpreter.getCnpj())
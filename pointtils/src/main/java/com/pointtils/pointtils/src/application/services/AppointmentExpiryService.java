@@ -0,0 +1,89 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
+import com.pointtils.pointtils.src.core.domain.events.AppointmentStatusChangedEvent;
+import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Encerra os agendamentos cujo horário de término já passou: pendentes são cancelados e aceitos são concluídos
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AppointmentExpiryService {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("America/Sao_Paulo");
+    private static final List<AppointmentStatus> OPEN_STATUSES =
+            List.of(AppointmentStatus.PENDING, AppointmentStatus.ACCEPTED);
+
+    private final AppointmentRepository appointmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Busca os próximos horários de término dos agendamentos em aberto, do mais próximo ao mais distante
+     *
+     * @param limit Quantidade máxima de prazos
+     */
+    @Transactional(readOnly = true)
+    public List<LocalDateTime> findNextDeadlines(int limit) {
+        return appointmentRepository.findDeadlinesByStatusIn(OPEN_STATUSES, PageRequest.of(0, limit)).stream()
+                .map(row -> LocalDateTime.of((LocalDate) row[1], (LocalTime) row[2]))
+                .toList();
+    }
+
+    /**
+     * Encerra um lote de agendamentos vencidos. As linhas são bloqueadas antes da atualização, então cada
+     * agendamento muda de status e gera {@link AppointmentStatusChangedEvent} uma única vez, mesmo com outra
+     * instância executando ao mesmo tempo.
+     *
+     * @param limit Quantidade máxima de agendamentos do lote
+     * @return Quantidade de agendamentos encerrados
+     */
+    @Transactional
+    public int expireDueAppointments(int limit) {
+        LocalDateTime now = LocalDateTime.now(ZONE_ID);
+        List<Object[]> due = appointmentRepository.findExpiredOpenForUpdate(now.toLocalDate(), now.toLocalTime(), limit);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Map<AppointmentStatus, List<UUID>> idsByStatus = new EnumMap<>(AppointmentStatus.class);
+        for (Object[] row : due) {
+            idsByStatus.computeIfAbsent(AppointmentStatus.valueOf((String) row[1]), status -> new ArrayList<>())
+                    .add(UUID.fromString((String) row[0]));
+        }
+
+        int expired = 0;
+        expired += transition(idsByStatus.get(AppointmentStatus.PENDING),
+                AppointmentStatus.PENDING, AppointmentStatus.CANCELED);
+        expired += transition(idsByStatus.get(AppointmentStatus.ACCEPTED),
+                AppointmentStatus.ACCEPTED, AppointmentStatus.COMPLETED);
+        return expired;
+    }
+
+    private int transition(List<UUID> ids, AppointmentStatus previousStatus, AppointmentStatus newStatus) {
+        if (ids == null) {
+            return 0;
+        }
+        int updated = appointmentRepository.updateStatusByIdInAndStatus(ids, previousStatus, newStatus);
+        ids.forEach(id -> eventPublisher.publishEvent(new AppointmentStatusChangedEvent(id, previousStatus, newStatus)));
+        log.info("Updated {} {} appointments to {} status", updated, previousStatus, newStatus);
+        return updated;
+    }
+}
@@ -3,10 +3,12 @@ package com.pointtils.pointtils.src.application.services;
 import com.pointtils.pointtils.src.application.dto.email.AppointmentUpdateEmailDTO;
 import com.pointtils.pointtils.src.application.dto.requests.AppointmentPatchRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.AppointmentRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.AppointmentSpecificationFilterDTO;
 import com.pointtils.pointtils.src.application.dto.responses.AppointmentFilterResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.AppointmentResponseDTO;
 import com.pointtils.pointtils.src.application.mapper.AppointmentMapper;
 import com.pointtils.pointtils.src.core.domain.entities.Appointment;
+import com.pointtils.pointtils.src.core.domain.entities.Rating;
 import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentModality;
 import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
 import com.pointtils.pointtils.src.core.domain.entities.enums.NotificationType;
@@ -14,18 +16,26 @@ import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentReposi
 import com.pointtils.pointtils.src.infrastructure.repositories.InterpreterRepository;
 import com.pointtils.pointtils.src.infrastructure.repositories.RatingRepository;
 import com.pointtils.pointtils.src.infrastructure.repositories.UserRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.spec.AppointmentSpecification;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus.ACCEPTED;
 import static com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus.CANCELED;
+import static com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus.COMPLETED;
 import static com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus.PENDING;
 
 
@@ -42,6 +52,8 @@ public class AppointmentService {
     private final AppointmentMapper appointmentMapper;
     private final EmailService emailService;
     private final NotificationService notificationService;
+    private final InterpreterSlotService interpreterSlotService;
+    private final RatingService ratingService;
 
     public AppointmentResponseDTO createAppointment(AppointmentRequestDTO dto) {
         var interpreter = interpreterRepository.findById(dto.getInterpreterId())
@@ -53,6 +65,7 @@ public class AppointmentService {
         var appointment = appointmentMapper.toDomain(dto, interpreter, user);
 
         var savedAppointment = appointmentRepository.save(appointment);
+        refreshInterpreterSlots(savedAppointment);
         notificationService.sendNotificationToUser(dto.getInterpreterId(), NotificationType.APPOINTMENT_REQUESTED);
 
         return appointmentMapper.toResponseDTO(savedAppointment);
@@ -76,6 +89,8 @@ public class AppointmentService {
 
         // Capturar status anterior para detectar mudanças
         AppointmentStatus previousStatus = appointment.getStatus();
+        UUID previousInterpreterId = appointment.getInterpreter().getId();
+        LocalDate previousDate = appointment.getDate();
 
         if (dto.getUf() != null)
             appointment.setUf(dto.getUf());
@@ -115,43 +130,60 @@ public class AppointmentService {
             appointment.setEndTime(dto.getEndTime());
 
         Appointment saved = appointmentRepository.save(appointment);
+        if (!previousInterpreterId.equals(saved.getInterpreter().getId())) {
+            ratingService.moveAppointmentRatings(saved.getId(), saved.getInterpreter().getId());
+        }
+        refreshInterpreterSlots(saved, previousStatus, previousInterpreterId, previousDate);
         notifyAppointmentStatusUpdate(saved, dto, previousStatus);
 
         return appointmentMapper.toResponseDTO(saved);
     }
 
     public void delete(UUID id) {
-        if (!appointmentRepository.existsById(id)) {
-            throw new EntityNotFoundException(SOLICITATION_NOT_FOUND + id);
-        }
+        Appointment appointment = appointmentRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(SOLICITATION_NOT_FOUND + id));
         appointmentRepository.deleteById(id);
+        refreshInterpreterSlots(appointment);
     }
 
     public List<AppointmentFilterResponseDTO> searchAppointments(UUID interpreterId, UUID userId, AppointmentStatus status,
-                                                                 AppointmentModality modality, LocalDateTime fromDateTime, Boolean hasRating, int dayLimit) {
-        List<Appointment> appointments = appointmentRepository.findAll();
+                                                                 AppointmentModality modality, LocalDateTime fromDateTime, Boolean hasRating,
+                                                                 int dayLimit, Pageable pageable) {
+        AppointmentSpecificationFilterDTO filterDTO = new AppointmentSpecificationFilterDTO();
+        filterDTO.setInterpreterId(interpreterId);
+        filterDTO.setUserId(userId);
+        filterDTO.setStatus(status);
+        filterDTO.setModality(modality);
+        filterDTO.setFromDateTime(fromDateTime);
+        filterDTO.setHasRating(hasRating);
+        filterDTO.setDayLimit(dayLimit);
+
+        Slice<Appointment> appointments = appointmentRepository.findSliceWithParticipants(
+                AppointmentSpecification.filter(filterDTO), withDefaultSort(pageable));
+
+        Map<UUID, Rating> ratingsByAppointment = Boolean.FALSE.equals(hasRating)
+                ? Map.of()
+                : findRatingsByAppointment(appointments.getContent());
 
         return appointments.stream()
-                .filter(appointment -> interpreterId == null || appointment.getInterpreter().getId().equals(interpreterId))
-                .filter(appointment -> userId == null || appointment.getUser().getId().equals(userId))
-                .filter(appointment -> status == null || appointment.getStatus().equals(status))
-                .filter(appointment -> modality == null || appointment.getModality().equals(modality))
-                .filter(appointment -> fromDateTime == null || isAfterDateTime(appointment, fromDateTime))
-                .filter(appointment -> hasRating == null || hasRatingAssigned(appointment, hasRating))
-                .filter(appointment -> dayLimit == -1 || isBeforeDateLimit(appointment, dayLimit))
-                .sorted(Comparator.comparing(
-                        (Appointment appointment) -> LocalDateTime.of(appointment.getDate(), appointment.getEndTime())
-                ).reversed())
                 .map(appointment -> {
+                    Rating rating = ratingsByAppointment.get(appointment.getId());
                     if (interpreterId != null) {
-                        return appointmentMapper.toFilterResponseDTO(appointment, appointment.getUser());
+                        return appointmentMapper.toFilterResponseDTO(appointment, appointment.getUser(), rating);
                     } else {
-                        return appointmentMapper.toFilterResponseDTO(appointment, appointment.getInterpreter());
+                        return appointmentMapper.toFilterResponseDTO(appointment, appointment.getInterpreter(), rating);
                     }
                 })
                 .toList();
     }
 
+    private Pageable withDefaultSort(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return Pageable.unpaged(AppointmentSpecification.DEFAULT_SORT);
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), AppointmentSpecification.DEFAULT_SORT);
+    }
+
     private void notifyAppointmentStatusUpdate(Appointment appointment, AppointmentPatchRequestDTO dto,
                                                AppointmentStatus previousStatus) {
         var loggedUserIsInterpreter = appointment.getInterpreter().getEmail().equals(dto.getLoggedUserEmail());
@@ -177,22 +209,58 @@ public class AppointmentService {
         }
     }
 
-    private boolean hasRatingAssigned(Appointment appointment, Boolean hasRating) {
-        boolean ratingExists = ratingRepository.existsByAppointment(appointment);
-        return hasRating == ratingExists;
+    /**
+     * Atualiza os horários livres materializados do intérprete quando o agendamento ocupa sua agenda
+     *
+     * @param appointment Agendamento criado ou removido
+     */
+    private void refreshInterpreterSlots(Appointment appointment) {
+        if (occupiesSchedule(appointment.getStatus())) {
+            interpreterSlotService.refreshDay(appointment.getInterpreter().getId(), appointment.getDate());
+        }
     }
 
-    private boolean isAfterDateTime(Appointment appointment, LocalDateTime fromDateTime) {
-        LocalDateTime appointmentDateTime = LocalDateTime.of(appointment.getDate(), appointment.getStartTime());
-        return appointmentDateTime.isAfter(fromDateTime);
+    /**
+     * Atualiza os horários livres materializados do intérprete nos dias afetados pela alteração do agendamento
+     *
+     * @param appointment           Agendamento atualizado
+     * @param previousStatus        Status anterior
+     * @param previousInterpreterId Intérprete anterior
+     * @param previousDate          Data anterior
+     */
+    private void refreshInterpreterSlots(Appointment appointment, AppointmentStatus previousStatus,
+                                         UUID previousInterpreterId, LocalDate previousDate) {
+        if (!occupiesSchedule(previousStatus) && !occupiesSchedule(appointment.getStatus())) {
+            return;
+        }
+        UUID interpreterId = appointment.getInterpreter().getId();
+        interpreterSlotService.refreshDay(interpreterId, appointment.getDate());
+        if (!interpreterId.equals(previousInterpreterId) || !appointment.getDate().equals(previousDate)) {
+            interpreterSlotService.refreshDay(previousInterpreterId, previousDate);
+        }
     }
 
-    private boolean isBeforeDateLimit(Appointment appointment, int dayLimit) {
-        LocalDateTime appointmentDateTime = LocalDateTime.of(appointment.getDate(), appointment.getEndTime());
-        LocalDateTime limitDateTime = appointmentDateTime.plusDays(dayLimit);
-        return LocalDateTime.now().isBefore(limitDateTime);
+    private boolean occupiesSchedule(AppointmentStatus status) {
+        return status == ACCEPTED || status == COMPLETED;
     }
 
+    /**
+     * Busca em uma única consulta as avaliações dos agendamentos informados
+     *
+     * @param appointments Agendamentos da página atual
+     * @return Mapa do id do agendamento para sua avaliação
+     */
+    private Map<UUID, Rating> findRatingsByAppointment(List<Appointment> appointments) {
+        if (appointments.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> appointmentIds = appointments.stream()
+                .map(Appointment::getId)
+                .toList();
+        return ratingRepository.findByAppointmentIdIn(appointmentIds).stream()
+                .collect(Collectors.toMap(rating -> rating.getAppointment().getId(), Function.identity(),
+                        (first, second) -> first));
+    }
 
     /**
      * Envia email de notificação quando o status do agendamento muda
@@ -126,8 +126,9 @@ public class AuthService {
             throw new AuthenticationException("Refresh token inválido ou expirado");
         }
 
-        memoryBlacklistService.addToBlacklist(accessToken);
-        memoryBlacklistService.addToBlacklist(refreshToken);
+        // Cada token fica na blacklist apenas até a própria expiração
+        memoryBlacklistService.addToBlacklist(accessToken, jwtTokenProvider.verifyToken(accessToken).expiresAt());
+        memoryBlacklistService.addToBlacklist(refreshToken, jwtTokenProvider.verifyToken(refreshToken).expiresAt());
 
         return true;
     }
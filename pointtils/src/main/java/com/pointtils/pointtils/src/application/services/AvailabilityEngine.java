@@ -0,0 +1,288 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
+import com.pointtils.pointtils.src.core.domain.entities.enums.DayOfWeek;
+import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.ScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice em memória da disponibilidade dos intérpretes. Cada intérprete tem um bitmap ({@code long[]}) com um bit
+ * por horário de 30 minutos do horizonte, alinhado ao relógio (00:00, 00:30, ...): o bit ligado indica que o horário
+ * está dentro de um horário de atendimento e não é ocupado por agendamento aceito ou concluído.
+ * <p>
+ * Consultas do tipo "quais intérpretes têm N horários seguidos livres entre D1 e D2" são resolvidas com operações
+ * de deslocamento e AND sobre palavras de 64 bits, sem acesso ao banco.
+ * <p>
+ * O índice é de cada instância: alterações feitas por esta instância são aplicadas na hora, e as feitas pelas
+ * demais aparecem na reconstrução periódica ({@link #rebuildIfLoaded()}). Um índice carregado há mais de
+ * {@code max-age} ou iniciado em outro dia é reconstruído na própria consulta. "Hoje" é calculado no relógio da
+ * aplicação, no fuso dos atendimentos.
+ */
+@Slf4j
+@Component
+public class AvailabilityEngine {
+
+    static final int SLOTS_PER_DAY = 48;
+    private static final int SLOT_SECONDS = 30 * 60;
+    private static final List<AppointmentStatus> BUSY_STATUSES =
+            List.of(AppointmentStatus.ACCEPTED, AppointmentStatus.COMPLETED);
+
+    private final ScheduleRepository scheduleRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final Clock clock;
+    private final int horizonDays;
+    private final Duration maxAge;
+
+    private volatile Snapshot snapshot;
+
+    public AvailabilityEngine(ScheduleRepository scheduleRepository,
+                              AppointmentRepository appointmentRepository,
+                              Clock clock,
+                              @Value("${app.availability.horizon-days:90}") int horizonDays,
+                              @Value("${app.availability.engine.max-age:10m}") Duration maxAge) {
+        this.scheduleRepository = scheduleRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.clock = clock;
+        this.horizonDays = horizonDays;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Reconstrói os bitmaps de todos os intérpretes a partir de hoje
+     */
+    public synchronized void rebuild() {
+        LocalDate start = LocalDate.now(clock);
+        LocalDate end = start.plusDays(horizonDays - 1L);
+        load(start, scheduleRepository.findAllScheduleWindows(),
+                appointmentRepository.findIntervalsByStatusInAndDateBetween(BUSY_STATUSES, start, end));
+    }
+
+    /**
+     * Reconstrói o índice para incluir as alterações feitas pelas outras instâncias. Não faz nada enquanto o índice
+     * não foi usado por esta instância.
+     */
+    public synchronized void rebuildIfLoaded() {
+        if (Objects.nonNull(snapshot)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Recalcula o bitmap de um intérprete após mudança em seus horários ou agendamentos.
+     * Não faz nada enquanto o índice não foi construído.
+     *
+     * @param interpreterId Id do intérprete
+     */
+    public synchronized void refreshInterpreter(UUID interpreterId) {
+        Snapshot current = snapshot;
+        if (Objects.isNull(current) || Objects.isNull(interpreterId)) {
+            return;
+        }
+        List<Object[]> scheduleWindows = scheduleRepository.findScheduleWindowsByInterpreterId(interpreterId);
+        if (scheduleWindows.isEmpty()) {
+            current.bitmaps.remove(interpreterId);
+            return;
+        }
+        List<Object[]> busyIntervals = appointmentRepository.findIntervalsByInterpreterIdAndStatusInAndDateBetween(
+                interpreterId, BUSY_STATUSES, current.start, current.start.plusDays(current.days - 1L));
+        current.bitmaps.put(interpreterId, current.buildBitmap(scheduleWindows, busyIntervals));
+    }
+
+    /**
+     * Busca os intérpretes com ao menos {@code consecutiveSlots} horários de 30 minutos seguidos livres em algum dia
+     * do período. Datas fora do horizonte são ignoradas.
+     *
+     * @param dateFrom         Data inicial
+     * @param dateTo           Data final
+     * @param consecutiveSlots Quantidade de horários seguidos, de 1 a 48
+     * @return Ids dos intérpretes disponíveis
+     */
+    public List<UUID> findAvailableInterpreters(LocalDate dateFrom, LocalDate dateTo, int consecutiveSlots) {
+        if (consecutiveSlots < 1 || consecutiveSlots > SLOTS_PER_DAY) {
+            throw new IllegalArgumentException("A quantidade de horários seguidos deve estar entre 1 e " + SLOTS_PER_DAY);
+        }
+        if (dateFrom.isAfter(dateTo)) {
+            throw new IllegalArgumentException("A data inicial deve ser anterior ou igual à data final");
+        }
+
+        Snapshot current = snapshot;
+        if (isStale(current)) {
+            current = rebuildIfStale();
+        }
+        long fromDay = Math.max(0, ChronoUnit.DAYS.between(current.start, dateFrom));
+        long toDay = Math.min(current.days - 1L, ChronoUnit.DAYS.between(current.start, dateTo));
+        if (fromDay > toDay) {
+            return List.of();
+        }
+        return current.findAvailable((int) fromDay, (int) toDay, consecutiveSlots);
+    }
+
+    private synchronized Snapshot rebuildIfStale() {
+        if (isStale(snapshot)) {
+            rebuild();
+        }
+        return snapshot;
+    }
+
+    private boolean isStale(Snapshot current) {
+        return Objects.isNull(current)
+                || !current.start.equals(LocalDate.now(clock))
+                || clock.instant().isAfter(current.loadedAt.plus(maxAge));
+    }
+
+    /**
+     * Carrega o índice a partir das linhas de horários de atendimento ({@code [interpreterId, day, startTime, endTime]})
+     * e de agendamentos ocupados ({@code [interpreterId, date, startTime, endTime]})
+     */
+    synchronized void load(LocalDate start, List<Object[]> scheduleWindows, List<Object[]> busyIntervals) {
+        Snapshot next = new Snapshot(start, horizonDays, clock.instant());
+        Map<UUID, List<Object[]>> windowsByInterpreter = groupByInterpreter(scheduleWindows);
+        Map<UUID, List<Object[]>> busyByInterpreter = groupByInterpreter(busyIntervals);
+        windowsByInterpreter.forEach((interpreterId, windows) -> next.bitmaps.put(interpreterId,
+                next.buildBitmap(windows, busyByInterpreter.getOrDefault(interpreterId, List.of()))));
+        snapshot = next;
+        log.info("Indice de disponibilidade carregado com {} interpretes a partir de {}", next.bitmaps.size(), start);
+    }
+
+    private static Map<UUID, List<Object[]>> groupByInterpreter(List<Object[]> rows) {
+        Map<UUID, List<Object[]>> grouped = new HashMap<>();
+        rows.forEach(row -> grouped.computeIfAbsent((UUID) row[0], key -> new ArrayList<>()).add(row));
+        return grouped;
+    }
+
+    private static final class Snapshot {
+        private final LocalDate start;
+        private final Instant loadedAt;
+        private final int days;
+        private final int words;
+        private final Map<UUID, long[]> bitmaps = new ConcurrentHashMap<>();
+
+        /**
+         * Para cada quantidade N de horários seguidos, os bits que podem iniciar uma sequência de N horários sem
+         * passar da meia-noite
+         */
+        private final long[][] runStartMasks;
+
+        private Snapshot(LocalDate start, int days, Instant loadedAt) {
+            this.start = start;
+            this.loadedAt = loadedAt;
+            this.days = days;
+            this.words = (days * SLOTS_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+            this.runStartMasks = new long[SLOTS_PER_DAY][];
+            for (int n = 1; n <= SLOTS_PER_DAY; n++) {
+                long[] mask = new long[words];
+                for (int day = 0; day < days; day++) {
+                    setRange(mask, day * SLOTS_PER_DAY, day * SLOTS_PER_DAY + SLOTS_PER_DAY - n + 1);
+                }
+                runStartMasks[n - 1] = mask;
+            }
+        }
+
+        private long[] buildBitmap(List<Object[]> scheduleWindows, List<Object[]> busyIntervals) {
+            long[] bitmap = new long[words];
+            for (int day = 0; day < days; day++) {
+                int dayOfWeek = start.plusDays(day).getDayOfWeek().getValue() - 1;
+                int dayOffset = day * SLOTS_PER_DAY;
+                for (Object[] window : scheduleWindows) {
+                    if (((DayOfWeek) window[1]).ordinal() == dayOfWeek) {
+                        setRange(bitmap, dayOffset + ceilSlot((LocalTime) window[2]),
+                                dayOffset + floorSlot((LocalTime) window[3]));
+                    }
+                }
+            }
+            for (Object[] busy : busyIntervals) {
+                long day = ChronoUnit.DAYS.between(start, (LocalDate) busy[1]);
+                if (day >= 0 && day < days) {
+                    int dayOffset = (int) day * SLOTS_PER_DAY;
+                    clearRange(bitmap, dayOffset + floorSlot((LocalTime) busy[2]),
+                            dayOffset + ceilSlot((LocalTime) busy[3]));
+                }
+            }
+            return bitmap;
+        }
+
+        private List<UUID> findAvailable(int fromDay, int toDay, int consecutiveSlots) {
+            int fromBit = fromDay * SLOTS_PER_DAY;
+            int toBit = (toDay + 1) * SLOTS_PER_DAY;
+            int fromWord = fromBit >>> 6;
+            int length = ((toBit - 1) >>> 6) - fromWord + 1;
+            long firstWordMask = -1L << (fromBit & 63);
+            long lastWordMask = -1L >>> (63 - ((toBit - 1) & 63));
+            long[] runStartMask = runStartMasks[consecutiveSlots - 1];
+            long[] scratch = new long[length];
+
+            List<UUID> available = new ArrayList<>();
+            for (Map.Entry<UUID, long[]> entry : bitmaps.entrySet()) {
+                System.arraycopy(entry.getValue(), fromWord, scratch, 0, length);
+                keepRunStarts(scratch, consecutiveSlots);
+                for (int w = 0; w < length; w++) {
+                    long candidates = scratch[w] & runStartMask[fromWord + w];
+                    if (w == 0) {
+                        candidates &= firstWordMask;
+                    }
+                    if (w == length - 1) {
+                        candidates &= lastWordMask;
+                    }
+                    if (candidates != 0) {
+                        available.add(entry.getKey());
+                        break;
+                    }
+                }
+            }
+            return available;
+        }
+
+        /**
+         * Mantém ligado apenas o bit i tal que os bits i..i+n-1 estão todos ligados, dobrando o tamanho da
+         * sequência verificada a cada passo (log2(n) passos)
+         */
+        private static void keepRunStarts(long[] bits, int n) {
+            int covered = 1;
+            while (covered < n) {
+                int shift = Math.min(covered, n - covered);
+                for (int w = 0; w < bits.length; w++) {
+                    long next = w + 1 < bits.length ? bits[w + 1] : 0L;
+                    bits[w] &= (bits[w] >>> shift) | (next << (Long.SIZE - shift));
+                }
+                covered += shift;
+            }
+        }
+
+        private static int floorSlot(LocalTime time) {
+            return time.toSecondOfDay() / SLOT_SECONDS;
+        }
+
+        private static int ceilSlot(LocalTime time) {
+            return (time.toSecondOfDay() + SLOT_SECONDS - 1) / SLOT_SECONDS;
+        }
+
+        private static void setRange(long[] bits, int from, int to) {
+            for (int i = from; i < to; i++) {
+                bits[i >>> 6] |= 1L << (i & 63);
+            }
+        }
+
+        private static void clearRange(long[] bits, int from, int to) {
+            for (int i = from; i < to; i++) {
+                bits[i >>> 6] &= ~(1L << (i & 63));
+            }
+        }
+    }
+}
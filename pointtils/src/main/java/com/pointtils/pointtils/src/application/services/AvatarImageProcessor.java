@@ -0,0 +1,312 @@
+package com.pointtils.pointtils.src.application.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Gera as variantes da foto de perfil a partir da imagem enviada pelo usuário: original (limitada a
+ * {@code original-size} pixels no maior lado), média e miniatura quadrada, todas recomprimidas em JPEG.
+ * <p>
+ * As imagens são decodificadas e gravadas novamente sem metadados, então dados EXIF (localização, modelo da
+ * câmera) não são publicados. A orientação EXIF de fotos JPEG é aplicada aos pixels antes do descarte.
+ * <p>
+ * Fotos maiores que a variante original são subamostradas já na decodificação, direto em RGB, para não manter
+ * em memória os pixels da resolução completa da câmera.
+ */
+@Slf4j
+@Component
+public class AvatarImageProcessor {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+
+    private final int originalSize;
+    private final int mediumSize;
+    private final int thumbnailSize;
+    private final float quality;
+    private final long maxPixels;
+
+    public AvatarImageProcessor(@Value("${app.picture.original-size:2048}") int originalSize,
+                                @Value("${app.picture.medium-size:640}") int mediumSize,
+                                @Value("${app.picture.thumbnail-size:160}") int thumbnailSize,
+                                @Value("${app.picture.jpeg-quality:0.85}") float quality,
+                                @Value("${app.picture.max-pixels:25000000}") long maxPixels) {
+        this.originalSize = originalSize;
+        this.mediumSize = mediumSize;
+        this.thumbnailSize = thumbnailSize;
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * Decodifica a imagem e gera as variantes
+     *
+     * @param content Conteúdo da imagem enviada
+     * @return Variantes codificadas em JPEG
+     * @throws IllegalArgumentException quando o conteúdo não é uma imagem suportada ou excede a resolução máxima
+     */
+    public AvatarVariants process(InputStream content) throws IOException {
+        BufferedImage image = toRgb(read(content));
+
+        BufferedImage original = resize(image, originalSize);
+        BufferedImage medium = resize(original, mediumSize);
+        BufferedImage thumbnail = resize(cropSquare(medium), thumbnailSize);
+
+        return new AvatarVariants(encode(original), encode(medium), encode(thumbnail));
+    }
+
+    private BufferedImage read(InputStream content) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("Arquivo de imagem inválido ou formato não suportado");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                // A resolução é verificada antes de decodificar para não alocar os pixels de imagens gigantes
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    throw new IllegalArgumentException("A imagem excede a resolução máxima permitida");
+                }
+                int orientation = readOrientation(reader);
+                return applyOrientation(reader.read(0, readParam(reader)), orientation);
+            } catch (IOException | RuntimeException e) {
+                if (e instanceof IllegalArgumentException) {
+                    throw e;
+                }
+                throw new IllegalArgumentException("Arquivo de imagem inválido ou formato não suportado", e);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Subamostra na decodificação até perto do tamanho da variante original e, quando o leitor permite,
+     * decodifica direto em RGB, evitando a cópia feita em {@link #toRgb(BufferedImage)}
+     */
+    private ImageReadParam readParam(ImageReader reader) throws IOException {
+        ImageReadParam param = reader.getDefaultReadParam();
+        int step = subsampling(reader.getWidth(0), reader.getHeight(0), originalSize);
+        if (step > 1) {
+            param.setSourceSubsampling(step, step, 0, 0);
+        }
+        for (Iterator<ImageTypeSpecifier> types = reader.getImageTypes(0); types.hasNext(); ) {
+            ImageTypeSpecifier type = types.next();
+            if (type.getBufferedImageType() == BufferedImage.TYPE_INT_RGB) {
+                param.setDestinationType(type);
+                break;
+            }
+        }
+        return param;
+    }
+
+    /**
+     * Maior passo de subamostragem que mantém o maior lado com pelo menos {@code maxSize} pixels, para que a
+     * redução final ainda seja feita com interpolação
+     */
+    static int subsampling(int width, int height, int maxSize) {
+        return Math.max(1, Math.max(width, height) / maxSize);
+    }
+
+    private static int readOrientation(ImageReader reader) {
+        try {
+            if (!"jpeg".equalsIgnoreCase(reader.getFormatName())) {
+                return 1;
+            }
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            Node markerSequence = metadata.getAsTree(JPEG_METADATA_FORMAT).getLastChild();
+            for (Node marker = markerSequence.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if (marker instanceof IIOMetadataNode node && "unknown".equals(node.getNodeName())
+                        && Integer.parseInt(node.getAttribute("MarkerTag")) == APP1_MARKER
+                        && node.getUserObject() instanceof byte[] data) {
+                    int orientation = parseExifOrientation(data);
+                    if (orientation > 0) {
+                        return orientation;
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Nao foi possivel ler a orientacao EXIF da imagem: {}", e.getMessage());
+        }
+        return 1;
+    }
+
+    /**
+     * Lê a tag Orientation do primeiro IFD do bloco EXIF
+     *
+     * @return Orientação EXIF ou 0 quando o bloco não é EXIF ou não tem a tag
+     */
+    static int parseExifOrientation(byte[] data) {
+        if (data.length < EXIF_HEADER.length + 8) {
+            return 0;
+        }
+        for (int i = 0; i < EXIF_HEADER.length; i++) {
+            if (data[i] != EXIF_HEADER[i]) {
+                return 0;
+            }
+        }
+
+        ByteBuffer tiff = ByteBuffer.wrap(data, EXIF_HEADER.length, data.length - EXIF_HEADER.length).slice();
+        tiff.order(tiff.get(0) == 'M' ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        int firstDirectory = tiff.getInt(4);
+        if (firstDirectory < 8 || firstDirectory + 2 > tiff.limit()) {
+            return 0;
+        }
+        int entries = Short.toUnsignedInt(tiff.getShort(firstDirectory));
+        for (int i = 0; i < entries; i++) {
+            int entry = firstDirectory + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return 0;
+            }
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                return Short.toUnsignedInt(tiff.getShort(entry + 8));
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gira a imagem conforme a orientação EXIF. Apenas as rotações (3, 6 e 8) são aplicadas; as orientações
+     * espelhadas são raras em fotos de celular e são mantidas como estão.
+     */
+    private static BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 3 -> {
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 6 -> {
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 8 -> {
+                transform.translate(0, width);
+                transform.rotate(-Math.PI / 2);
+            }
+            default -> {
+                return image;
+            }
+        }
+
+        boolean swapSides = orientation != 3;
+        BufferedImage rotated = new BufferedImage(swapSides ? height : width, swapSides ? width : height,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rotated.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, rotated.getWidth(), rotated.getHeight());
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rotated;
+    }
+
+    /**
+     * Converte para RGB sem transparência, com fundo branco, como o JPEG exige
+     */
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        return draw(image, image.getWidth(), image.getHeight());
+    }
+
+    private static BufferedImage cropSquare(BufferedImage image) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        return image.getSubimage((image.getWidth() - side) / 2, (image.getHeight() - side) / 2, side, side);
+    }
+
+    /**
+     * Reduz a imagem para que o maior lado tenha no máximo {@code maxSize} pixels. Reduções grandes são feitas
+     * em etapas pela metade, que com interpolação bilinear evitam o serrilhado de uma redução direta.
+     */
+    private static BufferedImage resize(BufferedImage image, int maxSize) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (Math.max(width, height) <= maxSize) {
+            return image;
+        }
+
+        double scale = (double) maxSize / Math.max(width, height);
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    private static BufferedImage draw(BufferedImage image, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(stream);
+            // Sem metadados: apenas o cabeçalho JFIF padrão é gravado
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Variantes da foto codificadas em {@link #CONTENT_TYPE}
+     */
+    public record AvatarVariants(byte[] original, byte[] medium, byte[] thumbnail) {
+    }
+}
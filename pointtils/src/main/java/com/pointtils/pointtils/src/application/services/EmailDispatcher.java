@@ -0,0 +1,224 @@
+package com.pointtils.pointtils.src.application.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fila de saída dos emails. O {@link EmailService} apenas monta a mensagem e a enfileira; um grupo fixo de threads
+ * consome a fila e envia lotes de até {@code batch-size} mensagens por conexão SMTP, já que o
+ * {@link JavaMailSender} abre um único {@code Transport} para todas as mensagens de uma chamada.
+ * <p>
+ * Mensagens com falha temporária são reenviadas com espera exponencial até {@code max-attempts} tentativas.
+ * Mensagens recusadas pelo servidor ou que esgotam as tentativas são descartadas como dead letter, com registro
+ * em log e na métrica {@code pointtils.email.messages{result=dead_letter}}.
+ */
+@Slf4j
+@Component
+public class EmailDispatcher {
+
+    private final JavaMailSender mailSender;
+    private final TaskScheduler notificationTaskScheduler;
+    private final BlockingQueue<OutgoingEmail> queue;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final List<Thread> workerThreads = new ArrayList<>();
+
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetterCounter;
+    private final Counter rejectedCounter;
+
+    public EmailDispatcher(JavaMailSender mailSender,
+                           @Qualifier("notificationTaskScheduler") TaskScheduler notificationTaskScheduler,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.mail.outbox.queue-capacity:5000}") int queueCapacity,
+                           @Value("${app.mail.outbox.workers:2}") int workers,
+                           @Value("${app.mail.outbox.batch-size:50}") int batchSize,
+                           @Value("${app.mail.outbox.max-attempts:5}") int maxAttempts,
+                           @Value("${app.mail.outbox.initial-backoff-ms:5000}") long initialBackoffMs) {
+        this.mailSender = mailSender;
+        this.notificationTaskScheduler = notificationTaskScheduler;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+
+        meterRegistry.gauge("pointtils.email.outbox.size", queue, BlockingQueue::size);
+        this.sendTimer = Timer.builder("pointtils.email.send")
+                .description("Tempo de envio de um lote de emails por uma conexao SMTP")
+                .register(meterRegistry);
+        this.sentCounter = messageCounter(meterRegistry, "sent");
+        this.retriedCounter = messageCounter(meterRegistry, "retry");
+        this.deadLetterCounter = messageCounter(meterRegistry, "dead_letter");
+        this.rejectedCounter = messageCounter(meterRegistry, "rejected");
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 1; i <= workers; i++) {
+            Thread worker = new Thread(this::work, "email-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workerThreads.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        workerThreads.forEach(Thread::interrupt);
+        for (Thread worker : workerThreads) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        workerThreads.clear();
+        if (!queue.isEmpty()) {
+            log.warn("{} emails pendentes descartados no encerramento da aplicacao", queue.size());
+        }
+    }
+
+    /**
+     * Enfileira a mensagem sem aguardar o envio
+     *
+     * @param message Mensagem já montada
+     * @return {@code false} quando a fila está cheia e a mensagem foi descartada
+     */
+    public boolean enqueue(MimeMessage message) {
+        return offer(new OutgoingEmail(message, 1));
+    }
+
+    /**
+     * Envia o que estiver na fila na thread atual
+     */
+    void deliverQueued() {
+        List<OutgoingEmail> pending = new ArrayList<>();
+        while (queue.drainTo(pending, batchSize) > 0) {
+            deliver(pending);
+            pending.clear();
+        }
+    }
+
+    private void work() {
+        List<OutgoingEmail> pending = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                pending.add(queue.take());
+                queue.drainTo(pending, batchSize - 1);
+                deliver(pending);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                log.error("Erro ao processar a fila de emails", ex);
+            } finally {
+                pending.clear();
+            }
+        }
+    }
+
+    private boolean offer(OutgoingEmail email) {
+        boolean accepted = queue.offer(email);
+        if (!accepted) {
+            rejectedCounter.increment();
+            log.warn("Fila de emails cheia: email '{}' para {} descartado", subject(email), recipients(email));
+        }
+        return accepted;
+    }
+
+    private void deliver(List<OutgoingEmail> emails) {
+        MimeMessage[] messages = emails.stream().map(OutgoingEmail::message).toArray(MimeMessage[]::new);
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        long start = System.nanoTime();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException ex) {
+            if (ex.getFailedMessages().isEmpty()) {
+                Arrays.stream(messages).forEach(message -> failures.put(message, ex));
+            } else {
+                failures.putAll(ex.getFailedMessages());
+            }
+        } catch (MailException ex) {
+            Arrays.stream(messages).forEach(message -> failures.put(message, ex));
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        for (OutgoingEmail email : emails) {
+            Exception failure = failures.get(email.message());
+            if (failure == null) {
+                sentCounter.increment();
+                log.info("Email '{}' enviado para {} (tentativa {})", subject(email), recipients(email),
+                        email.attempt());
+            } else {
+                handleFailure(email, failure);
+            }
+        }
+    }
+
+    private void handleFailure(OutgoingEmail email, Exception failure) {
+        if (failure instanceof SendFailedException || email.attempt() >= maxAttempts) {
+            deadLetterCounter.increment();
+            log.error("Email '{}' para {} descartado apos {} tentativas: {}", subject(email), recipients(email),
+                    email.attempt(), failure.getMessage());
+            return;
+        }
+        retriedCounter.increment();
+        log.warn("Falha ao enviar email '{}' para {} (tentativa {}): {}", subject(email), recipients(email),
+                email.attempt(), failure.getMessage());
+        Duration delay = initialBackoff.multipliedBy(1L << (email.attempt() - 1));
+        OutgoingEmail retry = new OutgoingEmail(email.message(), email.attempt() + 1);
+        notificationTaskScheduler.schedule(() -> offer(retry), Instant.now().plus(delay));
+    }
+
+    private static Counter messageCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("pointtils.email.messages")
+                .description("Emails processados pela fila de saida por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String subject(OutgoingEmail email) {
+        try {
+            return email.message().getSubject();
+        } catch (MessagingException ex) {
+            return "";
+        }
+    }
+
+    private static String recipients(OutgoingEmail email) {
+        try {
+            return Arrays.toString(email.message().getAllRecipients());
+        } catch (MessagingException ex) {
+            return "[]";
+        }
+    }
+
+    private record OutgoingEmail(MimeMessage message, int attempt) {
+    }
+}
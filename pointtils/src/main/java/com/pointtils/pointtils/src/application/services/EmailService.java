@@ -1,11 +1,11 @@
 package com.pointtils.pointtils.src.application.services;
 
 import com.pointtils.pointtils.src.application.dto.email.AppointmentUpdateEmailDTO;
+import com.pointtils.pointtils.src.application.dto.email.EmailAttachmentDTO;
 import com.pointtils.pointtils.src.application.dto.email.ProcessAdminTemplateDTO;
 import com.pointtils.pointtils.src.application.dto.requests.EmailRequestDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterRegistrationEmailDTO;
-import com.pointtils.pointtils.src.core.domain.entities.Parameters;
-import com.pointtils.pointtils.src.infrastructure.repositories.ParametersRepository;
+import com.pointtils.pointtils.src.application.util.CompiledTemplate;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -13,17 +13,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
 @Slf4j
 @Service
@@ -31,20 +30,22 @@ import java.util.Optional;
 public class EmailService {
 
     private static final String EMAIL_REQUEST_NULL = "EmailRequestDTO não pode ser nulo";
-    private static final String PLACEHOLDER_NOME = "{{nome}}";
-    private static final String PLACEHOLDER_CPF = "{{cpf}}";
-    private static final String PLACEHOLDER_CNPJ = "{{cnpj}}";
-    private static final String PLACEHOLDER_EMAIL = "{{email}}";
-    private static final String PLACEHOLDER_TELEFONE = "{{telefone}}";
-    private static final String PLACEHOLDER_VIDEO = "{{video}}";
-    private static final String PLACEHOLDER_ANO = "{{ano}}";
-    private static final String PLACEHOLDER_ACCEPT = "{{link_accept_api}}";
-    private static final String PLACEHOLDER_REJECT = "{{link_reject_api}}";
-    private static final String PLACEHOLDER_SEND_NAME = "{{senderName}}";
-    private static final String PLACEHOLDER_RESPOSTA_SOLICITACAO = "{{respostaSolicitacao}}";
+    private static final String PLACEHOLDER_NOME = "nome";
+    private static final String PLACEHOLDER_CPF = "cpf";
+    private static final String PLACEHOLDER_CNPJ = "cnpj";
+    private static final String PLACEHOLDER_EMAIL = "email";
+    private static final String PLACEHOLDER_TELEFONE = "telefone";
+    private static final String PLACEHOLDER_VIDEO = "video";
+    private static final String PLACEHOLDER_ANO = "ano";
+    private static final String PLACEHOLDER_ACCEPT = "link_accept_api";
+    private static final String PLACEHOLDER_REJECT = "link_reject_api";
+    private static final String PLACEHOLDER_SEND_NAME = "senderName";
+    private static final String PLACEHOLDER_RESPOSTA_SOLICITACAO = "respostaSolicitacao";
+    private static final String PLACEHOLDER_APPOINTMENT_DATE = "appointmentDate";
 
     private final JavaMailSender mailSender;
-    private final ParametersRepository parametersRepository;
+    private final EmailDispatcher emailDispatcher;
+    private final EmailTemplateCache emailTemplateCache;
 
     @Value("${app.mail.from:noreply@pointtils.com}")
     private String emailFrom;
@@ -53,10 +54,10 @@ public class EmailService {
     private String senderName;
 
     /**
-     * Envia email simples de texto
+     * Enfileira email simples de texto
      *
      * @param emailRequest DTO com informações do email
-     * @return true se o email foi enviado com sucesso, false caso contrário
+     * @return true se o email foi enfileirado para envio, false caso contrário
      */
     public boolean sendSimpleEmail(EmailRequestDTO emailRequest) {
         if (emailRequest == null) {
@@ -65,15 +66,18 @@ public class EmailService {
         }
 
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(emailFrom);
-            message.setTo(emailRequest.getTo());
-            message.setSubject(emailRequest.getSubject());
-            message.setText(emailRequest.getBody());
-
-            mailSender.send(message);
-            log.info("Email enviado com sucesso para: {}", emailRequest.getTo());
-            return true;
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+            helper.setFrom(emailFrom);
+            helper.setTo(emailRequest.getTo());
+            helper.setSubject(emailRequest.getSubject());
+            helper.setText(emailRequest.getBody());
+
+            boolean queued = emailDispatcher.enqueue(message);
+            if (queued) {
+                log.info("Email enfileirado para: {}", emailRequest.getTo());
+            }
+            return queued;
 
         } catch (Exception e) {
             log.error("Erro ao enviar email para {}: {}", emailRequest.getTo(), e.getMessage(), e);
@@ -82,10 +86,10 @@ public class EmailService {
     }
 
     /**
-     * Envia email HTML
+     * Enfileira email HTML
      *
      * @param emailRequest DTO com informações do email
-     * @return true se o email foi enviado com sucesso, false caso contrário
+     * @return true se o email foi enfileirado para envio, false caso contrário
      */
     public boolean sendHtmlEmail(EmailRequestDTO emailRequest) {
         if (emailRequest == null) {
@@ -94,9 +98,11 @@ public class EmailService {
         }
 
         try {
-            sendEmailMessage(emailRequest, null, null);
-            log.info("Email HTML enviado com sucesso para: {}", emailRequest.getTo());
-            return true;
+            boolean queued = sendEmailMessage(emailRequest, null);
+            if (queued) {
+                log.info("Email HTML enfileirado para: {}", emailRequest.getTo());
+            }
+            return queued;
         } catch (Exception e) {
             log.error("Erro ao enviar email HTML para {}: {}", emailRequest.getTo(), e.getMessage());
             return false;
@@ -104,15 +110,34 @@ public class EmailService {
     }
 
     public boolean sendEmailWithAttachments(EmailRequestDTO emailRequest, List<byte[]> attachments, List<String> attachmentNames) {
+        List<EmailAttachmentDTO> attachmentList = new ArrayList<>();
+        if (Objects.nonNull(attachments)) {
+            for (int i = 0; i < attachments.size(); i++) {
+                attachmentList.add(new EmailAttachmentDTO(attachmentNames.get(i), new ByteArrayResource(attachments.get(i))));
+            }
+        }
+        return sendEmailWithAttachments(emailRequest, attachmentList);
+    }
+
+    /**
+     * Enfileira email HTML com anexos. O conteúdo dos anexos é lido apenas no envio, direto da fonte informada.
+     *
+     * @param emailRequest DTO com informações do email
+     * @param attachments  Anexos do email
+     * @return true se o email foi enfileirado para envio, false caso contrário
+     */
+    public boolean sendEmailWithAttachments(EmailRequestDTO emailRequest, List<EmailAttachmentDTO> attachments) {
         if (emailRequest == null) {
             log.error(EMAIL_REQUEST_NULL);
             return false;
         }
 
         try {
-            sendEmailMessage(emailRequest, attachments, attachmentNames);
-            log.info("Email com anexos enviado com sucesso para: {}", emailRequest.getTo());
-            return true;
+            boolean queued = sendEmailMessage(emailRequest, attachments);
+            if (queued) {
+                log.info("Email com anexos enfileirado para: {}", emailRequest.getTo());
+            }
+            return queued;
         } catch (Exception e) {
             log.error("Erro ao enviar email com anexos para {}: {}", emailRequest.getTo(), e.getMessage());
             return false;
@@ -127,7 +152,7 @@ public class EmailService {
      * @return true se o email foi enviado com sucesso, false caso contrário
      */
     public boolean sendWelcomeEmail(String email, String userName) {
-        String template = getTemplateByKey("WELCOME_EMAIL");
+        CompiledTemplate template = getCompiledTemplate("WELCOME_EMAIL");
         String html = processWelcomeTemplate(template, userName);
         EmailRequestDTO emailRequest = new EmailRequestDTO(
                 email,
@@ -146,7 +171,7 @@ public class EmailService {
      * @return true se o email foi enviado com sucesso, false caso contrário
      */
     public boolean sendPasswordResetEmail(String email, String userName, String resetToken) {
-        String template = getTemplateByKey("PASSWORD_RESET");
+        CompiledTemplate template = getCompiledTemplate("PASSWORD_RESET");
         String html = processPasswordResetTemplate(template, userName, resetToken);
         EmailRequestDTO emailRequest = new EmailRequestDTO(
                 email,
@@ -167,7 +192,7 @@ public class EmailService {
      */
     public boolean sendAppointmentConfirmationEmail(String email, String userName, String appointmentDate,
                                                     String interpreterName) {
-        String template = getTemplateByKey("APPOINTMENT_CONFIRMATION");
+        CompiledTemplate template = getCompiledTemplate("APPOINTMENT_CONFIRMATION");
         String html = processAppointmentConfirmationTemplate(template, userName, appointmentDate, interpreterName);
         EmailRequestDTO emailRequest = new EmailRequestDTO(
                 email,
@@ -185,21 +210,7 @@ public class EmailService {
      */
     public boolean sendInterpreterRegistrationRequestEmail(InterpreterRegistrationEmailDTO dto) {
         // Buscar template do banco de dados
-        String template = getTemplateByKey("PENDING_INTERPRETER_ADMIN");
-
-        List<byte[]> attachmentList = new ArrayList<>();
-        List<String> attachmentNames = new ArrayList<>();
-
-        for (MultipartFile file : dto.getFiles()) {
-            try {
-                byte[] documentBytes = file.getBytes();
-                attachmentNames.add(file.getOriginalFilename());
-                attachmentList.add(documentBytes);
-            } catch (Exception e) {
-                log.error("Erro ao baixar documento '{}' do intérprete '{}': {}", file.getName(), dto.getInterpreterName(),
-                        e.getMessage());
-            }
-        }
+        CompiledTemplate template = getCompiledTemplate("PENDING_INTERPRETER_ADMIN");
 
         String html = processTemplate(
                 ProcessAdminTemplateDTO.builder()
@@ -220,7 +231,8 @@ public class EmailService {
                 "Nova Solicitação de Cadastro de Intérprete - PointTils",
                 html,
                 senderName);
-        return sendEmailWithAttachments(emailRequest, attachmentList, attachmentNames);
+        return sendEmailWithAttachments(emailRequest,
+                Objects.requireNonNullElse(dto.getAttachments(), Collections.emptyList()));
     }
 
     /**
@@ -230,12 +242,20 @@ public class EmailService {
      * @return Template HTML ou template padrão se não encontrado
      */
     public String getTemplateByKey(String key) {
-        Optional<Parameters> parameter = parametersRepository.findByKey(key);
-        if (parameter.isPresent()) {
-            return parameter.get().getValue();
-        }
-        log.warn("Template com chave '{}' não encontrado no banco de dados", key);
-        return getDefaultTemplate(key);
+        return getCompiledTemplate(key).getSource();
+    }
+
+    /**
+     * Busca o template compilado no cache de templates
+     *
+     * @param key Chave do template
+     * @return Template compilado ou template padrão se não encontrado
+     */
+    private CompiledTemplate getCompiledTemplate(String key) {
+        return emailTemplateCache.find(key).orElseGet(() -> {
+            log.warn("Template com chave '{}' não encontrado no banco de dados", key);
+            return CompiledTemplate.compile(getDefaultTemplate(key));
+        });
     }
 
     /**
@@ -246,10 +266,9 @@ public class EmailService {
      * @return string com o HTML construído
      */
     public String getAdminRegistrationFeedbackHtml(String emailResponse) {
-        String emailTemplate = getTemplateByKey("ADMIN_FEEDBACK");
-        return emailTemplate
-                .replace("{{message}}", emailResponse)
-                .replace(PLACEHOLDER_ANO, String.valueOf(Year.now().getValue()));
+        return getCompiledTemplate("ADMIN_FEEDBACK").render(Map.of(
+                "message", Objects.toString(emailResponse, ""),
+                PLACEHOLDER_ANO, currentYear()));
     }
 
     /**
@@ -293,15 +312,11 @@ public class EmailService {
      * @param userName Nome do usuário
      * @return Template processado
      */
-    private String processWelcomeTemplate(String template, String userName) {
-        if (template == null) {
-            return getDefaultTemplate("WELCOME_EMAIL");
-        }
-
-        return template
-                .replace(PLACEHOLDER_NOME, userName != null ? userName : "")
-                .replace(PLACEHOLDER_ANO, String.valueOf(Year.now().getValue()))
-                .replace(PLACEHOLDER_SEND_NAME, senderName);
+    private String processWelcomeTemplate(CompiledTemplate template, String userName) {
+        return template.render(Map.of(
+                PLACEHOLDER_NOME, userName != null ? userName : "",
+                PLACEHOLDER_ANO, currentYear(),
+                PLACEHOLDER_SEND_NAME, senderName));
     }
 
     /**
@@ -312,16 +327,12 @@ public class EmailService {
      * @param resetToken Token de recuperação
      * @return Template processado
      */
-    private String processPasswordResetTemplate(String template, String userName, String resetToken) {
-        if (template == null) {
-            return getDefaultTemplate("PASSWORD_RESET");
-        }
-
-        return template
-                .replace(PLACEHOLDER_NOME, userName != null ? userName : "")
-                .replace("{{resetToken}}", resetToken != null ? resetToken : "")
-                .replace(PLACEHOLDER_ANO, String.valueOf(Year.now().getValue()))
-                .replace(PLACEHOLDER_SEND_NAME, senderName);
+    private String processPasswordResetTemplate(CompiledTemplate template, String userName, String resetToken) {
+        return template.render(Map.of(
+                PLACEHOLDER_NOME, userName != null ? userName : "",
+                "resetToken", resetToken != null ? resetToken : "",
+                PLACEHOLDER_ANO, currentYear(),
+                PLACEHOLDER_SEND_NAME, senderName));
     }
 
     /**
@@ -333,18 +344,14 @@ public class EmailService {
      * @param interpreterName Nome do intérprete
      * @return Template processado
      */
-    private String processAppointmentConfirmationTemplate(String template, String userName, String appointmentDate,
-                                                          String interpreterName) {
-        if (template == null) {
-            return getDefaultTemplate("APPOINTMENT_CONFIRMATION");
-        }
-
-        return template
-                .replace(PLACEHOLDER_NOME, userName != null ? userName : "")
-                .replace("{{appointmentDate}}", appointmentDate != null ? appointmentDate : "")
-                .replace("{{interpreterName}}", interpreterName != null ? interpreterName : "")
-                .replace(PLACEHOLDER_ANO, String.valueOf(Year.now().getValue()))
-                .replace(PLACEHOLDER_SEND_NAME, senderName);
+    private String processAppointmentConfirmationTemplate(CompiledTemplate template, String userName,
+                                                          String appointmentDate, String interpreterName) {
+        return template.render(Map.of(
+                PLACEHOLDER_NOME, userName != null ? userName : "",
+                PLACEHOLDER_APPOINTMENT_DATE, appointmentDate != null ? appointmentDate : "",
+                "interpreterName", interpreterName != null ? interpreterName : "",
+                PLACEHOLDER_ANO, currentYear(),
+                PLACEHOLDER_SEND_NAME, senderName));
     }
 
     /**
@@ -354,25 +361,20 @@ public class EmailService {
      * @return Template HTML processado
      */
     private String processTemplate(ProcessAdminTemplateDTO dto) {
-        if (dto.getTemplate() == null) {
-            return getDefaultTemplate("PENDING_INTERPRETER_ADMIN");
-            // Substituir placeholders do template do banco
-        }
-
         String videoUrl = StringUtils.isNotBlank(dto.getVideoUrl())
                 ? "<a href=\"" + dto.getVideoUrl() + "\" target=\"_blank\" rel=\"noreferrer noopener\">Assistir</a>"
                 : "";
 
-        return dto.getTemplate()
-                .replace(PLACEHOLDER_NOME, dto.getInterpreterName() != null ? dto.getInterpreterName() : "")
-                .replace(PLACEHOLDER_CPF, dto.getCpf() != null ? dto.getCpf() : "")
-                .replace(PLACEHOLDER_CNPJ, dto.getCnpj() != null ? dto.getCnpj() : "")
-                .replace(PLACEHOLDER_EMAIL, dto.getEmail() != null ? dto.getEmail() : "")
-                .replace(PLACEHOLDER_TELEFONE, dto.getPhone() != null ? dto.getPhone() : "")
-                .replace(PLACEHOLDER_ACCEPT, dto.getAcceptLink() != null ? dto.getAcceptLink() : "")
-                .replace(PLACEHOLDER_REJECT, dto.getRejectLink() != null ? dto.getRejectLink() : "")
-                .replace(PLACEHOLDER_ANO, String.valueOf(Year.now().getValue()))
-                .replace(PLACEHOLDER_VIDEO, videoUrl);
+        return dto.getTemplate().render(Map.of(
+                PLACEHOLDER_NOME, dto.getInterpreterName() != null ? dto.getInterpreterName() : "",
+                PLACEHOLDER_CPF, dto.getCpf() != null ? dto.getCpf() : "",
+                PLACEHOLDER_CNPJ, dto.getCnpj() != null ? dto.getCnpj() : "",
+                PLACEHOLDER_EMAIL, dto.getEmail() != null ? dto.getEmail() : "",
+                PLACEHOLDER_TELEFONE, dto.getPhone() != null ? dto.getPhone() : "",
+                PLACEHOLDER_ACCEPT, dto.getAcceptLink() != null ? dto.getAcceptLink() : "",
+                PLACEHOLDER_REJECT, dto.getRejectLink() != null ? dto.getRejectLink() : "",
+                PLACEHOLDER_ANO, currentYear(),
+                PLACEHOLDER_VIDEO, videoUrl));
     }
 
 
@@ -385,22 +387,21 @@ public class EmailService {
      */
     private String createInterpreterFeedbackTemplate(String interpreterName, boolean approved) {
         // Buscar template do banco de dados
-        String template = getTemplateByKey("PENDING_INTERPRETER");
+        CompiledTemplate template = getCompiledTemplate("PENDING_INTERPRETER");
 
         // Definir a mensagem de resposta baseada na aprovação
         String respostaSolicitacao = approved ? "seu cadastro foi aprovado e você já pode acessar a plataforma"
                 : "seu cadastro foi recusado por perfil não compatível";
 
         // Processar o template
-        return template
-                .replace(PLACEHOLDER_NOME, interpreterName != null ? interpreterName : "")
-                .replace(PLACEHOLDER_RESPOSTA_SOLICITACAO, respostaSolicitacao)
-                .replace(PLACEHOLDER_ANO, String.valueOf(Year.now().getValue()));
+        return template.render(Map.of(
+                PLACEHOLDER_NOME, interpreterName != null ? interpreterName : "",
+                PLACEHOLDER_RESPOSTA_SOLICITACAO, respostaSolicitacao,
+                PLACEHOLDER_ANO, currentYear()));
     }
 
-    private void sendEmailMessage(EmailRequestDTO emailRequest,
-                                  List<byte[]> attachments,
-                                  List<String> attachmentNames) throws MessagingException {
+    private boolean sendEmailMessage(EmailRequestDTO emailRequest,
+                                     List<EmailAttachmentDTO> attachments) throws MessagingException {
 
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -410,15 +411,14 @@ public class EmailService {
         helper.setSubject(emailRequest.getSubject());
         helper.setText(emailRequest.getBody(), true);
 
-        // Adiciona os anexos
+        // Adiciona os anexos sem ler o conteúdo, que é lido em streaming no envio
         if (Objects.nonNull(attachments)) {
-            for (int i = 0; i < attachments.size(); i++) {
-                byte[] attachment = attachments.get(i);
-                helper.addAttachment(attachmentNames.get(i), new ByteArrayResource(attachment));
+            for (EmailAttachmentDTO attachment : attachments) {
+                helper.addAttachment(attachment.fileName(), attachment.content());
             }
         }
 
-        mailSender.send(message);
+        return emailDispatcher.enqueue(message);
     }
 
     /**
@@ -428,7 +428,7 @@ public class EmailService {
      * @return true se o email foi enviado com sucesso, false caso contrário
      */
     public boolean sendAppointmentAcceptedEmail(AppointmentUpdateEmailDTO dto) {
-        dto.setTemplate(getTemplateByKey("APPOINTMENT_ACCEPTED"));
+        dto.setTemplate(getCompiledTemplate("APPOINTMENT_ACCEPTED"));
         String html = processAppointmentStatusChangeTemplate(dto);
         EmailRequestDTO emailRequest = new EmailRequestDTO(
                 dto.getEmail(),
@@ -445,7 +445,7 @@ public class EmailService {
      * @return true se o email foi enviado com sucesso, false caso contrário
      */
     public boolean sendAppointmentDeniedEmail(AppointmentUpdateEmailDTO dto) {
-        dto.setTemplate(getTemplateByKey("APPOINTMENT_DENIED"));
+        dto.setTemplate(getCompiledTemplate("APPOINTMENT_DENIED"));
         String html = processAppointmentStatusChangeTemplate(dto);
         EmailRequestDTO emailRequest = new EmailRequestDTO(
                 dto.getEmail(),
@@ -462,7 +462,7 @@ public class EmailService {
      * @return true se o email foi enviado com sucesso, false caso contrário
      */
     public boolean sendAppointmentCanceledEmail(AppointmentUpdateEmailDTO dto) {
-        dto.setTemplate(getTemplateByKey("APPOINTMENT_CANCELED"));
+        dto.setTemplate(getCompiledTemplate("APPOINTMENT_CANCELED"));
         String html = processAppointmentStatusChangeTemplate(dto);
         EmailRequestDTO emailRequest = new EmailRequestDTO(
                 dto.getEmail(),
@@ -479,20 +479,20 @@ public class EmailService {
      * @return Template processado
      */
     private String processAppointmentStatusChangeTemplate(AppointmentUpdateEmailDTO dto) {
-        if (dto.getTemplate() == null) {
-            return getDefaultTemplate("APPOINTMENT_STATUS_CHANGE");
-        }
+        return dto.getTemplate().render(Map.of(
+                PLACEHOLDER_NOME, StringUtils.getIfEmpty(dto.getUserName(), () -> ""),
+                PLACEHOLDER_APPOINTMENT_DATE, StringUtils.getIfEmpty(dto.getAppointmentDate(), () -> ""),
+                "appointmentDescription", StringUtils.getIfEmpty(dto.getAppointmentDescription(), () -> ""),
+                "appointmentModality", StringUtils.getIfEmpty(dto.getAppointmentModality(), () -> ""),
+                "appointmentLocation", StringUtils.getIfEmpty(dto.getAppointmentLocation(), () -> ""),
+                "subject", StringUtils.getIfEmpty(dto.getSubject(), () -> ""),
+                "subjectName", StringUtils.getIfEmpty(dto.getSubjectName(), () -> ""),
+                PLACEHOLDER_ANO, currentYear(),
+                PLACEHOLDER_SEND_NAME, senderName));
+    }
 
-        return dto.getTemplate()
-                .replace(PLACEHOLDER_NOME, StringUtils.getIfEmpty(dto.getUserName(), () -> ""))
-                .replace("{{appointmentDate}}", StringUtils.getIfEmpty(dto.getAppointmentDate(), () -> ""))
-                .replace("{{appointmentDescription}}", StringUtils.getIfEmpty(dto.getAppointmentDescription(), () -> ""))
-                .replace("{{appointmentModality}}", StringUtils.getIfEmpty(dto.getAppointmentModality(), () -> ""))
-                .replace("{{appointmentLocation}}", StringUtils.getIfEmpty(dto.getAppointmentLocation(), () -> ""))
-                .replace("{{subject}}", StringUtils.getIfEmpty(dto.getSubject(), () -> ""))
-                .replace("{{subjectName}}", StringUtils.getIfEmpty(dto.getSubjectName(), () -> ""))
-                .replace(PLACEHOLDER_ANO, String.valueOf(Year.now().getValue()))
-                .replace(PLACEHOLDER_SEND_NAME, senderName);
+    private static String currentYear() {
+        return String.valueOf(Year.now().getValue());
     }
 }
 
@@ -0,0 +1,121 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.application.util.CompiledTemplate;
+import com.pointtils.pointtils.src.core.domain.entities.Parameters;
+import com.pointtils.pointtils.src.core.domain.events.ParametersChangedEvent;
+import com.pointtils.pointtils.src.infrastructure.repositories.ParametersRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Templates de email lidos dos parâmetros e mantidos compilados em memória, para que cada envio não consulte o
+ * banco nem percorra o HTML inteiro a cada placeholder.
+ * <p>
+ * Os templates usados nos envios ({@link #TEMPLATE_KEYS}) são carregados juntos em uma consulta. O cache é
+ * descartado quando um parâmetro é alterado e recarregado após {@code ttl-minutes}, para refletir alterações
+ * feitas por outras instâncias. Outras chaves são lidas direto do banco, sem cache.
+ */
+@Slf4j
+@Component
+public class EmailTemplateCache {
+
+    static final List<String> TEMPLATE_KEYS = List.of(
+            "WELCOME_EMAIL",
+            "PASSWORD_RESET",
+            "APPOINTMENT_CONFIRMATION",
+            "PENDING_INTERPRETER_ADMIN",
+            "PENDING_INTERPRETER",
+            "ADMIN_FEEDBACK",
+            "APPOINTMENT_ACCEPTED",
+            "APPOINTMENT_DENIED",
+            "APPOINTMENT_CANCELED");
+
+    private final ParametersRepository parametersRepository;
+    private final long timeToLiveNanos;
+
+    private volatile Snapshot snapshot;
+    private long generation;
+
+    public EmailTemplateCache(ParametersRepository parametersRepository,
+                              @Value("${app.mail.templates.ttl-minutes:10}") long timeToLiveMinutes) {
+        this.parametersRepository = parametersRepository;
+        this.timeToLiveNanos = Duration.ofMinutes(timeToLiveMinutes).toNanos();
+    }
+
+    /**
+     * Busca o template compilado da chave informada
+     *
+     * @param key Chave do parâmetro com o template
+     * @return Template compilado ou vazio quando o parâmetro não existe ou não tem valor
+     */
+    public Optional<CompiledTemplate> find(String key) {
+        if (!TEMPLATE_KEYS.contains(key)) {
+            return parametersRepository.findByKey(key)
+                    .map(Parameters::getValue)
+                    .map(CompiledTemplate::compile);
+        }
+        return Optional.ofNullable(currentSnapshot().templates.get(key));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onParametersChanged(ParametersChangedEvent event) {
+        invalidate();
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (Objects.nonNull(current) && !current.isExpired()) {
+            return current;
+        }
+        long loadingGeneration;
+        synchronized (this) {
+            current = snapshot;
+            if (Objects.nonNull(current) && !current.isExpired()) {
+                return current;
+            }
+            loadingGeneration = generation;
+        }
+
+        Snapshot loaded = load();
+        synchronized (this) {
+            // Uma alteração de parâmetro durante a leitura invalida o que foi lido
+            if (generation == loadingGeneration) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private Snapshot load() {
+        Map<String, CompiledTemplate> templates = new HashMap<>();
+        for (Parameters parameter : parametersRepository.findAllByKeyIn(TEMPLATE_KEYS)) {
+            if (Objects.nonNull(parameter.getValue())) {
+                templates.put(parameter.getKey(), CompiledTemplate.compile(parameter.getValue()));
+            }
+        }
+        log.info("{} templates de email carregados dos parametros", templates.size());
+        return new Snapshot(templates, System.nanoTime() + timeToLiveNanos);
+    }
+
+    private record Snapshot(Map<String, CompiledTemplate> templates, long expiresAt) {
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
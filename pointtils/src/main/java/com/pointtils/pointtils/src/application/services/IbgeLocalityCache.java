@@ -0,0 +1,183 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pointtils.pointtils.src.application.clients.IbgeClient;
+import com.pointtils.pointtils.src.application.dto.StateDataDTO;
+import com.pointtils.pointtils.src.core.domain.entities.LocalitySnapshot;
+import com.pointtils.pointtils.src.infrastructure.repositories.LocalitySnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * UFs e municípios do IBGE mantidos em memória. Essas listas quase nunca mudam, então as consultas são atendidas
+ * pela memória e a API do IBGE só é chamada na primeira consulta de cada lista ou depois de {@code cache-ttl}.
+ * <p>
+ * Listas vencidas continuam sendo retornadas enquanto uma nova versão é buscada em segundo plano, e a última lista
+ * obtida de cada consulta é gravada em {@link LocalitySnapshot} e carregada na inicialização. Assim, com o IBGE
+ * lento ou fora do ar, apenas consultas nunca feitas antes dependem da API externa.
+ */
+@Slf4j
+@Component
+public class IbgeLocalityCache {
+
+    static final String STATES_SCOPE = "states";
+    private static final String CITIES_SCOPE_PREFIX = "cities:";
+    private static final TypeReference<List<String>> NAMES_TYPE = new TypeReference<>() {
+    };
+
+    private final IbgeClient ibgeClient;
+    private final LocalitySnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final Executor refreshExecutor;
+    private final Duration timeToLive;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Entry>> refreshes = new ConcurrentHashMap<>();
+
+    public IbgeLocalityCache(IbgeClient ibgeClient,
+                             LocalitySnapshotRepository snapshotRepository,
+                             ObjectMapper objectMapper,
+                             @Qualifier("localityRefreshExecutor") Executor refreshExecutor,
+                             @Value("${client.ibge.cache-ttl:7d}") Duration timeToLive) {
+        this.ibgeClient = ibgeClient;
+        this.snapshotRepository = snapshotRepository;
+        this.objectMapper = objectMapper;
+        this.refreshExecutor = refreshExecutor;
+        this.timeToLive = timeToLive;
+    }
+
+    public List<StateDataDTO> getStates() {
+        return get(STATES_SCOPE, ibgeClient::getStateList);
+    }
+
+    public List<StateDataDTO> getCitiesByState(String state) {
+        return get(CITIES_SCOPE_PREFIX + state.toUpperCase(Locale.ROOT), () -> ibgeClient.getCityListByState(state));
+    }
+
+    /**
+     * Carrega em memória as listas gravadas por esta ou por outras instâncias
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshots() {
+        try {
+            snapshotRepository.findAll().forEach(snapshot -> toEntry(snapshot)
+                    .ifPresent(entry -> entries.putIfAbsent(snapshot.getScope(), entry)));
+            log.info("Carregadas {} listas de localidades do IBGE a partir da copia local", entries.size());
+        } catch (RuntimeException e) {
+            log.error("Erro ao carregar a copia local das localidades do IBGE: {}", e.getMessage());
+        }
+    }
+
+    private List<StateDataDTO> get(String scope, Supplier<List<StateDataDTO>> loader) {
+        Entry entry = entries.get(scope);
+        if (Objects.nonNull(entry)) {
+            if (entry.isExpired(timeToLive)) {
+                refresh(scope, loader, refreshExecutor).exceptionally(e -> {
+                    log.warn("Falha ao atualizar as localidades {} do IBGE, mantendo a lista anterior: {}",
+                            scope, e.getMessage());
+                    return null;
+                });
+            }
+            return entry.data();
+        }
+
+        try {
+            return refresh(scope, loader, Runnable::run).join().data();
+        } catch (CompletionException e) {
+            RuntimeException cause = e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException : e;
+            // Outra instância pode ter gravado a lista depois da inicialização desta
+            return readSnapshot(scope).map(Entry::data).orElseThrow(() -> cause);
+        }
+    }
+
+    /**
+     * Busca a lista no IBGE, com no máximo uma busca em andamento por lista
+     */
+    private CompletableFuture<Entry> refresh(String scope, Supplier<List<StateDataDTO>> loader, Executor executor) {
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> running = refreshes.putIfAbsent(scope, created);
+        if (Objects.nonNull(running)) {
+            return running;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(fetch(scope, loader));
+                } catch (RuntimeException e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    refreshes.remove(scope, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshes.remove(scope, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private Entry fetch(String scope, Supplier<List<StateDataDTO>> loader) {
+        Entry entry = new Entry(List.copyOf(loader.get()), LocalDateTime.now());
+        entries.put(scope, entry);
+        try {
+            List<String> names = entry.data().stream().map(StateDataDTO::getName).toList();
+            snapshotRepository.save(new LocalitySnapshot(scope, objectMapper.writeValueAsString(names),
+                    entry.loadedAt()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Erro ao gravar a copia local das localidades {}: {}", scope, e.getMessage());
+        }
+        return entry;
+    }
+
+    private Optional<Entry> readSnapshot(String scope) {
+        try {
+            Optional<Entry> entry = snapshotRepository.findById(scope).flatMap(this::toEntry);
+            entry.ifPresent(value -> entries.putIfAbsent(scope, value));
+            return entry;
+        } catch (RuntimeException e) {
+            log.error("Erro ao ler a copia local das localidades {}: {}", scope, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Entry> toEntry(LocalitySnapshot snapshot) {
+        try {
+            List<StateDataDTO> data = objectMapper.readValue(snapshot.getNames(), NAMES_TYPE).stream()
+                    .map(StateDataDTO::new)
+                    .toList();
+            return Optional.of(new Entry(data, snapshot.getRefreshedAt()));
+        } catch (JsonProcessingException e) {
+            log.error("Copia local das localidades {} invalida: {}", snapshot.getScope(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private record Entry(List<StateDataDTO> data, LocalDateTime loadedAt) {
+
+        boolean isExpired(Duration timeToLive) {
+            return !loadedAt.plus(timeToLive).isAfter(LocalDateTime.now());
+        }
+    }
+}
@@ -1,68 +1,126 @@
 package com.pointtils.pointtils.src.application.services;
 
+import com.pointtils.pointtils.src.application.dto.email.EmailAttachmentDTO;
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentCompleteRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentUploadRequestDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterDocumentResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterRegistrationEmailDTO;
+import com.pointtils.pointtils.src.application.dto.responses.PresignedUrlResponseDTO;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
 import com.pointtils.pointtils.src.core.domain.entities.InterpreterDocuments;
 import com.pointtils.pointtils.src.core.domain.exceptions.AuthenticationException;
 import com.pointtils.pointtils.src.core.domain.exceptions.FileUploadException;
 import com.pointtils.pointtils.src.infrastructure.repositories.InterpreterDocumentsRepository;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class InterpreterDocumentService {
 
     private final InterpreterDocumentsRepository interpreterDocumentsRepository;
     private final InterpreterService interpreterService;
     private final S3Service s3Service;
+    private final S3PresignedUrlService s3PresignedUrlService;
     private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor documentUploadExecutor;
 
     @Value("${app.mail.admin:admin@pointtils.com}")
     private String adminEmail;
     @Value("${app.api.base-url}")
     private String apiBaseUrl;
 
-    @Transactional
+    public InterpreterDocumentService(InterpreterDocumentsRepository interpreterDocumentsRepository,
+                                      InterpreterService interpreterService,
+                                      S3Service s3Service,
+                                      S3PresignedUrlService s3PresignedUrlService,
+                                      EmailService emailService,
+                                      TransactionTemplate transactionTemplate,
+                                      @Qualifier("documentUploadExecutor") Executor documentUploadExecutor) {
+        this.interpreterDocumentsRepository = interpreterDocumentsRepository;
+        this.interpreterService = interpreterService;
+        this.s3Service = s3Service;
+        this.s3PresignedUrlService = s3PresignedUrlService;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+        this.documentUploadExecutor = documentUploadExecutor;
+    }
+
+    /**
+     * Envia os documentos ao S3 em paralelo e só então grava as linhas no banco, em uma transação curta que não
+     * inclui o tempo de transferência. Ao substituir documentos, os arquivos antigos são removidos do S3 em lote
+     * depois do commit.
+     */
     public InterpreterDocumentResponseDTO saveDocuments(UUID interpreterId, List<MultipartFile> files,
             Boolean replaceExisting) {
         Interpreter interpreter = interpreterService.findInterpreterById(interpreterId);
 
-        List<InterpreterDocuments> existingDocuments = null;
-        if (Boolean.TRUE.equals(replaceExisting)) {
-            existingDocuments = interpreterDocumentsRepository.findByInterpreter(interpreter);
+        List<String> documentUrls = uploadDocuments(interpreter, files);
+        List<String> fileNames = files.stream().map(MultipartFile::getOriginalFilename).toList();
+
+        try {
+            return recordDocuments(interpreter, documentUrls, fileNames, replaceExisting);
+        } catch (RuntimeException ex) {
+            deleteUploadedFiles(documentUrls);
+            throw ex;
         }
+    }
 
-        // Processa cada arquivo e salva no banco de dados
-        List<InterpreterDocuments> savedDocuments = files.stream()
-                .map(file -> uploadDocument(interpreter, file, new InterpreterDocuments()))
+    /**
+     * Gera URLs pré-assinadas para o intérprete enviar os documentos diretamente ao S3
+     */
+    public List<PresignedUrlResponseDTO> createUploadUrls(UUID interpreterId,
+                                                          InterpreterDocumentUploadRequestDTO request) {
+        Interpreter interpreter = interpreterService.findInterpreterById(interpreterId);
+        return request.getFiles().stream()
+                .map(file -> s3PresignedUrlService.createUploadUrl(getDocumentsPrefix(interpreter), file))
                 .toList();
+    }
 
-        if (Objects.isNull(existingDocuments)) {
-            // Enviar email para o administrador após cadastro do usuario
-            sendInterpreterRegistrationEmail(interpreter, files);
-        } else {
-            // Deleta documentos antigos em caso de atualização dos documentos
-            existingDocuments.forEach(existingDocument -> {
-                s3Service.deleteFile(existingDocument.getDocument());
-                interpreterDocumentsRepository.delete(existingDocument);
-            });
-        }
+    /**
+     * Registra os documentos enviados pelas URLs pré-assinadas, com o mesmo tratamento do envio pela API:
+     * email ao administrador no cadastro ou remoção dos documentos antigos na substituição
+     */
+    public InterpreterDocumentResponseDTO completeUpload(UUID interpreterId,
+                                                         InterpreterDocumentCompleteRequestDTO request) {
+        Interpreter interpreter = interpreterService.findInterpreterById(interpreterId);
 
-        return InterpreterDocumentResponseDTO.fromEntity(savedDocuments);
+        List<String> documentUrls = request.getKeys().stream()
+                .map(key -> s3PresignedUrlService.confirmUpload(getDocumentsPrefix(interpreter), key))
+                .toList();
+        List<String> fileNames = request.getKeys().stream()
+                .map(s3PresignedUrlService::getFileName)
+                .toList();
+
+        return recordDocuments(interpreter, documentUrls, fileNames, request.getReplaceExisting());
+    }
+
+    /**
+     * Gera a URL pré-assinada para baixar um documento do intérprete
+     */
+    @Transactional(readOnly = true)
+    public PresignedUrlResponseDTO createDownloadUrl(UUID interpreterId, UUID documentId) {
+        InterpreterDocuments document = interpreterDocumentsRepository.findById(documentId)
+                .filter(interpreterDocument -> interpreterDocument.getInterpreter().getId().equals(interpreterId))
+                .orElseThrow(() -> new EntityNotFoundException("Documento não encontrado"));
+        return s3PresignedUrlService.createDownloadUrl(document.getDocument());
     }
 
     @Transactional(readOnly = true)
@@ -86,28 +144,117 @@ public class InterpreterDocumentService {
     private InterpreterDocuments uploadDocument(Interpreter interpreter, MultipartFile file,
             InterpreterDocuments interpreterDocument) {
         // Faz o upload do arquivo para o S3
-        String documentUrl;
+        String documentUrl = uploadFile(interpreter, file);
+
+        // Cria uma nova instância de InterpreterDocuments
+        interpreterDocument.setInterpreter(interpreter);
+        interpreterDocument.setDocument(documentUrl);
+
+        return interpreterDocumentsRepository.save(interpreterDocument);
+    }
+
+    /**
+     * Grava os documentos já enviados ao S3 em uma transação curta. Ao substituir documentos, os arquivos antigos
+     * são removidos do S3 em lote depois do commit; no cadastro, o administrador recebe o email de aprovação.
+     */
+    private InterpreterDocumentResponseDTO recordDocuments(Interpreter interpreter, List<String> documentUrls,
+                                                           List<String> fileNames, Boolean replaceExisting) {
+        List<InterpreterDocuments> existingDocuments = new ArrayList<>();
+        List<InterpreterDocuments> savedDocuments = transactionTemplate.execute(status -> {
+            if (Boolean.TRUE.equals(replaceExisting)) {
+                existingDocuments.addAll(interpreterDocumentsRepository.findByInterpreter(interpreter));
+                interpreterDocumentsRepository.deleteAllInBatch(existingDocuments);
+            }
+            return interpreterDocumentsRepository.saveAll(documentUrls.stream()
+                    .map(documentUrl -> newDocument(interpreter, documentUrl))
+                    .toList());
+        });
+
+        if (Boolean.TRUE.equals(replaceExisting)) {
+            // Deleta os arquivos antigos em caso de atualização dos documentos
+            deleteUploadedFiles(existingDocuments.stream().map(InterpreterDocuments::getDocument).toList());
+        } else {
+            // Enviar email para o administrador após cadastro do usuario
+            sendInterpreterRegistrationEmail(interpreter, fileNames, savedDocuments);
+        }
+
+        return InterpreterDocumentResponseDTO.fromEntity(savedDocuments);
+    }
+
+    /**
+     * Envia os arquivos ao S3 no executor de upload e aguarda todos terminarem. Se algum envio falhar, os arquivos
+     * já enviados são removidos e a primeira falha é relançada.
+     *
+     * @return URLs dos arquivos, na mesma ordem de {@code files}
+     */
+    private List<String> uploadDocuments(Interpreter interpreter, List<MultipartFile> files) {
+        List<CompletableFuture<String>> uploads = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadFile(interpreter, file), documentUploadExecutor))
+                .toList();
+
+        List<String> documentUrls = new ArrayList<>();
+        RuntimeException failure = null;
+        for (CompletableFuture<String> upload : uploads) {
+            try {
+                documentUrls.add(upload.join());
+            } catch (CompletionException ex) {
+                if (Objects.isNull(failure)) {
+                    failure = ex.getCause() instanceof RuntimeException cause ? cause : ex;
+                }
+            }
+        }
+
+        if (Objects.nonNull(failure)) {
+            deleteUploadedFiles(documentUrls);
+            throw failure;
+        }
+        return documentUrls;
+    }
+
+    private String uploadFile(Interpreter interpreter, MultipartFile file) {
         try {
-            documentUrl = s3Service.uploadFile(file, "documents/" + interpreter.getId());
+            return s3Service.uploadFile(file, getDocumentsPrefix(interpreter));
         } catch (IOException ex) {
             log.error("Erro ao realizar upload de documento {} para S3", file.getOriginalFilename(), ex);
             throw new FileUploadException(file.getOriginalFilename(), ex);
         }
+    }
 
-        // Cria uma nova instância de InterpreterDocuments
+    private void deleteUploadedFiles(List<String> documentUrls) {
+        try {
+            s3Service.deleteFiles(documentUrls);
+        } catch (RuntimeException ex) {
+            log.error("Erro ao remover {} documentos do S3: {}", documentUrls.size(), ex.getMessage());
+        }
+    }
+
+    private static String getDocumentsPrefix(Interpreter interpreter) {
+        return "documents/" + interpreter.getId();
+    }
+
+    private static InterpreterDocuments newDocument(Interpreter interpreter, String documentUrl) {
+        InterpreterDocuments interpreterDocument = new InterpreterDocuments();
         interpreterDocument.setInterpreter(interpreter);
         interpreterDocument.setDocument(documentUrl);
-
-        return interpreterDocumentsRepository.save(interpreterDocument);
+        return interpreterDocument;
     }
 
     /**
      * Envia email para o administrador com os dados de cadastro do intérprete
      *
-     * @param interpreter Intérprete cadastrado
+     * @param interpreter    Intérprete cadastrado
+     * @param fileNames      Nomes dos arquivos enviados, usados para o nome dos anexos
+     * @param savedDocuments Documentos salvos no S3, lidos como anexo no envio do email
      */
-    private void sendInterpreterRegistrationEmail(Interpreter interpreter, List<MultipartFile> files) {
+    private void sendInterpreterRegistrationEmail(Interpreter interpreter, List<String> fileNames,
+                                                  List<InterpreterDocuments> savedDocuments) {
         try {
+            List<EmailAttachmentDTO> attachments = new ArrayList<>();
+            for (int i = 0; i < savedDocuments.size(); i++) {
+                attachments.add(new EmailAttachmentDTO(fileNames.get(i),
+                        s3Service.openFile(savedDocuments.get(i).getDocument())));
+            }
+
             String acceptLink = String.format("%s/v1/email/interpreter/%s/approve", apiBaseUrl, interpreter.getId());
             String rejectLink = String.format("%s/v1/email/interpreter/%s/reject", apiBaseUrl, interpreter.getId());
 
@@ -121,7 +268,7 @@ public class InterpreterDocumentService {
                     .videoUrl(interpreter.getVideoUrl())
                     .acceptLink(acceptLink)
                     .rejectLink(rejectLink)
-                    .files(files)
+                    .attachments(attachments)
                     .build();
 
             boolean emailSent = emailService.sendInterpreterRegistrationRequestEmail(emailDTO);
@@ -1,21 +1,31 @@
 package com.pointtils.pointtils.src.application.services;
 
+import com.pointtils.pointtils.src.application.dto.LocationDTO;
 import com.pointtils.pointtils.src.application.dto.requests.FindAllInterpreterDTO;
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterBasicRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterListCursor;
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterPatchRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterSpecificationFilterDTO;
 import com.pointtils.pointtils.src.application.dto.requests.LocationRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.ProfessionalDataPatchRequestDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterListResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.InterpreterPageResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.SpecialtyResponseDTO;
 import com.pointtils.pointtils.src.application.mapper.InterpreterResponseMapper;
 import com.pointtils.pointtils.src.application.mapper.LocationMapper;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
 import com.pointtils.pointtils.src.core.domain.entities.enums.Gender;
+import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterListSort;
 import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterModality;
 import com.pointtils.pointtils.src.core.domain.entities.enums.UserStatus;
 import com.pointtils.pointtils.src.core.domain.entities.enums.UserTypeE;
 import com.pointtils.pointtils.src.infrastructure.repositories.InterpreterRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.LocationRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.UserSpecialtyRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterListingRow;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterLocationRow;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterSpecialtyRow;
 import com.pointtils.pointtils.src.infrastructure.repositories.spec.InterpreterSpecification;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -27,8 +37,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -38,11 +51,17 @@ import java.util.UUID;
 @Slf4j
 public class InterpreterService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final InterpreterRepository repository;
+    private final LocationRepository locationRepository;
+    private final UserSpecialtyRepository userSpecialtyRepository;
     private final PasswordEncoder passwordEncoder;
     private final InterpreterResponseMapper responseMapper;
     private final LocationMapper locationMapper;
     private final EmailService emailService;
+    private final InterpreterSlotService interpreterSlotService;
 
     public InterpreterResponseDTO registerBasic(InterpreterBasicRequestDTO request) {
         Interpreter interpreter = Interpreter.builder()
@@ -70,7 +89,8 @@ public class InterpreterService {
     }
 
     public InterpreterResponseDTO findById(UUID id) {
-        Interpreter interpreter = findInterpreterById(id);
+        Interpreter interpreter = repository.findProfileById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Intérprete não encontrado"));
         return responseMapper.toResponseDTO(interpreter);
     }
 
@@ -80,7 +100,13 @@ public class InterpreterService {
         repository.save(interpreter);
     }
 
-    public List<InterpreterListResponseDTO> findAll(FindAllInterpreterDTO dto) {
+    /**
+     * Lista os intérpretes filtrados. Com {@code size} ou {@code cursor} informados, retorna uma página ordenada
+     * por nome, avaliação ou relevância e o cursor da próxima página; sem eles, retorna todos os intérpretes como
+     * antes. A busca por nome é ordenada por relevância quando nenhuma ordenação é informada.
+     * Localizações e especialidades são carregadas em lote para toda a página.
+     */
+    public InterpreterPageResponseDTO findAll(FindAllInterpreterDTO dto) {
         InterpreterModality modalityEnum = null;
         if (dto.getModality() != null) {
             modalityEnum = InterpreterModality.valueOf(dto.getModality().toUpperCase());
@@ -111,11 +137,78 @@ public class InterpreterService {
         filterDTO.setSpecialties(specialtyList);
         filterDTO.setGender(genderEnum);
         filterDTO.setAvailableDate(dateTime);
+        filterDTO.setMaterializedAvailability(dateTime != null
+                && interpreterSlotService.isMaterialized(dateTime.toLocalDate(), dateTime.toLocalDate()));
         filterDTO.setName(dto.getName());
 
-        return repository.findAll(InterpreterSpecification.filter(filterDTO))
-                .stream()
-                .map(responseMapper::toListResponseDTO)
+        boolean paginated = dto.getSize() != null || dto.getCursor() != null;
+        InterpreterListSort sort = null;
+        if (dto.getSort() != null) {
+            sort = InterpreterListSort.fromString(dto.getSort());
+        } else if (paginated) {
+            sort = dto.getName() != null ? InterpreterListSort.RELEVANCE : InterpreterListSort.NAME;
+        }
+        if (sort == InterpreterListSort.RELEVANCE && dto.getName() == null) {
+            throw new IllegalArgumentException("A ordenação por relevância exige a busca por nome");
+        }
+
+        int size = 0;
+        InterpreterListCursor after = null;
+        if (paginated) {
+            size = dto.getSize() != null ? dto.getSize() : DEFAULT_PAGE_SIZE;
+            if (size < 1 || size > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE);
+            }
+            if (dto.getCursor() != null) {
+                after = InterpreterListCursor.decode(dto.getCursor(), sort);
+            }
+        }
+
+        List<InterpreterListingRow> rows = repository.findListingRows(InterpreterSpecification.filter(filterDTO), sort,
+                dto.getName(), after, paginated ? size + 1 : 0);
+        String nextCursor = null;
+        if (paginated && rows.size() > size) {
+            rows = rows.subList(0, size);
+            InterpreterListingRow last = rows.get(size - 1);
+            nextCursor = InterpreterListCursor.after(sort, last.name(), last.rating(), last.relevance(), last.id())
+                    .encode();
+        }
+
+        return InterpreterPageResponseDTO.builder()
+                .items(toListResponseDTOs(rows))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private List<InterpreterListResponseDTO> toListResponseDTOs(List<InterpreterListingRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = rows.stream().map(InterpreterListingRow::id).toList();
+
+        Map<UUID, List<LocationDTO>> locationsByInterpreter = new HashMap<>();
+        for (InterpreterLocationRow row : locationRepository.findListingRowsByInterpreterIds(ids)) {
+            locationsByInterpreter.computeIfAbsent(row.interpreterId(), key -> new ArrayList<>())
+                    .add(LocationDTO.builder()
+                            .id(row.id())
+                            .uf(row.uf())
+                            .city(row.city())
+                            .neighborhood(row.neighborhood())
+                            .build());
+        }
+        Map<UUID, List<SpecialtyResponseDTO>> specialtiesByInterpreter = new HashMap<>();
+        for (InterpreterSpecialtyRow row : userSpecialtyRepository.findListingRowsByUserIds(ids)) {
+            specialtiesByInterpreter.computeIfAbsent(row.userId(), key -> new ArrayList<>())
+                    .add(SpecialtyResponseDTO.builder()
+                            .id(row.specialtyId())
+                            .name(row.name())
+                            .build());
+        }
+
+        return rows.stream()
+                .map(row -> responseMapper.toListResponseDTO(row,
+                        locationsByInterpreter.getOrDefault(row.id(), List.of()),
+                        specialtiesByInterpreter.getOrDefault(row.id(), List.of())))
                 .toList();
     }
 
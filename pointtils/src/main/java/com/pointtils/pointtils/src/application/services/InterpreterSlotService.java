@@ -0,0 +1,152 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.core.domain.entities.InterpreterSlot;
+import com.pointtils.pointtils.src.infrastructure.repositories.InterpreterSlotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Mantém a tabela interpreter_slot, que guarda os horários livres de cada intérprete para os próximos dias.
+ * Consultas de disponibilidade dentro desse horizonte passam a ser buscas por índice em vez de gerar os
+ * horários a cada requisição. Também mantém atualizado o índice em memória do {@link AvailabilityEngine}.
+ * <p>
+ * O horizonte materializado é a maior data presente na tabela, então todas as instâncias o enxergam igual e ele
+ * sobrevive a reinícios. As leituras usam o valor relido a cada {@code horizon-reload-interval}; as escritas
+ * relêem o valor na hora. "Hoje" é calculado no relógio da aplicação, no fuso dos atendimentos.
+ */
+@Slf4j
+@Service
+public class InterpreterSlotService {
+
+    private final InterpreterSlotRepository interpreterSlotRepository;
+    private final AvailabilityEngine availabilityEngine;
+    private final Clock clock;
+    private final boolean materializationEnabled;
+    private final int horizonDays;
+    private final Duration horizonReloadInterval;
+
+    private volatile LocalDate materializedUntil;
+    private volatile Instant nextHorizonReload = Instant.MIN;
+
+    public InterpreterSlotService(InterpreterSlotRepository interpreterSlotRepository,
+                                  AvailabilityEngine availabilityEngine,
+                                  Clock clock,
+                                  @Value("${app.availability.materialized:true}") boolean materializationEnabled,
+                                  @Value("${app.availability.horizon-days:90}") int horizonDays,
+                                  @Value("${app.availability.horizon-reload-interval:1m}") Duration horizonReloadInterval) {
+        this.interpreterSlotRepository = interpreterSlotRepository;
+        this.availabilityEngine = availabilityEngine;
+        this.clock = clock;
+        this.materializationEnabled = materializationEnabled;
+        this.horizonDays = horizonDays;
+        this.horizonReloadInterval = horizonReloadInterval;
+    }
+
+    /**
+     * Verifica se todo o intervalo informado está dentro do horizonte materializado
+     *
+     * @param dateFrom Data inicial
+     * @param dateTo   Data final
+     * @return true se os horários livres do intervalo podem ser lidos da tabela interpreter_slot
+     */
+    public boolean isMaterialized(LocalDate dateFrom, LocalDate dateTo) {
+        if (!materializationEnabled || Objects.isNull(dateFrom) || Objects.isNull(dateTo)) {
+            return false;
+        }
+        if (!clock.instant().isBefore(nextHorizonReload)) {
+            reloadMaterializedUntil();
+        }
+        return isWithin(dateFrom, dateTo, materializedUntil);
+    }
+
+    public List<InterpreterSlot> findAvailableSlots(UUID interpreterId, LocalDate dateFrom, LocalDate dateTo) {
+        return interpreterSlotRepository.findByInterpreterIdAndSlotDateBetweenOrderBySlotDateAscStartTimeAsc(
+                interpreterId, dateFrom, dateTo);
+    }
+
+    /**
+     * Recalcula todos os horários livres do intérprete no horizonte, usado quando seus horários de atendimento mudam
+     *
+     * @param interpreterId Id do intérprete
+     */
+    @Transactional
+    public void refreshInterpreter(UUID interpreterId) {
+        availabilityEngine.refreshInterpreter(interpreterId);
+        if (!materializationEnabled || Objects.isNull(interpreterId)) {
+            return;
+        }
+        LocalDate today = today();
+        LocalDate until = reloadMaterializedUntil();
+        if (isWithin(today, today, until)) {
+            refresh(interpreterId, today, until);
+        }
+    }
+
+    /**
+     * Recalcula os horários livres do intérprete em uma data, usado quando um agendamento passa a ocupar
+     * ou deixa de ocupar sua agenda
+     *
+     * @param interpreterId Id do intérprete
+     * @param date          Data do agendamento
+     */
+    @Transactional
+    public void refreshDay(UUID interpreterId, LocalDate date) {
+        availabilityEngine.refreshInterpreter(interpreterId);
+        if (!materializationEnabled || Objects.isNull(interpreterId) || Objects.isNull(date)) {
+            return;
+        }
+        if (isWithin(date, date, reloadMaterializedUntil())) {
+            refresh(interpreterId, date, date);
+        }
+    }
+
+    /**
+     * Remove os dias que já passaram e materializa apenas os dias após a maior data já presente na tabela, até o fim
+     * do horizonte. Com a tabela vazia, materializa o horizonte inteiro.
+     */
+    @Transactional
+    public void advanceHorizon() {
+        LocalDate today = today();
+        LocalDate horizonEnd = today.plusDays(horizonDays - 1L);
+        interpreterSlotRepository.deleteBySlotDateBefore(today);
+        LocalDate until = interpreterSlotRepository.findMaxSlotDate();
+        LocalDate dateFrom = Objects.isNull(until) || until.isBefore(today) ? today : until.plusDays(1);
+        if (!dateFrom.isAfter(horizonEnd)) {
+            interpreterSlotRepository.deleteBySlotDateBetween(dateFrom, horizonEnd);
+            int inserted = interpreterSlotRepository.insertAvailableSlots(null, dateFrom, horizonEnd);
+            log.info("Materializados {} horarios livres entre {} e {}", inserted, dateFrom, horizonEnd);
+        }
+        reloadMaterializedUntil();
+        availabilityEngine.rebuildIfLoaded();
+    }
+
+    private LocalDate reloadMaterializedUntil() {
+        LocalDate until = interpreterSlotRepository.findMaxSlotDate();
+        materializedUntil = until;
+        nextHorizonReload = clock.instant().plus(horizonReloadInterval);
+        return until;
+    }
+
+    private boolean isWithin(LocalDate dateFrom, LocalDate dateTo, LocalDate until) {
+        return Objects.nonNull(until) && !dateFrom.isBefore(today()) && !dateTo.isAfter(until);
+    }
+
+    private void refresh(UUID interpreterId, LocalDate dateFrom, LocalDate dateTo) {
+        interpreterSlotRepository.deleteByInterpreterIdAndSlotDateBetween(interpreterId, dateFrom, dateTo);
+        interpreterSlotRepository.insertAvailableSlots(interpreterId, dateFrom, dateTo);
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+}
@@ -1,19 +1,24 @@
 package com.pointtils.pointtils.src.application.services;
 
+import com.pointtils.pointtils.src.infrastructure.configs.SharedAuthStateStore;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Tokens de redefinição de senha, guardados no {@link SharedAuthStateStore} para que o token emitido por uma
+ * instância seja aceito pelas demais. Apenas o hash do token é armazenado.
+ */
 @Service
+@RequiredArgsConstructor
 public class MemoryResetTokenService {
     
-    private static final String RESET_TOKEN_PREFIX = "reset_token:";
-    
-    private final Map<String, ResetTokenInfo> resetTokens = new ConcurrentHashMap<>();
+    static final String NAMESPACE = "reset_token";
+
+    private final SharedAuthStateStore sharedStateStore;
 
     /**
      * Gera um novo reset token para um usuário
@@ -24,8 +29,7 @@ public class MemoryResetTokenService {
         String token = UUID.randomUUID().toString();
         Instant expiry = Instant.now().plus(Duration.ofHours(1)); // Token expira em 1 hora
         
-        ResetTokenInfo tokenInfo = new ResetTokenInfo(email, expiry);
-        resetTokens.put(RESET_TOKEN_PREFIX + token, tokenInfo);
+        sharedStateStore.put(NAMESPACE, SharedAuthStateStore.hashKey(token), email, expiry);
         
         return token;
     }
@@ -36,19 +40,12 @@ public class MemoryResetTokenService {
      * @return Email do usuário se o token for válido, null caso contrário
      */
     public String validateResetToken(String token) {
-        ResetTokenInfo tokenInfo = resetTokens.get(RESET_TOKEN_PREFIX + token);
-
-        if (tokenInfo == null) {
+        if (token == null) {
             return null;
         }
-        
-        // Remove tokens expirados
-        if (Instant.now().isAfter(tokenInfo.getExpiry())) {
-            resetTokens.remove(RESET_TOKEN_PREFIX + token);
-            return null;
-        }
-        
-        return tokenInfo.getEmail();
+        return sharedStateStore.get(NAMESPACE, SharedAuthStateStore.hashKey(token))
+                .map(SharedAuthStateStore.Entry::value)
+                .orElse(null);
     }
 
     /**
@@ -56,35 +53,15 @@ public class MemoryResetTokenService {
      * @param token Token a ser removido
      */
     public void invalidateResetToken(String token) {
-        resetTokens.remove(RESET_TOKEN_PREFIX + token);
+        if (token != null) {
+            sharedStateStore.remove(NAMESPACE, SharedAuthStateStore.hashKey(token));
+        }
     }
     
     /**
      * Limpa tokens expirados
      */
     public void cleanupExpiredTokens() {
-        Instant now = Instant.now();
-        resetTokens.entrySet().removeIf(entry -> now.isAfter(entry.getValue().getExpiry()));
-    }
-
-    /**
-     * Classe interna para armazenar informações do token
-     */
-    private static class ResetTokenInfo {
-        private final String email;
-        private final Instant expiry;
-
-        public ResetTokenInfo(String email, Instant expiry) {
-            this.email = email;
-            this.expiry = expiry;
-        }
-
-        public String getEmail() {
-            return email;
-        }
-
-        public Instant getExpiry() {
-            return expiry;
-        }
+        sharedStateStore.deleteExpired();
     }
 }
@@ -1,21 +1,21 @@
 package com.pointtils.pointtils.src.application.services;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
+import com.pointtils.pointtils.src.application.dto.NotificationContentDTO;
+import com.pointtils.pointtils.src.core.domain.entities.ScheduledNotification;
+import com.pointtils.pointtils.src.core.domain.entities.UserApp;
 import com.pointtils.pointtils.src.core.domain.entities.enums.NotificationType;
-import jakarta.persistence.EntityNotFoundException;
+import com.pointtils.pointtils.src.infrastructure.repositories.ScheduledNotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -25,59 +25,105 @@ public class NotificationService {
 
     private static final String ZONE_ID = "America/Sao_Paulo";
     private final UserAppService userAppService;
-    private final ParametersService parametersService;
-    private final TaskScheduler notificationTaskScheduler;
-    private final ObjectMapper objectMapper;
+    private final NotificationTemplateCache notificationTemplateCache;
+    private final ScheduledNotificationRepository scheduledNotificationRepository;
+    private final PushNotificationDispatcher pushNotificationDispatcher;
 
+    /**
+     * Enfileira a notificação para todos os dispositivos do usuário; o envio ao FCM acontece fora da requisição
+     *
+     * @param userId Id do usuário
+     * @param type   Tipo da notificação
+     */
     public void sendNotificationToUser(UUID userId, NotificationType type) {
-        var userApps = userAppService.getUserAppsByUserId(userId);
-        for (var app : userApps) {
-            try {
-                sendNotification(app.getToken(), type);
-            } catch (Exception ex) {
-                log.error("Erro ao enviar notificação {} para o usuário {} e dispositivo {}",
-                        type.name(), userId, app.getDeviceId(), ex);
-            }
+        List<String> tokens = findTokens(userId);
+        if (tokens.isEmpty()) {
+            return;
         }
+        findContent(userId, type).ifPresent(content ->
+                pushNotificationDispatcher.enqueue(tokens, content.title(), content.body()));
     }
 
+    /**
+     * Envia a notificação agendada na thread atual, sem passar pela fila, para que o agendador só a remova
+     * depois de confirmado o envio
+     *
+     * @param notification Notificação reservada por {@link #claimDueNotifications}
+     * @return {@code true} quando a notificação foi entregue ou não há o que enviar; {@code false} quando algum
+     * dispositivo precisa de nova tentativa
+     */
+    public boolean deliverScheduledNotification(ScheduledNotification notification) {
+        List<String> tokens = findTokens(notification.getUserId());
+        if (tokens.isEmpty()) {
+            return true;
+        }
+        return findContent(notification.getUserId(), notification.getType())
+                .map(content -> pushNotificationDispatcher.sendNow(tokens, content.title(), content.body()))
+                .orElse(false);
+    }
+
+    /**
+     * Grava a notificação para ser enviada no horário informado pelo {@code NotificationReminderScheduler}.
+     * Agendar novamente a mesma notificação para o mesmo usuário e horário não tem efeito.
+     *
+     * @param userId        Id do usuário
+     * @param type          Tipo da notificação
+     * @param scheduledTime Horário de envio, no fuso de São Paulo
+     */
+    @Transactional
     public void scheduleNotificationForUser(UUID userId, NotificationType type, LocalDateTime scheduledTime) {
         if (scheduledTime.isAfter(LocalDateTime.now(ZoneId.of(ZONE_ID)))) {
-            Runnable notificationTask = () -> this.sendNotificationToUser(userId, type);
-            notificationTaskScheduler.schedule(notificationTask, scheduledTime.atZone(ZoneId.of(ZONE_ID)).toInstant());
+            scheduledNotificationRepository.insertIfAbsent(UUID.randomUUID(), userId, type.name(), scheduledTime);
         } else {
             log.info("Notificacao {} nao foi enviada por estar agendada para um horario anterior ao atual", type.name());
         }
     }
 
-    private void sendNotification(String token, NotificationType type) throws FirebaseMessagingException {
-        ObjectNode notificationContent = getNotificationContent(type);
-        Message message = Message.builder()
-                .setToken(token)
-                .setNotification(
-                        Notification.builder()
-                                .setTitle(notificationContent.get("title").asText())
-                                .setBody(notificationContent.get("body").asText())
-                                .build()
-                )
-                .build();
+    /**
+     * Reserva um lote de notificações agendadas já vencidas pelo prazo informado. As linhas ficam bloqueadas até o
+     * fim da transação e, depois do commit, são ignoradas pelas demais instâncias até a reserva expirar. Uma
+     * notificação que não for removida por {@link #completeScheduledNotification} volta a ser reservada quando o
+     * prazo expira, inclusive se a instância cair durante o envio.
+     *
+     * @param limit Quantidade máxima de notificações do lote
+     * @param lease Prazo da reserva
+     * @return Notificações reservadas, a serem enviadas após o commit
+     */
+    @Transactional
+    public List<ScheduledNotification> claimDueNotifications(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of(ZONE_ID));
+        List<ScheduledNotification> due = scheduledNotificationRepository.findDueForUpdate(now, limit);
+        LocalDateTime claimedUntil = now.plus(lease);
+        for (ScheduledNotification notification : due) {
+            notification.setClaimedUntil(claimedUntil);
+            notification.setAttempts(notification.getAttempts() + 1);
+        }
+        return due;
+    }
+
+    /**
+     * Remove a notificação agendada depois que o envio foi concluído
+     *
+     * @param id Id da notificação agendada
+     */
+    @Transactional
+    public void completeScheduledNotification(UUID id) {
+        scheduledNotificationRepository.deleteById(id);
+    }
 
-        String response = FirebaseMessaging.getInstance().send(message);
-        log.info("Notificação {} enviada com sucesso - resposta: {}", type.name(), response);
+    private List<String> findTokens(UUID userId) {
+        return userAppService.getUserAppsByUserId(userId).stream()
+                .map(UserApp::getToken)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-    private ObjectNode getNotificationContent(NotificationType type) {
-        String key = switch (type) {
-            case APPOINTMENT_REQUESTED -> "NOTIFICATION_APPOINTMENT_REQUESTED";
-            case APPOINTMENT_ACCEPTED -> "NOTIFICATION_APPOINTMENT_ACCEPTED";
-            case APPOINTMENT_CANCELED -> "NOTIFICATION_APPOINTMENT_CANCELED";
-            case APPOINTMENT_REMINDER -> "NOTIFICATION_APPOINTMENT_REMINDER";
-        };
-        try {
-            var foundParameter = parametersService.findByKey(key);
-            return (ObjectNode) objectMapper.readTree(foundParameter.getValue());
-        } catch (EntityNotFoundException | ClassCastException | JsonProcessingException ex) {
-            return objectMapper.createObjectNode();
+    private Optional<NotificationContentDTO> findContent(UUID userId, NotificationType type) {
+        Optional<NotificationContentDTO> content = notificationTemplateCache.find(type);
+        if (content.isEmpty()) {
+            log.error("Conteudo da notificacao {} nao encontrado; notificacao nao enviada para o usuario {}",
+                    type.name(), userId);
         }
+        return content;
     }
-}
\ No newline at end of file
+}
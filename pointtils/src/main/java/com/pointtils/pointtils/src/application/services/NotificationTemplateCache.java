@@ -0,0 +1,138 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pointtils.pointtils.src.application.dto.NotificationContentDTO;
+import com.pointtils.pointtils.src.core.domain.entities.Parameters;
+import com.pointtils.pointtils.src.core.domain.entities.enums.NotificationType;
+import com.pointtils.pointtils.src.core.domain.events.ParametersChangedEvent;
+import com.pointtils.pointtils.src.infrastructure.repositories.ParametersRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Conteúdo das notificações push, lido dos parâmetros {@code NOTIFICATION_<tipo>} e mantido já convertido em memória.
+ * <p>
+ * O valor do parâmetro tem o título e o corpo da notificação: {@code {"title": "...", "body": "..."}}.
+ * O cache é descartado quando um parâmetro é alterado e recarregado após {@code ttl-minutes}, para refletir
+ * alterações feitas por outras instâncias.
+ */
+@Slf4j
+@Component
+public class NotificationTemplateCache {
+
+    private final ParametersRepository parametersRepository;
+    private final ObjectMapper objectMapper;
+    private final long timeToLiveNanos;
+
+    private volatile Snapshot snapshot;
+    private long generation;
+
+    public NotificationTemplateCache(ParametersRepository parametersRepository,
+                                     ObjectMapper objectMapper,
+                                     @Value("${app.notification.templates.ttl-minutes:10}") long timeToLiveMinutes) {
+        this.parametersRepository = parametersRepository;
+        this.objectMapper = objectMapper;
+        this.timeToLiveNanos = Duration.ofMinutes(timeToLiveMinutes).toNanos();
+    }
+
+    /**
+     * Busca o conteúdo da notificação
+     *
+     * @param type Tipo da notificação
+     * @return Conteúdo da notificação ou vazio quando o parâmetro não existe ou é inválido
+     */
+    public Optional<NotificationContentDTO> find(NotificationType type) {
+        return Optional.ofNullable(currentSnapshot().templates.get(type));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onParametersChanged(ParametersChangedEvent event) {
+        invalidate();
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+    }
+
+    static String parameterKey(NotificationType type) {
+        return "NOTIFICATION_" + type.name();
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (Objects.nonNull(current) && !current.isExpired()) {
+            return current;
+        }
+        long loadingGeneration;
+        synchronized (this) {
+            current = snapshot;
+            if (Objects.nonNull(current) && !current.isExpired()) {
+                return current;
+            }
+            loadingGeneration = generation;
+        }
+
+        Snapshot loaded = load();
+        synchronized (this) {
+            // Uma alteração de parâmetro durante a leitura invalida o que foi lido
+            if (generation == loadingGeneration) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private Snapshot load() {
+        List<String> keys = Arrays.stream(NotificationType.values())
+                .map(NotificationTemplateCache::parameterKey)
+                .toList();
+        Map<String, String> valuesByKey = new HashMap<>();
+        for (Parameters parameter : parametersRepository.findAllByKeyIn(keys)) {
+            valuesByKey.put(parameter.getKey(), parameter.getValue());
+        }
+
+        Map<NotificationType, NotificationContentDTO> templates = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            String value = valuesByKey.get(parameterKey(type));
+            if (Objects.nonNull(value)) {
+                parseContent(type, value).ifPresent(content -> templates.put(type, content));
+            }
+        }
+        log.info("Conteudo de {} tipos de notificacao carregado dos parametros", templates.size());
+        return new Snapshot(templates, System.nanoTime() + timeToLiveNanos);
+    }
+
+    private Optional<NotificationContentDTO> parseContent(NotificationType type, String value) {
+        try {
+            JsonNode root = objectMapper.readTree(value);
+            if (root.hasNonNull("title") && root.hasNonNull("body")) {
+                return Optional.of(new NotificationContentDTO(root.get("title").asText(), root.get("body").asText()));
+            }
+        } catch (JsonProcessingException ex) {
+            log.error("Parametro {} com conteudo de notificacao invalido", parameterKey(type), ex);
+        }
+        return Optional.empty();
+    }
+
+    private record Snapshot(Map<NotificationType, NotificationContentDTO> templates, long expiresAt) {
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
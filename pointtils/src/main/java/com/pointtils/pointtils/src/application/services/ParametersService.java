@@ -5,10 +5,12 @@ import com.pointtils.pointtils.src.application.dto.requests.ParametersPatchReque
 import com.pointtils.pointtils.src.application.dto.responses.ParametersResponseDTO;
 import com.pointtils.pointtils.src.application.mapper.ParametersMapper;
 import com.pointtils.pointtils.src.core.domain.entities.Parameters;
+import com.pointtils.pointtils.src.core.domain.events.ParametersChangedEvent;
 import com.pointtils.pointtils.src.infrastructure.repositories.ParametersRepository;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class ParametersService {
 	private static final String PARAMETER_DUPLICATED_MSG = "Já existe um parâmetro cadastrado com esta chave";
 	private final ParametersRepository repository;
 	private final ParametersMapper mapper;
+	private final ApplicationEventPublisher eventPublisher;
 	
 	public ParametersResponseDTO create(ParametersBasicRequestDTO dto) {
 		if (repository.existsByKey(dto.getKey())) {
@@ -30,6 +33,7 @@ public class ParametersService {
 		}
 		
 		Parameters savedParameters = repository.save(mapper.toEntity(dto));
+		eventPublisher.publishEvent(new ParametersChangedEvent(savedParameters.getId()));
 		
 		return mapper.toResponseDTO(savedParameters);
 		
@@ -58,11 +62,13 @@ public class ParametersService {
 		if (dto.getValue() != null) parameters.setValue(dto.getValue());
 		
 		Parameters patchedParameters = repository.save(parameters);
+		eventPublisher.publishEvent(new ParametersChangedEvent(id));
 		return mapper.toResponseDTO(patchedParameters);
 	}
 	
 	public void delete(UUID id) {
 		repository.deleteById(id);
+		eventPublisher.publishEvent(new ParametersChangedEvent(id));
 	}
 	
 }
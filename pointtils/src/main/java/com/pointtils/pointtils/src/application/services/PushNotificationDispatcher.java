@@ -0,0 +1,231 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.application.clients.PushNotificationSender;
+import com.pointtils.pointtils.src.core.domain.entities.enums.PushDeliveryStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fila de saída das notificações push. As requisições apenas enfileiram a notificação; um grupo fixo de threads
+ * consome a fila, junta as notificações de mesmo conteúdo e envia lotes de até
+ * {@link PushNotificationSender#MAX_TOKENS_PER_BATCH} tokens por chamada.
+ * <p>
+ * Tokens com falha temporária são reenviados com espera exponencial até {@code max-attempts} tentativas, e os
+ * dispositivos que o FCM informa como não registrados são removidos de {@code user_app}.
+ */
+@Slf4j
+@Component
+public class PushNotificationDispatcher {
+
+    private static final int DRAIN_LIMIT = 1000;
+
+    private final PushNotificationSender sender;
+    private final UserAppService userAppService;
+    private final TaskScheduler notificationTaskScheduler;
+    private final BlockingQueue<PushNotification> queue;
+    private final int workers;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final List<Thread> workerThreads = new ArrayList<>();
+
+    public PushNotificationDispatcher(PushNotificationSender sender,
+                                      UserAppService userAppService,
+                                      @Qualifier("notificationTaskScheduler") TaskScheduler notificationTaskScheduler,
+                                      @Value("${app.notification.push.queue-capacity:10000}") int queueCapacity,
+                                      @Value("${app.notification.push.workers:2}") int workers,
+                                      @Value("${app.notification.push.max-attempts:4}") int maxAttempts,
+                                      @Value("${app.notification.push.initial-backoff-ms:2000}") long initialBackoffMs) {
+        this.sender = sender;
+        this.userAppService = userAppService;
+        this.notificationTaskScheduler = notificationTaskScheduler;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 1; i <= workers; i++) {
+            Thread worker = new Thread(this::work, "push-notification-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workerThreads.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        workerThreads.forEach(Thread::interrupt);
+        for (Thread worker : workerThreads) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        workerThreads.clear();
+        if (!queue.isEmpty()) {
+            log.warn("{} notificacoes push pendentes descartadas no encerramento da aplicacao", queue.size());
+        }
+    }
+
+    /**
+     * Enfileira a notificação para os dispositivos informados sem aguardar o envio
+     *
+     * @param tokens Tokens dos dispositivos
+     * @param title  Título da notificação
+     * @param body   Corpo da notificação
+     * @return {@code false} quando a fila está cheia e a notificação foi descartada
+     */
+    public boolean enqueue(List<String> tokens, String title, String body) {
+        if (tokens.isEmpty()) {
+            return true;
+        }
+        return offer(new PushNotification(new Content(title, body, 1), List.copyOf(tokens)));
+    }
+
+    /**
+     * Envia a notificação na thread atual, sem passar pela fila e sem reagendar as falhas temporárias, para quem
+     * precisa saber se o envio foi concluído
+     *
+     * @param tokens Tokens dos dispositivos
+     * @param title  Título da notificação
+     * @param body   Corpo da notificação
+     * @return {@code false} quando algum dispositivo teve falha temporária e precisa de nova tentativa
+     */
+    public boolean sendNow(List<String> tokens, String title, String body) {
+        Content content = new Content(title, body, 1);
+        boolean delivered = true;
+        for (int from = 0; from < tokens.size(); from += PushNotificationSender.MAX_TOKENS_PER_BATCH) {
+            int to = Math.min(from + PushNotificationSender.MAX_TOKENS_PER_BATCH, tokens.size());
+            delivered &= send(content, tokens.subList(from, to)).isEmpty();
+        }
+        return delivered;
+    }
+
+    /**
+     * Envia o que estiver na fila na thread atual
+     */
+    void deliverQueued() {
+        List<PushNotification> pending = new ArrayList<>();
+        queue.drainTo(pending, DRAIN_LIMIT);
+        if (!pending.isEmpty()) {
+            deliver(pending);
+        }
+    }
+
+    private void work() {
+        List<PushNotification> pending = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                pending.add(queue.take());
+                queue.drainTo(pending, DRAIN_LIMIT - 1);
+                deliver(pending);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ex) {
+                log.error("Erro ao processar a fila de notificacoes push", ex);
+            } finally {
+                pending.clear();
+            }
+        }
+    }
+
+    private boolean offer(PushNotification notification) {
+        boolean accepted = queue.offer(notification);
+        if (!accepted) {
+            log.warn("Fila de notificacoes push cheia: notificacao '{}' para {} dispositivos descartada",
+                    notification.content().title(), notification.tokens().size());
+        }
+        return accepted;
+    }
+
+    private void deliver(List<PushNotification> notifications) {
+        Map<Content, Set<String>> tokensByContent = new LinkedHashMap<>();
+        for (PushNotification notification : notifications) {
+            tokensByContent.computeIfAbsent(notification.content(), key -> new LinkedHashSet<>())
+                    .addAll(notification.tokens());
+        }
+        tokensByContent.forEach((content, tokenSet) -> {
+            List<String> tokens = new ArrayList<>(tokenSet);
+            for (int from = 0; from < tokens.size(); from += PushNotificationSender.MAX_TOKENS_PER_BATCH) {
+                int to = Math.min(from + PushNotificationSender.MAX_TOKENS_PER_BATCH, tokens.size());
+                sendBatch(content, tokens.subList(from, to));
+            }
+        });
+    }
+
+    private void sendBatch(Content content, List<String> tokens) {
+        List<String> retryTokens = send(content, tokens);
+        if (!retryTokens.isEmpty()) {
+            scheduleRetry(content, retryTokens);
+        }
+    }
+
+    /**
+     * Envia um lote e remove os dispositivos não registrados
+     *
+     * @return Tokens com falha temporária
+     */
+    private List<String> send(Content content, List<String> tokens) {
+        List<PushDeliveryStatus> statuses;
+        try {
+            statuses = sender.send(tokens, content.title(), content.body());
+        } catch (RuntimeException ex) {
+            log.error("Erro ao enviar lote de {} notificacoes push", tokens.size(), ex);
+            statuses = Collections.nCopies(tokens.size(), PushDeliveryStatus.RETRY);
+        }
+
+        List<String> retryTokens = new ArrayList<>();
+        List<String> unregisteredTokens = new ArrayList<>();
+        int sent = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            switch (statuses.get(i)) {
+                case SENT -> sent++;
+                case RETRY -> retryTokens.add(tokens.get(i));
+                case UNREGISTERED -> unregisteredTokens.add(tokens.get(i));
+                case FAILED -> log.warn("Notificacao push '{}' recusada para um dispositivo", content.title());
+            }
+        }
+        log.info("Notificacao push '{}' enviada para {} de {} dispositivos (tentativa {})",
+                content.title(), sent, tokens.size(), content.attempt());
+
+        if (!unregisteredTokens.isEmpty()) {
+            userAppService.deleteUserAppsByTokens(unregisteredTokens);
+        }
+        return retryTokens;
+    }
+
+    private void scheduleRetry(Content content, List<String> tokens) {
+        if (content.attempt() >= maxAttempts) {
+            log.error("Notificacao push '{}' nao enviada para {} dispositivos apos {} tentativas",
+                    content.title(), tokens.size(), content.attempt());
+            return;
+        }
+        Duration delay = initialBackoff.multipliedBy(1L << (content.attempt() - 1));
+        PushNotification retry = new PushNotification(
+                new Content(content.title(), content.body(), content.attempt() + 1), List.copyOf(tokens));
+        notificationTaskScheduler.schedule(() -> offer(retry), Instant.now().plus(delay));
+    }
+
+    private record Content(String title, String body, int attempt) {
+    }
+
+    private record PushNotification(Content content, List<String> tokens) {
+    }
+}
@@ -1,36 +1,51 @@
 package com.pointtils.pointtils.src.application.services;
 
+import com.pointtils.pointtils.src.application.dto.requests.RatingFeedCursor;
 import com.pointtils.pointtils.src.application.dto.requests.RatingPatchRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.RatingRequestDTO;
+import com.pointtils.pointtils.src.application.dto.responses.RatingPageResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.RatingResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.RatingSummaryResponseDTO;
 import com.pointtils.pointtils.src.application.mapper.RatingResponseMapper;
 import com.pointtils.pointtils.src.core.domain.entities.Appointment;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
 import com.pointtils.pointtils.src.core.domain.entities.Rating;
 import com.pointtils.pointtils.src.core.domain.entities.User;
 import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
+import com.pointtils.pointtils.src.core.domain.entities.enums.RatingFeedSort;
 import com.pointtils.pointtils.src.core.domain.exceptions.RatingException;
 import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.InterpreterRepository;
 import com.pointtils.pointtils.src.infrastructure.repositories.RatingRepository;
 import com.pointtils.pointtils.src.infrastructure.repositories.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class RatingService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final RatingRepository ratingRepository;
     private final AppointmentRepository appointmentRepository;
     private final UserRepository userRepository;
+    private final InterpreterRepository interpreterRepository;
     private final RatingResponseMapper ratingResponseMapper;
 
+    @Transactional
     public RatingResponseDTO createRating(RatingRequestDTO ratingRequestDTO) {
         Appointment appointment = appointmentRepository.findById(ratingRequestDTO.getAppointmentId())
                 .orElseThrow(() -> new EntityNotFoundException("Agendamento não encontrado"));
@@ -49,9 +64,11 @@ public class RatingService {
         rating.setStars(ratingRequestDTO.getStars());
         rating.setDescription(ratingRequestDTO.getDescription());
         rating.setAppointment(appointment);
+        rating.setInterpreterId(appointment.getInterpreter().getId());
 
         ratingRepository.save(rating);
-        updateInterpreterAverageRating(appointment.getInterpreter());
+        interpreterRepository.applyRatingChange(appointment.getInterpreter().getId(), 1, rating.getStars(),
+                starsBucket(rating.getStars()), 0);
 
         return ratingResponseMapper.toResponseDTO(rating);
     }
@@ -67,10 +84,86 @@ public class RatingService {
                 .toList();
     }
 
+    /**
+     * Retorna uma página do feed de avaliações do intérprete, ordenada pelas mais recentes ou pelas maiores notas,
+     * e o cursor da próxima página. A primeira página traz também o resumo de {@link #getRatingSummary(UUID)}; as
+     * seguintes trazem apenas as avaliações, lidas a partir do cursor sem OFFSET.
+     *
+     * @param interpreterId Id do intérprete
+     * @param sort          Ordenação do feed (recent ou stars); recent quando não informada
+     * @param size          Quantidade de avaliações da página
+     * @param cursor        Cursor retornado pela página anterior
+     */
+    @Transactional(readOnly = true)
+    public RatingPageResponseDTO getRatingFeed(UUID interpreterId, String sort, Integer size, String cursor) {
+        RatingFeedSort feedSort = sort != null ? RatingFeedSort.fromString(sort) : RatingFeedSort.RECENT;
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        RatingFeedCursor after = cursor != null ? RatingFeedCursor.decode(cursor, feedSort) : null;
+
+        RatingSummaryResponseDTO summary = after == null ? getRatingSummary(interpreterId) : null;
+        List<Rating> ratings = findFeedPage(interpreterId, feedSort, after, PageRequest.of(0, pageSize + 1));
+        String nextCursor = null;
+        if (ratings.size() > pageSize) {
+            ratings = ratings.subList(0, pageSize);
+            Rating last = ratings.get(pageSize - 1);
+            nextCursor = new RatingFeedCursor(feedSort, last.getStars(), last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return RatingPageResponseDTO.builder()
+                .summary(summary)
+                .items(ratings.stream().map(ratingResponseMapper::toResponseDTO).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private List<Rating> findFeedPage(UUID interpreterId, RatingFeedSort sort, RatingFeedCursor after,
+                                      Pageable pageable) {
+        if (sort == RatingFeedSort.STARS) {
+            return after == null
+                    ? ratingRepository.findFeedByStars(interpreterId, pageable)
+                    : ratingRepository.findFeedByStarsAfter(interpreterId, after.getStars(), after.getCreatedAt(),
+                    after.getId(), pageable);
+        }
+        return after == null
+                ? ratingRepository.findFeedByCreatedAt(interpreterId, pageable)
+                : ratingRepository.findFeedByCreatedAtAfter(interpreterId, after.getCreatedAt(), after.getId(),
+                pageable);
+    }
+
+    /**
+     * Retorna a média, a quantidade e o histograma de notas do intérprete a partir dos agregados mantidos a cada
+     * avaliação, sem carregar as avaliações
+     *
+     * @param interpreterId Id do intérprete
+     */
+    @Transactional(readOnly = true)
+    public RatingSummaryResponseDTO getRatingSummary(UUID interpreterId) {
+        Interpreter interpreter = interpreterRepository.findById(interpreterId)
+                .orElseThrow(() -> new EntityNotFoundException("Intérprete não encontrado"));
+
+        Map<Integer, Integer> histogram = new LinkedHashMap<>();
+        histogram.put(5, zeroIfNull(interpreter.getRatingStars5()));
+        histogram.put(4, zeroIfNull(interpreter.getRatingStars4()));
+        histogram.put(3, zeroIfNull(interpreter.getRatingStars3()));
+        histogram.put(2, zeroIfNull(interpreter.getRatingStars2()));
+        histogram.put(1, zeroIfNull(interpreter.getRatingStars1()));
+        return RatingSummaryResponseDTO.builder()
+                .interpreterId(interpreterId)
+                .average(interpreter.getRating() != null ? interpreter.getRating() : BigDecimal.ZERO)
+                .count(zeroIfNull(interpreter.getRatingCount()))
+                .histogram(histogram)
+                .build();
+    }
+
+    @Transactional
     public RatingResponseDTO patchRating(RatingPatchRequestDTO request, UUID ratingId) {
-        Rating rating = ratingRepository.findById(ratingId)
+        Rating rating = ratingRepository.findByIdForUpdate(ratingId)
                 .orElseThrow(() -> new EntityNotFoundException("Avaliação não encontrada"));
 
+        BigDecimal previousStars = rating.getStars();
         rating.setStars(request.getStars());
         if (request.getDescription() != null) {
             rating.setDescription(request.getDescription());
@@ -81,35 +174,69 @@ public class RatingService {
         if (interpreter == null) {
             throw new EntityNotFoundException("Intérprete não encontrado");
         }
-        updateInterpreterAverageRating(rating.getAppointment().getInterpreter());
-
         ratingRepository.save(rating);
+        if (previousStars != null && rating.getStars() != null && previousStars.compareTo(rating.getStars()) != 0) {
+            interpreterRepository.applyRatingChange(interpreter.getId(), 0, rating.getStars().subtract(previousStars),
+                    starsBucket(rating.getStars()), starsBucket(previousStars));
+        }
         return ratingResponseMapper.toResponseDTO(rating);
     }
 
+    @Transactional
     public void deleteRating(UUID ratingId) {
-        Rating rating = ratingRepository.findById(ratingId)
+        Rating rating = ratingRepository.findByIdForUpdate(ratingId)
                 .orElseThrow(() -> new EntityNotFoundException("Avaliação não encontrada"));
 
         Appointment appointment = appointmentRepository.findById(rating.getAppointment().getId())
                 .orElseThrow(() -> new EntityNotFoundException("Agendamento não encontrado"));
 
         ratingRepository.delete(rating);
-        updateInterpreterAverageRating(appointment.getInterpreter());
+        interpreterRepository.applyRatingChange(appointment.getInterpreter().getId(), -1, rating.getStars().negate(),
+                0, starsBucket(rating.getStars()));
     }
 
-    private void updateInterpreterAverageRating(Interpreter interpreter) {
-        List<Rating> ratings = ratingRepository.findByInterpreterId(interpreter.getId());
-        BigDecimal totalStars = ratings.stream()
-                .map(Rating::getStars)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal averageStars;
-        if (ratings.isEmpty()) {
-            averageStars = BigDecimal.ZERO;
-        } else {
-            averageStars = totalStars.divide(BigDecimal.valueOf(ratings.size()), RoundingMode.HALF_UP);
+    /**
+     * Transfere as avaliações do agendamento para o intérprete informado, movendo a contagem, a soma e o
+     * histograma dos agregados, para que o feed, o resumo e o recálculo continuem considerando o mesmo intérprete
+     * do agendamento
+     *
+     * @param appointmentId Id do agendamento reatribuído
+     * @param interpreterId Id do novo intérprete do agendamento
+     */
+    @Transactional
+    public void moveAppointmentRatings(UUID appointmentId, UUID interpreterId) {
+        for (Rating rating : ratingRepository.findByAppointmentIdForUpdate(appointmentId)) {
+            UUID previousInterpreterId = rating.getInterpreterId();
+            if (interpreterId.equals(previousInterpreterId)) {
+                continue;
+            }
+            rating.setInterpreterId(interpreterId);
+            ratingRepository.save(rating);
+            int bucket = starsBucket(rating.getStars());
+            interpreterRepository.applyRatingChange(previousInterpreterId, -1, rating.getStars().negate(), 0, bucket);
+            interpreterRepository.applyRatingChange(interpreterId, 1, rating.getStars(), bucket, 0);
         }
-        interpreter.setRating(averageStars);
-        userRepository.save(interpreter);
+    }
+
+    /**
+     * Recalcula os agregados de avaliação de todos os intérpretes, corrigindo divergências
+     *
+     * @return Quantidade de intérpretes corrigidos
+     */
+    @Transactional
+    public int rebuildInterpreterRatingAggregates() {
+        return interpreterRepository.rebuildRatingAggregates();
+    }
+
+    /**
+     * Faixa do histograma da nota: notas fracionadas são arredondadas, limitadas entre 1 e 5 estrelas
+     */
+    static int starsBucket(BigDecimal stars) {
+        int bucket = stars.setScale(0, RoundingMode.HALF_UP).intValue();
+        return Math.max(1, Math.min(5, bucket));
+    }
+
+    private static int zeroIfNull(Integer value) {
+        return value != null ? value : 0;
     }
 }
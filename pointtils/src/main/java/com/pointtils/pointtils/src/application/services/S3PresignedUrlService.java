@@ -0,0 +1,141 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadRequestDTO;
+import com.pointtils.pointtils.src.application.dto.responses.PresignedUrlResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.awscore.presigner.PresignedRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Gera URLs pré-assinadas para que os clientes enviem e baixem arquivos diretamente do S3, sem que o conteúdo
+ * passe pela API. As keys seguem o mesmo formato usado em {@link S3Service#uploadFile}.
+ */
+@Service
+public class S3PresignedUrlService {
+
+    private static final String HOST_HEADER = "host";
+
+    private final S3Service s3Service;
+    private final S3Presigner s3Presigner;
+    private final Duration uploadUrlDuration;
+    private final Duration downloadUrlDuration;
+    private final long maxFileSize;
+
+    public S3PresignedUrlService(S3Service s3Service,
+                                 S3Presigner s3Presigner,
+                                 @Value("${app.s3.presigned.upload-duration:10m}") Duration uploadUrlDuration,
+                                 @Value("${app.s3.presigned.download-duration:5m}") Duration downloadUrlDuration,
+                                 @Value("${app.s3.presigned.max-file-size:10MB}") DataSize maxFileSize) {
+        this.s3Service = s3Service;
+        this.s3Presigner = s3Presigner;
+        this.uploadUrlDuration = uploadUrlDuration;
+        this.downloadUrlDuration = downloadUrlDuration;
+        this.maxFileSize = maxFileSize.toBytes();
+    }
+
+    /**
+     * Gera a URL de PUT para um novo arquivo. O tipo e o tamanho informados fazem parte da assinatura, então o
+     * S3 recusa envios com conteúdo diferente do declarado.
+     *
+     * @param userId  Prefixo do arquivo, no mesmo formato do parâmetro de uploadFile
+     * @param request Nome, tipo e tamanho do arquivo
+     * @return URL, key e cabeçalhos que devem ser enviados no PUT
+     */
+    public PresignedUrlResponseDTO createUploadUrl(String userId, PresignedUploadRequestDTO request) {
+        s3Service.checkIfS3IsEnabled("Upload");
+        if (request.getContentLength() > maxFileSize) {
+            throw new IllegalArgumentException("O arquivo excede o tamanho máximo permitido");
+        }
+
+        String key = s3Service.buildKey(userId, sanitizeFileName(request.getFileName()));
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(uploadUrlDuration)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(s3Service.getBucketName())
+                        .key(key)
+                        .contentType(request.getContentType())
+                        .contentLength(request.getContentLength())
+                        .build())
+                .build();
+
+        return toResponse(s3Presigner.presignPutObject(presignRequest), key);
+    }
+
+    /**
+     * Gera a URL de GET para um arquivo já salvo
+     *
+     * @param documentUrl URL gravada no banco
+     * @return URL temporária de download
+     */
+    public PresignedUrlResponseDTO createDownloadUrl(String documentUrl) {
+        s3Service.checkIfS3IsEnabled("Download");
+
+        String key = s3Service.getKeyFromUrl(documentUrl);
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(downloadUrlDuration)
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(s3Service.getBucketName())
+                        .key(key)
+                        .build())
+                .build();
+
+        return toResponse(s3Presigner.presignGetObject(presignRequest), key);
+    }
+
+    /**
+     * Confirma que o arquivo enviado pela URL pré-assinada está no bucket, dentro do prefixo esperado
+     *
+     * @param userId Prefixo usado ao gerar a URL de upload
+     * @param key    Key retornada junto com a URL de upload
+     * @return URL do arquivo no formato gravado no banco
+     * @throws IllegalArgumentException quando a key não pertence ao prefixo ou o arquivo não foi enviado
+     */
+    public String confirmUpload(String userId, String key) {
+        if (!key.startsWith("users/" + userId + "/") || key.contains("..")) {
+            throw new IllegalArgumentException("Key de arquivo inválida");
+        }
+        s3Service.getFileSize(key);
+        return s3Service.getFileUrl(key);
+    }
+
+    /**
+     * Nome do arquivo a partir da key, sem o prefixo e o instante do upload
+     */
+    public String getFileName(String key) {
+        String fileName = key.substring(key.lastIndexOf('/') + 1);
+        int separator = fileName.indexOf('-');
+        return separator >= 0 ? fileName.substring(separator + 1) : fileName;
+    }
+
+    private static PresignedUrlResponseDTO toResponse(PresignedRequest presignedRequest, String key) {
+        Map<String, String> headers = new TreeMap<>();
+        presignedRequest.signedHeaders().forEach((name, values) -> {
+            if (!HOST_HEADER.equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return PresignedUrlResponseDTO.builder()
+                .url(presignedRequest.url().toString())
+                .method(presignedRequest.httpRequest().method().name())
+                .key(key)
+                .headers(headers)
+                .expiresAt(presignedRequest.expiration())
+                .build();
+    }
+
+    private static String sanitizeFileName(String fileName) {
+        String name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1);
+        return name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
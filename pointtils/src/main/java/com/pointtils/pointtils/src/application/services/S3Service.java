@@ -1,57 +1,165 @@
 package com.pointtils.pointtils.src.application.services;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 @Slf4j
 @Service
 public class S3Service {
 
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
     private final S3Client s3Client;
     private final String bucketName;
     private final boolean s3Enabled;
+    private final long multipartThreshold;
+    private final int partSize;
 
     public S3Service(@Value("${cloud.aws.bucket-name:pointtils-api-tests-d9396dcc}") String bucketName,
                      @Value("${spring.cloud.aws.s3.enabled:false}") boolean s3Enabled,
-                     S3Client s3Client) {
+                     S3Client s3Client,
+                     @Value("${app.s3.multipart-threshold:8MB}") DataSize multipartThreshold,
+                     @Value("${app.s3.part-size:5MB}") DataSize partSize) {
         this.s3Client = s3Client;
         this.bucketName = bucketName;
         this.s3Enabled = s3Enabled;
+        this.multipartThreshold = multipartThreshold.toBytes();
+        this.partSize = Math.toIntExact(partSize.toBytes());
     }
 
+    /**
+     * Envia o arquivo ao S3 lendo o conteúdo em streaming, sem carregar o arquivo inteiro em memória.
+     * Arquivos acima de {@code app.s3.multipart-threshold} são enviados em partes de {@code app.s3.part-size}.
+     */
     public String uploadFile(MultipartFile file, String userId) throws IOException {
         checkIfS3IsEnabled("Upload");
 
-        String key = "users/" + userId + "/" + Instant.now().toEpochMilli() + "-" + file.getOriginalFilename();
+        String key = buildKey(userId, file.getOriginalFilename());
 
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(key)
-                .contentType(file.getContentType())
-                .build();
+        if (file.getSize() > multipartThreshold) {
+            try (InputStream content = file.getInputStream()) {
+                uploadMultipart(key, file.getContentType(), content);
+            }
+        } else {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(file.getContentType())
+                    .contentLength(file.getSize())
+                    .build();
 
-        s3Client.putObject(putObjectRequest, software.amazon.awssdk.core.sync.RequestBody.fromBytes(file.getBytes()));
+            // O conteúdo é reaberto a cada tentativa do SDK em vez de ficar em buffer para o reenvio
+            s3Client.putObject(putObjectRequest, RequestBody.fromContentProvider(() -> openStream(file),
+                    file.getSize(), contentTypeOrDefault(file.getContentType())));
+        }
+
+        return getFileUrl(key);
+    }
+
+    /**
+     * Consulta o tamanho de um arquivo já enviado ao S3, usado para confirmar uploads feitos por URL pré-assinada
+     *
+     * @param key Key do arquivo no bucket
+     * @return Tamanho do arquivo em bytes
+     * @throws IllegalArgumentException quando o arquivo não existe no bucket
+     */
+    public long getFileSize(String key) {
+        checkIfS3IsEnabled("Download");
+
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build()).contentLength();
+        } catch (NoSuchKeyException e) {
+            throw new IllegalArgumentException("Arquivo não encontrado no S3: " + key, e);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new IllegalArgumentException("Arquivo não encontrado no S3: " + key, e);
+            }
+            throw e;
+        }
+    }
 
+    /**
+     * URL pública do arquivo no formato gravado no banco
+     */
+    public String getFileUrl(String key) {
         return String.format("https://%s.s3.amazonaws.com/%s", bucketName, key);
     }
 
+    /**
+     * Key do arquivo no bucket a partir da URL gravada no banco
+     */
+    public String getKeyFromUrl(String documentUrl) {
+        return documentUrl.replace(String.format("https://%s.s3.amazonaws.com/", bucketName), Strings.EMPTY);
+    }
+
+    String buildKey(String userId, String fileName) {
+        return "users/" + userId + "/" + Instant.now().toEpochMilli() + "-" + fileName;
+    }
+
+    String getBucketName() {
+        return bucketName;
+    }
+
+    /**
+     * Envia ao S3 um conteúdo já gerado em memória, como as variantes da foto de perfil
+     *
+     * @return URL do arquivo no formato gravado no banco
+     */
+    public String uploadContent(String userId, String fileName, byte[] content, String contentType) {
+        checkIfS3IsEnabled("Upload");
+
+        String key = buildKey(userId, fileName);
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) content.length)
+                        .build(),
+                RequestBody.fromBytes(content));
+        return getFileUrl(key);
+    }
+
     public void deleteFile(String documentUrl) {
         checkIfS3IsEnabled("Delete");
 
-        String fileKey = documentUrl.replace(String.format("https://%s.s3.amazonaws.com/", bucketName), Strings.EMPTY);
+        String fileKey = getKeyFromUrl(documentUrl);
 
         DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
                 .bucket(bucketName)
@@ -65,6 +173,35 @@ public class S3Service {
         }
     }
 
+    /**
+     * Remove vários arquivos do S3 com uma chamada DeleteObjects a cada {@value #MAX_KEYS_PER_DELETE} arquivos.
+     * Falhas em arquivos individuais são apenas registradas no log, como em deleteFile.
+     *
+     * @param documentUrls URLs retornadas em uploadFile
+     */
+    public void deleteFiles(Collection<String> documentUrls) {
+        if (documentUrls.isEmpty()) {
+            return;
+        }
+        checkIfS3IsEnabled("Delete");
+
+        List<ObjectIdentifier> objects = documentUrls.stream()
+                .map(documentUrl -> ObjectIdentifier.builder().key(getKeyFromUrl(documentUrl)).build())
+                .toList();
+        for (int start = 0; start < objects.size(); start += MAX_KEYS_PER_DELETE) {
+            DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder()
+                            .objects(objects.subList(start, Math.min(start + MAX_KEYS_PER_DELETE, objects.size())))
+                            .quiet(true)
+                            .build())
+                    .build();
+            DeleteObjectsResponse response = s3Client.deleteObjects(deleteObjectsRequest);
+            response.errors().forEach(error -> log.error("Erro ao deletar arquivo {}: code={}, message={}",
+                    error.key(), error.code(), error.message()));
+        }
+    }
+
     /**
      * Baixa um arquivo do S3 pelo key (o mesmo key retornado em uploadFile).
      * Retorna os bytes do objeto ou lança IOException em caso de falha.
@@ -89,10 +226,86 @@ public class S3Service {
         }
     }
 
+    /**
+     * Abre o arquivo salvo no S3 apenas quando o conteúdo for lido, para anexos enviados em streaming.
+     * Cada leitura faz um novo download do objeto.
+     *
+     * @param documentUrl URL retornada em uploadFile
+     * @return Fonte do conteúdo do arquivo
+     */
+    public InputStreamSource openFile(String documentUrl) {
+        checkIfS3IsEnabled("Download");
+
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(getKeyFromUrl(documentUrl))
+                .build();
+        return () -> {
+            try {
+                return s3Client.getObject(getObjectRequest);
+            } catch (S3Exception e) {
+                throw new IOException("Erro ao obter arquivo do S3: " + e.awsErrorDetails().errorMessage(), e);
+            }
+        };
+    }
+
+    private void uploadMultipart(String key, String contentType, InputStream content) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[partSize];
+            int read;
+            while ((read = content.readNBytes(buffer, 0, partSize)) > 0) {
+                int partNumber = parts.size() + 1;
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) read)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.info("Arquivo {} enviado ao S3 em {} partes", key, parts.size());
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    private static InputStream openStream(MultipartFile file) {
+        try {
+            return file.getInputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String contentTypeOrDefault(String contentType) {
+        return contentType != null ? contentType : "application/octet-stream";
+    }
+
     /**
      * Lanca excecao se o serviço S3 não está habilitado
      */
-    private void checkIfS3IsEnabled(String operation) {
+    void checkIfS3IsEnabled(String operation) {
         if (!isS3Enabled()) {
             log.error("{} de arquivos está desabilitado. Configure spring.cloud.aws.s3.enabled=true para habilitar a conexao com o S3.", operation);
             throw new UnsupportedOperationException(operation + " de arquivos está desabilitado.");
@@ -33,6 +33,8 @@ public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final InterpreterRepository interpreterRepository;
     private final TimeSlotMapper timeSlotMapper;
+    private final InterpreterSlotService interpreterSlotService;
+    private final AvailabilityEngine availabilityEngine;
 
     public ScheduleResponseDTO registerSchedule(ScheduleRequestDTO dto) {
         Optional<Interpreter> foundInterpreter = interpreterRepository.findById(dto.getInterpreterId());
@@ -59,6 +61,7 @@ public class ScheduleService {
                 .build();
 
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        interpreterSlotService.refreshInterpreter(savedSchedule.getInterpreter().getId());
 
         return ScheduleResponseDTO.builder()
                 .id(savedSchedule.getId())
@@ -108,6 +111,19 @@ public class ScheduleService {
     }
 
     public List<AvailableTimeSlotsResponseDTO> findAvailableSchedules(UUID interpreterId, LocalDate dateFrom, LocalDate dateTo) {
+        if (interpreterSlotService.isMaterialized(dateFrom, dateTo)) {
+            List<TimeSlotDTO> materializedTimeSlots = interpreterSlotService.findAvailableSlots(interpreterId, dateFrom, dateTo)
+                    .stream()
+                    .map(slot -> new TimeSlotDTO(
+                            java.sql.Date.valueOf(slot.getSlotDate()),
+                            interpreterId,
+                            slot.getStartTime(),
+                            slot.getEndTime()
+                    ))
+                    .toList();
+            return timeSlotMapper.toAvailableTimeSlotsResponse(materializedTimeSlots);
+        }
+
         List<Object[]> timeSlots = scheduleRepository.findAvailableTimeSlots(interpreterId, dateFrom, dateTo);
 
         List<TimeSlotDTO> foundTimeSlots = timeSlots.stream()
@@ -121,6 +137,10 @@ public class ScheduleService {
         return timeSlotMapper.toAvailableTimeSlotsResponse(foundTimeSlots);
     }
 
+    public List<UUID> findAvailableInterpreters(LocalDate dateFrom, LocalDate dateTo, int consecutiveSlots) {
+        return availabilityEngine.findAvailableInterpreters(dateFrom, dateTo, consecutiveSlots);
+    }
+
     public ScheduleResponseDTO updateSchedule(UUID scheduleId, SchedulePatchRequestDTO dto) {
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new EntityNotFoundException(TIME_NOT_FOUND));
@@ -154,6 +174,7 @@ public class ScheduleService {
         }
 
         Schedule saved = scheduleRepository.save(schedule);
+        interpreterSlotService.refreshInterpreter(saved.getInterpreter().getId());
 
         return ScheduleResponseDTO.builder()
                 .id(saved.getId())
@@ -165,10 +186,10 @@ public class ScheduleService {
     }
 
     public void deleteById(UUID scheduleId) {
-        if (!scheduleRepository.existsById(scheduleId)) {
-            throw new EntityNotFoundException(TIME_NOT_FOUND);
-        }
+        Schedule schedule = scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new EntityNotFoundException(TIME_NOT_FOUND));
 
         scheduleRepository.deleteById(scheduleId);
+        interpreterSlotService.refreshInterpreter(schedule.getInterpreter().getId());
     }
 }
@@ -1,6 +1,5 @@
 package com.pointtils.pointtils.src.application.services;
 
-import com.pointtils.pointtils.src.application.clients.IbgeClient;
 import com.pointtils.pointtils.src.application.dto.responses.StateResponseDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -9,14 +8,14 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class StateService {
 
-    private final IbgeClient ibgeClient;
+    private final IbgeLocalityCache ibgeLocalityCache;
 
     public StateResponseDTO getAllStates() {
-        return new StateResponseDTO(true, "UFs encontradas com sucesso", ibgeClient.getStateList());
+        return new StateResponseDTO(true, "UFs encontradas com sucesso", ibgeLocalityCache.getStates());
     }
 
     public StateResponseDTO getCitiesByState(String state) {
         return new StateResponseDTO(true, "Municípios encontrados com sucesso",
-                ibgeClient.getCityListByState(state));
+                ibgeLocalityCache.getCitiesByState(state));
     }
 }
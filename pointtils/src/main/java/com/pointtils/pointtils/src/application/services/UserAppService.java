@@ -12,7 +12,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -78,6 +80,15 @@ public class UserAppService {
         userAppRepository.delete(foundUserApp);
     }
 
+    /**
+     * Remove os dispositivos cujos tokens não são mais aceitos pelo serviço de notificações push
+     */
+    @Transactional
+    public void deleteUserAppsByTokens(Collection<String> tokens) {
+        int deleted = userAppRepository.deleteAllByTokenIn(tokens);
+        log.info("Foram removidos {} dados de aplicativos com token de notificacao nao registrado", deleted);
+    }
+
     protected List<UserApp> getUserAppsByUserId(UUID userId) {
         return userAppRepository.findAllByUserId(userId);
     }
@@ -1,31 +1,87 @@
 package com.pointtils.pointtils.src.application.services;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadCompleteRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.UserPicturePostRequestDTO;
+import com.pointtils.pointtils.src.application.dto.responses.PresignedUrlResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.UserResponseDTO;
+import com.pointtils.pointtils.src.application.services.AvatarImageProcessor.AvatarVariants;
 import com.pointtils.pointtils.src.core.domain.entities.User;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserPictureService {
 
     private final UserService userService;
     private final S3Service s3Service;
+    private final S3PresignedUrlService s3PresignedUrlService;
+    private final AvatarImageProcessor avatarImageProcessor;
 
+    /**
+     * Gera as variantes da foto enviada, salva no S3 e substitui a foto atual do usuário
+     */
     public UserResponseDTO updatePicture(UserPicturePostRequestDTO request) throws IOException {
         User user = userService.findById(request.getUserId());
 
-        String url = s3Service.uploadFile(request.getFile(), request.getUserId().toString());
-        user.setPicture(url);
+        AvatarVariants variants;
+        try (InputStream content = request.getFile().getInputStream()) {
+            variants = avatarImageProcessor.process(content);
+        }
 
-        User savedUser = userService.updateUser(user);
+        return savePictureVariants(user, variants, List.of());
+    }
 
-        return UserResponseDTO.fromEntity(savedUser);
+    /**
+     * Gera a URL pré-assinada para o cliente enviar a foto diretamente ao S3
+     */
+    public PresignedUrlResponseDTO createPictureUploadUrl(UUID userId, PresignedUploadRequestDTO request) {
+        userService.findById(userId);
+        if (!request.getContentType().startsWith("image/")) {
+            throw new IllegalArgumentException("O arquivo da foto deve ser uma imagem");
+        }
+        return s3PresignedUrlService.createUploadUrl(userId.toString(), request);
+    }
+
+    /**
+     * Registra a foto enviada pela URL pré-assinada depois de confirmar que o arquivo está no S3
+     */
+    public UserResponseDTO completePictureUpload(UUID userId, PresignedUploadCompleteRequestDTO request)
+            throws IOException {
+        User user = userService.findById(userId);
+
+        String uploadedUrl = s3PresignedUrlService.confirmUpload(userId.toString(), request.getKey());
+        AvatarVariants variants;
+        try (InputStream content = s3Service.openFile(uploadedUrl).getInputStream()) {
+            variants = avatarImageProcessor.process(content);
+        }
+
+        // O arquivo enviado pelo cliente mantém os metadados originais e é substituído pelas variantes
+        return savePictureVariants(user, variants, List.of(uploadedUrl));
+    }
+
+    /**
+     * Gera a URL pré-assinada para baixar a foto atual do usuário
+     */
+    public PresignedUrlResponseDTO createPictureDownloadUrl(UUID userId) {
+        User user = userService.findById(userId);
+        if (user.getPicture() == null || user.getPicture().isEmpty()) {
+            throw new EntityNotFoundException("Foto não encontrada");
+        }
+        return s3PresignedUrlService.createDownloadUrl(user.getPicture());
     }
 
     public void deletePicture(UUID id) {
@@ -34,6 +90,9 @@ public class UserPictureService {
         if (user.getPicture() != null && !user.getPicture().isEmpty()) {
             try {
                 s3Service.deleteFile(user.getPicture());
+                s3Service.deleteFiles(Stream.of(user.getPictureMedium(), user.getPictureThumbnail())
+                        .filter(Objects::nonNull)
+                        .toList());
             } catch (RuntimeException e){
                 // Ignora erros do S3 (incluindo UnsupportedOperationException) e continua com a atualização do banco
                 // Isso permite que a foto seja removida do banco mesmo se S3 estiver desabilitado ou falhar
@@ -43,4 +102,32 @@ public class UserPictureService {
         user.setPicture(null);
         userService.updateUser(user);
     }
+
+    private UserResponseDTO savePictureVariants(User user, AvatarVariants variants, List<String> replacedUrls) {
+        String userId = user.getId().toString();
+        // Apenas arquivos do próprio usuário no bucket são removidos; fotos externas são mantidas
+        String userFolderUrl = s3Service.getFileUrl("users/" + userId + "/");
+        List<String> previousUrls = new ArrayList<>(replacedUrls);
+        Stream.of(user.getPicture(), user.getPictureMedium(), user.getPictureThumbnail())
+                .filter(url -> url != null && url.startsWith(userFolderUrl))
+                .forEach(previousUrls::add);
+
+        String original = s3Service.uploadContent(userId, "avatar.jpg", variants.original(),
+                AvatarImageProcessor.CONTENT_TYPE);
+        String medium = s3Service.uploadContent(userId, "avatar-medium.jpg", variants.medium(),
+                AvatarImageProcessor.CONTENT_TYPE);
+        String thumbnail = s3Service.uploadContent(userId, "avatar-thumbnail.jpg", variants.thumbnail(),
+                AvatarImageProcessor.CONTENT_TYPE);
+        user.setPictureVariants(original, medium, thumbnail);
+
+        User savedUser = userService.updateUser(user);
+
+        try {
+            s3Service.deleteFiles(previousUrls);
+        } catch (RuntimeException e) {
+            log.error("Erro ao remover fotos antigas do usuario {}: {}", userId, e.getMessage());
+        }
+
+        return UserResponseDTO.fromEntity(savedUser);
+    }
 }
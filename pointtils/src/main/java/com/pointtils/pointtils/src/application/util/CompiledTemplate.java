@@ -0,0 +1,91 @@
+package com.pointtils.pointtils.src.application.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Template de texto com placeholders no formato {@code {{nome}}}, convertido uma única vez em uma lista de trechos
+ * literais intercalados com os placeholders.
+ * <p>
+ * A renderização percorre os trechos uma vez e escreve em um único {@link StringBuilder} já com o tamanho final,
+ * em vez de copiar o texto inteiro a cada {@link String#replace}. Placeholders sem valor informado são mantidos
+ * como estão no texto original.
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String source;
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalsLength;
+
+    private CompiledTemplate(String source, String[] literals, String[] placeholders) {
+        this.source = source;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Separa o template em trechos literais e placeholders
+     *
+     * @param source Texto do template
+     * @return Template compilado
+     */
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+            // Em "{{a {{nome}}" o placeholder é o "{{" mais próximo do fechamento
+            open = source.lastIndexOf(OPEN, close - OPEN.length());
+            literals.add(source.substring(position, open));
+            placeholders.add(source.substring(open + OPEN.length(), close));
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new CompiledTemplate(source, literals.toArray(String[]::new), placeholders.toArray(String[]::new));
+    }
+
+    /**
+     * Preenche os placeholders com os valores informados
+     *
+     * @param values Valores por nome do placeholder (sem as chaves)
+     * @return Texto renderizado
+     */
+    public String render(Map<String, String> values) {
+        String[] resolved = new String[placeholders.length];
+        int length = literalsLength;
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = values.get(placeholders[i]);
+            resolved[i] = value != null ? value : OPEN + placeholders[i] + CLOSE;
+            length += resolved[i].length();
+        }
+
+        StringBuilder builder = new StringBuilder(length);
+        builder.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(resolved[i]).append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
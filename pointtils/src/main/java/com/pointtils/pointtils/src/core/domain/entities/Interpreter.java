@@ -6,6 +6,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrimaryKeyJoinColumn;
 import jakarta.persistence.Table;
@@ -17,6 +19,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -28,6 +31,7 @@ import java.util.Set;
 @Entity
 @Table(name = "interpreter")
 @PrimaryKeyJoinColumn(name = "id")
+@NamedEntityGraph(name = Interpreter.WITH_PROFILE, attributeNodes = @NamedAttributeNode("locations"))
 @SuperBuilder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -37,9 +41,50 @@ import java.util.Set;
 @EqualsAndHashCode(callSuper = true)
 public class Interpreter extends Person {
 
+    /**
+     * Carrega as localizações junto com o intérprete (detalhe do perfil). As especialidades ficam fora do grafo:
+     * buscar duas coleções no mesmo join multiplicaria as linhas da lista de localizações
+     */
+    public static final String WITH_PROFILE = "Interpreter.profile";
+
     private String cnpj;
 
-    private BigDecimal rating;
+    /**
+     * Média das avaliações. Assim como os agregados abaixo, é mantida apenas pelas atualizações atômicas do
+     * {@code InterpreterRepository}; salvar o intérprete não sobrescreve esses valores. Nunca é nula, para que a
+     * listagem ordene direto pela coluna e use o índice {@code idx_interpreter_rating_id}
+     */
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private BigDecimal rating = BigDecimal.ZERO;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_count", nullable = false, insertable = false, updatable = false)
+    private Integer ratingCount;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_sum", nullable = false, insertable = false, updatable = false, precision = 12, scale = 2)
+    private BigDecimal ratingSum;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_stars_1", nullable = false, insertable = false, updatable = false)
+    private Integer ratingStars1;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_stars_2", nullable = false, insertable = false, updatable = false)
+    private Integer ratingStars2;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_stars_3", nullable = false, insertable = false, updatable = false)
+    private Integer ratingStars3;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_stars_4", nullable = false, insertable = false, updatable = false)
+    private Integer ratingStars4;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_stars_5", nullable = false, insertable = false, updatable = false)
+    private Integer ratingStars5;
 
     @Column(name = "image_rights")
     private Boolean imageRights;
@@ -49,6 +94,7 @@ public class Interpreter extends Person {
     private InterpreterModality modality;
 
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "interpreter", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Location> locations;
 
@@ -56,10 +102,14 @@ public class Interpreter extends Person {
     private String description;
 
     @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "interpreter", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Schedule> schedules = new HashSet<>();
 
     @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "interpreter", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<InterpreterDocuments> documents = new HashSet<>();
 
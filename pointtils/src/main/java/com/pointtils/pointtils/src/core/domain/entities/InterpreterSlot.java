@@ -0,0 +1,49 @@
+package com.pointtils.pointtils.src.core.domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Horário livre de 30 minutos de um intérprete em uma data, materializado a partir dos horários
+ * de atendimento e dos agendamentos aceitos ou concluídos
+ */
+@Getter
+@Setter
+@Builder
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(InterpreterSlotId.class)
+@Table(name = "interpreter_slot")
+public class InterpreterSlot {
+
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "interpreter_id", nullable = false)
+    private Interpreter interpreter;
+
+    @Id
+    @Column(name = "slot_date", nullable = false)
+    private LocalDate slotDate;
+
+    @Id
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+}
@@ -0,0 +1,27 @@
+package com.pointtils.pointtils.src.core.domain.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Chave composta de {@link InterpreterSlot}: intérprete, data e horário de início
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class InterpreterSlotId implements Serializable {
+
+    private UUID interpreter;
+    private LocalDate slotDate;
+    private LocalTime startTime;
+}
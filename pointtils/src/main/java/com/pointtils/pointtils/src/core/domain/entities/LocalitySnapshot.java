@@ -0,0 +1,37 @@
+package com.pointtils.pointtils.src.core.domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Última lista de UFs ou de municípios de uma UF obtida do IBGE, mantida para atender às consultas quando a
+ * API externa estiver indisponível
+ */
+@Entity
+@Table(name = "locality_snapshot")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class LocalitySnapshot {
+
+    @Id
+    @Column(name = "scope", length = 32, nullable = false)
+    private String scope;
+
+    @Column(name = "names", columnDefinition = "TEXT", nullable = false)
+    private String names;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
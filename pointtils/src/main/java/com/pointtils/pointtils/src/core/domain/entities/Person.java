@@ -33,6 +33,7 @@ import lombok.experimental.SuperBuilder;
 @EqualsAndHashCode(callSuper = true)
 public class Person extends User {
     
+    @Column(nullable = false)
     private String name;
 
     @JdbcTypeCode(SqlTypes.NAMED_ENUM)
@@ -45,6 +46,7 @@ public class Person extends User {
     private String cpf;
 
 
+    @EqualsAndHashCode.Exclude
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     @lombok.Builder.Default
     private List<UserSpecialty> userSpecialties = new ArrayList<>();
@@ -42,6 +42,12 @@ public class Rating {
     @JoinColumn(name = "appointment_id", nullable = false)
     private Appointment appointment;
 
+    /**
+     * Intérprete do agendamento, copiado na avaliação para paginar o feed do intérprete por índice
+     */
+    @Column(name = "interpreter_id", nullable = false, columnDefinition = "uuid")
+    private UUID interpreterId;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt; 
@@ -30,6 +30,7 @@ import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -61,6 +62,12 @@ public abstract class User {
     @Column(columnDefinition = "TEXT")
     private String picture;
 
+    @Column(name = "picture_medium", columnDefinition = "TEXT")
+    private String pictureMedium;
+
+    @Column(name = "picture_thumbnail", columnDefinition = "TEXT")
+    private String pictureThumbnail;
+
     @JdbcTypeCode(SqlTypes.NAMED_ENUM)
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -95,4 +102,24 @@ public abstract class User {
     public abstract String getDisplayName();
 
     public abstract String getDocument();
+
+    /**
+     * Troca a foto do usuário, descartando as variantes geradas para a foto anterior
+     */
+    public void setPicture(String picture) {
+        if (!Objects.equals(this.picture, picture)) {
+            this.pictureMedium = null;
+            this.pictureThumbnail = null;
+        }
+        this.picture = picture;
+    }
+
+    /**
+     * Define a foto e as variantes redimensionadas geradas a partir dela
+     */
+    public void setPictureVariants(String picture, String pictureMedium, String pictureThumbnail) {
+        this.picture = picture;
+        this.pictureMedium = pictureMedium;
+        this.pictureThumbnail = pictureThumbnail;
+    }
 }
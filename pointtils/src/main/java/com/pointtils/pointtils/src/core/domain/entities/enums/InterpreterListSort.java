@@ -0,0 +1,15 @@
+package com.pointtils.pointtils.src.core.domain.entities.enums;
+
+public enum InterpreterListSort {
+    NAME, RATING, RELEVANCE;
+
+    public static InterpreterListSort fromString(String value) {
+        if (value == null) throw new IllegalArgumentException("Ordenação não preenchida");
+        return switch (value.toUpperCase()) {
+            case "NAME" -> NAME;
+            case "RATING" -> RATING;
+            case "RELEVANCE" -> RELEVANCE;
+            default -> throw new IllegalArgumentException("Ordenação inválida: " + value);
+        };
+    }
+}
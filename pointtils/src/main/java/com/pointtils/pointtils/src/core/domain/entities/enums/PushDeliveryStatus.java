@@ -0,0 +1,8 @@
+package com.pointtils.pointtils.src.core.domain.entities.enums;
+
+public enum PushDeliveryStatus {
+    SENT,
+    RETRY,
+    UNREGISTERED,
+    FAILED
+}
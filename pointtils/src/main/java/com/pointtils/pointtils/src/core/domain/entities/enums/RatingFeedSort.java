@@ -0,0 +1,14 @@
+package com.pointtils.pointtils.src.core.domain.entities.enums;
+
+public enum RatingFeedSort {
+    RECENT, STARS;
+
+    public static RatingFeedSort fromString(String value) {
+        if (value == null) throw new IllegalArgumentException("Ordenação não preenchida");
+        return switch (value.toUpperCase()) {
+            case "RECENT" -> RECENT;
+            case "STARS" -> STARS;
+            default -> throw new IllegalArgumentException("Ordenação inválida: " + value);
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.pointtils.pointtils.src.core.domain.events;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
+
+import java.util.UUID;
+
+/**
+ * Publicado quando um agendamento vencido é encerrado automaticamente: pendentes são cancelados e aceitos são
+ * concluídos. O evento é publicado dentro da transação da mudança; ouvintes que enviam notificações devem usar
+ * {@code @TransactionalEventListener} para agir apenas após o commit.
+ *
+ * @param appointmentId  Id do agendamento
+ * @param previousStatus Status anterior
+ * @param newStatus      Novo status
+ */
+public record AppointmentStatusChangedEvent(UUID appointmentId,
+                                            AppointmentStatus previousStatus,
+                                            AppointmentStatus newStatus) {
+}
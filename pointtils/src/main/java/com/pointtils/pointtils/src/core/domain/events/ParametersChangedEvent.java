@@ -0,0 +1,12 @@
+package com.pointtils.pointtils.src.core.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Publicado quando um parâmetro é criado, alterado ou removido, para que os caches derivados dos parâmetros
+ * sejam descartados
+ *
+ * @param parameterId Id do parâmetro alterado
+ */
+public record ParametersChangedEvent(UUID parameterId) {
+}
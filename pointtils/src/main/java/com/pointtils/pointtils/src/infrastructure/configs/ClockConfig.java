@@ -0,0 +1,21 @@
+package com.pointtils.pointtils.src.infrastructure.configs;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * Relógio usado para calcular "hoje" e "agora" no fuso dos atendimentos, independente do fuso do servidor
+ */
+@Configuration
+public class ClockConfig {
+
+    public static final ZoneId ZONE_ID = ZoneId.of("America/Sao_Paulo");
+
+    @Bean
+    public Clock clock() {
+        return Clock.system(ZONE_ID);
+    }
+}
@@ -0,0 +1,102 @@
+package com.pointtils.pointtils.src.infrastructure.configs;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Substitui o PostgreSQL em ambiente local com uma única instância e nos testes: o estado fica apenas na memória
+ * desta instância e os ouvintes são avisados na própria chamada de escrita
+ */
+@Component
+@ConditionalOnProperty(name = "security.shared-state.backend", havingValue = "memory")
+public class InMemorySharedAuthStateStore implements SharedAuthStateStore {
+
+    private final Map<String, Map<String, Entry>> namespaces = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String namespace, String key, String value, Instant expiresAt) {
+        entries(namespace).put(key, new Entry(key, value, 0, expiresAt));
+        notifyListeners(namespace, key);
+    }
+
+    @Override
+    public Optional<Entry> get(String namespace, String key) {
+        Entry entry = entries(namespace).get(key);
+        return entry != null && !isExpired(entry, Instant.now()) ? Optional.of(entry) : Optional.empty();
+    }
+
+    @Override
+    public boolean remove(String namespace, String key) {
+        boolean removed = entries(namespace).remove(key) != null;
+        if (removed) {
+            notifyListeners(namespace, key);
+        }
+        return removed;
+    }
+
+    @Override
+    public int increment(String namespace, String key, Instant expiresAt) {
+        Instant now = Instant.now();
+        return entries(namespace).compute(key, (entryKey, current) -> current == null || isExpired(current, now)
+                        ? new Entry(key, null, 1, expiresAt)
+                        : new Entry(key, current.value(), current.counter() + 1, expiresAt))
+                .counter();
+    }
+
+    @Override
+    public List<Entry> findAll(String namespace, int limit) {
+        Instant now = Instant.now();
+        return entries(namespace).values().stream()
+                .filter(entry -> !isExpired(entry, now))
+                .sorted(Comparator.comparing(Entry::expiresAt).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${security.shared-state.sweep-interval-ms:300000}")
+    public void cleanupExpired() {
+        deleteExpired();
+    }
+
+    @Override
+    public int deleteExpired() {
+        Instant now = Instant.now();
+        int removed = 0;
+        for (Map<String, Entry> entries : namespaces.values()) {
+            for (Entry entry : entries.values()) {
+                if (isExpired(entry, now) && entries.remove(entry.key(), entry)) {
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public void addInvalidationListener(String namespace, Consumer<String> listener) {
+        listeners.computeIfAbsent(namespace, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private Map<String, Entry> entries(String namespace) {
+        return namespaces.computeIfAbsent(namespace, name -> new ConcurrentHashMap<>());
+    }
+
+    private void notifyListeners(String namespace, String key) {
+        listeners.getOrDefault(namespace, List.of()).forEach(listener -> listener.accept(key));
+    }
+
+    private static boolean isExpired(Entry entry, Instant now) {
+        return !now.isBefore(entry.expiresAt());
+    }
+}
@@ -1,13 +1,20 @@
 package com.pointtils.pointtils.src.infrastructure.configs;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -23,6 +30,16 @@ public class JwtService {
     @Value("${security.jwt.refresh-expiration-time}")
     private long refreshExpiration;
 
+    @Value("${security.jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize = 10000;
+
+    /**
+     * Tokens com assinatura já verificada, para que as requisições seguintes da mesma sessão não repitam o HMAC
+     */
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    private volatile Signing signing;
+
     public String generateToken(String subject) {
         return buildToken(subject, jwtExpiration);
     }
@@ -53,12 +70,55 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return getSigning().parser().parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Verifica a assinatura e a expiração do token com uma única leitura. Tokens já verificados são atendidos
+     * pela memória até expirarem.
+     *
+     * @param token Token JWT recebido na requisição
+     * @return Assunto e expiração do token
+     * @throws JwtException quando o token é inválido, foi assinado com outra chave ou está expirado
+     */
+    public VerifiedToken verifyToken(String token) {
+        VerifiedToken verified = verifiedTokens.get(token);
+        if (verified == null) {
+            verified = parseToken(token);
+            cacheVerifiedToken(token, verified);
+        }
+        if (verified.isExpired(Instant.now())) {
+            verifiedTokens.remove(token);
+            throw new ExpiredJwtException(null, null, "Token expirado");
+        }
+        return verified;
+    }
+
+    /**
+     * Caminho sem cache do {@link #verifyToken}, com o parser e a chave já construídos
+     */
+    VerifiedToken parseToken(String token) {
+        Claims claims = extractAllClaims(token);
+        if (claims.getExpiration() == null) {
+            throw new JwtException("Token sem data de expiração");
+        }
+        return new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
+    }
+
+    private void cacheVerifiedToken(String token, VerifiedToken verified) {
+        if (verifiedCacheSize <= 0) {
+            return;
+        }
+        if (verifiedTokens.size() >= verifiedCacheSize) {
+            Instant now = Instant.now();
+            verifiedTokens.values().removeIf(entry -> entry.isExpired(now));
+            Iterator<String> iterator = verifiedTokens.keySet().iterator();
+            while (verifiedTokens.size() >= verifiedCacheSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        verifiedTokens.put(token, verified);
     }
 
     private String buildToken(
@@ -70,14 +130,23 @@ public class JwtService {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expirationMillis))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(getSigning().key(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key getSignInKey() {
-        // Usar a chave diretamente sem decodificação Base64
-        // A chave deve ter pelo menos 256 bits (32 caracteres) para HS256
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    /**
+     * Chave e parser são imutáveis e criados uma única vez para a chave secreta configurada
+     */
+    private Signing getSigning() {
+        Signing current = signing;
+        if (current == null || !current.secretKey().equals(secretKey)) {
+            // Usar a chave diretamente sem decodificação Base64
+            // A chave deve ter pelo menos 256 bits (32 caracteres) para HS256
+            Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
+            current = new Signing(secretKey, key, Jwts.parserBuilder().setSigningKey(key).build());
+            signing = current;
+        }
+        return current;
     }
 
     public String getEmailFromToken(String token) {
@@ -87,7 +156,7 @@ public class JwtService {
     @SuppressWarnings("UseSpecificCatch")
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSignInKey()).build().parseClaimsJws(token);
+            getSigning().parser().parseClaimsJws(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -104,16 +173,25 @@ public class JwtService {
     @SuppressWarnings("UseSpecificCatch")
     public boolean isTokenValid(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSignInKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            
+            Claims claims = extractAllClaims(token);
+
             // Check if token is expired
             return !claims.getExpiration().before(new Date());
         } catch (Exception e) {
             return false;
         }
     }
+
+    /**
+     * Dados do token necessários para autenticar a requisição
+     */
+    public record VerifiedToken(String subject, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+
+    private record Signing(String secretKey, Key key, JwtParser parser) {
+    }
 }
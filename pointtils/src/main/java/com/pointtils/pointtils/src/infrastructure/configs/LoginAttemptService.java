@@ -1,52 +1,36 @@
 package com.pointtils.pointtils.src.infrastructure.configs;
 
 import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Service;
 
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Falhas de login por IP, contadas no {@link SharedAuthStateStore} para que o bloqueio valha em todas as
+ * instâncias. A contagem expira {@code BLOCKTIME} segundos depois da última falha.
+ */
 @Service
+@RequiredArgsConstructor
 public class LoginAttemptService {
 
+    static final String NAMESPACE = "login_attempt";
     private static final int MAXATTEMPTS = 5;
     private static final long BLOCKTIME = 15L * 60L;
 
-    private final Map<String, Attempt> attempts = new ConcurrentHashMap<>();
+    private final SharedAuthStateStore sharedStateStore;
 
     public void loginFailed(String ip) {
-        Attempt attempt = attempts.getOrDefault(ip, new Attempt(0, Instant.now().getEpochSecond()));
-        attempt.count++;
-        attempt.lastAttempt = Instant.now().getEpochSecond();
-        attempts.put(ip, attempt);
+        sharedStateStore.increment(NAMESPACE, ip, Instant.now().plusSeconds(BLOCKTIME));
     }
 
     public void loginSucceeded(String ip) {
-        attempts.remove(ip);
+        sharedStateStore.remove(NAMESPACE, ip);
     }
 
     public boolean isBlocked(String ip) {
-        Attempt attempt = attempts.get(ip);
-        if (attempt == null)
-            return false;
-
-        if (attempt.count >= MAXATTEMPTS) {
-            if (Instant.now().getEpochSecond() - attempt.lastAttempt > BLOCKTIME) {
-                attempts.remove(ip);
-                return false;
-            }
-            return true;
-        }
-        return false;
-    }
-
-    private static class Attempt {
-        int count;
-        long lastAttempt;
-
-        Attempt(int count, long lastAttempt) {
-            this.count = count;
-            this.lastAttempt = lastAttempt;
-        }
+        return sharedStateStore.get(NAMESPACE, ip)
+                .map(attempt -> attempt.counter() >= MAXATTEMPTS)
+                .orElse(false);
     }
-}
\ No newline at end of file
+}
@@ -1,44 +1,261 @@
 package com.pointtils.pointtils.src.infrastructure.configs;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 
+/**
+ * Tokens invalidados no logout, mantidos apenas até a própria expiração do token.
+ * <p>
+ * As entradas são identificadas pelo SHA-256 do token, sem guardar o JWT completo, e ficam numa fila ordenada por
+ * expiração: a varredura periódica remove apenas o início da fila. Nenhuma entrada vive mais que o token de maior
+ * duração (o refresh token), então o limite de entradas é a taxa esperada de revogações multiplicada por essa
+ * duração. Um filtro de Bloom na frente do mapa responde à consulta mais comum (token fora da blacklist) sem alocar
+ * objetos; só os acertos do filtro calculam o hash e consultam o mapa.
+ * <p>
+ * Uma revogação ainda válida nunca é descartada: se o mapa continua cheio depois de remover as expiradas, o token
+ * entra apenas no filtro de Bloom e, até a última dessas revogações expirar, os acertos do filtro que não estão no
+ * mapa são confirmados no {@link SharedAuthStateStore}. Se o armazenamento não responder, o token é tratado como
+ * revogado.
+ * <p>
+ * A blacklist é compartilhada entre as instâncias pelo {@link SharedAuthStateStore}: cada revogação é gravada no
+ * armazenamento e as demais instâncias atualizam a própria cópia ao receber o aviso, então a consulta feita a cada
+ * requisição continua apenas em memória. O registro guarda, além do hash, os dois hashes do filtro de Bloom, já que
+ * as outras instâncias não conhecem o token.
+ */
+@Slf4j
 @Service
 @Primary
 public class MemoryBlacklistService {
-    
-    private static final String BLACKLIST_PREFIX = "blacklist:";
-    
-    private final Map<String, Instant> blacklist = new ConcurrentHashMap<>();
 
+    private static final int BLOOM_HASHES = 7;
+    private static final int BLOOM_BITS_PER_ENTRY = 10;
+    static final String NAMESPACE = "revoked_token";
+    private static final String HASH_SEPARATOR = ":";
+
+    private final int maxEntries;
+    private final Duration tokenTimeToLive;
+    private final SharedAuthStateStore sharedStateStore;
+    private final Map<String, Entry> blacklist = new ConcurrentHashMap<>();
+    private final PriorityQueue<Entry> expiryQueue = new PriorityQueue<>(Comparator.comparing(Entry::expiresAt));
+    private volatile AtomicLongArray bloomFilter;
+    // Expiração da última revogação que ficou fora do mapa por falta de espaço; até lá o armazenamento é consultado
+    private volatile Instant overflowUntil = Instant.MIN;
+
+    @Autowired
+    public MemoryBlacklistService(
+            @Value("${security.blacklist.revocations-per-minute:100}") int revocationsPerMinute,
+            @Value("${security.jwt.refresh-expiration-time}") long tokenTimeToLiveMs,
+            SharedAuthStateStore sharedStateStore) {
+        this(maxEntries(revocationsPerMinute, Duration.ofMillis(tokenTimeToLiveMs)),
+                Duration.ofMillis(tokenTimeToLiveMs), sharedStateStore);
+    }
+
+    MemoryBlacklistService(int maxEntries, Duration tokenTimeToLive, SharedAuthStateStore sharedStateStore) {
+        this.maxEntries = maxEntries;
+        this.tokenTimeToLive = tokenTimeToLive;
+        this.sharedStateStore = sharedStateStore;
+        this.bloomFilter = newBloomFilter();
+        sharedStateStore.addInvalidationListener(NAMESPACE, this::onSharedChange);
+    }
+
+    /**
+     * Adiciona o token à blacklist pela duração máxima de um token, para tokens cuja expiração não é conhecida
+     */
     public void addToBlacklist(String token) {
-        // Adiciona o token à blacklist com expiração de 1 hora
-        blacklist.put(BLACKLIST_PREFIX + token, Instant.now().plus(Duration.ofHours(1)));
+        addToBlacklist(token, Instant.now().plus(tokenTimeToLive));
+    }
+
+    /**
+     * Adiciona o token à blacklist de todas as instâncias até o instante em que ele deixaria de ser aceito de
+     * qualquer forma
+     *
+     * @param token     JWT invalidado
+     * @param expiresAt Expiração do próprio token
+     */
+    public void addToBlacklist(String token, Instant expiresAt) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        Instant maxExpiresAt = Instant.now().plus(tokenTimeToLive);
+        Entry entry = new Entry(SharedAuthStateStore.hashKey(token),
+                (expiresAt.isAfter(maxExpiresAt) ? maxExpiresAt : expiresAt).truncatedTo(ChronoUnit.MILLIS),
+                hash1(token), hash2(token));
+        // Grava primeiro no armazenamento, que confirma os tokens que não couberem na cópia local
+        sharedStateStore.put(NAMESPACE, entry.key(),
+                Long.toHexString(entry.hash1()) + HASH_SEPARATOR + Long.toHexString(entry.hash2()), entry.expiresAt());
+        add(entry);
+    }
+
+    private void add(Entry entry) {
+        synchronized (expiryQueue) {
+            setBits(bloomFilter, entry.hash1(), entry.hash2());
+            boolean full = !blacklist.containsKey(entry.key()) && blacklist.size() >= maxEntries;
+            if (full) {
+                removeExpired(Instant.now());
+                full = blacklist.size() >= maxEntries;
+            }
+            if (full) {
+                if (entry.expiresAt().isAfter(overflowUntil)) {
+                    overflowUntil = entry.expiresAt();
+                }
+                log.warn("Blacklist de tokens cheia ({} entradas); token que expira em {} será confirmado no "
+                        + "armazenamento compartilhado", maxEntries, entry.expiresAt());
+                return;
+            }
+            Entry previous = blacklist.put(entry.key(), entry);
+            if (previous != null) {
+                expiryQueue.remove(previous);
+            }
+            expiryQueue.add(entry);
+        }
     }
 
     public boolean isBlacklisted(String token) {
-        Instant expiration = blacklist.get(BLACKLIST_PREFIX + token);
-        if (expiration == null) {
+        if (token == null || token.isEmpty() || !mightContain(bloomFilter, hash1(token), hash2(token))) {
             return false;
         }
-        
-        // Remove tokens expirados
-        if (Instant.now().isAfter(expiration)) {
-            blacklist.remove(BLACKLIST_PREFIX + token);
-            return false;
+        String key = SharedAuthStateStore.hashKey(token);
+        Entry entry = blacklist.get(key);
+        Instant now = Instant.now();
+        if (entry != null) {
+            return !now.isAfter(entry.expiresAt());
+        }
+        return !now.isAfter(overflowUntil) && isRevokedInSharedStore(key);
+    }
+
+    private boolean isRevokedInSharedStore(String key) {
+        try {
+            return sharedStateStore.get(NAMESPACE, key).isPresent();
+        } catch (RuntimeException e) {
+            log.error("Erro ao consultar a blacklist compartilhada; token tratado como revogado", e);
+            return true;
         }
-        
-        return true;
     }
-    
-    // Método para limpar tokens expirados (pode ser chamado periodicamente)
+
+    /**
+     * Remove os tokens já expirados e reconstrói o filtro de Bloom sem eles, já que o filtro não permite remoções.
+     * Enquanto houver revogações válidas apenas no filtro, ele não é reconstruído.
+     */
+    @Scheduled(fixedDelayString = "${security.blacklist.sweep-interval-ms:60000}")
     public void cleanupExpiredTokens() {
-        Instant now = Instant.now();
-        blacklist.entrySet().removeIf(entry -> now.isAfter(entry.getValue()));
+        synchronized (expiryQueue) {
+            Instant now = Instant.now();
+            if (removeExpired(now) > 0 && now.isAfter(overflowUntil)) {
+                AtomicLongArray rebuilt = newBloomFilter();
+                blacklist.values().forEach(entry -> setBits(rebuilt, entry.hash1(), entry.hash2()));
+                bloomFilter = rebuilt;
+            }
+        }
+    }
+
+    /**
+     * Aplica na cópia local uma revogação feita por qualquer instância; com {@code null} recarrega todas as
+     * revogações válidas do armazenamento
+     */
+    private void onSharedChange(String key) {
+        if (key == null) {
+            sharedStateStore.findAll(NAMESPACE, maxEntries).forEach(this::addShared);
+        } else {
+            sharedStateStore.get(NAMESPACE, key).ifPresent(this::addShared);
+        }
+    }
+
+    private void addShared(SharedAuthStateStore.Entry shared) {
+        Entry local = blacklist.get(shared.key());
+        if (local != null && local.expiresAt().equals(shared.expiresAt())) {
+            return;
+        }
+        String[] hashes = shared.value().split(HASH_SEPARATOR);
+        add(new Entry(shared.key(), shared.expiresAt(),
+                Long.parseUnsignedLong(hashes[0], 16), Long.parseUnsignedLong(hashes[1], 16)));
+    }
+
+    int size() {
+        return blacklist.size();
+    }
+
+    private static int maxEntries(int revocationsPerMinute, Duration tokenTimeToLive) {
+        long minutes = Math.max(1L, (tokenTimeToLive.toMillis() + 59_999L) / 60_000L);
+        return (int) Math.min(Integer.MAX_VALUE / BLOOM_BITS_PER_ENTRY, revocationsPerMinute * minutes);
+    }
+
+    private int removeExpired(Instant now) {
+        int removed = 0;
+        while (!expiryQueue.isEmpty() && now.isAfter(expiryQueue.peek().expiresAt())) {
+            Entry expired = expiryQueue.poll();
+            blacklist.remove(expired.key(), expired);
+            removed++;
+        }
+        return removed;
+    }
+
+    private AtomicLongArray newBloomFilter() {
+        long bits = Math.max(64L, (long) maxEntries * BLOOM_BITS_PER_ENTRY);
+        return new AtomicLongArray((int) ((bits + 63) / 64));
+    }
+
+    private static void setBits(AtomicLongArray filter, long hash1, long hash2) {
+        long bitCount = filter.length() * 64L;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = filter.get(index);
+            } while ((current & mask) == 0 && !filter.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    private static boolean mightContain(AtomicLongArray filter, long hash1, long hash2) {
+        long bitCount = filter.length() * 64L;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((filter.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Hashes de 64 bits calculados direto sobre os caracteres, sem converter o token em bytes
+    private static long hash1(String token) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            hash = (hash ^ token.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long hash2(String token) {
+        long hash = 0x9e3779b97f4a7c15L;
+        for (int i = 0; i < token.length(); i++) {
+            hash = 31 * hash + token.charAt(i);
+        }
+        return mix(hash) | 1L;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private record Entry(String key, Instant expiresAt, long hash1, long hash2) {
     }
 }
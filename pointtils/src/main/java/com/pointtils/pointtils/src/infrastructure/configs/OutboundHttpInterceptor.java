@@ -0,0 +1,162 @@
+package com.pointtils.pointtils.src.infrastructure.configs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Protege e instrumenta as chamadas HTTP externas por host de destino.
+ * <p>
+ * Cada host tem um circuit breaker: depois de {@code failureThreshold} falhas seguidas (erro de conexão, timeout ou
+ * resposta 5xx) as chamadas para o host falham imediatamente durante {@code openDuration}, sem ocupar conexões do
+ * pool nem a thread da requisição pelo tempo do timeout. Passado esse tempo, uma única chamada de teste decide se o
+ * circuito volta a fechar.
+ * <p>
+ * Também publica, por host, o uso do pool de conexões e o estado do circuito. Latência e erros por host ficam na
+ * métrica {@code http.client.requests} do Spring, com a tag {@code client.name}.
+ */
+@Slf4j
+public class OutboundHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final MeterRegistry meterRegistry;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final Map<String, HostCircuit> circuits = new ConcurrentHashMap<>();
+
+    public OutboundHttpInterceptor(PoolingHttpClientConnectionManager connectionManager,
+                                   MeterRegistry meterRegistry,
+                                   int failureThreshold,
+                                   Duration openDuration) {
+        this.connectionManager = connectionManager;
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = request.getURI().getHost();
+        HostCircuit circuit = circuits.computeIfAbsent(host, this::register);
+        if (!circuit.tryAcquire()) {
+            circuit.rejectedCounter.increment();
+            throw new IOException("Circuito aberto para o host " + host);
+        }
+
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            circuit.onFailure(host);
+            throw e;
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            circuit.onFailure(host);
+        } else {
+            circuit.onSuccess();
+        }
+        return response;
+    }
+
+    CircuitState getState(String host) {
+        HostCircuit circuit = circuits.get(host);
+        return circuit != null ? circuit.state : CircuitState.CLOSED;
+    }
+
+    private HostCircuit register(String host) {
+        HostCircuit circuit = new HostCircuit(Counter.builder("pointtils.http.client.circuit.rejected")
+                .description("Chamadas recusadas com o circuito aberto")
+                .tag("host", host)
+                .register(meterRegistry));
+        Gauge.builder("pointtils.http.client.circuit.state", circuit, value -> value.state.ordinal())
+                .description("Estado do circuito: 0 fechado, 1 aberto, 2 em teste")
+                .tag("host", host)
+                .register(meterRegistry);
+        poolGauge(host, "leased", PoolStats::getLeased);
+        poolGauge(host, "available", PoolStats::getAvailable);
+        poolGauge(host, "pending", PoolStats::getPending);
+        poolGauge(host, "max", PoolStats::getMax);
+        return circuit;
+    }
+
+    private void poolGauge(String host, String state, ToIntFunction<PoolStats> stat) {
+        Gauge.builder("pointtils.http.client.pool.connections", connectionManager,
+                        manager -> routeStats(manager, host, stat))
+                .description("Conexoes do pool HTTP por host de destino")
+                .tag("host", host)
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    private static double routeStats(PoolingHttpClientConnectionManager manager, String host,
+                                     ToIntFunction<PoolStats> stat) {
+        return manager.getRoutes().stream()
+                .filter(route -> host.equalsIgnoreCase(route.getTargetHost().getHostName()))
+                .mapToInt(route -> stat.applyAsInt(manager.getStats(route)))
+                .sum();
+    }
+
+    enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final class HostCircuit {
+
+        private final Counter rejectedCounter;
+        private volatile CircuitState state = CircuitState.CLOSED;
+        private int consecutiveFailures;
+        private long openUntilNanos;
+        private boolean probing;
+
+        private HostCircuit(Counter rejectedCounter) {
+            this.rejectedCounter = rejectedCounter;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (state == CircuitState.CLOSED) {
+                return true;
+            }
+            if (state == CircuitState.OPEN && System.nanoTime() - openUntilNanos >= 0) {
+                state = CircuitState.HALF_OPEN;
+                probing = false;
+            }
+            if (state == CircuitState.HALF_OPEN && !probing) {
+                probing = true;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            probing = false;
+            state = CircuitState.CLOSED;
+        }
+
+        synchronized void onFailure(String host) {
+            consecutiveFailures++;
+            if (state == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                if (state != CircuitState.OPEN) {
+                    log.warn("Circuito aberto para o host {} apos {} falhas seguidas", host, consecutiveFailures);
+                }
+                state = CircuitState.OPEN;
+                probing = false;
+                openUntilNanos = System.nanoTime() + openDurationNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.pointtils.pointtils.src.infrastructure.configs;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Estado de autenticação compartilhado na tabela UNLOGGED {@code auth_shared_state}. Cada escrita envia, no mesmo
+ * comando, um NOTIFY no canal {@value #CHANNEL} com o namespace e a chave alterados; uma thread mantém uma conexão
+ * em LISTEN e repassa os avisos aos ouvintes desta instância.
+ * <p>
+ * A conexão de LISTEN é aberta direto no driver, fora do pool, com timeout de leitura e keepalive de TCP. Como uma
+ * conexão meio aberta não gera erro ao aguardar avisos, um {@code SELECT 1} a cada {@code liveness-interval}
+ * detecta a queda e força a reconexão.
+ * <p>
+ * Avisos enviados enquanto a conexão está fora são perdidos, então a cada (re)conexão, e também a cada
+ * {@code resync-interval}, os ouvintes recebem {@code null} e recarregam o estado da tabela.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.shared-state.backend", havingValue = "postgres", matchIfMissing = true)
+public class PostgresSharedAuthStateStore implements SharedAuthStateStore {
+
+    static final String CHANNEL = "auth_state";
+    private static final String SEPARATOR = ":";
+
+    private static final String PUT_SQL = """
+            WITH upserted AS (
+                INSERT INTO auth_shared_state (namespace, state_key, state_value, counter, expires_at)
+                VALUES (?, ?, ?, 0, ?)
+                ON CONFLICT (namespace, state_key) DO UPDATE
+                SET state_value = EXCLUDED.state_value, counter = 0, expires_at = EXCLUDED.expires_at
+                RETURNING namespace, state_key
+            )
+            SELECT pg_notify(?, namespace || ':' || state_key) FROM upserted
+            """;
+    private static final String REMOVE_SQL = """
+            WITH deleted AS (
+                DELETE FROM auth_shared_state WHERE namespace = ? AND state_key = ?
+                RETURNING namespace, state_key
+            )
+            SELECT pg_notify(?, namespace || ':' || state_key) FROM deleted
+            """;
+    private static final String INCREMENT_SQL = """
+            INSERT INTO auth_shared_state (namespace, state_key, counter, expires_at)
+            VALUES (?, ?, 1, ?)
+            ON CONFLICT (namespace, state_key) DO UPDATE
+            SET counter = CASE WHEN auth_shared_state.expires_at <= ? THEN 1 ELSE auth_shared_state.counter + 1 END,
+                expires_at = EXCLUDED.expires_at
+            RETURNING counter
+            """;
+    private static final RowMapper<Entry> ENTRY_ROW_MAPPER = (resultSet, rowNum) -> new Entry(
+            resultSet.getString("state_key"),
+            resultSet.getString("state_value"),
+            resultSet.getInt("counter"),
+            resultSet.getObject("expires_at", OffsetDateTime.class).toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ListenConnectionFactory connectionFactory;
+    private final long pollTimeoutMs;
+    private final long reconnectDelayMs;
+    private final long livenessIntervalNanos;
+    private final long resyncIntervalNanos;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Autowired
+    public PostgresSharedAuthStateStore(
+            JdbcTemplate jdbcTemplate,
+            DataSourceProperties dataSourceProperties,
+            @Value("${security.shared-state.listener.socket-timeout:30s}") Duration socketTimeout,
+            @Value("${security.shared-state.listener.liveness-interval:10s}") Duration livenessInterval,
+            @Value("${security.shared-state.listener.resync-interval:5m}") Duration resyncInterval) {
+        this(jdbcTemplate, () -> openListenConnection(dataSourceProperties, socketTimeout), 1000, 5000,
+                livenessInterval, resyncInterval);
+    }
+
+    PostgresSharedAuthStateStore(JdbcTemplate jdbcTemplate, ListenConnectionFactory connectionFactory,
+                                 long pollTimeoutMs, long reconnectDelayMs, Duration livenessInterval,
+                                 Duration resyncInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.connectionFactory = connectionFactory;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.livenessIntervalNanos = livenessInterval.toNanos();
+        this.resyncIntervalNanos = resyncInterval.toNanos();
+    }
+
+    @Override
+    public void put(String namespace, String key, String value, Instant expiresAt) {
+        jdbcTemplate.queryForList(PUT_SQL, namespace, key, value, toTimestamp(expiresAt), CHANNEL);
+    }
+
+    @Override
+    public Optional<Entry> get(String namespace, String key) {
+        return jdbcTemplate.query("SELECT state_key, state_value, counter, expires_at FROM auth_shared_state "
+                        + "WHERE namespace = ? AND state_key = ? AND expires_at > ?",
+                ENTRY_ROW_MAPPER, namespace, key, toTimestamp(Instant.now())).stream().findFirst();
+    }
+
+    @Override
+    public boolean remove(String namespace, String key) {
+        return !jdbcTemplate.queryForList(REMOVE_SQL, namespace, key, CHANNEL).isEmpty();
+    }
+
+    @Override
+    public int increment(String namespace, String key, Instant expiresAt) {
+        Integer counter = jdbcTemplate.queryForObject(INCREMENT_SQL, Integer.class,
+                namespace, key, toTimestamp(expiresAt), toTimestamp(Instant.now()));
+        return counter != null ? counter : 0;
+    }
+
+    @Override
+    public List<Entry> findAll(String namespace, int limit) {
+        return jdbcTemplate.query("SELECT state_key, state_value, counter, expires_at FROM auth_shared_state "
+                        + "WHERE namespace = ? AND expires_at > ? ORDER BY expires_at DESC LIMIT ?",
+                ENTRY_ROW_MAPPER, namespace, toTimestamp(Instant.now()), limit);
+    }
+
+    @Scheduled(fixedDelayString = "${security.shared-state.sweep-interval-ms:300000}")
+    public void cleanupExpired() {
+        try {
+            int removed = deleteExpired();
+            if (removed > 0) {
+                log.debug("Removed {} expired shared auth state entries", removed);
+            }
+        } catch (Exception e) {
+            log.error("Error removing expired shared auth state entries", e);
+        }
+    }
+
+    @Override
+    public int deleteExpired() {
+        return jdbcTemplate.update("DELETE FROM auth_shared_state WHERE expires_at <= ?", toTimestamp(Instant.now()));
+    }
+
+    @Override
+    public void addInvalidationListener(String namespace, Consumer<String> listener) {
+        listeners.computeIfAbsent(namespace, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Inicia a escuta depois que todos os beans registraram seus ouvintes, para que a primeira conexão já carregue
+     * o estado em todos eles
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "auth-state-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread.join(TimeUnit.SECONDS.toMillis(5));
+            listenerThread = null;
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = connectionFactory.open()) {
+                listen(connection);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Conexao LISTEN do estado de autenticacao perdida: {}", e.getMessage());
+                }
+            }
+            if (running) {
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        log.info("Escutando alteracoes do estado de autenticacao no canal {}", CHANNEL);
+        resync();
+
+        long nextLivenessCheck = System.nanoTime() + livenessIntervalNanos;
+        long nextResync = System.nanoTime() + resyncIntervalNanos;
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeoutMs);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    String payload = notification.getParameter();
+                    int separator = payload.indexOf(SEPARATOR);
+                    if (separator > 0) {
+                        dispatch(payload.substring(0, separator), payload.substring(separator + 1));
+                    }
+                }
+            }
+            long now = System.nanoTime();
+            if (now - nextLivenessCheck >= 0) {
+                // Falha com o timeout de leitura se a conexão caiu sem aviso
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                nextLivenessCheck = now + livenessIntervalNanos;
+            }
+            if (now - nextResync >= 0) {
+                resync();
+                nextResync = now + resyncIntervalNanos;
+            }
+        }
+    }
+
+    private void resync() {
+        listeners.keySet().forEach(namespace -> dispatch(namespace, null));
+    }
+
+    private void dispatch(String namespace, String key) {
+        for (Consumer<String> listener : listeners.getOrDefault(namespace, List.of())) {
+            try {
+                listener.accept(key);
+            } catch (RuntimeException e) {
+                log.warn("Erro ao aplicar alteracao do estado de autenticacao {}:{}", namespace, key, e);
+            }
+        }
+    }
+
+    private static Connection openListenConnection(DataSourceProperties dataSourceProperties, Duration socketTimeout)
+            throws SQLException {
+        Properties properties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            properties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            properties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        properties.setProperty("socketTimeout", String.valueOf(Math.max(1, socketTimeout.toSeconds())));
+        properties.setProperty("tcpKeepAlive", "true");
+        properties.setProperty("ApplicationName", "pointtils-auth-state-listener");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    /**
+     * Abre a conexão usada apenas para LISTEN, fora do pool da aplicação
+     */
+    @FunctionalInterface
+    interface ListenConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -1,12 +1,28 @@
 package com.pointtils.pointtils.src.infrastructure.configs;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
+/**
+ * Clientes HTTP para APIs externas. Todos compartilham um único pool de conexões do Apache HttpClient, com
+ * keep-alive e respostas gzip descompactadas automaticamente, e o {@link OutboundHttpInterceptor}. Cada cliente
+ * define apenas o próprio timeout de resposta.
+ */
 @Configuration
 public class RestTemplateConfig {
 
@@ -14,14 +30,77 @@ public class RestTemplateConfig {
     private Integer ibgeTimeoutInMs;
 
     @Bean
-    public RestTemplate ibgeRestTemplate() {
-        return new RestTemplate(buildClientHttpRequestFactory(ibgeTimeoutInMs));
+    public PoolingHttpClientConnectionManager outboundConnectionManager(
+            @Value("${client.http.max-connections:50}") int maxConnections,
+            @Value("${client.http.max-connections-per-route:10}") int maxConnectionsPerRoute,
+            @Value("${client.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${client.http.connection-ttl:5m}") Duration connectionTimeToLive) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTimeToLive))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient outboundHttpClient(PoolingHttpClientConnectionManager outboundConnectionManager,
+                                                  @Value("${client.http.idle-timeout:30s}") Duration idleTimeout) {
+        return HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                // Novas tentativas em respostas 503 dobrariam a carga de um host sobrecarregado; falhas ficam
+                // a cargo do OutboundHttpInterceptor
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public OutboundHttpInterceptor outboundHttpInterceptor(
+            PoolingHttpClientConnectionManager outboundConnectionManager,
+            MeterRegistry meterRegistry,
+            @Value("${client.http.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${client.http.circuit-breaker.open-duration:30s}") Duration openDuration) {
+        return new OutboundHttpInterceptor(outboundConnectionManager, meterRegistry, failureThreshold, openDuration);
+    }
+
+    @Bean
+    public RestTemplate ibgeRestTemplate(RestTemplateBuilder restTemplateBuilder,
+                                         CloseableHttpClient outboundHttpClient,
+                                         OutboundHttpInterceptor outboundHttpInterceptor,
+                                         @Value("${client.http.connection-request-timeout:1s}")
+                                         Duration connectionRequestTimeout) {
+        return buildOutboundRestTemplate(restTemplateBuilder, outboundHttpClient, outboundHttpInterceptor,
+                Duration.ofMillis(ibgeTimeoutInMs), connectionRequestTimeout);
     }
 
-    private ClientHttpRequestFactory buildClientHttpRequestFactory(Integer timeoutInMs) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(timeoutInMs);
-        factory.setReadTimeout(timeoutInMs);
-        return factory;
+    /**
+     * Monta um RestTemplate sobre o pool compartilhado. Usa o builder configurado pelo Spring Boot, que registra
+     * as métricas {@code http.client.requests}.
+     *
+     * @param readTimeout              Tempo máximo de espera pela resposta da API
+     * @param connectionRequestTimeout Tempo máximo de espera por uma conexão livre no pool
+     */
+    private static RestTemplate buildOutboundRestTemplate(RestTemplateBuilder restTemplateBuilder,
+                                                          CloseableHttpClient httpClient,
+                                                          OutboundHttpInterceptor interceptor,
+                                                          Duration readTimeout,
+                                                          Duration connectionRequestTimeout) {
+        return restTemplateBuilder
+                .requestFactory(() -> {
+                    HttpComponentsClientHttpRequestFactory factory =
+                            new HttpComponentsClientHttpRequestFactory(httpClient);
+                    factory.setReadTimeout(readTimeout);
+                    // Com o pool cheio a chamada falha em vez de aguardar pelo timeout de resposta
+                    factory.setConnectionRequestTimeout(connectionRequestTimeout);
+                    return factory;
+                })
+                .additionalInterceptors(interceptor)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -4,10 +4,16 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
 
 @Configuration
 public class S3Config {
@@ -21,18 +27,43 @@ public class S3Config {
     @Value("${AWS_REGION:us-east-1}")
     private String region;
 
+    @Value("${app.s3.endpoint:}")
+    private String endpoint;
+
     /**
      * Bean principal para S3Client - só é criado quando S3 está habilitado
      */
     @Bean
     @ConditionalOnProperty(name = "spring.cloud.aws.s3.enabled", havingValue = "true")
     public S3Client s3Client() {
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(accessKeyId, secretAccessKey)
+                ));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Bean para gerar URLs pré-assinadas. A assinatura é calculada localmente, sem chamadas ao S3, então o bean
+     * é criado mesmo com o S3 desabilitado. Com {@code app.s3.endpoint} informado (MinIO ou outro serviço
+     * compatível com S3), as URLs usam esse endereço no formato path-style.
+     */
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        S3Presigner.Builder builder = S3Presigner.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(
                         AwsBasicCredentials.create(accessKeyId, secretAccessKey)
-                ))
-                .build();
+                ));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
     }
 
     /**
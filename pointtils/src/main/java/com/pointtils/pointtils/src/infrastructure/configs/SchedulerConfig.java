@@ -1,13 +1,32 @@
 package com.pointtils.pointtils.src.infrastructure.configs;
 
+import com.pointtils.pointtils.src.infrastructure.schedulers.AdvisoryLockLeader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 public class SchedulerConfig {
 
+    static final long SCHEDULER_LEADER_LOCK_KEY = 0x506f696e74696c73L;
+
+    /**
+     * Líder das tarefas agendadas que devem rodar em apenas uma instância. As tarefas compartilham o mesmo lock, e
+     * portanto uma única conexão presa na instância líder; o lock é liberado no encerramento da aplicação.
+     */
+    @Bean(destroyMethod = "release")
+    public AdvisoryLockLeader schedulerLeader(DataSource dataSource,
+                                              @Value("${app.scheduler.leader.recheck-interval:60s}") Duration recheckInterval) {
+        return new AdvisoryLockLeader(dataSource, SCHEDULER_LEADER_LOCK_KEY, recheckInterval);
+    }
+
     @Bean("notificationTaskScheduler")
     public TaskScheduler notificationTaskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
@@ -15,4 +34,34 @@ public class SchedulerConfig {
         scheduler.setThreadNamePrefix("notification-scheduled-task-");
         return scheduler;
     }
+
+    /**
+     * Executor limitado usado para enviar os documentos de uma mesma requisição ao S3 em paralelo. Com a fila
+     * cheia, o upload roda na própria thread da requisição.
+     */
+    @Bean("documentUploadExecutor")
+    public ThreadPoolTaskExecutor documentUploadExecutor(@Value("${app.s3.upload.concurrency:4}") int concurrency,
+                                                         @Value("${app.s3.upload.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("document-upload-");
+        return executor;
+    }
+
+    /**
+     * Executor das atualizações em segundo plano das listas de UFs e municípios. Atualizações recusadas com a
+     * fila cheia são tentadas novamente na próxima consulta.
+     */
+    @Bean("localityRefreshExecutor")
+    public ThreadPoolTaskExecutor localityRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("locality-refresh-");
+        return executor;
+    }
 }
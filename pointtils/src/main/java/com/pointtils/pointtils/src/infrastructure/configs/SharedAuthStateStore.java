@@ -0,0 +1,73 @@
+package com.pointtils.pointtils.src.infrastructure.configs;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Estado de autenticação visto por todas as instâncias da aplicação (tokens revogados, tokens de redefinição de
+ * senha e tentativas de login), organizado por namespace e chave e com expiração por registro. Registros expirados
+ * não são retornados, mesmo antes da varredura que os remove.
+ */
+public interface SharedAuthStateStore {
+
+    /**
+     * Grava ou substitui o registro, zerando o contador, e avisa os ouvintes do namespace
+     */
+    void put(String namespace, String key, String value, Instant expiresAt);
+
+    Optional<Entry> get(String namespace, String key);
+
+    /**
+     * Remove o registro e avisa os ouvintes do namespace
+     *
+     * @return Se o registro existia
+     */
+    boolean remove(String namespace, String key);
+
+    /**
+     * Incrementa o contador do registro de forma atômica, recomeçando em 1 se o registro não existe ou já expirou,
+     * e renova a expiração. Não avisa os ouvintes.
+     *
+     * @return Valor do contador após o incremento
+     */
+    int increment(String namespace, String key, Instant expiresAt);
+
+    /**
+     * Registros válidos do namespace, dos que expiram por último aos que expiram primeiro
+     *
+     * @param limit Quantidade máxima de registros
+     */
+    List<Entry> findAll(String namespace, int limit);
+
+    /**
+     * @return Quantidade de registros expirados removidos
+     */
+    int deleteExpired();
+
+    /**
+     * Registra um ouvinte das alterações feitas no namespace por qualquer instância, inclusive esta. O ouvinte
+     * recebe a chave alterada, ou {@code null} quando avisos podem ter sido perdidos e tudo deve ser recarregado.
+     */
+    void addInvalidationListener(String namespace, Consumer<String> listener);
+
+    /**
+     * Chave para guardar um segredo (token) sem armazená-lo: SHA-256 em Base64
+     */
+    static String hashKey(String secret) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponivel", e);
+        }
+    }
+
+    record Entry(String key, String value, int counter, Instant expiresAt) {
+    }
+}
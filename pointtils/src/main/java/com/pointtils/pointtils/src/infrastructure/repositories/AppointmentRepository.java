@@ -1,12 +1,19 @@
 package com.pointtils.pointtils.src.infrastructure.repositories;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.pointtils.pointtils.src.core.domain.entities.Appointment;
@@ -15,7 +22,15 @@ import com.pointtils.pointtils.src.core.domain.entities.User;
 import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
 
 @Repository
-public interface AppointmentRepository extends JpaRepository<Appointment, UUID> {
+public interface AppointmentRepository extends JpaRepository<Appointment, UUID>, JpaSpecificationExecutor<Appointment> {
+
+    /**
+     * Agendamentos filtrados com intérprete e usuário já carregados. Retorna um {@link Slice}, que busca um registro a
+     * mais para saber se há próxima página em vez de executar a consulta de contagem de um {@code Page}
+     */
+    default Slice<Appointment> findSliceWithParticipants(Specification<Appointment> spec, Pageable pageable) {
+        return findBy(spec, query -> query.project("interpreter", "user").slice(pageable));
+    }
     
     List<Appointment> findByInterpreter(Interpreter interpreter);
     
@@ -27,13 +42,50 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
     
     List<Appointment> findByInterpreterAndStatus(Interpreter interpreter, AppointmentStatus status);
     
-    @Modifying
-    @Query("UPDATE Appointment a SET a.status = 'CANCELED' WHERE a.status = 'PENDING' " +
-           "AND (a.date < CURRENT_DATE OR (a.date = CURRENT_DATE AND a.endTime <= CURRENT_TIME))")
-    int updateExpiredPendingAppointmentsToCanceled();
+    @Query("SELECT a.interpreter.id, a.date, a.startTime, a.endTime FROM Appointment a " +
+           "WHERE a.status IN :statuses AND a.date BETWEEN :dateFrom AND :dateTo")
+    List<Object[]> findIntervalsByStatusInAndDateBetween(@Param("statuses") Collection<AppointmentStatus> statuses,
+                                                         @Param("dateFrom") LocalDate dateFrom,
+                                                         @Param("dateTo") LocalDate dateTo);
+
+    @Query("SELECT a.interpreter.id, a.date, a.startTime, a.endTime FROM Appointment a " +
+           "WHERE a.interpreter.id = :interpreterId AND a.status IN :statuses AND a.date BETWEEN :dateFrom AND :dateTo")
+    List<Object[]> findIntervalsByInterpreterIdAndStatusInAndDateBetween(@Param("interpreterId") UUID interpreterId,
+                                                                         @Param("statuses") Collection<AppointmentStatus> statuses,
+                                                                         @Param("dateFrom") LocalDate dateFrom,
+                                                                         @Param("dateTo") LocalDate dateTo);
+
+    /**
+     * Próximos prazos de término dos agendamentos em aberto, em ordem, pelo índice parcial da migration V32
+     */
+    @Query("SELECT a.id, a.date, a.endTime FROM Appointment a WHERE a.status IN :statuses " +
+           "ORDER BY a.date, a.endTime")
+    List<Object[]> findDeadlinesByStatusIn(@Param("statuses") Collection<AppointmentStatus> statuses,
+                                           Pageable pageable);
+
+    /**
+     * Bloqueia um lote de agendamentos pendentes ou aceitos cujo término já passou. Linhas bloqueadas por outra
+     * transação são puladas.
+     *
+     * @return Id e status de cada agendamento bloqueado
+     */
+    @Query(value = """
+            SELECT CAST(id AS VARCHAR), CAST(status AS VARCHAR)
+            FROM appointment
+            WHERE status IN ('PENDING', 'ACCEPTED')
+              AND (date < :today OR (date = :today AND end_time <= :now))
+            ORDER BY date, end_time
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Object[]> findExpiredOpenForUpdate(@Param("today") LocalDate today,
+                                            @Param("now") LocalTime now,
+                                            @Param("limit") int limit);
 
     @Modifying
-    @Query("UPDATE Appointment a SET a.status = 'COMPLETED' WHERE a.status = 'ACCEPTED' " +
-           "AND (a.date < CURRENT_DATE OR (a.date = CURRENT_DATE AND a.endTime <= CURRENT_TIME))")
-    int updateExpiredAcceptedAppointmentsToCompleted();
-}
\ No newline at end of file
+    @Query("UPDATE Appointment a SET a.status = :newStatus, a.modifiedAt = CURRENT_TIMESTAMP " +
+           "WHERE a.id IN :ids AND a.status = :previousStatus")
+    int updateStatusByIdInAndStatus(@Param("ids") Collection<UUID> ids,
+                                    @Param("previousStatus") AppointmentStatus previousStatus,
+                                    @Param("newStatus") AppointmentStatus newStatus);
+}
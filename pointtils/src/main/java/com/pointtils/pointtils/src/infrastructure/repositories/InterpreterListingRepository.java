@@ -0,0 +1,28 @@
+package com.pointtils.pointtils.src.infrastructure.repositories;
+
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterListCursor;
+import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
+import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterListSort;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterListingRow;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface InterpreterListingRepository {
+
+    /**
+     * Busca apenas as colunas da listagem de intérpretes, sem carregar as entidades.
+     *
+     * @param specification Filtros da listagem
+     * @param sort          Ordenação por chave; quando nula mantém a ordenação definida pelos filtros
+     * @param searchName    Nome buscado, obrigatório na ordenação por relevância
+     * @param after         Cursor do último intérprete da página anterior, ou nulo para a primeira página
+     * @param limit         Quantidade máxima de linhas; zero para não limitar
+     * @return Linhas da listagem na ordem solicitada
+     */
+    List<InterpreterListingRow> findListingRows(Specification<Interpreter> specification,
+                                                InterpreterListSort sort,
+                                                String searchName,
+                                                InterpreterListCursor after,
+                                                int limit);
+}
@@ -0,0 +1,97 @@
+package com.pointtils.pointtils.src.infrastructure.repositories;
+
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterListCursor;
+import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
+import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterListSort;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterListingRow;
+import com.pointtils.pointtils.src.infrastructure.repositories.spec.InterpreterSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Paginação por chave (keyset) da listagem de intérpretes: a próxima página começa depois do par
+ * (valor ordenado, id) do cursor, sem OFFSET. Nome e avaliação são NOT NULL e a ordenação usa as colunas
+ * diretamente, para aproveitar os índices {@code idx_person_name_id} e {@code idx_interpreter_rating_id}.
+ * Na ordenação por relevância o valor ordenado é a similaridade do nome com o termo buscado, calculada na consulta.
+ */
+public class InterpreterListingRepositoryImpl implements InterpreterListingRepository {
+
+    private static final String ID_FIELD = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<InterpreterListingRow> findListingRows(Specification<Interpreter> specification,
+                                                       InterpreterListSort sort,
+                                                       String searchName,
+                                                       InterpreterListCursor after,
+                                                       int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<InterpreterListingRow> query = criteriaBuilder.createQuery(InterpreterListingRow.class);
+        Root<Interpreter> root = query.from(Interpreter.class);
+
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (Objects.isNull(predicate)) {
+            predicate = criteriaBuilder.conjunction();
+        }
+        Expression<Double> relevance = null;
+        if (sort == InterpreterListSort.RATING) {
+            Path<BigDecimal> rating = root.get("rating");
+            if (Objects.nonNull(after)) {
+                predicate = criteriaBuilder.and(predicate, criteriaBuilder.or(
+                        criteriaBuilder.lessThan(rating, after.getRating()),
+                        criteriaBuilder.and(criteriaBuilder.equal(rating, after.getRating()),
+                                criteriaBuilder.greaterThan(root.<UUID>get(ID_FIELD), after.getId()))));
+            }
+            query.orderBy(criteriaBuilder.desc(rating), criteriaBuilder.asc(root.get(ID_FIELD)));
+        } else if (sort == InterpreterListSort.NAME) {
+            Path<String> name = root.get("name");
+            if (Objects.nonNull(after)) {
+                predicate = criteriaBuilder.and(predicate, criteriaBuilder.or(
+                        criteriaBuilder.greaterThan(name, after.getName()),
+                        criteriaBuilder.and(criteriaBuilder.equal(name, after.getName()),
+                                criteriaBuilder.greaterThan(root.<UUID>get(ID_FIELD), after.getId()))));
+            }
+            query.orderBy(criteriaBuilder.asc(name), criteriaBuilder.asc(root.get(ID_FIELD)));
+        } else if (sort == InterpreterListSort.RELEVANCE) {
+            relevance = InterpreterSpecification.relevance(criteriaBuilder, root, searchName);
+            if (Objects.nonNull(after)) {
+                predicate = criteriaBuilder.and(predicate, criteriaBuilder.or(
+                        criteriaBuilder.lessThan(relevance, after.getRelevance()),
+                        criteriaBuilder.and(criteriaBuilder.equal(relevance, after.getRelevance()),
+                                criteriaBuilder.greaterThan(root.<UUID>get(ID_FIELD), after.getId()))));
+            }
+            query.orderBy(criteriaBuilder.desc(relevance), criteriaBuilder.asc(root.get(ID_FIELD)));
+        }
+
+        List<Selection<?>> columns = new ArrayList<>(List.of(root.get(ID_FIELD), root.get("name"),
+                criteriaBuilder.coalesce(root.<String>get("pictureThumbnail"), root.<String>get("picture")),
+                root.get("rating"), root.get("modality")));
+        if (Objects.nonNull(relevance)) {
+            columns.add(relevance);
+        }
+        query.select(criteriaBuilder.construct(InterpreterListingRow.class, columns.toArray(Selection<?>[]::new)))
+                .where(predicate);
+        TypedQuery<InterpreterListingRow> typedQuery = entityManager.createQuery(query);
+        if (limit > 0) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+}
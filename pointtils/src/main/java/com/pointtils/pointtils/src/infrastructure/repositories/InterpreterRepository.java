@@ -2,21 +2,108 @@ package com.pointtils.pointtils.src.infrastructure.repositories;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
 import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterModality;
 
 @Repository
-public interface InterpreterRepository extends JpaRepository<Interpreter, UUID>, JpaSpecificationExecutor<Interpreter> {
+public interface InterpreterRepository extends JpaRepository<Interpreter, UUID>, JpaSpecificationExecutor<Interpreter>,
+        InterpreterListingRepository {
+
+    @EntityGraph(Interpreter.WITH_PROFILE)
+    Optional<Interpreter> findProfileById(UUID id);
 
     Interpreter findByCpf(String cpf);
 
     List<Interpreter> findByModality(InterpreterModality modality);
 
     List<Interpreter> findByRatingGreaterThanEqual(BigDecimal rating);
-}
\ No newline at end of file
+
+    /**
+     * Aplica uma avaliação criada, alterada ou removida aos agregados do intérprete em um único UPDATE, sem ler
+     * as demais avaliações. Os valores são somados no banco, então avaliações simultâneas não se sobrescrevem.
+     *
+     * @param countDelta   Variação na quantidade de avaliações (1, 0 ou -1)
+     * @param sumDelta     Variação na soma das notas
+     * @param addedStars   Faixa do histograma (1 a 5) que ganha uma avaliação, ou 0
+     * @param removedStars Faixa do histograma (1 a 5) que perde uma avaliação, ou 0
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE interpreter
+            SET rating_count = rating_count + :countDelta,
+                rating_sum = rating_sum + :sumDelta,
+                rating_stars_1 = rating_stars_1 + (CASE WHEN :addedStars = 1 THEN 1 ELSE 0 END)
+                                                - (CASE WHEN :removedStars = 1 THEN 1 ELSE 0 END),
+                rating_stars_2 = rating_stars_2 + (CASE WHEN :addedStars = 2 THEN 1 ELSE 0 END)
+                                                - (CASE WHEN :removedStars = 2 THEN 1 ELSE 0 END),
+                rating_stars_3 = rating_stars_3 + (CASE WHEN :addedStars = 3 THEN 1 ELSE 0 END)
+                                                - (CASE WHEN :removedStars = 3 THEN 1 ELSE 0 END),
+                rating_stars_4 = rating_stars_4 + (CASE WHEN :addedStars = 4 THEN 1 ELSE 0 END)
+                                                - (CASE WHEN :removedStars = 4 THEN 1 ELSE 0 END),
+                rating_stars_5 = rating_stars_5 + (CASE WHEN :addedStars = 5 THEN 1 ELSE 0 END)
+                                                - (CASE WHEN :removedStars = 5 THEN 1 ELSE 0 END),
+                rating = CASE WHEN rating_count + :countDelta > 0
+                              THEN ROUND((rating_sum + :sumDelta) / (rating_count + :countDelta), 2)
+                              ELSE 0 END
+            WHERE id = :interpreterId
+            """, nativeQuery = true)
+    int applyRatingChange(@Param("interpreterId") UUID interpreterId,
+                          @Param("countDelta") int countDelta,
+                          @Param("sumDelta") BigDecimal sumDelta,
+                          @Param("addedStars") int addedStars,
+                          @Param("removedStars") int removedStars);
+
+    /**
+     * Recalcula os agregados de avaliação de todos os intérpretes a partir da tabela {@code rating}
+     *
+     * @return Quantidade de intérpretes cujos agregados estavam divergentes
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE interpreter i
+            SET rating_count = a.total_count,
+                rating_sum = a.total_stars,
+                rating_stars_1 = a.stars_1,
+                rating_stars_2 = a.stars_2,
+                rating_stars_3 = a.stars_3,
+                rating_stars_4 = a.stars_4,
+                rating_stars_5 = a.stars_5,
+                rating = CASE WHEN a.total_count > 0 THEN ROUND(a.total_stars / a.total_count, 2) ELSE 0 END
+            FROM (
+                SELECT it.id AS interpreter_id,
+                       COUNT(r.id) AS total_count,
+                       COALESCE(SUM(r.stars), 0) AS total_stars,
+                       COUNT(r.id) FILTER (WHERE LEAST(GREATEST(ROUND(r.stars), 1), 5) = 1) AS stars_1,
+                       COUNT(r.id) FILTER (WHERE LEAST(GREATEST(ROUND(r.stars), 1), 5) = 2) AS stars_2,
+                       COUNT(r.id) FILTER (WHERE LEAST(GREATEST(ROUND(r.stars), 1), 5) = 3) AS stars_3,
+                       COUNT(r.id) FILTER (WHERE LEAST(GREATEST(ROUND(r.stars), 1), 5) = 4) AS stars_4,
+                       COUNT(r.id) FILTER (WHERE LEAST(GREATEST(ROUND(r.stars), 1), 5) = 5) AS stars_5
+                FROM interpreter it
+                LEFT JOIN appointment ap ON ap.interpreter_id = it.id
+                LEFT JOIN rating r ON r.appointment_id = ap.id
+                GROUP BY it.id
+            ) a
+            WHERE i.id = a.interpreter_id
+              AND (i.rating_count <> a.total_count
+                OR i.rating_sum <> a.total_stars
+                OR i.rating_stars_1 <> a.stars_1
+                OR i.rating_stars_2 <> a.stars_2
+                OR i.rating_stars_3 <> a.stars_3
+                OR i.rating_stars_4 <> a.stars_4
+                OR i.rating_stars_5 <> a.stars_5
+                OR i.rating IS DISTINCT FROM
+                   (CASE WHEN a.total_count > 0 THEN ROUND(a.total_stars / a.total_count, 2) ELSE 0 END))
+            """, nativeQuery = true)
+    int rebuildRatingAggregates();
+}
@@ -0,0 +1,91 @@
+package com.pointtils.pointtils.src.infrastructure.repositories;
+
+import com.pointtils.pointtils.src.core.domain.entities.InterpreterSlot;
+import com.pointtils.pointtils.src.core.domain.entities.InterpreterSlotId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface InterpreterSlotRepository extends JpaRepository<InterpreterSlot, InterpreterSlotId> {
+
+    List<InterpreterSlot> findByInterpreterIdAndSlotDateBetweenOrderBySlotDateAscStartTimeAsc(UUID interpreterId,
+                                                                                            LocalDate dateFrom,
+                                                                                            LocalDate dateTo);
+
+    /**
+     * Última data com horários materializados, lida do índice por data; nula com a tabela vazia
+     */
+    @Query("SELECT MAX(s.slotDate) FROM InterpreterSlot s")
+    LocalDate findMaxSlotDate();
+
+    @Modifying
+    @Query("DELETE FROM InterpreterSlot s WHERE s.slotDate < :date")
+    int deleteBySlotDateBefore(@Param("date") LocalDate date);
+
+    @Modifying
+    @Query("DELETE FROM InterpreterSlot s WHERE s.interpreter.id = :interpreterId " +
+           "AND s.slotDate BETWEEN :dateFrom AND :dateTo")
+    int deleteByInterpreterIdAndSlotDateBetween(@Param("interpreterId") UUID interpreterId,
+                                                @Param("dateFrom") LocalDate dateFrom,
+                                                @Param("dateTo") LocalDate dateTo);
+
+    @Modifying
+    @Query("DELETE FROM InterpreterSlot s WHERE s.slotDate BETWEEN :dateFrom AND :dateTo")
+    int deleteBySlotDateBetween(@Param("dateFrom") LocalDate dateFrom, @Param("dateTo") LocalDate dateTo);
+
+    /**
+     * Gera os horários livres de 30 minutos a partir dos horários de atendimento, descontando os agendamentos
+     * aceitos ou concluídos. Sem intérprete informado, gera os horários de todos os intérpretes.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO interpreter_slot (interpreter_id, slot_date, start_time, end_time)
+            SELECT
+                s.interpreter_id,
+                d.selected_date,
+                gs.slot_start::time,
+                (gs.slot_start + interval '30 minutes')::time
+            FROM (
+                SELECT CAST(g AS DATE) AS selected_date
+                FROM generate_series(CAST(:dateFrom AS DATE), CAST(:dateTo AS DATE), '1 day'::interval) AS g
+            ) d
+            JOIN schedule s ON
+                (
+                    CASE s.day
+                      WHEN 'SUN' THEN 0
+                      WHEN 'MON' THEN 1
+                      WHEN 'TUE' THEN 2
+                      WHEN 'WED' THEN 3
+                      WHEN 'THU' THEN 4
+                      WHEN 'FRI' THEN 5
+                      WHEN 'SAT' THEN 6
+                    END
+                ) = EXTRACT(DOW FROM d.selected_date)::int
+            CROSS JOIN LATERAL generate_series(
+                '2000-01-01'::timestamp + s.start_time,
+                '2000-01-01'::timestamp + s.end_time - interval '30 minutes',
+                interval '30 minutes'
+            ) AS gs(slot_start)
+            WHERE (CAST(:interpreterId AS uuid) IS NULL OR s.interpreter_id = CAST(:interpreterId AS uuid))
+              AND NOT EXISTS (
+                SELECT 1
+                FROM appointment a
+                WHERE a.interpreter_id = s.interpreter_id
+                  AND a.date = d.selected_date
+                  AND a.status IN ('ACCEPTED', 'COMPLETED')
+                  AND ('2000-01-01'::timestamp + a.start_time) < gs.slot_start + interval '30 minutes'
+                  AND ('2000-01-01'::timestamp + a.end_time) > gs.slot_start
+              )
+            ON CONFLICT (interpreter_id, slot_date, start_time) DO NOTHING
+            """, nativeQuery = true)
+    int insertAvailableSlots(@Param("interpreterId") UUID interpreterId,
+                             @Param("dateFrom") LocalDate dateFrom,
+                             @Param("dateTo") LocalDate dateTo);
+}
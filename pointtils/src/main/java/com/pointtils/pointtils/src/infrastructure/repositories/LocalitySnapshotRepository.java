@@ -0,0 +1,9 @@
+package com.pointtils.pointtils.src.infrastructure.repositories;
+
+import com.pointtils.pointtils.src.core.domain.entities.LocalitySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LocalitySnapshotRepository extends JpaRepository<LocalitySnapshot, String> {
+}
@@ -1,12 +1,17 @@
 package com.pointtils.pointtils.src.infrastructure.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
 import com.pointtils.pointtils.src.core.domain.entities.Location;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterLocationRow;
 
 @Repository
 public interface LocationRepository extends JpaRepository<Location, UUID> {
@@ -16,4 +21,9 @@ public interface LocationRepository extends JpaRepository<Location, UUID> {
     Location findByUf(String uf);
     
     Location findByUfAndCity(String uf, String city);
+
+    @Query("SELECT new com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterLocationRow(" +
+           "l.interpreter.id, l.id, l.uf, l.city, l.neighborhood) FROM Location l " +
+           "WHERE l.interpreter.id IN :interpreterIds")
+    List<InterpreterLocationRow> findListingRowsByInterpreterIds(@Param("interpreterIds") Collection<UUID> interpreterIds);
 }
@@ -1,5 +1,7 @@
 package com.pointtils.pointtils.src.infrastructure.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,6 +14,8 @@ import com.pointtils.pointtils.src.core.domain.entities.Parameters;
 public interface ParametersRepository extends JpaRepository<Parameters, UUID> {
     
     Optional<Parameters> findByKey(String key);
+
+    List<Parameters> findAllByKeyIn(Collection<String> keys);
     
     boolean existsByKey(String key);
 }
@@ -1,8 +1,13 @@
 package com.pointtils.pointtils.src.infrastructure.repositories;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,12 +18,61 @@ import com.pointtils.pointtils.src.core.domain.entities.Rating;
 @Repository
 public interface RatingRepository extends JpaRepository<Rating, UUID> {
 
-    @Query("SELECT r FROM Rating r WHERE r.appointment.interpreter.id = :interpreterId")
+    /**
+     * Carrega a avaliação com lock de escrita na linha, para que alterações concorrentes da mesma avaliação
+     * calculem a diferença nos agregados do intérprete a partir do valor já atualizado
+     */
+    @Query(value = "SELECT * FROM rating WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Rating> findByIdForUpdate(UUID id);
+
+    /**
+     * Carrega as avaliações do agendamento com lock de escrita nas linhas
+     */
+    @Query(value = "SELECT * FROM rating WHERE appointment_id = :appointmentId FOR UPDATE", nativeQuery = true)
+    List<Rating> findByAppointmentIdForUpdate(UUID appointmentId);
+
+    @Query("SELECT r FROM Rating r JOIN FETCH r.appointment a JOIN FETCH a.user WHERE r.interpreterId = :interpreterId")
     List<Rating> findByInterpreterId(UUID interpreterId);
     
     List<Rating> findByAppointment(Appointment appointment);
-    
-    List<Rating> findByAppointmentInterpreterIdOrderByStarsDesc(UUID interpreterId);
+
+    /**
+     * Primeira página do feed de avaliações do intérprete, das mais recentes para as mais antigas
+     */
+    @Query("SELECT r FROM Rating r JOIN FETCH r.appointment a JOIN FETCH a.user "
+            + "WHERE r.interpreterId = :interpreterId "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Rating> findFeedByCreatedAt(UUID interpreterId, Pageable pageable);
+
+    /**
+     * Próxima página do feed por data, a partir da última avaliação retornada
+     */
+    @Query("SELECT r FROM Rating r JOIN FETCH r.appointment a JOIN FETCH a.user "
+            + "WHERE r.interpreterId = :interpreterId "
+            + "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Rating> findFeedByCreatedAtAfter(UUID interpreterId, LocalDateTime createdAt, UUID id, Pageable pageable);
+
+    /**
+     * Primeira página do feed de avaliações do intérprete, das maiores notas para as menores
+     */
+    @Query("SELECT r FROM Rating r JOIN FETCH r.appointment a JOIN FETCH a.user "
+            + "WHERE r.interpreterId = :interpreterId "
+            + "ORDER BY r.stars DESC, r.createdAt DESC, r.id DESC")
+    List<Rating> findFeedByStars(UUID interpreterId, Pageable pageable);
+
+    /**
+     * Próxima página do feed por nota, a partir da última avaliação retornada
+     */
+    @Query("SELECT r FROM Rating r JOIN FETCH r.appointment a JOIN FETCH a.user "
+            + "WHERE r.interpreterId = :interpreterId "
+            + "AND (r.stars < :stars OR (r.stars = :stars AND (r.createdAt < :createdAt "
+            + "OR (r.createdAt = :createdAt AND r.id < :id)))) "
+            + "ORDER BY r.stars DESC, r.createdAt DESC, r.id DESC")
+    List<Rating> findFeedByStarsAfter(UUID interpreterId, BigDecimal stars, LocalDateTime createdAt, UUID id,
+                                      Pageable pageable);
 
     boolean existsByAppointment(Appointment appointment);
+
+    List<Rating> findByAppointmentIdIn(Collection<UUID> appointmentIds);
 }
@@ -24,6 +24,12 @@ public interface ScheduleRepository extends JpaRepository<Schedule, UUID>, JpaSp
     @Query("SELECT COUNT(s) > 0 FROM Schedule s WHERE s.interpreter.id = :interpreterId AND s.day = :day AND s.id <> :id AND s.startTime < :endTime AND s.endTime > :startTime")
     boolean existsConflictForUpdate(@Param("id") UUID id, @Param("interpreterId") UUID interpreterId, @Param("day") DayOfWeek day, @Param("startTime") LocalTime startTime, @Param("endTime") LocalTime endTime);
 
+    @Query("SELECT s.interpreter.id, s.day, s.startTime, s.endTime FROM Schedule s")
+    List<Object[]> findAllScheduleWindows();
+
+    @Query("SELECT s.interpreter.id, s.day, s.startTime, s.endTime FROM Schedule s WHERE s.interpreter.id = :interpreterId")
+    List<Object[]> findScheduleWindowsByInterpreterId(@Param("interpreterId") UUID interpreterId);
+
     default Page<Schedule> findAllWithFilters(Pageable pageable, UUID interpreterId, DayOfWeek day, LocalTime dateFrom, LocalTime dateTo) {
         Specification<Schedule> spec = ScheduleSpecifications.withFilters(interpreterId, day, dateFrom, dateTo);
         return findAll(spec, pageable);
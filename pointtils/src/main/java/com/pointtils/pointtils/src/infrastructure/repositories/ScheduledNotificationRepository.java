@@ -0,0 +1,47 @@
+package com.pointtils.pointtils.src.infrastructure.repositories;
+
+import com.pointtils.pointtils.src.core.domain.entities.ScheduledNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ScheduledNotificationRepository extends JpaRepository<ScheduledNotification, UUID> {
+
+    /**
+     * Agenda a notificação, ignorando a chamada quando o mesmo usuário já tem a notificação agendada para o
+     * mesmo horário
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO scheduled_notification (id, user_id, type, due_at, attempts, created_at)
+            VALUES (CAST(:id AS uuid), CAST(:userId AS uuid), :type, :dueAt, 0, CURRENT_TIMESTAMP)
+            ON CONFLICT (user_id, type, due_at) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("userId") UUID userId,
+                       @Param("type") String type,
+                       @Param("dueAt") LocalDateTime dueAt);
+
+    /**
+     * Bloqueia as notificações vencidas mais antigas que não estão reservadas ou cuja reserva já expirou. Linhas
+     * já bloqueadas por outra instância são puladas, de forma que instâncias concorrentes reservam lotes
+     * distintos sem esperar umas pelas outras.
+     */
+    @Query(value = """
+            SELECT *
+            FROM scheduled_notification
+            WHERE due_at <= :now
+              AND (claimed_until IS NULL OR claimed_until <= :now)
+            ORDER BY due_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ScheduledNotification> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -2,10 +2,12 @@ package com.pointtils.pointtils.src.infrastructure.repositories;
 
 import com.pointtils.pointtils.src.core.domain.entities.UserApp;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,4 +19,8 @@ public interface UserAppRepository extends JpaRepository<UserApp, UUID> {
     @Query("SELECT a FROM UserApp a WHERE (:userId IS NULL OR a.user.id = :userId) AND (:deviceId IS NULL OR a.deviceId = :deviceId)")
     List<UserApp> findAllByFilters(@Param("userId") UUID userId, @Param("deviceId") String deviceId);
 
+    @Modifying
+    @Query("DELETE FROM UserApp a WHERE a.token IN :tokens")
+    int deleteAllByTokenIn(@Param("tokens") Collection<String> tokens);
+
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.pointtils.pointtils.src.infrastructure.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Repository;
 
 import com.pointtils.pointtils.src.core.domain.entities.User;
 import com.pointtils.pointtils.src.core.domain.entities.UserSpecialty;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterSpecialtyRow;
 
 @Repository
 public interface UserSpecialtyRepository extends JpaRepository<UserSpecialty, UUID> {
@@ -40,6 +42,10 @@ public interface UserSpecialtyRepository extends JpaRepository<UserSpecialty, UU
     @Query("DELETE FROM UserSpecialty us WHERE us.user.id = :userId AND us.specialty.id IN :specialtyIds")
     void deleteByUserIdAndSpecialtyIds(@Param("userId") UUID userId, @Param("specialtyIds") List<UUID> specialtyIds);
 
+    @Query("SELECT new com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterSpecialtyRow(" +
+           "us.user.id, us.specialty.id, us.specialty.name) FROM UserSpecialty us WHERE us.user.id IN :userIds")
+    List<InterpreterSpecialtyRow> findListingRowsByUserIds(@Param("userIds") Collection<UUID> userIds);
+
     @Modifying
     @Query("DELETE FROM UserSpecialty us WHERE us.user.id = :userId")
     void deleteAllByUserId(@Param("userId") UUID userId);
@@ -0,0 +1,19 @@
+package com.pointtils.pointtils.src.infrastructure.repositories.projections;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterModality;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Colunas da listagem de intérpretes. {@code picture} traz a miniatura da foto quando ela existe e
+ * {@code relevance} a similaridade entre o nome e o termo buscado, preenchida apenas na ordenação por relevância
+ */
+public record InterpreterListingRow(UUID id, String name, String picture, BigDecimal rating,
+                                    InterpreterModality modality, Double relevance) {
+
+    public InterpreterListingRow(UUID id, String name, String picture, BigDecimal rating,
+                                 InterpreterModality modality) {
+        this(id, name, picture, rating, modality, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.pointtils.pointtils.src.infrastructure.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * Localização de um intérprete carregada em lote para a listagem
+ */
+public record InterpreterLocationRow(UUID interpreterId, UUID id, String uf, String city, String neighborhood) {
+}
@@ -0,0 +1,9 @@
+package com.pointtils.pointtils.src.infrastructure.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * Especialidade de um usuário carregada em lote para a listagem
+ */
+public record InterpreterSpecialtyRow(UUID userId, UUID specialtyId, String name) {
+}
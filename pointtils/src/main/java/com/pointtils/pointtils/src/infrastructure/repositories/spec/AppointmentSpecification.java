@@ -0,0 +1,90 @@
+package com.pointtils.pointtils.src.infrastructure.repositories.spec;
+
+import com.pointtils.pointtils.src.application.dto.requests.AppointmentSpecificationFilterDTO;
+import com.pointtils.pointtils.src.core.domain.entities.Appointment;
+import com.pointtils.pointtils.src.core.domain.entities.Rating;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@UtilityClass
+public class AppointmentSpecification {
+
+    private static final String DATE_FIELD = "date";
+    private static final String START_TIME_FIELD = "startTime";
+    private static final String END_TIME_FIELD = "endTime";
+    private static final String ID_FIELD = "id";
+
+    /**
+     * Ordenação padrão da busca: agendamentos mais recentes (data e horário de término) primeiro, desempatando
+     * pelo id para que a paginação não repita nem pule agendamentos com a mesma data e horário
+     */
+    public static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, DATE_FIELD, END_TIME_FIELD, ID_FIELD);
+
+    public static Specification<Appointment> filter(AppointmentSpecificationFilterDTO dto) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (dto.getInterpreterId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("interpreter").get("id"), dto.getInterpreterId()));
+            }
+            if (dto.getUserId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("user").get("id"), dto.getUserId()));
+            }
+            if (dto.getStatus() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), dto.getStatus()));
+            }
+            if (dto.getModality() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("modality"), dto.getModality()));
+            }
+            if (dto.getFromDateTime() != null) {
+                predicates.add(isAfter(criteriaBuilder, root, START_TIME_FIELD, dto.getFromDateTime()));
+            }
+            if (dto.getHasRating() != null) {
+                predicates.add(hasRating(query, criteriaBuilder, root, dto.getHasRating()));
+            }
+            if (Objects.nonNull(dto.getDayLimit()) && dto.getDayLimit() != -1) {
+                // data + horário de término + dayLimit dias deve ser posterior ao momento atual
+                LocalDateTime limitDateTime = LocalDateTime.now().minusDays(dto.getDayLimit());
+                predicates.add(isAfter(criteriaBuilder, root, END_TIME_FIELD, limitDateTime));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static Predicate hasRating(CriteriaQuery<?> query,
+                                       CriteriaBuilder criteriaBuilder,
+                                       Root<Appointment> root,
+                                       boolean hasRating) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        var subRoot = subquery.from(Rating.class);
+        subquery.select(criteriaBuilder.literal(1))
+                .where(criteriaBuilder.equal(subRoot.get("appointment"), root));
+        Predicate ratingExists = criteriaBuilder.exists(subquery);
+        return hasRating ? ratingExists : criteriaBuilder.not(ratingExists);
+    }
+
+    private static Predicate isAfter(CriteriaBuilder criteriaBuilder,
+                                     Root<Appointment> root,
+                                     String timeField,
+                                     LocalDateTime dateTime) {
+        return criteriaBuilder.or(
+                criteriaBuilder.greaterThan(root.get(DATE_FIELD), dateTime.toLocalDate()),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get(DATE_FIELD), dateTime.toLocalDate()),
+                        criteriaBuilder.greaterThan(root.get(timeField), dateTime.toLocalTime())
+                )
+        );
+    }
+}
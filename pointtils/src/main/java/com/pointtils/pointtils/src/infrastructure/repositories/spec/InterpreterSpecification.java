@@ -3,6 +3,7 @@ package com.pointtils.pointtils.src.infrastructure.repositories.spec;
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterSpecificationFilterDTO;
 import com.pointtils.pointtils.src.core.domain.entities.Appointment;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
+import com.pointtils.pointtils.src.core.domain.entities.InterpreterSlot;
 import com.pointtils.pointtils.src.core.domain.entities.Location;
 import com.pointtils.pointtils.src.core.domain.entities.Schedule;
 import com.pointtils.pointtils.src.core.domain.entities.UserSpecialty;
@@ -12,18 +13,19 @@ import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterModalit
 import io.jsonwebtoken.lang.Collections;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import lombok.experimental.UtilityClass;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.text.Normalizer;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -33,24 +35,45 @@ public class InterpreterSpecification {
     private static final String START_TIME_FIELD = "startTime";
     private static final String END_TIME_FIELD = "endTime";
 
+    /**
+     * Duração de cada horário da tabela interpreter_slot
+     */
+    private static final int SLOT_MINUTES = 30;
+
+    /**
+     * Último início cuja hora solicitada termina no mesmo dia
+     */
+    private static final LocalTime LAST_SLOT_START = LocalTime.of(23, 0);
+
+    /**
+     * Função criada na migration V27 que remove acentos e converte para minúsculas, indexada por trigramas
+     */
+    private static final String SEARCH_NORMALIZE_FUNCTION = "search_normalize";
+
     @SuppressWarnings("null")
     public static Specification<Interpreter> filter(
             InterpreterSpecificationFilterDTO dto
     ) {
         return (root, query, cb) -> {
-            query.distinct(true);
             Predicate predicate = cb.conjunction();
 
             if (dto.getName() != null) {
-                predicate = cb.and(predicate, cb.like(cb.lower(root.get("name")), "%" + dto.getName().toLowerCase() + "%"));
+                String name = normalizeSearchTerm(dto.getName());
+                Expression<String> normalizedName = normalize(cb, root.get("name"));
+                predicate = cb.and(predicate, cb.like(normalizedName, "%" + name + "%"));
+                orderByRelevance(query, cb, normalizedName, name);
             }
             if (dto.getGender() != null) {
                 predicate = cb.and(predicate, cb.equal(root.get("gender"), dto.getGender()));
             }
             predicate = checkIfInterpreterHasModality(predicate, cb, root, dto.getModality());
-            predicate = checkIfInterpreterHasLocation(predicate, cb, root, dto.getUf(), dto.getCity(), dto.getNeighborhood());
+            predicate = checkIfInterpreterHasLocation(predicate, query, cb, root, dto.getUf(), dto.getCity(), dto.getNeighborhood());
             predicate = checkIfInterpreterHasSpecialties(predicate, query, cb, root, dto.getSpecialties());
-            predicate = checkIfInterpreterIsAvailableOnRequestedDate(predicate, query, cb, root, dto.getAvailableDate());
+            if (dto.isMaterializedAvailability() && fitsMaterializedSlots(dto.getAvailableDate())) {
+                predicate = checkIfInterpreterHasFreeSlotsOnRequestedDate(predicate, query, cb, root, dto.getAvailableDate());
+            } else {
+                predicate = checkIfInterpreterIsAvailableOnRequestedDate(predicate, query, cb, root, dto.getAvailableDate());
+            }
             return predicate;
         };
     }
@@ -69,25 +92,32 @@ public class InterpreterSpecification {
     }
 
     private static Predicate checkIfInterpreterHasLocation(Predicate predicate,
+                                                           CriteriaQuery<?> query,
                                                            CriteriaBuilder criteriaBuilder,
                                                            Root<Interpreter> root,
                                                            String uf,
                                                            String city,
                                                            String neighborhood) {
+        if (Objects.isNull(uf) && Objects.isNull(city) && Objects.isNull(neighborhood)) {
+            return predicate;
+        }
 
-        Join<Interpreter, Location> location = root.join("locations", JoinType.LEFT);
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<Location> location = subquery.from(Location.class);
+        Predicate locationPredicate = criteriaBuilder.equal(location.get("interpreter"), root);
         if (Objects.nonNull(uf)) {
-            predicate = criteriaBuilder.and(predicate, criteriaBuilder.equal(location.get("uf"), uf));
+            locationPredicate = criteriaBuilder.and(locationPredicate, criteriaBuilder.equal(location.get("uf"), uf));
         }
         if (Objects.nonNull(city)) {
-            predicate = criteriaBuilder.and(predicate, criteriaBuilder
-                    .like(criteriaBuilder.lower(location.get("city")), "%" + city.toLowerCase() + "%"));
+            locationPredicate = criteriaBuilder.and(locationPredicate, criteriaBuilder
+                    .like(normalize(criteriaBuilder, location.get("city")), "%" + normalizeSearchTerm(city) + "%"));
         }
         if (Objects.nonNull(neighborhood)) {
-            predicate = criteriaBuilder.and(predicate, criteriaBuilder
-                    .like(criteriaBuilder.lower(location.get("neighborhood")), "%" + neighborhood.toLowerCase() + "%"));
+            locationPredicate = criteriaBuilder.and(locationPredicate, criteriaBuilder
+                    .like(normalize(criteriaBuilder, location.get("neighborhood")), "%" + normalizeSearchTerm(neighborhood) + "%"));
         }
-        return predicate;
+        subquery.select(criteriaBuilder.literal(1)).where(locationPredicate);
+        return criteriaBuilder.and(predicate, criteriaBuilder.exists(subquery));
     }
 
     private static Predicate checkIfInterpreterHasSpecialties(Predicate predicate,
@@ -107,6 +137,48 @@ public class InterpreterSpecification {
         return criteriaBuilder.and(predicate, root.get("id").in(subquery));
     }
 
+    /**
+     * Indica se a hora solicitada é formada por dois horários inteiros da tabela interpreter_slot: início em
+     * minuto múltiplo de 30, sem segundos, e término no mesmo dia. Os demais horários são verificados pelas
+     * janelas de atendimento e agendamentos.
+     */
+    static boolean fitsMaterializedSlots(LocalDateTime availableDate) {
+        if (Objects.isNull(availableDate)) {
+            return false;
+        }
+        LocalTime requestedStart = availableDate.toLocalTime();
+        return requestedStart.getMinute() % SLOT_MINUTES == 0
+                && requestedStart.getSecond() == 0
+                && requestedStart.getNano() == 0
+                && !requestedStart.isAfter(LAST_SLOT_START);
+    }
+
+    /**
+     * Verifica na tabela interpreter_slot se os dois horários livres de 30 minutos que formam a hora solicitada
+     * estão disponíveis. Usado quando a data está dentro do horizonte materializado e a hora se alinha aos horários
+     * da tabela ({@link #fitsMaterializedSlots}).
+     */
+    private static Predicate checkIfInterpreterHasFreeSlotsOnRequestedDate(Predicate predicate,
+                                                                           CriteriaQuery<?> query,
+                                                                           CriteriaBuilder criteriaBuilder,
+                                                                           Root<Interpreter> root,
+                                                                           LocalDateTime availableDate) {
+        if (Objects.isNull(availableDate)) {
+            return predicate;
+        }
+
+        LocalTime requestedStart = availableDate.toLocalTime();
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<InterpreterSlot> slot = subquery.from(InterpreterSlot.class);
+        subquery.select(criteriaBuilder.count(slot))
+                .where(criteriaBuilder.and(
+                        criteriaBuilder.equal(slot.get("interpreter"), root),
+                        criteriaBuilder.equal(slot.get("slotDate"), availableDate.toLocalDate()),
+                        slot.get(START_TIME_FIELD).in(requestedStart, requestedStart.plusMinutes(SLOT_MINUTES))
+                ));
+        return criteriaBuilder.and(predicate, criteriaBuilder.equal(subquery, 2L));
+    }
+
     private static Predicate checkIfInterpreterIsAvailableOnRequestedDate(Predicate predicate,
                                                                           CriteriaQuery<?> query,
                                                                           CriteriaBuilder criteriaBuilder,
@@ -121,22 +193,27 @@ public class InterpreterSpecification {
         LocalTime requestedStart = availableDate.toLocalTime();
         LocalTime requestedEnd = requestedStart.plusHours(1);
 
-        predicate = checkIfInterpreterHasScheduleOnRequestedDate(predicate, criteriaBuilder, root, dayOfWeek, requestedStart, requestedEnd);
+        predicate = checkIfInterpreterHasScheduleOnRequestedDate(predicate, query, criteriaBuilder, root, dayOfWeek, requestedStart, requestedEnd);
         return checkIfInterpreterHasNoAppointmentOnRequestDate(predicate, query, criteriaBuilder, root, requestedDate, requestedStart, requestedEnd);
     }
 
     private static Predicate checkIfInterpreterHasScheduleOnRequestedDate(Predicate predicate,
+                                                                          CriteriaQuery<?> query,
                                                                           CriteriaBuilder criteriaBuilder,
                                                                           Root<Interpreter> root,
                                                                           DayOfWeek dayOfWeek,
                                                                           LocalTime requestedStart,
                                                                           LocalTime requestedEnd) {
-        Join<Interpreter, Schedule> schedule = root.join("schedules", JoinType.LEFT);
-        predicate = criteriaBuilder.and(predicate, criteriaBuilder.equal(schedule.get("day"), dayOfWeek));
-        predicate = criteriaBuilder.and(predicate, criteriaBuilder
-                .lessThanOrEqualTo(schedule.get(START_TIME_FIELD), requestedStart));
-        return criteriaBuilder.and(predicate, criteriaBuilder
-                .greaterThanOrEqualTo(schedule.get(END_TIME_FIELD), requestedEnd));
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<Schedule> schedule = subquery.from(Schedule.class);
+        subquery.select(criteriaBuilder.literal(1))
+                .where(criteriaBuilder.and(
+                        criteriaBuilder.equal(schedule.get("interpreter"), root),
+                        criteriaBuilder.equal(schedule.get("day"), dayOfWeek),
+                        criteriaBuilder.lessThanOrEqualTo(schedule.get(START_TIME_FIELD), requestedStart),
+                        criteriaBuilder.greaterThanOrEqualTo(schedule.get(END_TIME_FIELD), requestedEnd)
+                ));
+        return criteriaBuilder.and(predicate, criteriaBuilder.exists(subquery));
     }
 
     private static Predicate checkIfInterpreterHasNoAppointmentOnRequestDate(Predicate predicate,
@@ -169,4 +246,45 @@ public class InterpreterSpecification {
                 ));
         return criteriaBuilder.and(predicate, criteriaBuilder.not(root.get("id").in(subquery)));
     }
-}
\ No newline at end of file
+
+    /**
+     * Ordena os intérpretes pela similaridade (pg_trgm) entre o nome e o termo buscado.
+     * A ordenação não é aplicada na consulta de contagem usada pela paginação, e a listagem paginada a substitui
+     * pela ordenação por chave, que usa {@link #relevance} com desempate pelo id.
+     */
+    private static void orderByRelevance(CriteriaQuery<?> query,
+                                         CriteriaBuilder criteriaBuilder,
+                                         Expression<String> normalizedName,
+                                         String name) {
+        if (Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType())) {
+            return;
+        }
+        query.orderBy(criteriaBuilder.desc(similarity(criteriaBuilder, normalizedName, name)));
+    }
+
+    /**
+     * Similaridade (pg_trgm) entre o nome do intérprete e o termo buscado, usada na ordenação por relevância
+     *
+     * @param name Termo buscado, como informado pelo cliente
+     */
+    public static Expression<Double> relevance(CriteriaBuilder criteriaBuilder, Root<Interpreter> root, String name) {
+        return similarity(criteriaBuilder, normalize(criteriaBuilder, root.get("name")), normalizeSearchTerm(name));
+    }
+
+    private static Expression<Double> similarity(CriteriaBuilder criteriaBuilder,
+                                                 Expression<String> normalizedName,
+                                                 String normalizedTerm) {
+        return criteriaBuilder.function("similarity", Double.class, normalizedName, criteriaBuilder.literal(normalizedTerm));
+    }
+
+    private static Expression<String> normalize(CriteriaBuilder criteriaBuilder, Expression<String> expression) {
+        return criteriaBuilder.function(SEARCH_NORMALIZE_FUNCTION, String.class, expression);
+    }
+
+    static String normalizeSearchTerm(String term) {
+        return Normalizer.normalize(term, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .trim();
+    }
+}
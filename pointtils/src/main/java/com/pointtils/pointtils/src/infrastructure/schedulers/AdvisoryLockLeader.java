@@ -0,0 +1,108 @@
+package com.pointtils.pointtils.src.infrastructure.schedulers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Eleição de líder entre as instâncias da aplicação por um advisory lock de sessão do PostgreSQL. A instância que
+ * obtém o lock mantém a conexão aberta enquanto for líder; se a conexão cair, o banco libera o lock e outra
+ * instância assume na próxima tentativa.
+ * <p>
+ * A conexão só é verificada, e o lock só é disputado, a cada {@code recheckInterval}.
+ */
+@Slf4j
+public class AdvisoryLockLeader {
+
+    private final DataSource dataSource;
+    private final long lockKey;
+    private final long recheckNanos;
+    private Connection connection;
+    private long nextCheckNanos = System.nanoTime();
+
+    public AdvisoryLockLeader(DataSource dataSource, long lockKey, Duration recheckInterval) {
+        this.dataSource = dataSource;
+        this.lockKey = lockKey;
+        this.recheckNanos = recheckInterval.toNanos();
+    }
+
+    public synchronized boolean isLeader() {
+        long now = System.nanoTime();
+        if (now - nextCheckNanos < 0) {
+            return connection != null;
+        }
+        nextCheckNanos = now + recheckNanos;
+        if (connection != null) {
+            if (isValid(connection)) {
+                return true;
+            }
+            log.warn("Conexao do lock de lideranca {} perdida; deixando de ser lider", lockKey);
+            close(connection);
+            connection = null;
+        }
+        return tryAcquire();
+    }
+
+    /**
+     * Libera o lock antes de devolver a conexão ao pool, já que o lock de sessão continuaria com a conexão física
+     */
+    public synchronized void release() {
+        if (connection == null) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, lockKey);
+            statement.execute();
+        } catch (SQLException e) {
+            log.warn("Erro ao liberar o lock de lideranca {}", lockKey, e);
+        } finally {
+            close(connection);
+            connection = null;
+        }
+    }
+
+    private boolean tryAcquire() {
+        Connection candidate = null;
+        try {
+            candidate = dataSource.getConnection();
+            try (PreparedStatement statement = candidate.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+                statement.setLong(1, lockKey);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (resultSet.next() && resultSet.getBoolean(1)) {
+                        connection = candidate;
+                        log.info("Lock de lideranca {} obtido por esta instancia", lockKey);
+                        return true;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Nao foi possivel disputar o lock de lideranca {}: {}", lockKey, e.getMessage());
+        }
+        close(candidate);
+        return false;
+    }
+
+    private static boolean isValid(Connection connection) {
+        try {
+            return connection.isValid(2);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static void close(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Erro ao fechar a conexao do lock de lideranca", e);
+        }
+    }
+}
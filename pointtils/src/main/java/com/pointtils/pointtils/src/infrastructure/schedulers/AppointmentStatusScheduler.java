@@ -1,42 +1,90 @@
 package com.pointtils.pointtils.src.infrastructure.schedulers;
 
+import com.pointtils.pointtils.src.application.services.AppointmentExpiryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentRepository;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.PriorityQueue;
 
+/**
+ * Encerra os agendamentos poucos segundos após o horário de término.
+ * <p>
+ * Mantém em memória os próximos {@code lookahead} prazos, relidos do índice de prazos a cada
+ * {@code refresh-interval}, e só acessa o banco para encerrar agendamentos quando o prazo mais próximo vence. Apenas
+ * a instância líder das tarefas agendadas, eleita por advisory lock, executa o encerramento.
+ */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class AppointmentStatusScheduler {
 
-    private final AppointmentRepository appointmentRepository;
+    private static final ZoneId ZONE_ID = ZoneId.of("America/Sao_Paulo");
+
+    private final AppointmentExpiryService appointmentExpiryService;
+    private final AdvisoryLockLeader leader;
+    private final boolean leaderElection;
+    private final int batchSize;
+    private final int lookahead;
+    private final long refreshIntervalNanos;
+    // Acessada apenas pela execução agendada, que nunca roda em paralelo com ela mesma
+    private final PriorityQueue<LocalDateTime> deadlines = new PriorityQueue<>();
+    private long nextRefreshNanos = System.nanoTime();
+
+    public AppointmentStatusScheduler(AppointmentExpiryService appointmentExpiryService,
+                                      AdvisoryLockLeader schedulerLeader,
+                                      @Value("${app.appointment.expiry.leader-election:true}") boolean leaderElection,
+                                      @Value("${app.appointment.expiry.batch-size:100}") int batchSize,
+                                      @Value("${app.appointment.expiry.lookahead:500}") int lookahead,
+                                      @Value("${app.appointment.expiry.refresh-interval:60s}") Duration refreshInterval) {
+        this.appointmentExpiryService = appointmentExpiryService;
+        this.leader = schedulerLeader;
+        this.leaderElection = leaderElection;
+        this.batchSize = batchSize;
+        this.lookahead = lookahead;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
 
-    @Scheduled(fixedRate = 1800000) // Executa a cada 30 minutos (30 * 60 * 1000 ms)
-    @Transactional
+    @Scheduled(fixedDelayString = "${app.appointment.expiry.tick-ms:1000}")
     public void updateExpiredAppointments() {
         try {
-            // Atualiza PENDING para CANCELED
-            int canceledCount = appointmentRepository.updateExpiredPendingAppointmentsToCanceled();
-            if (canceledCount > 0) {
-                log.info("Updated {} PENDING appointments to CANCELED status", canceledCount);
+            if (leaderElection && !leader.isLeader()) {
+                deadlines.clear();
+                nextRefreshNanos = System.nanoTime();
+                return;
             }
-            
-            // Atualiza ACCEPTED para COMPLETED
-            int completedCount = appointmentRepository.updateExpiredAcceptedAppointmentsToCompleted();
-            if (completedCount > 0) {
-                log.info("Updated {} ACCEPTED appointments to COMPLETED status", completedCount);
+            if (System.nanoTime() - nextRefreshNanos >= 0) {
+                refreshDeadlines();
             }
-            
-            if (canceledCount == 0 && completedCount == 0) {
-                log.debug("No expired appointments found to update");
+
+            LocalDateTime now = LocalDateTime.now(ZONE_ID);
+            LocalDateTime nextDeadline = deadlines.peek();
+            if (nextDeadline == null || nextDeadline.isAfter(now)) {
+                return;
+            }
+
+            int expired;
+            do {
+                expired = appointmentExpiryService.expireDueAppointments(batchSize);
+            } while (expired == batchSize);
+            while (!deadlines.isEmpty() && !deadlines.peek().isAfter(now)) {
+                deadlines.poll();
+            }
+            if (deadlines.isEmpty()) {
+                // Os prazos carregados acabaram; os seguintes são lidos na próxima execução
+                nextRefreshNanos = System.nanoTime();
             }
         } catch (Exception e) {
             log.error("Error updating expired appointments", e);
         }
     }
-}
\ No newline at end of file
+
+    private void refreshDeadlines() {
+        deadlines.clear();
+        deadlines.addAll(appointmentExpiryService.findNextDeadlines(lookahead));
+        nextRefreshNanos = System.nanoTime() + refreshIntervalNanos;
+    }
+}
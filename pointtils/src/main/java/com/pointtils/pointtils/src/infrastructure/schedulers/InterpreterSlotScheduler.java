@@ -0,0 +1,61 @@
+package com.pointtils.pointtils.src.infrastructure.schedulers;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.pointtils.pointtils.src.application.services.AvailabilityEngine;
+import com.pointtils.pointtils.src.application.services.InterpreterSlotService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class InterpreterSlotScheduler {
+
+    private final InterpreterSlotService interpreterSlotService;
+    private final AvailabilityEngine availabilityEngine;
+    private final AdvisoryLockLeader schedulerLeader;
+
+    @Value("${app.availability.materialized:true}")
+    private boolean materializationEnabled;
+
+    // Completa apenas os dias que faltam no horizonte, sem regravar a tabela a cada deploy
+    @EventListener(ApplicationReadyEvent.class)
+    public void advanceAvailableSlotsOnStartup() {
+        advanceHorizon();
+    }
+
+    @Scheduled(cron = "0 5 0 * * *", zone = "America/Sao_Paulo") // Executa todos os dias as 00:05 para avancar o horizonte materializado
+    public void advanceAvailableSlotsHorizon() {
+        advanceHorizon();
+    }
+
+    // Executa em todas as instancias: o indice em memoria so recebe na hora as alteracoes feitas pela propria instancia
+    @Scheduled(fixedDelayString = "${app.availability.engine.rebuild-interval-ms:300000}",
+            initialDelayString = "${app.availability.engine.rebuild-interval-ms:300000}")
+    public void rebuildAvailabilityIndex() {
+        try {
+            availabilityEngine.rebuildIfLoaded();
+        } catch (Exception e) {
+            log.error("Error rebuilding interpreter availability index", e);
+        }
+    }
+
+    private void advanceHorizon() {
+        if (!materializationEnabled) {
+            return;
+        }
+        try {
+            if (schedulerLeader.isLeader()) {
+                interpreterSlotService.advanceHorizon();
+            }
+        } catch (Exception e) {
+            log.error("Error advancing interpreter available slots horizon", e);
+        }
+    }
+}
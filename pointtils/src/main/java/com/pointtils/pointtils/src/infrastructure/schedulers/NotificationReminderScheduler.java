@@ -0,0 +1,77 @@
+package com.pointtils.pointtils.src.infrastructure.schedulers;
+
+import com.pointtils.pointtils.src.application.services.NotificationService;
+import com.pointtils.pointtils.src.core.domain.entities.ScheduledNotification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Envia as notificações agendadas na tabela {@code scheduled_notification}, como os lembretes de agendamento.
+ * Cada lote é reservado por {@code lease-seconds} em uma transação própria e cada notificação só é removida depois
+ * que o envio é confirmado. Se o envio falhar ou a instância cair antes disso, a reserva expira e a notificação é
+ * enviada novamente, até {@code max-attempts} tentativas.
+ * <p>
+ * A entrega é de pelo menos uma vez: uma queda entre o envio e a remoção da linha repete a notificação.
+ */
+@Component
+@Slf4j
+public class NotificationReminderScheduler {
+
+    private final NotificationService notificationService;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+
+    public NotificationReminderScheduler(NotificationService notificationService,
+                                         @Value("${app.notification.scheduled.batch-size:100}") int batchSize,
+                                         @Value("${app.notification.scheduled.lease-seconds:300}") long leaseSeconds,
+                                         @Value("${app.notification.scheduled.max-attempts:5}") int maxAttempts) {
+        this.notificationService = notificationService;
+        this.batchSize = batchSize;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.scheduled.poll-interval-ms:30000}")
+    public void dispatchDueNotifications() {
+        try {
+            List<ScheduledNotification> claimed;
+            do {
+                claimed = notificationService.claimDueNotifications(batchSize, lease);
+                claimed.forEach(this::send);
+            } while (claimed.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Error dispatching scheduled notifications", e);
+        }
+    }
+
+    private void send(ScheduledNotification notification) {
+        try {
+            if (deliver(notification)) {
+                notificationService.completeScheduledNotification(notification.getId());
+            } else if (notification.getAttempts() >= maxAttempts) {
+                log.error("Scheduled notification {} to user {} dropped after {} attempts",
+                        notification.getType(), notification.getUserId(), notification.getAttempts());
+                notificationService.completeScheduledNotification(notification.getId());
+            }
+        } catch (Exception e) {
+            log.error("Error completing scheduled notification {} to user {}",
+                    notification.getType(), notification.getUserId(), e);
+        }
+    }
+
+    private boolean deliver(ScheduledNotification notification) {
+        try {
+            return notificationService.deliverScheduledNotification(notification);
+        } catch (Exception e) {
+            log.error("Error sending scheduled notification {} to user {}",
+                    notification.getType(), notification.getUserId(), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.pointtils.pointtils.src.infrastructure.schedulers;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.pointtils.pointtils.src.application.services.RatingService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RatingAggregateScheduler {
+
+    private final RatingService ratingService;
+    private final AdvisoryLockLeader schedulerLeader;
+
+    // Os agregados sao atualizados a cada avaliacao; o recalculo apenas corrige divergencias, na instancia lider
+    @Scheduled(cron = "${app.rating.aggregates.rebuild-cron:0 30 3 * * *}", zone = "America/Sao_Paulo")
+    public void rebuildRatingAggregates() {
+        try {
+            if (!schedulerLeader.isLeader()) {
+                return;
+            }
+            int repaired = ratingService.rebuildInterpreterRatingAggregates();
+            if (repaired > 0) {
+                log.warn("Rebuilt rating aggregates of {} interpreters with divergent values", repaired);
+            }
+        } catch (Exception e) {
+            log.error("Error rebuilding interpreter rating aggregates", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+-- ========================
+-- MIGRATION: Cria indices para as consultas mais frequentes da API
+-- ========================
+
+-- Horarios do interprete por dia da semana (cadastro, conflito e horarios disponiveis)
+CREATE INDEX IF NOT EXISTS idx_schedule_interpreter_day
+    ON schedule (interpreter_id, day, start_time);
+
+-- Busca de agendamentos por interprete, ordenada por data
+CREATE INDEX IF NOT EXISTS idx_appointment_interpreter_date_status
+    ON appointment (interpreter_id, date, status);
+
+-- Busca de agendamentos por usuario, ordenada por data e horario de termino
+CREATE INDEX IF NOT EXISTS idx_appointment_user_date
+    ON appointment (user_id, date, end_time);
+
+-- Agendamentos que ocupam a agenda do interprete (horarios disponiveis e filtro de disponibilidade)
+CREATE INDEX IF NOT EXISTS idx_appointment_interpreter_busy
+    ON appointment (interpreter_id, date, start_time, end_time)
+    WHERE status IN ('ACCEPTED', 'COMPLETED');
+
+-- Avaliacao de um agendamento (filtro hasRating e media do interprete)
+CREATE INDEX IF NOT EXISTS idx_rating_appointment
+    ON rating (appointment_id);
+
+-- Localizacoes do interprete por UF
+CREATE INDEX IF NOT EXISTS idx_location_user_uf
+    ON location (user_id, uf);
+
+-- Especialidades do usuario, nos dois sentidos da associacao
+CREATE INDEX IF NOT EXISTS idx_user_specialties_user_specialtie
+    ON user_specialties (user_id, specialtie_id);
+
+CREATE INDEX IF NOT EXISTS idx_user_specialties_specialtie_user
+    ON user_specialties (specialtie_id, user_id);
+
+-- Dispositivos do usuario para envio de notificacoes push
+CREATE INDEX IF NOT EXISTS idx_user_app_user
+    ON user_app (user_id);
+
+-- Documentos do interprete
+CREATE INDEX IF NOT EXISTS idx_interpreter_documents_interpreter
+    ON interpreter_documents (interpreter_id);
@@ -0,0 +1,26 @@
+-- ========================
+-- MIGRATION: Busca de interpretes por nome e localizacao sem acentos, apoiada por indices de trigramas
+-- ========================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() e STABLE e nao pode ser usada em indices; esta funcao fixa o dicionario e e IMMUTABLE
+CREATE OR REPLACE FUNCTION search_normalize(value TEXT)
+    RETURNS TEXT
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+    STRICT
+AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary, value))
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_person_name_trgm
+    ON person USING gin (search_normalize(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_location_city_trgm
+    ON location USING gin (search_normalize(city) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_location_neighborhood_trgm
+    ON location USING gin (search_normalize(neighborhood) gin_trgm_ops);
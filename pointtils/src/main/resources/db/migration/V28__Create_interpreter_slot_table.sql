@@ -0,0 +1,19 @@
+-- ========================
+-- MIGRATION: Cria a tabela de horarios livres materializados dos interpretes
+-- ========================
+
+-- Cada linha e um horario livre de 30 minutos de um interprete em uma data, dentro do horizonte
+-- materializado pela aplicacao. A tabela e mantida pelo InterpreterSlotService quando horarios
+-- ou agendamentos mudam; o InterpreterSlotScheduler reconstroi a tabela na inicializacao e avanca
+-- o horizonte diariamente.
+CREATE TABLE IF NOT EXISTS interpreter_slot (
+    interpreter_id UUID NOT NULL REFERENCES interpreter(id) ON DELETE CASCADE,
+    slot_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    PRIMARY KEY (interpreter_id, slot_date, start_time)
+);
+
+-- Busca de interpretes disponiveis em uma data e horario
+CREATE INDEX IF NOT EXISTS idx_interpreter_slot_date_start
+    ON interpreter_slot (slot_date, start_time);
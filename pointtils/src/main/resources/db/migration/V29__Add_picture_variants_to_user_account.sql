@@ -0,0 +1,8 @@
+-- ========================
+-- MIGRATION: Adiciona as variantes redimensionadas da foto de perfil
+-- ========================
+
+-- A coluna picture passa a guardar a foto recomprimida em tamanho original (ate 2048px). As variantes
+-- menores sao geradas no upload da foto; a listagem de interpretes usa a miniatura quando disponivel.
+ALTER TABLE user_account ADD COLUMN IF NOT EXISTS picture_medium TEXT;
+ALTER TABLE user_account ADD COLUMN IF NOT EXISTS picture_thumbnail TEXT;
@@ -0,0 +1,19 @@
+-- ========================
+-- MIGRATION: Cria a tabela com a ultima copia das UFs e municipios obtidos do IBGE
+-- ========================
+
+-- Cada linha guarda uma lista ja ordenada em JSON: 'states' para as UFs e 'cities:<UF>' para os
+-- municipios de uma UF. A tabela e carregada em memoria na inicializacao e atualizada sempre que
+-- a API do IBGE responde, para que as consultas continuem funcionando com o IBGE fora do ar.
+CREATE TABLE IF NOT EXISTS locality_snapshot (
+    scope VARCHAR(32) PRIMARY KEY,
+    names TEXT NOT NULL,
+    refreshed_at TIMESTAMP NOT NULL
+);
+
+-- Lista inicial de UFs, marcada como antiga para ser atualizada na primeira consulta
+INSERT INTO locality_snapshot (scope, names, refreshed_at)
+VALUES ('states',
+        '["AC","AL","AM","AP","BA","CE","DF","ES","GO","MA","MG","MS","MT","PA","PB","PE","PI","PR","RJ","RN","RO","RR","RS","SC","SE","SP","TO"]',
+        TIMESTAMP '2025-01-01 00:00:00')
+ON CONFLICT (scope) DO NOTHING;
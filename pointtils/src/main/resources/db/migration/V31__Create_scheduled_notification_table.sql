@@ -0,0 +1,20 @@
+-- ========================
+-- MIGRATION: Cria a tabela de notificacoes agendadas
+-- ========================
+
+-- Cada linha e uma notificacao push a ser enviada para um usuario no horario due_at (horario de
+-- Sao Paulo), como o lembrete enviado 24h antes de um agendamento aceito. As linhas sao removidas
+-- pelo NotificationReminderScheduler na mesma transacao em que sao reservadas para envio, com
+-- FOR UPDATE SKIP LOCKED, para que cada notificacao seja enviada por uma unica instancia.
+CREATE TABLE IF NOT EXISTS scheduled_notification (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    user_id UUID NOT NULL REFERENCES user_account(id) ON DELETE CASCADE,
+    type VARCHAR(50) NOT NULL,
+    due_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT uk_scheduled_notification_user_type_due UNIQUE (user_id, type, due_at)
+);
+
+-- Busca das notificacoes vencidas pelo agendador
+CREATE INDEX IF NOT EXISTS idx_scheduled_notification_due_at
+    ON scheduled_notification (due_at);
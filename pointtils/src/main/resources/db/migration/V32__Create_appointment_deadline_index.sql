@@ -0,0 +1,10 @@
+-- ========================
+-- MIGRATION: Cria o indice de prazos dos agendamentos em aberto
+-- ========================
+
+-- Agendamentos pendentes ou aceitos ordenados pelo horario de termino. O AppointmentStatusScheduler
+-- le os proximos prazos por este indice e encerra os agendamentos vencidos em pequenos lotes, sem
+-- percorrer a tabela inteira.
+CREATE INDEX IF NOT EXISTS idx_appointment_open_deadline
+    ON appointment (date, end_time)
+    WHERE status IN ('PENDING', 'ACCEPTED');
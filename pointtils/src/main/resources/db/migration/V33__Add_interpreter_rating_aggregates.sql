@@ -0,0 +1,41 @@
+-- ========================
+-- MIGRATION: Adiciona os agregados de avaliacao do interprete
+-- ========================
+
+-- Quantidade, soma e histograma (1 a 5 estrelas, arredondando notas fracionadas) das avaliacoes
+-- do interprete. Os valores sao atualizados de forma atomica a cada avaliacao criada, alterada
+-- ou removida, junto com a media em rating, e recalculados periodicamente pelo
+-- RatingAggregateScheduler para corrigir divergencias.
+ALTER TABLE interpreter
+    ADD COLUMN IF NOT EXISTS rating_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_sum NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_stars_1 INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_stars_2 INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_stars_3 INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_stars_4 INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS rating_stars_5 INTEGER NOT NULL DEFAULT 0;
+
+-- Preenche os agregados a partir das avaliacoes existentes
+UPDATE interpreter i
+SET rating_count = a.total_count,
+    rating_sum = a.total_stars,
+    rating_stars_1 = a.stars_1,
+    rating_stars_2 = a.stars_2,
+    rating_stars_3 = a.stars_3,
+    rating_stars_4 = a.stars_4,
+    rating_stars_5 = a.stars_5,
+    rating = ROUND(a.total_stars / a.total_count, 2)
+FROM (
+    SELECT ap.interpreter_id,
+           COUNT(*) AS total_count,
+           SUM(r.stars) AS total_stars,
+           COUNT(*) FILTER (WHERE LEAST(GREATEST(ROUND(r.stars), 1), 5) = 1) AS stars_1,
+           COUNT(*) FILTER (WHERE LEAST(GREATEST(ROUND(r.stars), 1), 5) = 2) AS stars_2,
+           COUNT(*) FILTER (WHERE LEAST(GREATEST(ROUND(r.stars), 1), 5) = 3) AS stars_3,
+           COUNT(*) FILTER (WHERE LEAST(GREATEST(ROUND(r.stars), 1), 5) = 4) AS stars_4,
+           COUNT(*) FILTER (WHERE LEAST(GREATEST(ROUND(r.stars), 1), 5) = 5) AS stars_5
+    FROM rating r
+    JOIN appointment ap ON ap.id = r.appointment_id
+    GROUP BY ap.interpreter_id
+) a
+WHERE i.id = a.interpreter_id;
@@ -0,0 +1,26 @@
+-- ========================
+-- MIGRATION: Adiciona o interprete na avaliacao e os indices do feed de avaliacoes
+-- ========================
+
+-- Copia o interprete do agendamento para a avaliacao. Assim o feed de avaliacoes do interprete
+-- le apenas a pagina pedida por indice, sem juntar com appointment e ordenar todas as avaliacoes.
+ALTER TABLE rating
+    ADD COLUMN IF NOT EXISTS interpreter_id UUID;
+
+UPDATE rating r
+SET interpreter_id = a.interpreter_id
+FROM appointment a
+WHERE a.id = r.appointment_id
+  AND r.interpreter_id IS NULL;
+
+ALTER TABLE rating
+    ALTER COLUMN interpreter_id SET NOT NULL,
+    ADD CONSTRAINT fk_rating_interpreter FOREIGN KEY (interpreter_id) REFERENCES interpreter (id);
+
+-- Feed ordenado das avaliacoes mais recentes para as mais antigas
+CREATE INDEX IF NOT EXISTS idx_rating_interpreter_created
+    ON rating (interpreter_id, created_at DESC, id DESC);
+
+-- Feed ordenado pelas maiores notas
+CREATE INDEX IF NOT EXISTS idx_rating_interpreter_stars
+    ON rating (interpreter_id, stars DESC, created_at DESC, id DESC);
@@ -0,0 +1,22 @@
+-- ========================
+-- MIGRATION: Cria a tabela de estado de autenticacao compartilhado entre as instancias
+-- ========================
+
+-- Tokens revogados no logout, tokens de redefinicao de senha e tentativas de login por IP, cada
+-- registro com a propria expiracao. Cada instancia mantem uma copia local da blacklist, atualizada
+-- por LISTEN/NOTIFY no canal auth_state a cada escrita nesta tabela.
+-- A tabela e UNLOGGED: as escritas nao passam pelo WAL, mas o conteudo nao e replicado e e
+-- esvaziado apos uma queda do banco (tokens revogados voltam a ser aceitos pelas instancias
+-- iniciadas depois disso, ate expirarem).
+CREATE UNLOGGED TABLE IF NOT EXISTS auth_shared_state (
+    namespace VARCHAR(32) NOT NULL,
+    state_key TEXT NOT NULL,
+    state_value TEXT,
+    counter INTEGER NOT NULL DEFAULT 0,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_auth_shared_state PRIMARY KEY (namespace, state_key)
+);
+
+-- Varredura periodica dos registros expirados
+CREATE INDEX IF NOT EXISTS idx_auth_shared_state_expires_at
+    ON auth_shared_state (expires_at);
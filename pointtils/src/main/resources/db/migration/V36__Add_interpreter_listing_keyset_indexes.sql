@@ -0,0 +1,11 @@
+-- ========================
+-- MIGRATION: Indices da listagem paginada de interpretes (ordem por avaliacao ou por nome, desempate por id)
+-- ========================
+
+-- Maiores avaliacoes primeiro (rating DESC, id ASC), na mesma ordem do cursor
+CREATE INDEX IF NOT EXISTS idx_interpreter_rating_id
+    ON interpreter (rating DESC, id);
+
+-- Ordem alfabetica (name, id)
+CREATE INDEX IF NOT EXISTS idx_person_name_id
+    ON person (name, id);
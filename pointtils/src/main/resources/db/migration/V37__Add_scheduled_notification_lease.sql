@@ -0,0 +1,10 @@
+-- ========================
+-- MIGRATION: Reserva com prazo (lease) das notificacoes agendadas
+-- ========================
+
+-- As linhas deixam de ser removidas na reserva: o NotificationReminderScheduler marca claimed_until e
+-- incrementa attempts, e so remove a linha depois que o envio e confirmado. Se a instancia cair antes
+-- disso, a reserva expira e outra instancia envia a notificacao novamente.
+ALTER TABLE scheduled_notification
+    ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS attempts INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,80 @@
+package com.pointtils.pointtils.src.application.clients;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import com.pointtils.pointtils.src.core.domain.entities.enums.PushDeliveryStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FirebasePushNotificationSenderTest {
+
+    private final FirebasePushNotificationSender sender = new FirebasePushNotificationSender();
+
+    @Test
+    @DisplayName("Deve converter a resposta de cada token do envio multicast")
+    void shouldMapEachTokenResponse() throws FirebaseMessagingException {
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        List<SendResponse> responses = List.of(
+                successResponse(),
+                failedResponse(MessagingErrorCode.UNREGISTERED),
+                failedResponse(MessagingErrorCode.UNAVAILABLE),
+                failedResponse(MessagingErrorCode.INVALID_ARGUMENT));
+        when(batchResponse.getResponses()).thenReturn(responses);
+
+        try (MockedStatic<FirebaseMessaging> mockedFirebaseMessaging = Mockito.mockStatic(FirebaseMessaging.class)) {
+            FirebaseMessaging messaging = mock(FirebaseMessaging.class);
+            when(messaging.sendEachForMulticast(any(MulticastMessage.class))).thenReturn(batchResponse);
+            mockedFirebaseMessaging.when(FirebaseMessaging::getInstance).thenReturn(messaging);
+
+            List<PushDeliveryStatus> statuses = sender.send(List.of("t1", "t2", "t3", "t4"), "Título", "Corpo");
+
+            assertEquals(List.of(PushDeliveryStatus.SENT, PushDeliveryStatus.UNREGISTERED,
+                    PushDeliveryStatus.RETRY, PushDeliveryStatus.FAILED), statuses);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve marcar todos os tokens para reenvio quando a chamada ao FCM falhar")
+    void shouldRetryAllTokensWhenRequestFails() throws FirebaseMessagingException {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(null);
+
+        try (MockedStatic<FirebaseMessaging> mockedFirebaseMessaging = Mockito.mockStatic(FirebaseMessaging.class)) {
+            FirebaseMessaging messaging = mock(FirebaseMessaging.class);
+            when(messaging.sendEachForMulticast(any(MulticastMessage.class))).thenThrow(exception);
+            mockedFirebaseMessaging.when(FirebaseMessaging::getInstance).thenReturn(messaging);
+
+            List<PushDeliveryStatus> statuses = sender.send(List.of("t1", "t2"), "Título", "Corpo");
+
+            assertEquals(List.of(PushDeliveryStatus.RETRY, PushDeliveryStatus.RETRY), statuses);
+        }
+    }
+
+    private static SendResponse successResponse() {
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(true);
+        return response;
+    }
+
+    private static SendResponse failedResponse(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(false);
+        when(response.getException()).thenReturn(exception);
+        return response;
+    }
+}
@@ -15,6 +15,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -31,6 +33,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -304,27 +307,64 @@ class AppointmentControllerTest {
         // Caso 1: fromDateTime válido (já existente)
         String validDate = "2024-06-15T09:00:00";
         when(appointmentService.searchAppointments(
-                interpreterId, appointmentUserId, status, modality, LocalDateTime.parse(validDate), hasRating, dayLimit))
+                interpreterId, appointmentUserId, status, modality, LocalDateTime.parse(validDate), hasRating, dayLimit, Pageable.unpaged()))
                 .thenReturn(mockResponse);
-        appointmentController.searchAppointments(interpreterId, appointmentUserId, status, modality, validDate, hasRating, dayLimit);
+        appointmentController.searchAppointments(interpreterId, appointmentUserId, status, modality, validDate, hasRating, dayLimit, null, null);
 
         // Caso 2: fromDateTime nulo
         when(appointmentService.searchAppointments(
-                interpreterId, appointmentUserId, status, modality, null, hasRating, dayLimit))
+                interpreterId, appointmentUserId, status, modality, null, hasRating, dayLimit, Pageable.unpaged()))
                 .thenReturn(mockResponse);
-        appointmentController.searchAppointments(interpreterId, appointmentUserId, status, modality, null, hasRating, dayLimit);
+        appointmentController.searchAppointments(interpreterId, appointmentUserId, status, modality, null, hasRating, dayLimit, null, null);
 
         // Caso 3: fromDateTime vazio
         when(appointmentService.searchAppointments(
-                interpreterId, appointmentUserId, status, modality, null, hasRating, dayLimit))
+                interpreterId, appointmentUserId, status, modality, null, hasRating, dayLimit, Pageable.unpaged()))
                 .thenReturn(mockResponse);
-        appointmentController.searchAppointments(interpreterId, appointmentUserId, status, modality, "   ", hasRating, dayLimit);
+        appointmentController.searchAppointments(interpreterId, appointmentUserId, status, modality, "   ", hasRating, dayLimit, null, null);
 
         // Aqui você pode apenas verificar se o service foi chamado corretamente
         verify(appointmentService, times(1))
-                .searchAppointments(interpreterId, appointmentUserId, status, modality, LocalDateTime.parse(validDate), hasRating, dayLimit);
+                .searchAppointments(interpreterId, appointmentUserId, status, modality, LocalDateTime.parse(validDate), hasRating, dayLimit, Pageable.unpaged());
         verify(appointmentService, times(2))
-                .searchAppointments(interpreterId, appointmentUserId, status, modality, null, hasRating, dayLimit);
+                .searchAppointments(interpreterId, appointmentUserId, status, modality, null, hasRating, dayLimit, Pageable.unpaged());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Deve repassar paginação ao service quando page e size são informados")
+    void shouldCallSearchAppointmentsWithPagination() {
+        List<AppointmentFilterResponseDTO> mockResponse = List.of(new AppointmentFilterResponseDTO());
+        when(appointmentService.searchAppointments(null, null, null, null, null, null, -1, PageRequest.of(1, 20)))
+                .thenReturn(mockResponse);
+
+        ResponseEntity<ApiResponseDTO<List<AppointmentFilterResponseDTO>>> response = appointmentController
+                .searchAppointments(null, null, null, null, null, null, -1, 1, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getData().size());
+        verify(appointmentService).searchAppointments(null, null, null, null, null, null, -1, PageRequest.of(1, 20));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar página negativa ou tamanho de página fora do limite")
+    void shouldRejectInvalidPagination() {
+        assertThrows(IllegalArgumentException.class, () -> appointmentController
+                .searchAppointments(null, null, null, null, null, null, -1, -1, 20));
+        assertThrows(IllegalArgumentException.class, () -> appointmentController
+                .searchAppointments(null, null, null, null, null, null, -1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> appointmentController
+                .searchAppointments(null, null, null, null, null, null, -1, 0, 101));
+        verifyNoInteractions(appointmentService);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar page sem size e size sem page")
+    void shouldRejectPageOrSizeAlone() {
+        assertThrows(IllegalArgumentException.class, () -> appointmentController
+                .searchAppointments(null, null, null, null, null, null, -1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> appointmentController
+                .searchAppointments(null, null, null, null, null, null, -1, null, 20));
+        verifyNoInteractions(appointmentService);
+    }
+}
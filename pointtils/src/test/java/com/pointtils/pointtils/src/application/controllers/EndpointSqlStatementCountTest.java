@@ -0,0 +1,224 @@
+package com.pointtils.pointtils.src.application.controllers;
+
+import com.pointtils.pointtils.src.core.domain.entities.Appointment;
+import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
+import com.pointtils.pointtils.src.core.domain.entities.Location;
+import com.pointtils.pointtils.src.core.domain.entities.Person;
+import com.pointtils.pointtils.src.core.domain.entities.Rating;
+import com.pointtils.pointtils.src.core.domain.entities.Specialty;
+import com.pointtils.pointtils.src.core.domain.entities.UserSpecialty;
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentModality;
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
+import com.pointtils.pointtils.src.core.domain.entities.enums.Gender;
+import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterModality;
+import com.pointtils.pointtils.src.core.domain.entities.enums.UserStatus;
+import com.pointtils.pointtils.src.core.domain.entities.enums.UserTypeE;
+import com.pointtils.pointtils.src.infrastructure.configs.FirebaseConfig;
+import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.LocationRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.RatingRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.SpecialtyRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.UserRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.UserSpecialtyRepository;
+import com.pointtils.pointtils.src.util.SqlStatementCounter;
+import io.awspring.cloud.autoconfigure.s3.S3AutoConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Garante que as consultas das principais listagens não crescem com a quantidade de registros (N+1):
+ * cada endpoint é chamado com {@value #INTERPRETERS} intérpretes cadastrados e deve executar no máximo
+ * a quantidade de comandos SQL indicada.
+ */
+@SpringBootTest
+@EnableAutoConfiguration(exclude = S3AutoConfiguration.class)
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@DisplayName("Testes de quantidade de comandos SQL por endpoint")
+class EndpointSqlStatementCountTest {
+
+    private static final int INTERPRETERS = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SpecialtyRepository specialtyRepository;
+
+    @Autowired
+    private UserSpecialtyRepository userSpecialtyRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    @MockitoBean
+    private FirebaseConfig firebaseConfig;
+
+    private SqlStatementCounter sqlStatementCounter;
+    private Person person;
+    private List<Interpreter> interpreters;
+
+    @BeforeEach
+    void setUp() {
+        Specialty libras = specialtyRepository.save(new Specialty("Libras"));
+        Specialty guide = specialtyRepository.save(new Specialty("Guia-intérprete"));
+        person = userRepository.save(Person.builder()
+                .email("pessoa@exemplo.com")
+                .password("senha123")
+                .phone("51999999999")
+                .status(UserStatus.ACTIVE)
+                .type(UserTypeE.PERSON)
+                .name("Pessoa")
+                .cpf("12345678900")
+                .build());
+        userSpecialtyRepository.save(new UserSpecialty(libras, person));
+
+        interpreters = new ArrayList<>();
+        for (int i = 0; i < INTERPRETERS; i++) {
+            Interpreter interpreter = userRepository.save(Interpreter.builder()
+                    .email("interprete" + i + "@exemplo.com")
+                    .password("senha123")
+                    .phone("5188888888" + i)
+                    .status(UserStatus.ACTIVE)
+                    .type(UserTypeE.INTERPRETER)
+                    .name("Intérprete " + i)
+                    .gender(Gender.FEMALE)
+                    .rating(new BigDecimal("4.50"))
+                    .modality(InterpreterModality.ALL)
+                    .build());
+            userSpecialtyRepository.save(new UserSpecialty(libras, interpreter));
+            userSpecialtyRepository.save(new UserSpecialty(guide, interpreter));
+            locationRepository.save(Location.builder()
+                    .uf("RS").city("Porto Alegre").neighborhood("Centro").interpreter(interpreter).build());
+            locationRepository.save(Location.builder()
+                    .uf("SC").city("Florianópolis").neighborhood("Centro").interpreter(interpreter).build());
+            Appointment appointment = appointmentRepository.save(Appointment.builder()
+                    .uf("RS")
+                    .city("Porto Alegre")
+                    .modality(AppointmentModality.ONLINE)
+                    .date(LocalDate.now().minusDays(i + 1L))
+                    .description("Atendimento " + i)
+                    .status(AppointmentStatus.COMPLETED)
+                    .interpreter(interpreter)
+                    .user(person)
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(10, 0))
+                    .build());
+            ratingRepository.save(Rating.builder()
+                    .stars(new BigDecimal("4.50"))
+                    .description("Ótimo atendimento")
+                    .appointment(appointment)
+                    .interpreterId(interpreter.getId())
+                    .build());
+            interpreters.add(interpreter);
+        }
+
+        sqlStatementCounter = new SqlStatementCounter(entityManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqlStatementCounter.disable();
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "rating", "appointment", "location",
+                "user_specialties", "interpreter", "person", "user_account", "specialties");
+    }
+
+    @Test
+    @DisplayName("Deve listar intérpretes com uma consulta para os itens e uma para cada associação")
+    void shouldListInterpretersWithConstantStatements() throws Exception {
+        perform(get("/v1/interpreters"), "$.data", INTERPRETERS);
+        sqlStatementCounter.assertAtMost(3, "GET /v1/interpreters");
+
+        perform(get("/v1/interpreters").param("size", "5"), "$.data", 5);
+        sqlStatementCounter.assertAtMost(3, "GET /v1/interpreters?size=5");
+    }
+
+    @Test
+    @DisplayName("Deve buscar o perfil do intérprete com localizações e especialidades em duas consultas")
+    void shouldFindInterpreterProfileWithTwoStatements() throws Exception {
+        perform(get("/v1/interpreters/" + interpreters.get(0).getId()), "$.data.locations", 2);
+        sqlStatementCounter.assertAtMost(2, "GET /v1/interpreters/{id}");
+    }
+
+    @Test
+    @DisplayName("Deve filtrar agendamentos do usuário sem consultar cada intérprete separadamente")
+    void shouldFilterAppointmentsByUserWithConstantStatements() throws Exception {
+        perform(get("/v1/appointments/filter").param("userId", person.getId().toString()), "$.data", INTERPRETERS);
+        sqlStatementCounter.assertAtMost(3, "GET /v1/appointments/filter?userId");
+    }
+
+    @Test
+    @DisplayName("Deve filtrar agendamentos do intérprete com paginação em quantidade fixa de consultas")
+    void shouldFilterAppointmentsByInterpreterWithConstantStatements() throws Exception {
+        perform(get("/v1/appointments/filter")
+                .param("interpreterId", interpreters.get(0).getId().toString())
+                .param("page", "0")
+                .param("size", "5"), "$.data", 1);
+        sqlStatementCounter.assertAtMost(3, "GET /v1/appointments/filter?interpreterId");
+    }
+
+    @Test
+    @DisplayName("Deve listar avaliações do intérprete junto com os autores")
+    void shouldListRatingsWithAuthorsInSingleStatement() throws Exception {
+        perform(get("/v1/ratings").param("interpreterId", interpreters.get(0).getId().toString()), "$.data", 1);
+        sqlStatementCounter.assertAtMost(2, "GET /v1/ratings");
+    }
+
+    @Test
+    @DisplayName("Deve montar a primeira página do feed de avaliações com o resumo em duas consultas")
+    void shouldBuildRatingFeedWithTwoStatements() throws Exception {
+        perform(get("/v1/ratings/feed").param("interpreterId", interpreters.get(0).getId().toString())
+                .param("size", "10"), "$.data.items", 1);
+        sqlStatementCounter.assertAtMost(2, "GET /v1/ratings/feed");
+    }
+
+    private void perform(MockHttpServletRequestBuilder request, String itemsPath, int expectedItems) throws Exception {
+        sqlStatementCounter.reset();
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(itemsPath, hasSize(expectedItems)));
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 import software.amazon.awssdk.services.s3.S3Client;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -76,7 +77,8 @@ class EnterpriseControllerTest {
                 .apply(springSecurity())
                 .build();
 
-        when(jwtService.isTokenExpired(anyString())).thenReturn(Boolean.FALSE);
+        when(jwtService.verifyToken(anyString()))
+                .thenReturn(new JwtService.VerifiedToken("user", Instant.now().plusSeconds(60)));
 
         enterpriseRepository.deleteAll();
 
@@ -6,6 +6,7 @@ import com.pointtils.pointtils.src.application.dto.requests.InterpreterBasicRequ
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterPatchRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.ProfessionalDataPatchRequestDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterListResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.InterpreterPageResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterResponseDTO;
 import com.pointtils.pointtils.src.application.services.InterpreterService;
 import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterModality;
@@ -13,6 +14,7 @@ import com.pointtils.pointtils.src.infrastructure.configs.FirebaseConfig;
 import io.awspring.cloud.autoconfigure.s3.S3AutoConfiguration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -30,6 +32,7 @@ import static com.pointtils.pointtils.src.util.TestDataUtil.createInterpreterCre
 import static com.pointtils.pointtils.src.util.TestDataUtil.createInterpreterListResponse;
 import static com.pointtils.pointtils.src.util.TestDataUtil.createInterpreterResponse;
 import static com.pointtils.pointtils.src.util.TestDataUtil.createInterpreterResponseWithProfessionalData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
@@ -40,6 +43,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -215,16 +219,43 @@ class InterpreterControllerTest {
             dto.setName("interpreter");
         // Arrange
         InterpreterListResponseDTO mockResponse = createInterpreterListResponse();
-        when(interpreterService.findAll(dto))
-                .thenReturn(List.of(mockResponse));
+        when(interpreterService.findAll(any(FindAllInterpreterDTO.class)))
+                .thenReturn(new InterpreterPageResponseDTO(List.of(mockResponse), null));
 
         // Act & Assert
         mockMvc.perform(get("/v1/interpreters")
                         .with(user("testuser").roles("USER"))
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.message").value("Intérpretes encontrados com sucesso"));
+                .andExpect(jsonPath("$.message").value("Intérpretes encontrados com sucesso"))
+                .andExpect(jsonPath("$.data[0].id").value(mockResponse.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar o cursor da próxima página de intérpretes no cabeçalho")
+    void deveRetornarCursorDaProximaPagina() throws Exception {
+        // Arrange
+        InterpreterListResponseDTO mockResponse = createInterpreterListResponse();
+        ArgumentCaptor<FindAllInterpreterDTO> dtoCaptor = ArgumentCaptor.forClass(FindAllInterpreterDTO.class);
+        when(interpreterService.findAll(dtoCaptor.capture()))
+                .thenReturn(new InterpreterPageResponseDTO(List.of(mockResponse), "proximo-cursor"));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/interpreters")
+                        .param("sort", "rating")
+                        .param("size", "1")
+                        .param("cursor", "cursor-atual")
+                        .with(user("testuser").roles("USER"))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "proximo-cursor"))
+                .andExpect(jsonPath("$.data.length()").value(1));
+
+        assertEquals("rating", dtoCaptor.getValue().getSort());
+        assertEquals(1, dtoCaptor.getValue().getSize());
+        assertEquals("cursor-atual", dtoCaptor.getValue().getCursor());
     }
 
     @Test
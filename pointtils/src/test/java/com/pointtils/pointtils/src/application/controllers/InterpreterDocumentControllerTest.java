@@ -1,7 +1,11 @@
 package com.pointtils.pointtils.src.application.controllers;
 
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentCompleteRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentUploadRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadRequestDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterDocumentResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.PresignedUrlResponseDTO;
 import com.pointtils.pointtils.src.application.services.InterpreterDocumentService;
 import com.pointtils.pointtils.src.core.domain.exceptions.FileUploadException;
 import jakarta.persistence.EntityNotFoundException;
@@ -305,4 +309,64 @@ class InterpreterDocumentControllerTest {
                 assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
                 assertNull(response.getBody());
         }
-}
\ No newline at end of file
+
+        @Test
+        void shouldCreateUploadUrlsSuccessfully() {
+                // Arrange
+                UUID interpreterId = UUID.randomUUID();
+                InterpreterDocumentUploadRequestDTO request = new InterpreterDocumentUploadRequestDTO(List.of(
+                                new PresignedUploadRequestDTO("rg.pdf", MediaType.APPLICATION_PDF_VALUE, 1024L)));
+                List<PresignedUrlResponseDTO> urls = List.of(PresignedUrlResponseDTO.builder()
+                                .method("PUT")
+                                .key("users/documents/" + interpreterId + "/1-rg.pdf")
+                                .build());
+                when(interpreterDocumentService.createUploadUrls(interpreterId, request)).thenReturn(urls);
+
+                // Act
+                ResponseEntity<List<PresignedUrlResponseDTO>> response = interpreterDocumentController
+                                .createUploadUrls(interpreterId, request);
+
+                // Assert
+                assertEquals(HttpStatus.OK, response.getStatusCode());
+                assertEquals(urls, response.getBody());
+        }
+
+        @Test
+        void shouldCompleteUploadSuccessfully() {
+                // Arrange
+                UUID interpreterId = UUID.randomUUID();
+                InterpreterDocumentCompleteRequestDTO request = new InterpreterDocumentCompleteRequestDTO(
+                                List.of("users/documents/" + interpreterId + "/1-rg.pdf"), false);
+                InterpreterDocumentResponseDTO responseDTO = new InterpreterDocumentResponseDTO();
+                responseDTO.setSuccess(true);
+                responseDTO.setData(List.of(new InterpreterDocumentResponseDTO.DocumentData(UUID.randomUUID(),
+                                interpreterId,
+                                "https://test-bucket.s3.amazonaws.com/users/documents/" + interpreterId + "/1-rg.pdf")));
+                when(interpreterDocumentService.completeUpload(interpreterId, request)).thenReturn(responseDTO);
+
+                // Act
+                ResponseEntity<InterpreterDocumentResponseDTO> response = interpreterDocumentController
+                                .completeUpload(interpreterId, request);
+
+                // Assert
+                assertEquals(HttpStatus.OK, response.getStatusCode());
+                assertEquals(1, response.getBody().getData().size());
+        }
+
+        @Test
+        void shouldCreateDownloadUrlSuccessfully() {
+                // Arrange
+                UUID interpreterId = UUID.randomUUID();
+                UUID documentId = UUID.randomUUID();
+                PresignedUrlResponseDTO url = PresignedUrlResponseDTO.builder().method("GET").build();
+                when(interpreterDocumentService.createDownloadUrl(interpreterId, documentId)).thenReturn(url);
+
+                // Act
+                ResponseEntity<PresignedUrlResponseDTO> response = interpreterDocumentController
+                                .createDownloadUrl(interpreterId, documentId);
+
+                // Assert
+                assertEquals(HttpStatus.OK, response.getStatusCode());
+                assertEquals("GET", response.getBody().getMethod());
+        }
+}
@@ -3,7 +3,9 @@ package com.pointtils.pointtils.src.application.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pointtils.pointtils.src.application.dto.requests.RatingPatchRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.RatingRequestDTO;
+import com.pointtils.pointtils.src.application.dto.responses.RatingPageResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.RatingResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.RatingSummaryResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.RatingUserResponseDTO;
 import com.pointtils.pointtils.src.application.services.RatingService;
 import com.pointtils.pointtils.src.core.domain.exceptions.RatingException;
@@ -23,7 +25,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -132,6 +136,61 @@ class RatingControllerTest {
         verify(ratingService).getRatingsByInterpreterId(userId);
     }
 
+    @Test
+    @DisplayName("Deve retornar o resumo das avaliações de um intérprete com o histograma de notas")
+    void shouldGetRatingSummary() throws Exception {
+        Map<Integer, Integer> histogram = new LinkedHashMap<>();
+        histogram.put(5, 3);
+        histogram.put(4, 1);
+        histogram.put(3, 0);
+        histogram.put(2, 0);
+        histogram.put(1, 0);
+        when(ratingService.getRatingSummary(userId)).thenReturn(RatingSummaryResponseDTO.builder()
+                .interpreterId(userId)
+                .average(new BigDecimal("4.75"))
+                .count(4)
+                .histogram(histogram)
+                .build());
+
+        mockMvc.perform(get("/v1/ratings/summary")
+                        .param("interpreterId", userId.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Resumo das avaliações obtido com sucesso"))
+                .andExpect(jsonPath("$.data.interpreter_id").value(userId.toString()))
+                .andExpect(jsonPath("$.data.average").value(4.75))
+                .andExpect(jsonPath("$.data.count").value(4))
+                .andExpect(jsonPath("$.data.histogram.5").value(3))
+                .andExpect(jsonPath("$.data.histogram.1").value(0));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a primeira página do feed de avaliações com o resumo e o próximo cursor")
+    void shouldGetRatingFeed() throws Exception {
+        when(ratingService.getRatingFeed(userId, "stars", 10, null)).thenReturn(RatingPageResponseDTO.builder()
+                .summary(RatingSummaryResponseDTO.builder()
+                        .interpreterId(userId)
+                        .average(new BigDecimal("4.00"))
+                        .count(11)
+                        .build())
+                .items(List.of(ratingResponseDTO))
+                .nextCursor("proximo")
+                .build());
+
+        mockMvc.perform(get("/v1/ratings/feed")
+                        .param("interpreterId", userId.toString())
+                        .param("sort", "stars")
+                        .param("size", "10")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Avaliações obtidas com sucesso"))
+                .andExpect(jsonPath("$.data.summary.count").value(11))
+                .andExpect(jsonPath("$.data.items[0].id").value(ratingId.toString()))
+                .andExpect(jsonPath("$.data.nextCursor").value("proximo"));
+    }
+
     @Test
     @DisplayName("Deve atualizar uma avaliação existente")
     void shouldPatchRating() throws Exception {
@@ -188,4 +188,25 @@ class ScheduleControllerTest {
 
         verify(service).findAvailableSchedules(interpreterId, dateFrom, dateTo);
     }
+
+    @Test
+    @DisplayName("GET /v1/schedules/available/interpreters deve listar intérpretes disponíveis")
+    void listAvailableInterpreters_ShouldReturnInterpreterIds() throws Exception {
+        UUID interpreterId = UUID.randomUUID();
+        LocalDate dateFrom = LocalDate.now();
+        LocalDate dateTo = dateFrom.plusDays(5);
+
+        when(service.findAvailableInterpreters(dateFrom, dateTo, 4)).thenReturn(List.of(interpreterId));
+
+        mockMvc.perform(get("/v1/schedules/available/interpreters")
+                        .param("dateFrom", dateFrom.toString())
+                        .param("dateTo", dateTo.toString())
+                        .param("slots", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Intérpretes disponíveis obtidos com sucesso"))
+                .andExpect(jsonPath("$.data[0]").value(interpreterId.toString()));
+
+        verify(service).findAvailableInterpreters(dateFrom, dateTo, 4);
+    }
 }
@@ -24,6 +24,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import software.amazon.awssdk.services.s3.S3Client;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.anyString;
@@ -58,7 +59,8 @@ class StateControllerTest {
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .apply(springSecurity(jwtAuthenticationFilter))
                 .build();
-        when(jwtService.isTokenExpired(anyString())).thenReturn(Boolean.FALSE);
+        when(jwtService.verifyToken(anyString()))
+                .thenReturn(new JwtService.VerifiedToken("user", Instant.now().plusSeconds(60)));
     }
 
     @Test
@@ -1,6 +1,9 @@
 package com.pointtils.pointtils.src.application.controllers;
 
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadCompleteRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.UserPicturePostRequestDTO;
+import com.pointtils.pointtils.src.application.dto.responses.PresignedUrlResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.UserResponseDTO;
 import com.pointtils.pointtils.src.application.services.UserPictureService;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,16 +18,22 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -121,4 +130,71 @@ class UserPictureControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @DisplayName("POST /v1/users/{id}/picture/upload-url deve retornar a URL pré-assinada")
+    void createPictureUploadUrl_ShouldReturnOk() throws Exception {
+        PresignedUrlResponseDTO presignedUrl = PresignedUrlResponseDTO.builder()
+                .url("http://localhost:9000/test-bucket/users/" + userId + "/1-avatar.png?X-Amz-Signature=abc")
+                .method("PUT")
+                .key("users/" + userId + "/1-avatar.png")
+                .headers(Map.of("content-type", MediaType.IMAGE_PNG_VALUE))
+                .expiresAt(Instant.parse("2025-01-01T10:10:00Z"))
+                .build();
+        when(userService.createPictureUploadUrl(eq(userId), any(PresignedUploadRequestDTO.class)))
+                .thenReturn(presignedUrl);
+
+        mockMvc.perform(post("/v1/users/{id}/picture/upload-url", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"file_name": "avatar.png", "content_type": "image/png", "content_length": 1024}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.method").value("PUT"))
+                .andExpect(jsonPath("$.key").value("users/" + userId + "/1-avatar.png"))
+                .andExpect(jsonPath("$.headers.content-type").value(MediaType.IMAGE_PNG_VALUE))
+                .andExpect(jsonPath("$.expires_at").exists());
+
+        ArgumentCaptor<PresignedUploadRequestDTO> captor = ArgumentCaptor.forClass(PresignedUploadRequestDTO.class);
+        verify(userService).createPictureUploadUrl(eq(userId), captor.capture());
+        assertThat(captor.getValue().getContentLength()).isEqualTo(1024L);
+    }
+
+    @Test
+    @DisplayName("POST /v1/users/{id}/picture/upload-url deve retornar 400 sem o tamanho do arquivo")
+    void createPictureUploadUrl_ShouldReturnBadRequest_WhenContentLengthIsMissing() throws Exception {
+        mockMvc.perform(post("/v1/users/{id}/picture/upload-url", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"file_name": "avatar.png", "content_type": "image/png"}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("POST /v1/users/{id}/picture/complete deve registrar a foto enviada ao S3")
+    void completePictureUpload_ShouldReturnOk() throws Exception {
+        when(userService.completePictureUpload(eq(userId), any(PresignedUploadCompleteRequestDTO.class)))
+                .thenReturn(userResponse);
+
+        mockMvc.perform(post("/v1/users/{id}/picture/complete", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"key\": \"users/" + userId + "/1-avatar.png\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.picture").value("http://example.com/avatar.png"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/users/{id}/picture/download-url deve retornar a URL pré-assinada de download")
+    void createPictureDownloadUrl_ShouldReturnOk() throws Exception {
+        when(userService.createPictureDownloadUrl(userId)).thenReturn(PresignedUrlResponseDTO.builder()
+                .url("http://localhost:9000/test-bucket/users/" + userId + "/1-avatar.png?X-Amz-Signature=abc")
+                .method("GET")
+                .build());
+
+        mockMvc.perform(get("/v1/users/{id}/picture/download-url", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.method").value("GET"));
+    }
 }
@@ -1,12 +1,15 @@
 package com.pointtils.pointtils.src.application.mapper;
 
+import com.pointtils.pointtils.src.application.dto.LocationDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterListResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.SpecialtyResponseDTO;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
 import com.pointtils.pointtils.src.core.domain.entities.Location;
 import com.pointtils.pointtils.src.core.domain.entities.Specialty;
 import com.pointtils.pointtils.src.core.domain.entities.enums.Gender;
 import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterModality;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterListingRow;
 import com.pointtils.pointtils.src.core.domain.entities.enums.UserStatus;
 import com.pointtils.pointtils.src.core.domain.entities.enums.UserTypeE;
 import org.junit.jupiter.api.Test;
@@ -114,4 +117,40 @@ class InterpreterResponseMapperTest {
         assertThat(listResponseDTO.getPicture()).isEqualTo("profile.jpg");
         assertThat(listResponseDTO.getLocations()).hasSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldUsePictureThumbnailInListResponseDTO() {
+        Interpreter interpreter = Interpreter.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .picture("profile.jpg")
+                .pictureThumbnail("profile-thumbnail.jpg")
+                .build();
+
+        InterpreterListResponseDTO listResponseDTO = mapper.toListResponseDTO(interpreter);
+
+        assertThat(listResponseDTO.getPicture()).isEqualTo("profile-thumbnail.jpg");
+    }
+
+    @Test
+    void shouldMapProjectedRowToInterpreterListResponseDTO() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        InterpreterListingRow row = new InterpreterListingRow(id, "John Doe", "profile.jpg", null,
+                InterpreterModality.PERSONALLY);
+        List<LocationDTO> locations = List.of(LocationDTO.builder().uf("RS").city("Porto Alegre").build());
+        List<SpecialtyResponseDTO> specialties = List.of(SpecialtyResponseDTO.builder().name("Libras").build());
+
+        // Act
+        InterpreterListResponseDTO listResponseDTO = mapper.toListResponseDTO(row, locations, specialties);
+
+        // Assert
+        assertThat(listResponseDTO.getId()).isEqualTo(id);
+        assertThat(listResponseDTO.getName()).isEqualTo("John Doe");
+        assertThat(listResponseDTO.getPicture()).isEqualTo("profile.jpg");
+        assertThat(listResponseDTO.getProfessionalData().getRating()).isEqualTo(BigDecimal.ZERO);
+        assertThat(listResponseDTO.getProfessionalData().getModality()).isEqualTo(InterpreterModality.PERSONALLY);
+        assertThat(listResponseDTO.getLocations()).isEqualTo(locations);
+        assertThat(listResponseDTO.getSpecialties()).isEqualTo(specialties);
+    }
+}
@@ -47,7 +47,8 @@ class RatingResponseMapperTest {
         LocalDateTime ratingDate = LocalDateTime.of(2025, 10, 31, 9, 30, 50);
         UUID ratingId = UUID.fromString("24ccf183-22af-45e5-b06c-c6c78121839c");
 
-        Rating rating = new Rating(ratingId, BigDecimal.valueOf(4.5), "Intérprete competente", appointment, ratingDate, ratingDate);
+        Rating rating = new Rating(ratingId, BigDecimal.valueOf(4.5), "Intérprete competente", appointment,
+                UUID.randomUUID(), ratingDate, ratingDate);
 
         RatingResponseDTO actualResponse = ratingResponseMapper.toResponseDTO(rating);
         assertEquals(ratingId, actualResponse.getId());
@@ -0,0 +1,89 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
+import com.pointtils.pointtils.src.core.domain.events.AppointmentStatusChangedEvent;
+import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentExpiryServiceTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AppointmentExpiryService appointmentExpiryService;
+
+    @Test
+    @DisplayName("Deve cancelar pendentes, concluir aceitos e publicar um evento por agendamento")
+    void shouldTransitionLockedAppointmentsAndPublishEvents() {
+        UUID pendingId = UUID.randomUUID();
+        UUID acceptedId = UUID.randomUUID();
+        when(appointmentRepository.findExpiredOpenForUpdate(any(LocalDate.class), any(LocalTime.class), eq(50)))
+                .thenReturn(List.of(new Object[]{pendingId.toString(), "PENDING"},
+                        new Object[]{acceptedId.toString(), "ACCEPTED"}));
+        when(appointmentRepository.updateStatusByIdInAndStatus(List.of(pendingId), AppointmentStatus.PENDING,
+                AppointmentStatus.CANCELED)).thenReturn(1);
+        when(appointmentRepository.updateStatusByIdInAndStatus(List.of(acceptedId), AppointmentStatus.ACCEPTED,
+                AppointmentStatus.COMPLETED)).thenReturn(1);
+
+        int expired = appointmentExpiryService.expireDueAppointments(50);
+
+        assertEquals(2, expired);
+        verify(eventPublisher).publishEvent(new AppointmentStatusChangedEvent(pendingId,
+                AppointmentStatus.PENDING, AppointmentStatus.CANCELED));
+        verify(eventPublisher).publishEvent(new AppointmentStatusChangedEvent(acceptedId,
+                AppointmentStatus.ACCEPTED, AppointmentStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Não deve atualizar nada quando não há agendamentos vencidos")
+    void shouldDoNothingWhenNothingIsDue() {
+        when(appointmentRepository.findExpiredOpenForUpdate(any(LocalDate.class), any(LocalTime.class), anyInt()))
+                .thenReturn(List.of());
+
+        assertEquals(0, appointmentExpiryService.expireDueAppointments(50));
+        verify(appointmentRepository, never()).updateStatusByIdInAndStatus(any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve retornar os próximos prazos de término em ordem")
+    void shouldMapNextDeadlines() {
+        LocalDate date = LocalDate.of(2026, 10, 20);
+        when(appointmentRepository.findDeadlinesByStatusIn(eq(List.of(AppointmentStatus.PENDING,
+                AppointmentStatus.ACCEPTED)), any(Pageable.class)))
+                .thenReturn(List.of(new Object[]{UUID.randomUUID(), date, LocalTime.of(10, 0)},
+                        new Object[]{UUID.randomUUID(), date, LocalTime.of(11, 30)}));
+
+        List<LocalDateTime> deadlines = appointmentExpiryService.findNextDeadlines(2);
+
+        assertEquals(List.of(LocalDateTime.of(date, LocalTime.of(10, 0)), LocalDateTime.of(date, LocalTime.of(11, 30))),
+                deadlines);
+    }
+}
@@ -10,6 +10,7 @@ import com.pointtils.pointtils.src.application.mapper.UserSpecialtyMapper;
 import com.pointtils.pointtils.src.core.domain.entities.Appointment;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
 import com.pointtils.pointtils.src.core.domain.entities.Person;
+import com.pointtils.pointtils.src.core.domain.entities.Rating;
 import com.pointtils.pointtils.src.core.domain.entities.User;
 import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentModality;
 import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
@@ -18,6 +19,7 @@ import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentReposi
 import com.pointtils.pointtils.src.infrastructure.repositories.InterpreterRepository;
 import com.pointtils.pointtils.src.infrastructure.repositories.RatingRepository;
 import com.pointtils.pointtils.src.infrastructure.repositories.UserRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.spec.AppointmentSpecification;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,11 +32,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -42,8 +48,10 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -73,6 +81,10 @@ class AppointmentServiceTest {
     private EmailService emailService;
     @Mock
     private NotificationService notificationService;
+    @Mock
+    private InterpreterSlotService interpreterSlotService;
+    @Mock
+    private RatingService ratingService;
 
     @Spy
     private AppointmentMapper appointmentMapper = new AppointmentMapper(new UserSpecialtyMapper());
@@ -287,6 +299,9 @@ class AppointmentServiceTest {
         verify(notificationService).scheduleNotificationForUser(interpreterId, NotificationType.APPOINTMENT_REMINDER,
                 LocalDateTime.of(2025, 11, 7, 14, 0));
         verifyNoMoreInteractions(notificationService);
+        verifyNoInteractions(ratingService);
+        verify(interpreterSlotService).refreshDay(interpreterId, LocalDate.of(2025, 11, 8));
+        verify(interpreterSlotService).refreshDay(interpreterId, LocalDate.now().plusDays(1));
     }
 
     @ParameterizedTest
@@ -335,26 +350,27 @@ class AppointmentServiceTest {
     @Test
     @DisplayName("Deve deletar appointment por ID")
     void shouldDeleteAppointmentById() {
-        when(appointmentRepository.existsById(appointmentId)).thenReturn(true);
+        when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.of(mockAppointment));
         doNothing().when(appointmentRepository).deleteById(appointmentId);
 
         appointmentService.delete(appointmentId);
 
-        verify(appointmentRepository).existsById(appointmentId);
+        verify(appointmentRepository).findById(appointmentId);
         verify(appointmentRepository).deleteById(appointmentId);
         verifyNoInteractions(notificationService);
+        verifyNoInteractions(interpreterSlotService);
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao deletar appointment inexistente")
     void shouldThrowExceptionWhenDeletingNonExistentAppointment() {
-        when(appointmentRepository.existsById(appointmentId)).thenReturn(false);
+        when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
                 () -> appointmentService.delete(appointmentId));
 
         assertEquals("Solicitação não encontrada com o id: " + appointmentId, exception.getMessage());
-        verify(appointmentRepository).existsById(appointmentId);
+        verify(appointmentRepository).findById(appointmentId);
         verify(appointmentRepository, never()).deleteById(any());
         verifyNoInteractions(notificationService);
     }
@@ -362,31 +378,37 @@ class AppointmentServiceTest {
     @Test
     @DisplayName("Deve buscar appointments com filtros")
     void shouldSearchAppointmentsWithFilters() {
-        List<Appointment> appointments = Collections.singletonList(mockAppointment);
-        when(appointmentRepository.findAll()).thenReturn(appointments);
+        when(appointmentRepository.findSliceWithParticipants(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(mockAppointment)));
 
         LocalDateTime fromDateTime = LocalDateTime.now();
 
         List<AppointmentFilterResponseDTO> result = appointmentService.searchAppointments(
-                interpreterId, userId, AppointmentStatus.PENDING, AppointmentModality.ONLINE, fromDateTime, true, -1);
+                interpreterId, userId, AppointmentStatus.PENDING, AppointmentModality.ONLINE, fromDateTime, true, -1,
+                PageRequest.of(0, 10));
 
         assertNotNull(result);
-        verify(appointmentRepository).findAll();
+        assertEquals(1, result.size());
+        assertEquals(userId, result.get(0).getContactData().getId());
+        verify(appointmentRepository).findSliceWithParticipants(any(Specification.class),
+                eq(PageRequest.of(0, 10, AppointmentSpecification.DEFAULT_SORT)));
         verifyNoInteractions(notificationService);
     }
 
     @Test
     @DisplayName("Deve buscar appointments sem filtros")
     void shouldSearchAppointmentsWithoutFilters() {
-        List<Appointment> appointments = Collections.singletonList(mockAppointment);
-        when(appointmentRepository.findAll()).thenReturn(appointments);
+        when(appointmentRepository.findSliceWithParticipants(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(mockAppointment)));
 
         List<AppointmentFilterResponseDTO> result = appointmentService.searchAppointments(
-                null, null, null, null, null, null, -1);
+                null, null, null, null, null, null, -1, Pageable.unpaged());
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(appointmentRepository).findAll();
+        assertEquals(interpreterId, result.get(0).getContactData().getId());
+        verify(appointmentRepository).findSliceWithParticipants(any(Specification.class),
+                eq(Pageable.unpaged(AppointmentSpecification.DEFAULT_SORT)));
         verifyNoInteractions(notificationService);
     }
 
@@ -439,6 +461,7 @@ class AppointmentServiceTest {
         verify(interpreterRepository).findById(newInterpreterId);
         verify(userRepository).findById(newUserId);
         verify(appointmentRepository).save(any(Appointment.class));
+        verify(ratingService).moveAppointmentRatings(appointmentId, newInterpreterId);
         verifyNoInteractions(notificationService);
     }
 
@@ -502,191 +525,59 @@ class AppointmentServiceTest {
         verifyNoInteractions(notificationService);
     }
 
-    @Test
-    @DisplayName("Deve filtrar appointments por interpreterId")
-    void shouldFilterAppointmentsByInterpreterId() {
-        UUID otherInterpreterId = UUID.randomUUID();
-        Interpreter otherInterpreter = Interpreter.builder().id(otherInterpreterId).build();
-
-        Appointment otherAppointment = Appointment.builder()
-                .id(UUID.randomUUID())
-                .interpreter(otherInterpreter)
-                .user(mockUser)
-                .status(AppointmentStatus.PENDING)
-                .modality(AppointmentModality.ONLINE)
-                .date(LocalDate.now())
-                .startTime(LocalTime.of(10, 0))
-                .build();
-
-        List<Appointment> appointments = Arrays.asList(mockAppointment, otherAppointment);
-        when(appointmentRepository.findAll()).thenReturn(appointments);
-
-        List<AppointmentFilterResponseDTO> result = appointmentService.searchAppointments(
-                interpreterId, null, null, null, null, null, -1);
-
-        assertNotNull(result);
-        assertEquals(1, result.size()); // Só deve retornar o mockAppointment
-        verify(appointmentRepository).findAll();
-        verifyNoInteractions(notificationService);
-    }
-
-    @Test
-    @DisplayName("Deve filtrar appointments por userId")
-    void shouldFilterAppointmentsByUserId() {
-        User otherUser = new Person() {
-            @Override
-            public String getDisplayName() {
-                return "Other User";
-            }
-        };
-        UUID otherUserId = UUID.randomUUID();
-        otherUser.setId(otherUserId);
-
-        Appointment otherAppointment = Appointment.builder()
-                .id(UUID.randomUUID())
-                .interpreter(mockInterpreter)
-                .user(otherUser)
-                .status(AppointmentStatus.PENDING)
-                .modality(AppointmentModality.ONLINE)
-                .date(LocalDate.now())
-                .startTime(LocalTime.of(10, 0))
-                .build();
-
-        List<Appointment> appointments = Arrays.asList(mockAppointment, otherAppointment);
-        when(appointmentRepository.findAll()).thenReturn(appointments);
-
-        List<AppointmentFilterResponseDTO> result = appointmentService.searchAppointments(
-                null, userId, null, null, null, null, -1);
-
-        assertNotNull(result);
-        assertEquals(1, result.size()); // Só deve retornar o mockAppointment
-        verify(appointmentRepository).findAll();
-        verifyNoInteractions(notificationService);
-    }
-
-    @Test
-    @DisplayName("Deve filtrar appointments por status")
-    void shouldFilterAppointmentsByStatus() {
-        Appointment acceptedAppointment = Appointment.builder()
-                .id(UUID.randomUUID())
-                .interpreter(mockInterpreter)
-                .user(mockUser)
-                .status(AppointmentStatus.ACCEPTED)
-                .modality(AppointmentModality.ONLINE)
-                .date(LocalDate.now())
-                .startTime(LocalTime.of(10, 0))
-                .build();
-
-        List<Appointment> appointments = Arrays.asList(mockAppointment, acceptedAppointment);
-        when(appointmentRepository.findAll()).thenReturn(appointments);
-
-        List<AppointmentFilterResponseDTO> result = appointmentService.searchAppointments(
-                null, null, AppointmentStatus.PENDING, null, null, null, -1);
-
-        assertNotNull(result);
-        assertEquals(1, result.size()); // Só deve retornar o mockAppointment (PENDING)
-        verify(appointmentRepository).findAll();
-        verifyNoInteractions(notificationService);
-    }
-
-    @Test
-    @DisplayName("Deve filtrar appointments por modality")
-    void shouldFilterAppointmentsByModality() {
-        Appointment personallyAppointment = Appointment.builder()
-                .id(UUID.randomUUID())
-                .interpreter(mockInterpreter)
-                .user(mockUser)
-                .status(AppointmentStatus.PENDING)
-                .modality(AppointmentModality.PERSONALLY)
-                .date(LocalDate.now())
-                .startTime(LocalTime.of(10, 0))
-                .build();
-
-        List<Appointment> appointments = Arrays.asList(mockAppointment, personallyAppointment);
-        when(appointmentRepository.findAll()).thenReturn(appointments);
-
-        List<AppointmentFilterResponseDTO> result = appointmentService.searchAppointments(
-                null, null, null, AppointmentModality.ONLINE, null, null, -1);
-
-        assertNotNull(result);
-        assertEquals(1, result.size()); // Só deve retornar o mockAppointment (ONLINE)
-        verify(appointmentRepository).findAll();
-        verifyNoInteractions(notificationService);
-    }
-
-    @Test
-    @DisplayName("Deve filtrar appointments por data posterior")
-    void shouldFilterAppointmentsByFromDateTime() {
-        // Appointment no passado
-        Appointment pastAppointment = Appointment.builder()
-                .id(UUID.randomUUID())
-                .interpreter(mockInterpreter)
-                .user(mockUser)
-                .status(AppointmentStatus.PENDING)
-                .modality(AppointmentModality.ONLINE)
-                .date(LocalDate.now().minusDays(1))
-                .startTime(LocalTime.of(10, 0))
-                .build();
-
-        List<Appointment> appointments = Arrays.asList(mockAppointment, pastAppointment);
-        when(appointmentRepository.findAll()).thenReturn(appointments);
-
-        LocalDateTime fromDateTime = LocalDateTime.now(); // Filtro para appointments após agora
-
-        List<AppointmentFilterResponseDTO> result = appointmentService.searchAppointments(
-                null, null, null, null, fromDateTime, null, -1);
-
-        assertNotNull(result);
-        assertEquals(1, result.size()); // Só deve retornar o mockAppointment (futuro)
-        verify(appointmentRepository).findAll();
-        verifyNoInteractions(notificationService);
-    }
-
     @Test
     @DisplayName("Deve retornar lista vazia quando filtros não encontram nada")
     void shouldReturnEmptyListWhenFiltersMatchNothing() {
-        List<Appointment> appointments = Collections.singletonList(mockAppointment);
-        when(appointmentRepository.findAll()).thenReturn(appointments);
+        when(appointmentRepository.findSliceWithParticipants(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         UUID nonExistentId = UUID.randomUUID();
         List<AppointmentFilterResponseDTO> result = appointmentService.searchAppointments(
-                nonExistentId, null, null, null, null, null, -1);
+                nonExistentId, null, null, null, null, null, -1, Pageable.unpaged());
 
         assertNotNull(result);
         assertEquals(0, result.size());
-        verify(appointmentRepository).findAll();
+        verify(appointmentRepository).findSliceWithParticipants(any(Specification.class), any(Pageable.class));
         verifyNoInteractions(notificationService);
     }
 
     @Test
     @DisplayName("Should filter appointments by hasRating=true")
     void shouldFilterAppointmentsByHasRatingTrue() {
-        List<Appointment> appointments = Collections.singletonList(mockAppointment);
-        when(appointmentRepository.findAll()).thenReturn(appointments);
-        when(ratingRepository.existsByAppointment(mockAppointment)).thenReturn(true);
+        Rating rating = Rating.builder()
+                .id(UUID.randomUUID())
+                .stars(new BigDecimal("4.50"))
+                .appointment(mockAppointment)
+                .build();
+        when(appointmentRepository.findSliceWithParticipants(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(mockAppointment)));
+        when(ratingRepository.findByAppointmentIdIn(List.of(appointmentId))).thenReturn(List.of(rating));
 
         List<AppointmentFilterResponseDTO> result = appointmentService.searchAppointments(
-                null, null, null, null, null, true, -1);
+                null, null, null, null, null, true, -1, Pageable.unpaged());
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(ratingRepository).existsByAppointment(mockAppointment);
+        assertEquals(rating.getId(), result.get(0).getRatingId());
+        assertEquals(new BigDecimal("4.50"), result.get(0).getRatingStars());
+        verify(ratingRepository).findByAppointmentIdIn(List.of(appointmentId));
+        verify(ratingRepository, never()).existsByAppointment(any());
         verifyNoInteractions(notificationService);
     }
 
     @Test
     @DisplayName("Should filter appointments by hasRating=false")
     void shouldFilterAppointmentsByHasRatingFalse() {
-        List<Appointment> appointments = Collections.singletonList(mockAppointment);
-        when(appointmentRepository.findAll()).thenReturn(appointments);
-        when(ratingRepository.existsByAppointment(mockAppointment)).thenReturn(false);
+        when(appointmentRepository.findSliceWithParticipants(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(mockAppointment)));
 
         List<AppointmentFilterResponseDTO> result = appointmentService.searchAppointments(
-                null, null, null, null, null, false, -1);
+                null, null, null, null, null, false, -1, Pageable.unpaged());
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(ratingRepository).existsByAppointment(mockAppointment);
+        assertNull(result.get(0).getRatingId());
+        verifyNoInteractions(ratingRepository);
         verifyNoInteractions(notificationService);
     }
 
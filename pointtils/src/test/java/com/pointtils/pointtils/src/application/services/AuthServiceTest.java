@@ -20,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -315,6 +316,12 @@ class AuthServiceTest {
 
         when(jwtTokenProvider.isTokenValid(accessToken)).thenReturn(true);
         when(jwtTokenProvider.isTokenValid(refreshToken)).thenReturn(true);
+        Instant accessExpiration = Instant.now().plusSeconds(900);
+        Instant refreshExpiration = Instant.now().plusSeconds(86400);
+        when(jwtTokenProvider.verifyToken(accessToken))
+                .thenReturn(new JwtService.VerifiedToken("user@exemplo.com", accessExpiration));
+        when(jwtTokenProvider.verifyToken(refreshToken))
+                .thenReturn(new JwtService.VerifiedToken("user@exemplo.com", refreshExpiration));
 
         Boolean result = loginService.logout(accessToken, refreshToken);
 
@@ -323,8 +330,8 @@ class AuthServiceTest {
         assertTrue(result);
 
         // Verificar que os tokens foram adicionados à blacklist
-        verify(memoryBlacklistService).addToBlacklist(accessToken);
-        verify(memoryBlacklistService).addToBlacklist(refreshToken);
+        verify(memoryBlacklistService).addToBlacklist(accessToken, accessExpiration);
+        verify(memoryBlacklistService).addToBlacklist(refreshToken, refreshExpiration);
     }
 
     @Test
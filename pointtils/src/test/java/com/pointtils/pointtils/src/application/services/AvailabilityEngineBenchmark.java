@@ -0,0 +1,177 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.DayOfWeek;
+import com.pointtils.pointtils.src.infrastructure.repositories.ScheduleRepository;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a busca de intérpretes com N horários seguidos livres feita pelo {@link AvailabilityEngine} com a mesma
+ * busca em SQL sobre a consulta de disponibilidade original ({@link ScheduleRepository#findAvailableTimeSlots}, que
+ * gera os horários livres a partir de schedule e appointment), sem o filtro de intérprete e com gaps-and-islands
+ * para achar as sequências, na massa de dados grande.
+ * <p>
+ * Usa o banco informado na propriedade {@code benchmark.jdbc-url} (com {@code benchmark.username} e
+ * {@code benchmark.password}) ou sobe um PostgreSQL com Testcontainers. Execução:
+ * {@code mvn test-compile exec:exec -Pbenchmark -Dbenchmark.include=AvailabilityEngineBenchmark
+ * -Dbenchmark.jvmArgs=-Dbenchmark.jdbc-url=jdbc:postgresql://localhost:5432/pointtils}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AvailabilityEngineBenchmark {
+
+    private static final LocalDate HORIZON_START = LocalDate.of(2024, 6, 1);
+    private static final int HORIZON_DAYS = 30;
+    private static final LocalDate WEEK_START = LocalDate.of(2024, 6, 3);
+    private static final LocalDate WEEK_END = LocalDate.of(2024, 6, 9);
+
+    private static final String SQL_AVAILABLE_INTERPRETERS = """
+            SELECT DISTINCT interpreter_id
+            FROM (SELECT interpreter_id,
+                         COUNT(*) OVER (PARTITION BY interpreter_id, slot_date, grp) AS run_length
+                  FROM (SELECT interpreterId AS interpreter_id, selected_date AS slot_date,
+                               EXTRACT(EPOCH FROM startTime) / 1800
+                                   - ROW_NUMBER() OVER (PARTITION BY interpreterId, selected_date
+                                                        ORDER BY startTime) AS grp
+                        FROM (%s) available) slots) runs
+            WHERE run_length >= ?
+            """;
+
+    @Param({"2", "4", "8"})
+    private int consecutiveSlots;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private AvailabilityEngine availabilityEngine;
+    private String originalAvailabilitySql;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String jdbcUrl = System.getProperty("benchmark.jdbc-url");
+        String username = System.getProperty("benchmark.username", "postgres");
+        String password = System.getProperty("benchmark.password", "");
+        if (jdbcUrl == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+            postgres.start();
+            jdbcUrl = postgres.getJdbcUrl();
+            username = postgres.getUsername();
+            password = postgres.getPassword();
+            Flyway.configure().dataSource(jdbcUrl, username, password)
+                    .locations("classpath:db/migration").load().migrate();
+        }
+        connection = DriverManager.getConnection(jdbcUrl, username, password);
+        if (postgres != null) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/explain/seed_large_dataset.sql"));
+        }
+        originalAvailabilitySql = SQL_AVAILABLE_INTERPRETERS.formatted(originalAvailableTimeSlotsSql());
+
+        // Relógio parado no início do horizonte carregado, para o índice nunca ser reconstruído durante a medição
+        Clock clock = Clock.fixed(HORIZON_START.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        availabilityEngine = new AvailabilityEngine(null, null, clock, HORIZON_DAYS, Duration.ofDays(1));
+        availabilityEngine.load(HORIZON_START,
+                readRows("SELECT interpreter_id, day, start_time, end_time FROM schedule", true),
+                readRows("SELECT interpreter_id, date, start_time, end_time FROM appointment "
+                        + "WHERE status IN ('ACCEPTED', 'COMPLETED') AND date BETWEEN DATE '" + HORIZON_START
+                        + "' AND DATE '" + HORIZON_START.plusDays(HORIZON_DAYS - 1L) + "'", false));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public List<UUID> availabilityEngine() {
+        return availabilityEngine.findAvailableInterpreters(WEEK_START, WEEK_END, consecutiveSlots);
+    }
+
+    @Benchmark
+    public List<UUID> sqlOverOriginalAvailabilityQuery() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(originalAvailabilitySql)) {
+            statement.setObject(1, WEEK_START);
+            statement.setObject(2, WEEK_END);
+            statement.setInt(3, consecutiveSlots);
+            List<UUID> interpreters = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    interpreters.add(resultSet.getObject(1, UUID.class));
+                }
+            }
+            return interpreters;
+        }
+    }
+
+    /**
+     * Consulta usada pela disponibilidade antes do índice, sem o filtro de intérprete e sem a ordenação final
+     */
+    private static String originalAvailableTimeSlotsSql() throws NoSuchMethodException {
+        String sql = ScheduleRepository.class
+                .getMethod("findAvailableTimeSlots", UUID.class, LocalDate.class, LocalDate.class)
+                .getAnnotation(Query.class)
+                .value();
+        return sql.substring(0, sql.lastIndexOf("ORDER BY"))
+                .replace("WHERE interpreter_id = :interpreterId", "")
+                .replace("CAST(:dateFrom AS DATE)", "CAST(? AS DATE)")
+                .replace("CAST(:dateTo AS DATE)", "CAST(? AS DATE)");
+    }
+
+    private List<Object[]> readRows(String sql, boolean dayOfWeek) throws SQLException {
+        List<Object[]> rows = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows.add(new Object[]{
+                        resultSet.getObject(1, UUID.class),
+                        dayOfWeek ? DayOfWeek.valueOf(resultSet.getString(2)) : resultSet.getObject(2, LocalDate.class),
+                        resultSet.getObject(3, LocalTime.class),
+                        resultSet.getObject(4, LocalTime.class)});
+            }
+        }
+        return rows;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AvailabilityEngineBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,221 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
+import com.pointtils.pointtils.src.core.domain.entities.enums.DayOfWeek;
+import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do AvailabilityEngine")
+class AvailabilityEngineTest {
+
+    private static final int HORIZON_DAYS = 14;
+    // Segunda-feira
+    private static final LocalDate START = LocalDate.of(2025, 9, 29);
+    private static final ZoneId ZONE_ID = ZoneId.of("America/Sao_Paulo");
+    // 23:30 em São Paulo, já no dia seguinte em UTC
+    private static final Clock CLOCK = Clock.fixed(START.atTime(23, 30).atZone(ZONE_ID).toInstant(), ZONE_ID);
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    private AvailabilityEngine availabilityEngine;
+    private UUID interpreterId;
+
+    @BeforeEach
+    void setUp() {
+        availabilityEngine = new AvailabilityEngine(scheduleRepository, appointmentRepository, CLOCK, HORIZON_DAYS,
+                Duration.ofMinutes(10));
+        interpreterId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve considerar apenas sequências dentro do horário de atendimento")
+    void shouldFindInterpreterWithEnoughConsecutiveSlots() {
+        availabilityEngine.load(START, List.<Object[]>of(window(interpreterId, DayOfWeek.MON, "09:00", "11:00")), List.of());
+
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 4)).containsExactly(interpreterId);
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 5)).isEmpty();
+        assertThat(availabilityEngine.findAvailableInterpreters(START.plusDays(1), START.plusDays(6), 1)).isEmpty();
+        assertThat(availabilityEngine.findAvailableInterpreters(START.plusDays(1), START.plusDays(7), 4))
+                .containsExactly(interpreterId);
+    }
+
+    @Test
+    @DisplayName("Deve remover horários ocupados por agendamentos")
+    void shouldClearSlotsTakenByAppointments() {
+        UUID otherInterpreterId = UUID.randomUUID();
+        availabilityEngine.load(START,
+                List.<Object[]>of(window(interpreterId, DayOfWeek.MON, "09:00", "11:00"),
+                        window(otherInterpreterId, DayOfWeek.MON, "09:00", "11:00")),
+                List.<Object[]>of(interval(interpreterId, START, "09:45", "10:15")));
+
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 1))
+                .containsExactlyInAnyOrder(interpreterId, otherInterpreterId);
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 2)).containsExactly(otherInterpreterId);
+    }
+
+    @Test
+    @DisplayName("Deve arredondar horários de atendimento que não começam em meia hora cheia")
+    void shouldAlignScheduleWindowsToSlots() {
+        availabilityEngine.load(START, List.<Object[]>of(window(interpreterId, DayOfWeek.MON, "09:10", "10:50")), List.of());
+
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 2)).containsExactly(interpreterId);
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve unir horários livres de dias diferentes")
+    void shouldNotJoinSlotsAcrossMidnight() {
+        availabilityEngine.load(START,
+                List.<Object[]>of(window(interpreterId, DayOfWeek.MON, "23:00", "23:59:59"),
+                        window(interpreterId, DayOfWeek.TUE, "00:00", "01:00")),
+                List.of());
+
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START.plusDays(1), 2))
+                .containsExactly(interpreterId);
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START.plusDays(1), 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar um dia inteiro livre")
+    void shouldFindWholeDayAvailability() {
+        availabilityEngine.load(START, List.<Object[]>of(window(interpreterId, DayOfWeek.WED, "00:00", "23:59:59")), List.of());
+
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START.plusDays(HORIZON_DAYS), 47))
+                .containsExactly(interpreterId);
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START.plusDays(HORIZON_DAYS), 48)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar datas fora do horizonte")
+    void shouldIgnoreDatesOutsideHorizon() {
+        availabilityEngine.load(START, List.<Object[]>of(window(interpreterId, DayOfWeek.MON, "09:00", "11:00")), List.of());
+
+        assertThat(availabilityEngine.findAvailableInterpreters(START.minusDays(7), START.minusDays(1), 1)).isEmpty();
+        assertThat(availabilityEngine.findAvailableInterpreters(START.plusDays(HORIZON_DAYS), START.plusDays(30), 1))
+                .isEmpty();
+        assertThat(availabilityEngine.findAvailableInterpreters(START.minusDays(7), START, 1))
+                .containsExactly(interpreterId);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para quantidade de horários ou período inválidos")
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityEngine.findAvailableInterpreters(START, START, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityEngine.findAvailableInterpreters(START, START, 49));
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityEngine.findAvailableInterpreters(START.plusDays(1), START, 1));
+        verifyNoInteractions(scheduleRepository, appointmentRepository);
+    }
+
+    @Test
+    @DisplayName("Deve construir o índice na primeira consulta a partir de hoje no fuso de São Paulo")
+    void shouldRebuildOnFirstQuery() {
+        when(scheduleRepository.findAllScheduleWindows())
+                .thenReturn(List.<Object[]>of(window(interpreterId, DayOfWeek.MON, "09:00", "10:00")));
+        when(appointmentRepository.findIntervalsByStatusInAndDateBetween(
+                List.of(AppointmentStatus.ACCEPTED, AppointmentStatus.COMPLETED), START, START.plusDays(HORIZON_DAYS - 1L)))
+                .thenReturn(List.of());
+
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 2)).containsExactly(interpreterId);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o índice carregado em outro dia antes de responder")
+    void shouldRebuildIndexLoadedOnAnotherDay() {
+        availabilityEngine.load(START.minusDays(1), List.of(), List.of());
+        when(scheduleRepository.findAllScheduleWindows())
+                .thenReturn(List.<Object[]>of(window(interpreterId, DayOfWeek.MON, "09:00", "10:00")));
+        when(appointmentRepository.findIntervalsByStatusInAndDateBetween(anyCollection(), eq(START), any()))
+                .thenReturn(List.of());
+
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 2)).containsExactly(interpreterId);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir periodicamente apenas o índice já carregado")
+    void shouldRebuildOnlyLoadedIndex() {
+        availabilityEngine.rebuildIfLoaded();
+        verifyNoInteractions(scheduleRepository, appointmentRepository);
+
+        availabilityEngine.load(START, List.of(), List.of());
+        when(scheduleRepository.findAllScheduleWindows())
+                .thenReturn(List.<Object[]>of(window(interpreterId, DayOfWeek.MON, "09:00", "10:00")));
+        when(appointmentRepository.findIntervalsByStatusInAndDateBetween(anyCollection(), eq(START), any()))
+                .thenReturn(List.of());
+        availabilityEngine.rebuildIfLoaded();
+
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 2)).containsExactly(interpreterId);
+    }
+
+    @Test
+    @DisplayName("Deve recalcular apenas o intérprete alterado")
+    void shouldRefreshSingleInterpreter() {
+        availabilityEngine.load(START, List.<Object[]>of(window(interpreterId, DayOfWeek.MON, "09:00", "11:00")), List.of());
+        when(scheduleRepository.findScheduleWindowsByInterpreterId(interpreterId))
+                .thenReturn(List.<Object[]>of(window(interpreterId, DayOfWeek.MON, "09:00", "11:00")));
+        when(appointmentRepository.findIntervalsByInterpreterIdAndStatusInAndDateBetween(
+                eq(interpreterId), anyCollection(), eq(START), eq(START.plusDays(HORIZON_DAYS - 1L))))
+                .thenReturn(List.<Object[]>of(interval(interpreterId, START, "09:00", "10:30")));
+
+        availabilityEngine.refreshInterpreter(interpreterId);
+
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 1)).containsExactly(interpreterId);
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve remover do índice o intérprete sem horários de atendimento")
+    void shouldRemoveInterpreterWithoutSchedules() {
+        availabilityEngine.load(START, List.<Object[]>of(window(interpreterId, DayOfWeek.MON, "09:00", "11:00")), List.of());
+        when(scheduleRepository.findScheduleWindowsByInterpreterId(any())).thenReturn(List.of());
+
+        availabilityEngine.refreshInterpreter(interpreterId);
+
+        assertThat(availabilityEngine.findAvailableInterpreters(START, START, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco ao recalcular antes de o índice ser construído")
+    void shouldIgnoreRefreshBeforeFirstLoad() {
+        availabilityEngine.refreshInterpreter(interpreterId);
+
+        verifyNoInteractions(scheduleRepository, appointmentRepository);
+    }
+
+    private static Object[] window(UUID interpreterId, DayOfWeek day, String startTime, String endTime) {
+        return new Object[]{interpreterId, day, LocalTime.parse(startTime), LocalTime.parse(endTime)};
+    }
+
+    private static Object[] interval(UUID interpreterId, LocalDate date, String startTime, String endTime) {
+        return new Object[]{interpreterId, date, LocalTime.parse(startTime), LocalTime.parse(endTime)};
+    }
+}
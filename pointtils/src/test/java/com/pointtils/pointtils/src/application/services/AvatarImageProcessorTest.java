@@ -0,0 +1,191 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.application.services.AvatarImageProcessor.AvatarVariants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AvatarImageProcessorTest {
+
+    private final AvatarImageProcessor processor = new AvatarImageProcessor(2048, 640, 160, 0.85f, 25_000_000L);
+
+    @Test
+    @DisplayName("Deve gerar original, média e miniatura quadrada em JPEG")
+    void shouldGenerateResizedVariants() throws IOException {
+        byte[] png = encode(image(3000, 2000, BufferedImage.TYPE_INT_RGB), "png");
+
+        AvatarVariants variants = processor.process(new ByteArrayInputStream(png));
+
+        assertSize(variants.original(), 2048, 1365);
+        assertSize(variants.medium(), 640, 427);
+        assertSize(variants.thumbnail(), 160, 160);
+        assertTrue(isJpeg(variants.original()));
+        assertTrue(variants.thumbnail().length < variants.medium().length);
+    }
+
+    @Test
+    @DisplayName("Deve subamostrar fotos grandes na decodificação sem ficar abaixo da variante original")
+    void shouldSubsampleLargePhotosWhileDecoding() throws IOException {
+        AvatarImageProcessor smallProcessor = new AvatarImageProcessor(200, 100, 50, 0.85f, 25_000_000L);
+        byte[] jpeg = encode(image(1300, 700, BufferedImage.TYPE_INT_RGB), "jpeg");
+
+        AvatarVariants variants = smallProcessor.process(new ByteArrayInputStream(jpeg));
+
+        assertEquals(6, AvatarImageProcessor.subsampling(1300, 700, 200));
+        assertEquals(1, AvatarImageProcessor.subsampling(300, 150, 200));
+        assertEquals(1, AvatarImageProcessor.subsampling(100, 50, 200));
+        assertSize(variants.original(), 200, 108);
+        assertSize(variants.medium(), 100, 54);
+        assertSize(variants.thumbnail(), 50, 50);
+    }
+
+    @Test
+    @DisplayName("Não deve ampliar imagens menores que as variantes")
+    void shouldNotUpscaleSmallImages() throws IOException {
+        byte[] png = encode(image(100, 50, BufferedImage.TYPE_INT_RGB), "png");
+
+        AvatarVariants variants = processor.process(new ByteArrayInputStream(png));
+
+        assertSize(variants.original(), 100, 50);
+        assertSize(variants.medium(), 100, 50);
+        assertSize(variants.thumbnail(), 50, 50);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a orientação EXIF e remover os metadados da foto")
+    void shouldApplyExifOrientationAndStripMetadata() throws IOException {
+        byte[] jpeg = withExif(encode(image(400, 200, BufferedImage.TYPE_INT_RGB), "jpeg"), 6);
+        assertEquals(6, AvatarImageProcessor.parseExifOrientation(exif(6)));
+
+        AvatarVariants variants = processor.process(new ByteArrayInputStream(jpeg));
+
+        assertSize(variants.original(), 200, 400);
+        assertFalse(contains(variants.original(), "Exif".getBytes(StandardCharsets.US_ASCII)));
+        assertFalse(contains(variants.thumbnail(), "Exif".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    @DisplayName("Deve preencher transparência com fundo branco")
+    void shouldFillTransparencyWithWhite() throws IOException {
+        BufferedImage transparent = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+
+        AvatarVariants variants = processor.process(new ByteArrayInputStream(encode(transparent, "png")));
+
+        Color pixel = new Color(ImageIO.read(new ByteArrayInputStream(variants.original())).getRGB(32, 32));
+        assertTrue(pixel.getRed() > 245 && pixel.getGreen() > 245 && pixel.getBlue() > 245);
+    }
+
+    @Test
+    @DisplayName("Deve recusar conteúdo que não é imagem")
+    void shouldRejectInvalidImage() {
+        ByteArrayInputStream content = new ByteArrayInputStream("não é uma imagem".getBytes(StandardCharsets.UTF_8));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> processor.process(content));
+        assertEquals("Arquivo de imagem inválido ou formato não suportado", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve recusar imagens acima da resolução máxima sem decodificar")
+    void shouldRejectImageAboveMaxPixels() throws IOException {
+        AvatarImageProcessor limitedProcessor = new AvatarImageProcessor(2048, 640, 160, 0.85f, 1_000L);
+        ByteArrayInputStream content = new ByteArrayInputStream(
+                encode(image(100, 100, BufferedImage.TYPE_INT_RGB), "png"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> limitedProcessor.process(content));
+        assertEquals("A imagem excede a resolução máxima permitida", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar blocos APP1 que não são EXIF")
+    void shouldIgnoreNonExifBlocks() {
+        assertEquals(0, AvatarImageProcessor.parseExifOrientation(
+                "http://ns.adobe.com/xap/1.0/".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(0, AvatarImageProcessor.parseExifOrientation(new byte[0]));
+    }
+
+    private static BufferedImage image(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.ORANGE);
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+
+    /**
+     * Bloco EXIF big-endian com apenas a tag Orientation no primeiro IFD
+     */
+    private static byte[] exif(int orientation) {
+        return ByteBuffer.allocate(32)
+                .put("Exif\0\0".getBytes(StandardCharsets.US_ASCII))
+                .put(new byte[]{'M', 'M', 0, 42}).putInt(8)
+                .putShort((short) 1)
+                .putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0)
+                .putInt(0)
+                .array();
+    }
+
+    /**
+     * Insere o segmento APP1 com o EXIF logo depois do segmento APP0 (JFIF) gravado pelo ImageIO
+     */
+    private static byte[] withExif(byte[] jpeg, int orientation) {
+        byte[] exif = exif(orientation);
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(jpeg, 0, app0End);
+        output.write(0xFF);
+        output.write(0xE1);
+        output.write((exif.length + 2) >> 8);
+        output.write((exif.length + 2) & 0xFF);
+        output.writeBytes(exif);
+        output.write(jpeg, app0End, jpeg.length - app0End);
+        return output.toByteArray();
+    }
+
+    private static void assertSize(byte[] jpeg, int width, int height) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+    }
+
+    private static boolean isJpeg(byte[] content) {
+        return (content[0] & 0xFF) == 0xFF && (content[1] & 0xFF) == 0xD8;
+    }
+
+    private static boolean contains(byte[] content, byte[] sequence) {
+        for (int i = 0; i <= content.length - sequence.length; i++) {
+            int j = 0;
+            while (j < sequence.length && content[i + j] == sequence[j]) {
+                j++;
+            }
+            if (j == sequence.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
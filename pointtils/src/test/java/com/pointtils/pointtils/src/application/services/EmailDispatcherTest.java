@@ -0,0 +1,159 @@
+package com.pointtils.pointtils.src.application.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+    @Mock
+    private TaskScheduler taskScheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailDispatcher dispatcher;
+    private final List<List<MimeMessage>> batches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new EmailDispatcher(mailSender, taskScheduler, meterRegistry, 200, 1, 50, 2, 1000);
+    }
+
+    @Test
+    @DisplayName("Deve enviar as mensagens da fila em lotes por conexão SMTP")
+    void shouldSendQueuedMessagesInBatches() throws MessagingException {
+        recordBatches(Map.of());
+        for (int i = 0; i < 120; i++) {
+            assertTrue(dispatcher.enqueue(message("Email " + i)));
+        }
+        assertEquals(120, meterRegistry.get("pointtils.email.outbox.size").gauge().value());
+
+        dispatcher.deliverQueued();
+
+        assertEquals(List.of(50, 50, 20), batches.stream().map(List::size).toList());
+        assertEquals(120, counter("sent"));
+        assertEquals(0, meterRegistry.get("pointtils.email.outbox.size").gauge().value());
+        assertEquals(3, meterRegistry.get("pointtils.email.send").timer().count());
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    @DisplayName("Deve reenviar apenas as mensagens com falha temporária com espera crescente")
+    void shouldRetryOnlyFailedMessagesWithBackoff() throws MessagingException {
+        MimeMessage first = message("Primeiro");
+        MimeMessage second = message("Segundo");
+        recordBatches(Map.of(second, new MessagingException("Conexão encerrada")));
+        dispatcher.enqueue(first);
+        dispatcher.enqueue(second);
+        Instant beforeDelivery = Instant.now();
+
+        dispatcher.deliverQueued();
+
+        ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Instant> instantCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(retryCaptor.capture(), instantCaptor.capture());
+        assertFalse(instantCaptor.getValue().isBefore(beforeDelivery.plusMillis(1000)));
+        assertEquals(1, counter("sent"));
+        assertEquals(1, counter("retry"));
+
+        recordBatches(Map.of());
+        retryCaptor.getValue().run();
+        dispatcher.deliverQueued();
+
+        assertEquals(List.of(List.of(first, second), List.of(second)), batches);
+        assertEquals(2, counter("sent"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar a mensagem após a quantidade máxima de tentativas")
+    void shouldDeadLetterAfterMaxAttempts() throws MessagingException {
+        MimeMessage email = message("Sem conexão");
+        doAnswer(invocation -> {
+            throw new MailSendException("Mail server connection failed");
+        }).when(mailSender).send(any(MimeMessage[].class));
+        dispatcher.enqueue(email);
+
+        dispatcher.deliverQueued();
+        ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(retryCaptor.capture(), any(Instant.class));
+        retryCaptor.getValue().run();
+        dispatcher.deliverQueued();
+
+        assertEquals(1, counter("retry"));
+        assertEquals(1, counter("dead_letter"));
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Deve descartar sem reenviar a mensagem recusada pelo servidor")
+    void shouldDeadLetterRejectedRecipients() throws MessagingException {
+        MimeMessage email = message("Destinatário inválido");
+        recordBatches(Map.of(email, new SendFailedException("Invalid Addresses")));
+        dispatcher.enqueue(email);
+
+        dispatcher.deliverQueued();
+
+        assertEquals(1, counter("dead_letter"));
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a mensagem quando a fila estiver cheia")
+    void shouldRejectMessageWhenQueueIsFull() throws MessagingException {
+        dispatcher = new EmailDispatcher(mailSender, taskScheduler, new SimpleMeterRegistry(), 1, 1, 50, 2, 1000);
+
+        assertTrue(dispatcher.enqueue(message("Primeiro")));
+        assertFalse(dispatcher.enqueue(message("Segundo")));
+    }
+
+    private void recordBatches(Map<Object, Exception> failures) {
+        doAnswer(invocation -> {
+            List<MimeMessage> batch = List.of((MimeMessage[]) invocation.getRawArguments()[0]);
+            batches.add(batch);
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            batch.stream().filter(failures::containsKey).forEach(message -> failed.put(message, failures.get(message)));
+            if (!failed.isEmpty()) {
+                throw new MailSendException(failed);
+            }
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("pointtils.email.messages").tag("result", result).counter().count();
+    }
+
+    private static MimeMessage message(String subject) throws MessagingException {
+        MimeMessage message = new MimeMessage((Session) null);
+        message.setSubject(subject);
+        return message;
+    }
+}
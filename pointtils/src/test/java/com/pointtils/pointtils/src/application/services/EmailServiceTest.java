@@ -1,31 +1,32 @@
 package com.pointtils.pointtils.src.application.services;
 
 import com.pointtils.pointtils.src.application.dto.email.AppointmentUpdateEmailDTO;
+import com.pointtils.pointtils.src.application.dto.email.EmailAttachmentDTO;
 import com.pointtils.pointtils.src.application.dto.email.ProcessAdminTemplateDTO;
 import com.pointtils.pointtils.src.application.dto.requests.EmailRequestDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterRegistrationEmailDTO;
+import com.pointtils.pointtils.src.application.util.CompiledTemplate;
 import com.pointtils.pointtils.src.core.domain.entities.Parameters;
 import com.pointtils.pointtils.src.infrastructure.repositories.InterpreterRepository;
 import com.pointtils.pointtils.src.infrastructure.repositories.ParametersRepository;
 import jakarta.mail.MessagingException;
 import jakarta.mail.Session;
 import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.Year;
 import java.util.Arrays;
@@ -34,15 +35,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -57,6 +54,9 @@ class EmailServiceTest {
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private EmailDispatcher emailDispatcher;
+
     @Mock
     private ParametersRepository parametersRepository;
 
@@ -66,7 +66,6 @@ class EmailServiceTest {
     @Mock
     private InterpreterRepository interpreterRepository;
 
-    @InjectMocks
     private EmailService emailService;
 
     private EmailRequestDTO emailRequestDTO;
@@ -76,6 +75,7 @@ class EmailServiceTest {
 
     @BeforeEach
     void setUp() {
+        emailService = new EmailService(mailSender, emailDispatcher, new EmailTemplateCache(parametersRepository, 10));
         ReflectionTestUtils.setField(emailService, "emailFrom", "test@pointtils.com");
         ReflectionTestUtils.setField(emailService, "senderName", "PointTils Test");
 
@@ -91,23 +91,20 @@ class EmailServiceTest {
     }
 
     @Test
-    @DisplayName("Deve enviar email simples com sucesso")
-    void deveEnviarEmailSimplesComSucesso() {
-        doNothing().when(mailSender).send(any(SimpleMailMessage.class));
+    @DisplayName("Deve enfileirar email simples com sucesso")
+    void deveEnviarEmailSimplesComSucesso() throws Exception {
+        MimeMessage mimeMessage = new MimeMessage((Session) null);
+        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
+        when(emailDispatcher.enqueue(mimeMessage)).thenReturn(true);
 
         boolean result = emailService.sendSimpleEmail(emailRequestDTO);
 
         assertTrue(result);
-        verify(mailSender).send(any(SimpleMailMessage.class));
-
-        ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-        verify(mailSender).send(messageCaptor.capture());
-
-        SimpleMailMessage sentMessage = messageCaptor.getValue();
-        assertEquals("test@pointtils.com", sentMessage.getFrom());
-        assertArrayEquals(new String[]{testEmail}, sentMessage.getTo());
-        assertEquals("Assunto Teste", sentMessage.getSubject());
-        assertEquals("Corpo do email teste", sentMessage.getText());
+        verify(emailDispatcher).enqueue(mimeMessage);
+        assertEquals("test@pointtils.com", mimeMessage.getFrom()[0].toString());
+        assertEquals(testEmail, mimeMessage.getAllRecipients()[0].toString());
+        assertEquals("Assunto Teste", mimeMessage.getSubject());
+        assertEquals("Corpo do email teste", mimeMessage.getContent());
     }
 
     @Test
@@ -116,18 +113,19 @@ class EmailServiceTest {
         boolean result = emailService.sendSimpleEmail(null);
 
         assertFalse(result);
-        verify(mailSender, never()).send(any(SimpleMailMessage.class));
+        verify(emailDispatcher, never()).enqueue(any(MimeMessage.class));
     }
 
     @Test
-    @DisplayName("Deve retornar false quando ocorrer exceção no envio simples")
+    @DisplayName("Deve retornar false quando a fila de emails estiver cheia no envio simples")
     void deveRetornarFalseQuandoOcorrerExcecaoNoEnvioSimples() {
-        doThrow(new RuntimeException("Erro de conexão")).when(mailSender).send(any(SimpleMailMessage.class));
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(false);
 
         boolean result = emailService.sendSimpleEmail(emailRequestDTO);
 
         assertFalse(result);
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -135,13 +133,13 @@ class EmailServiceTest {
     void deveEnviarEmailHTMLComSucesso() {
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendHtmlEmail(emailRequestDTO);
 
         assertTrue(result);
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -149,7 +147,7 @@ class EmailServiceTest {
     void deveEnviarEmailComAnexosComSucesso() {
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         byte[] attachment1 = "Conteúdo do anexo 1".getBytes();
         byte[] attachment2 = "Conteúdo do anexo 2".getBytes();
@@ -162,7 +160,7 @@ class EmailServiceTest {
 
         assertTrue(result);
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -172,7 +170,7 @@ class EmailServiceTest {
 
         assertFalse(result);
         verify(mailSender, never()).createMimeMessage();
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(emailDispatcher, never()).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -184,7 +182,7 @@ class EmailServiceTest {
 
         assertFalse(result);
         verify(mailSender).createMimeMessage();
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(emailDispatcher, never()).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -195,18 +193,18 @@ class EmailServiceTest {
         parameter.setKey("WELCOME_EMAIL");
         parameter.setValue(welcomeTemplate);
 
-        when(parametersRepository.findByKey("WELCOME_EMAIL")).thenReturn(Optional.of(parameter));
+        stubTemplate("WELCOME_EMAIL", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendWelcomeEmail(testEmail, testUserName);
 
         assertTrue(result);
-        verify(parametersRepository).findByKey("WELCOME_EMAIL");
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -217,18 +215,18 @@ class EmailServiceTest {
         parameter.setKey("PASSWORD_RESET");
         parameter.setValue(resetTemplate);
 
-        when(parametersRepository.findByKey("PASSWORD_RESET")).thenReturn(Optional.of(parameter));
+        stubTemplate("PASSWORD_RESET", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendPasswordResetEmail(testEmail, testUserName, testToken);
 
         assertTrue(result);
-        verify(parametersRepository).findByKey("PASSWORD_RESET");
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -239,19 +237,19 @@ class EmailServiceTest {
         parameter.setKey("APPOINTMENT_CONFIRMATION");
         parameter.setValue(appointmentTemplate);
 
-        when(parametersRepository.findByKey("APPOINTMENT_CONFIRMATION")).thenReturn(Optional.of(parameter));
+        stubTemplate("APPOINTMENT_CONFIRMATION", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendAppointmentConfirmationEmail(
                 testEmail, testUserName, "2024-12-01 10:00", "Maria Intérprete");
 
         assertTrue(result);
-        verify(parametersRepository).findByKey("APPOINTMENT_CONFIRMATION");
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -259,15 +257,14 @@ class EmailServiceTest {
     void deveEnviarEmailSolicitacaoCadastroInterpreteComSucesso() {
         String interpreterTemplate = "<html><body><h1>Nova solicitação</h1><p>Nome: {{nome}}</p><p>CPF: {{cpf}}</p><p>CNPJ: {{cnpj}}</p><p>Email: {{email}}</p><p>Telefone: {{telefone}}</p><a href=\"{link_api}\">Aceitar</a><a href=\"{link_api}\">Recusar</a></body></html>";
         Parameters parameter = new Parameters();
-        List<MultipartFile> files = List.of();
         parameter.setKey("PENDING_INTERPRETER_ADMIN");
         parameter.setValue(interpreterTemplate);
 
-        when(parametersRepository.findByKey("PENDING_INTERPRETER_ADMIN")).thenReturn(Optional.of(parameter));
+        stubTemplate("PENDING_INTERPRETER_ADMIN", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         InterpreterRegistrationEmailDTO dto = InterpreterRegistrationEmailDTO.builder()
                 .adminEmail("admin@pointtils.com")
@@ -278,7 +275,7 @@ class EmailServiceTest {
                 .phone("phone")
                 .acceptLink("http://accept")
                 .rejectLink("http://reject")
-                .files(files)
+                .attachments(List.of())
                 .build();
 
 
@@ -286,9 +283,9 @@ class EmailServiceTest {
 
 
         assertTrue(result);
-        verify(parametersRepository).findByKey("PENDING_INTERPRETER_ADMIN");
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -299,18 +296,18 @@ class EmailServiceTest {
         parameter.setKey("PENDING_INTERPRETER");
         parameter.setValue(feedbackTemplate);
 
-        when(parametersRepository.findByKey("PENDING_INTERPRETER")).thenReturn(Optional.of(parameter));
+        stubTemplate("PENDING_INTERPRETER", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendInterpreterFeedbackEmail(testEmail, testUserName, true);
 
         assertTrue(result);
-        verify(parametersRepository).findByKey("PENDING_INTERPRETER");
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -321,18 +318,18 @@ class EmailServiceTest {
         parameter.setKey("PENDING_INTERPRETER");
         parameter.setValue(feedbackTemplate);
 
-        when(parametersRepository.findByKey("PENDING_INTERPRETER")).thenReturn(Optional.of(parameter));
+        stubTemplate("PENDING_INTERPRETER", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendInterpreterFeedbackEmail(testEmail, testUserName, false);
 
         assertTrue(result);
-        verify(parametersRepository).findByKey("PENDING_INTERPRETER");
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
         verify(mailSender).createMimeMessage();
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -371,16 +368,16 @@ class EmailServiceTest {
         parameter.setKey("WELCOME_EMAIL");
         parameter.setValue(template);
 
-        when(parametersRepository.findByKey("WELCOME_EMAIL")).thenReturn(Optional.of(parameter));
+        stubTemplate("WELCOME_EMAIL", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         emailService.sendWelcomeEmail(testEmail, testUserName);
 
-        verify(parametersRepository).findByKey("WELCOME_EMAIL");
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -391,33 +388,33 @@ class EmailServiceTest {
         parameter.setKey("PASSWORD_RESET");
         parameter.setValue(template);
 
-        when(parametersRepository.findByKey("PASSWORD_RESET")).thenReturn(Optional.of(parameter));
+        stubTemplate("PASSWORD_RESET", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendPasswordResetEmail(testEmail, null, null);
 
         assertTrue(result);
-        verify(parametersRepository).findByKey("PASSWORD_RESET");
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
     @DisplayName("Deve usar template padrão quando template do banco for nulo")
     void deveUsarTemplatePadraoQuandoTemplateDoBancoForNulo() {
-        when(parametersRepository.findByKey("WELCOME_EMAIL")).thenReturn(Optional.empty());
+        stubTemplates();
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendWelcomeEmail(testEmail, testUserName);
 
         assertTrue(result);
-        verify(parametersRepository).findByKey("WELCOME_EMAIL");
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -428,18 +425,18 @@ class EmailServiceTest {
         parameter.setKey("APPOINTMENT_CONFIRMATION");
         parameter.setValue(template);
 
-        when(parametersRepository.findByKey("APPOINTMENT_CONFIRMATION")).thenReturn(Optional.of(parameter));
+        stubTemplate("APPOINTMENT_CONFIRMATION", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendAppointmentConfirmationEmail(
                 testEmail, testUserName, "2024-12-01 10:00", "Maria Intérprete");
 
         assertTrue(result);
-        verify(parametersRepository).findByKey("APPOINTMENT_CONFIRMATION");
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -447,15 +444,14 @@ class EmailServiceTest {
     void deveProcessarLinksAceitarRecusarCorretamenteNoTemplateInterprete() {
         String template = "<p>Nome: {{nome}}</p><a href=\"{link_api}\" style=\"background-color: #008000;\">Aceitar</a><a href=\"{link_api}\" style=\"background-color: #FF0000;\">Recusar</a>";
         Parameters parameter = new Parameters();
-        List<MultipartFile> files = List.of();
         parameter.setKey("PENDING_INTERPRETER_ADMIN");
         parameter.setValue(template);
 
-        when(parametersRepository.findByKey("PENDING_INTERPRETER_ADMIN")).thenReturn(Optional.of(parameter));
+        stubTemplate("PENDING_INTERPRETER_ADMIN", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         InterpreterRegistrationEmailDTO dto = InterpreterRegistrationEmailDTO.builder()
                 .adminEmail("admin@pointtils.com")
@@ -466,49 +462,51 @@ class EmailServiceTest {
                 .phone("phone")
                 .acceptLink("http://accept")
                 .rejectLink("http://reject")
-                .files(files)
+                .attachments(List.of())
                 .build();
 
         boolean result = emailService.sendInterpreterRegistrationRequestEmail(dto);
 
         assertTrue(result);
-        verify(parametersRepository).findByKey("PENDING_INTERPRETER_ADMIN");
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
     @DisplayName("Deve tratar exceção ao processar template no envio de email de boas-vindas")
     void deveTratarExcecaoAoProcessarTemplateNoEnvioEmailBoasVindas() {
-        when(parametersRepository.findByKey("WELCOME_EMAIL")).thenThrow(new RuntimeException("Erro no banco"));
+        when(parametersRepository.findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS)).thenThrow(new RuntimeException("Erro no banco"));
 
         RuntimeException exception = assertThrows(RuntimeException.class,
                 () -> emailService.sendWelcomeEmail(testEmail, testUserName));
 
         assertEquals("Erro no banco", exception.getMessage());
-        verify(parametersRepository).findByKey("WELCOME_EMAIL");
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+        verify(emailDispatcher, never()).enqueue(any(MimeMessage.class));
     }
 
     @Test
     @DisplayName("Deve validar que ano atual é inserido corretamente em todos os templates")
     void deveValidarQueAnoAtualEInseridoCorretamenteEmTodosTemplates() {
         String template = "Ano atual: {{ano}}";
-        Parameters parameter = new Parameters();
-        parameter.setValue(template);
-
-        when(parametersRepository.findByKey(anyString())).thenReturn(Optional.of(parameter));
+        stubTemplates(
+                new Parameters(UUID.randomUUID(), "WELCOME_EMAIL", template, null, null),
+                new Parameters(UUID.randomUUID(), "PASSWORD_RESET", template, null, null),
+                new Parameters(UUID.randomUUID(), "APPOINTMENT_CONFIRMATION", template, null, null),
+                new Parameters(UUID.randomUUID(), "PENDING_INTERPRETER", template, null, null));
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         assertTrue(emailService.sendWelcomeEmail(testEmail, testUserName));
         assertTrue(emailService.sendPasswordResetEmail(testEmail, testUserName, testToken));
         assertTrue(emailService.sendAppointmentConfirmationEmail(testEmail, testUserName, "2024-12-01", "Intérprete"));
         assertTrue(emailService.sendInterpreterFeedbackEmail(testEmail, testUserName, true));
 
-        verify(parametersRepository, times(4)).findByKey(anyString());
-        verify(mailSender, times(4)).send(any(MimeMessage.class));
+        // Os quatro templates vêm da mesma consulta, feita uma única vez
+        verify(parametersRepository, times(1)).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+        verify(emailDispatcher, times(4)).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -520,16 +518,16 @@ class EmailServiceTest {
         Parameters parameter = new Parameters();
         parameter.setValue(template);
 
-        when(parametersRepository.findByKey("WELCOME_EMAIL")).thenReturn(Optional.of(parameter));
+        stubTemplate("WELCOME_EMAIL", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendWelcomeEmail(testEmail, testUserName);
 
         assertTrue(result);
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -539,20 +537,20 @@ class EmailServiceTest {
         Parameters parameter = new Parameters();
         parameter.setValue(template);
 
-        when(parametersRepository.findByKey("WELCOME_EMAIL")).thenReturn(Optional.of(parameter));
+        stubTemplate("WELCOME_EMAIL", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendWelcomeEmail(testEmail, testUserName);
 
         assertTrue(result);
-        verify(parametersRepository).findByKey("WELCOME_EMAIL");
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
 
         ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
-        verify(mailSender).send(messageCaptor.capture());
+        verify(emailDispatcher).enqueue(messageCaptor.capture());
     }
 
     @Test
@@ -560,16 +558,16 @@ class EmailServiceTest {
     void deveLidarComTemplateVazioGraciosamente() {
         Parameters parameter = new Parameters();
 
-        when(parametersRepository.findByKey("WELCOME_EMAIL")).thenReturn(Optional.of(parameter));
+        stubTemplate("WELCOME_EMAIL", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         boolean result = emailService.sendWelcomeEmail(testEmail, testUserName);
 
         assertTrue(result);
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -577,7 +575,7 @@ class EmailServiceTest {
     void deveLidarComExcecaoAoEnviarEmailComAnexos() {
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doThrow(new RuntimeException("Erro ao enviar email")).when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(false);
         byte[] attachment = "Conteúdo do anexo".getBytes();
         List<byte[]> attachments = List.of(attachment);
         List<String> attachmentNames = List.of("anexo.txt");
@@ -595,7 +593,7 @@ class EmailServiceTest {
         boolean result = emailService.sendEmailWithAttachments(null, attachments, attachmentNames);
         assertFalse(result);
         verify(mailSender, never()).createMimeMessage();
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(emailDispatcher, never()).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -603,7 +601,7 @@ class EmailServiceTest {
     void deveRetornarFalseAoEnviarEmailComAnexosQuandoOcorrerExcecao() {
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doThrow(new RuntimeException("Erro ao enviar email")).when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(false);
         boolean result = emailService.sendEmailWithAttachments(emailRequestDTO, null, null);
         assertFalse(result);
     }
@@ -611,15 +609,9 @@ class EmailServiceTest {
     @Test
     @DisplayName("Deve processar anexos corretamente no envio de solicitação de cadastro de intérprete")
     void deveProcessarAnexosCorretamenteNoEnvioSolicitacaoCadastroInterprete() throws Exception {
-        // Mock dos arquivos
-        MultipartFile file1 = org.mockito.Mockito.mock(MultipartFile.class);
-        MultipartFile file2 = org.mockito.Mockito.mock(MultipartFile.class);
-        List<MultipartFile> files = List.of(file1, file2);
-
-        lenient().when(file1.getOriginalFilename()).thenReturn("doc1.pdf");
-        lenient().when(file1.getBytes()).thenReturn("conteudo1".getBytes());
-        lenient().when(file2.getOriginalFilename()).thenReturn("doc2.pdf");
-        lenient().when(file2.getBytes()).thenReturn("conteudo2".getBytes());
+        List<EmailAttachmentDTO> attachments = List.of(
+                new EmailAttachmentDTO("doc1.pdf", new ByteArrayResource("conteudo1".getBytes())),
+                new EmailAttachmentDTO("doc2.pdf", new ByteArrayResource("conteudo2".getBytes())));
 
         // Template armazenado no banco
         String template = "<p>Nome: {{nome}}</p><a href=\"{link_api}\">Aceitar</a>";
@@ -627,13 +619,12 @@ class EmailServiceTest {
         parameter.setKey("PENDING_INTERPRETER_ADMIN");
         parameter.setValue(template);
 
-        when(parametersRepository.findByKey("PENDING_INTERPRETER_ADMIN"))
-                .thenReturn(Optional.of(parameter));
+        stubTemplate("PENDING_INTERPRETER_ADMIN", parameter);
 
         // Mock do envio do email
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         InterpreterRegistrationEmailDTO dto = InterpreterRegistrationEmailDTO.builder()
                 .adminEmail("admin@pointtils.com")
@@ -644,7 +635,7 @@ class EmailServiceTest {
                 .phone("phone")
                 .acceptLink("http://accept")
                 .rejectLink("http://reject")
-                .files(files)
+                .attachments(attachments)
                 .build();
 
 
@@ -653,7 +644,7 @@ class EmailServiceTest {
 
         // Verificações
         assertTrue(result);
-        verify(parametersRepository).findByKey("PENDING_INTERPRETER_ADMIN");
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
     }
 
     @Test
@@ -664,7 +655,7 @@ class EmailServiceTest {
         parameter.setKey("ADMIN_FEEDBACK");
         parameter.setValue(template);
 
-        when(parametersRepository.findByKey("ADMIN_FEEDBACK")).thenReturn(Optional.of(parameter));
+        stubTemplate("ADMIN_FEEDBACK", parameter);
 
         String emailResponse = "Cadastro aprovado";
 
@@ -678,7 +669,7 @@ class EmailServiceTest {
     @DisplayName("Deve usar template padrão se não encontrar no banco")
     void deveUsarTemplatePadraoSeNaoEncontrarNoBanco() {
 
-        when(parametersRepository.findByKey("ADMIN_FEEDBACK")).thenReturn(Optional.empty());
+        stubTemplates();
 
         String emailResponse = "Cadastro aprovado";
 
@@ -691,137 +682,60 @@ class EmailServiceTest {
     @Test
     @DisplayName("Deve processar múltiplos anexos corretamente")
     void deveProcessarMultiplosAnexosCorretamente() throws Exception {
-        // Mock dos arquivos
-        MultipartFile file1 = mock(MultipartFile.class);
-        MultipartFile file2 = mock(MultipartFile.class);
-        List<MultipartFile> files = Arrays.asList(file1, file2);
-
-        // Setup do primeiro arquivo
-        when(file1.getBytes()).thenReturn("conteudo1".getBytes());
-        when(file1.getOriginalFilename()).thenReturn("documento1.pdf");
-
-        // Setup do segundo arquivo
-        when(file2.getBytes()).thenReturn("conteudo2".getBytes());
-        when(file2.getOriginalFilename()).thenReturn("documento2.pdf");
+        List<EmailAttachmentDTO> attachments = List.of(
+                new EmailAttachmentDTO("documento1.pdf", new ByteArrayResource("conteudo1".getBytes())),
+                new EmailAttachmentDTO("documento2.pdf", new ByteArrayResource("conteudo2".getBytes())));
 
         // Mock do template e mensagem
         String template = "<html><body>Template teste</body></html>";
         Parameters parameter = new Parameters();
         parameter.setKey("PENDING_INTERPRETER_ADMIN");
         parameter.setValue(template);
-        when(parametersRepository.findByKey("PENDING_INTERPRETER_ADMIN")).thenReturn(Optional.of(parameter));
+        stubTemplate("PENDING_INTERPRETER_ADMIN", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
         // Executa o método
-        InterpreterRegistrationEmailDTO dto = InterpreterRegistrationEmailDTO.builder()
-                .adminEmail("admin@test.com")
-                .interpreterName("João Intérprete")
-                .cpf("123.456.789-00")
-                .cnpj("12.345.678/0001-90")
-                .email("joao@email.com")
-                .phone("11999999999")
-                .acceptLink("http://accept")
-                .rejectLink("http://reject")
-                .files(files)
-                .build();
+        InterpreterRegistrationEmailDTO dto = buildRegistrationEmail(attachments);
 
         boolean result = emailService.sendInterpreterRegistrationRequestEmail(dto);
 
         // Verifica o resultado
         assertTrue(result);
-        verify(file1).getBytes();
-        verify(file1).getOriginalFilename();
-        verify(file2).getBytes();
-        verify(file2).getOriginalFilename();
+        MimeMultipart content = (MimeMultipart) mimeMessage.getContent();
+        assertEquals(3, content.getCount());
+        assertEquals("documento1.pdf", content.getBodyPart(1).getFileName());
+        assertEquals("documento2.pdf", content.getBodyPart(2).getFileName());
     }
 
     @Test
-    @DisplayName("Deve continuar processamento mesmo se um anexo falhar")
-    void deveContinuarProcessamentoMesmoSeUmAnexoFalhar() throws Exception {
-        // Mock dos arquivos
-        MultipartFile file1 = mock(MultipartFile.class);
-        MultipartFile file2 = mock(MultipartFile.class);
-        List<MultipartFile> files = Arrays.asList(file1, file2);
-
-        // Primeiro arquivo lança exceção
-        when(file1.getBytes()).thenThrow(new IOException("Erro ao ler arquivo"));
-        when(file1.getName()).thenReturn("documento1.pdf");
-
-        // Segundo arquivo funciona normalmente
-        when(file2.getBytes()).thenReturn("conteudo2".getBytes());
-        when(file2.getOriginalFilename()).thenReturn("documento2.pdf");
+    @DisplayName("Deve enfileirar o email sem ler o conteúdo dos anexos")
+    void deveEnfileirarEmailSemLerConteudoDosAnexos() throws Exception {
+        InputStreamSource firstDocument = mock(InputStreamSource.class);
+        InputStreamSource secondDocument = mock(InputStreamSource.class);
+        List<EmailAttachmentDTO> attachments = List.of(
+                new EmailAttachmentDTO("documento1.pdf", firstDocument),
+                new EmailAttachmentDTO("documento2.pdf", secondDocument));
 
         // Mock do template e mensagem
         String template = "<html><body>Template teste</body></html>";
         Parameters parameter = new Parameters();
         parameter.setKey("PENDING_INTERPRETER_ADMIN");
         parameter.setValue(template);
-        when(parametersRepository.findByKey("PENDING_INTERPRETER_ADMIN")).thenReturn(Optional.of(parameter));
+        stubTemplate("PENDING_INTERPRETER_ADMIN", parameter);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
+        when(emailDispatcher.enqueue(any(MimeMessage.class))).thenReturn(true);
 
-        // Executa o método
-        InterpreterRegistrationEmailDTO dto = InterpreterRegistrationEmailDTO.builder()
-                .adminEmail("admin@test.com")
-                .interpreterName("João Intérprete")
-                .cpf("123.456.789-00")
-                .cnpj("12.345.678/0001-90")
-                .email("joao@email.com")
-                .phone("11999999999")
-                .acceptLink("http://accept")
-                .rejectLink("http://reject")
-                .files(files)
-                .build();
-
-        boolean result = emailService.sendInterpreterRegistrationRequestEmail(dto);
+        boolean result = emailService.sendInterpreterRegistrationRequestEmail(buildRegistrationEmail(attachments));
 
-        // Verifica o resultado
+        // Os anexos são lidos apenas quando a fila envia a mensagem
         assertTrue(result);
-        verify(file1).getBytes();
-        verify(file2).getBytes();
-        verify(file2).getOriginalFilename();
-    }
-
-    @Test
-    @DisplayName("Deve usar template padrão quando processPasswordResetTemplate recebe template nulo")
-    void deveUsarTemplatePadraoQuandoProcessPasswordResetTemplateRecebeTemplateNulo() {
-        String defaultTemplate = "<html><body><h1>Template não encontrado</h1><p>Template com chave 'PASSWORD_RESET' não está disponível no banco de dados.</p></body></html>";
-
-        // Invoca método privado via reflection
-        String result = ReflectionTestUtils.invokeMethod(
-                emailService,
-                "processPasswordResetTemplate",
-                null,
-                "Test User",
-                "123456"
-        );
-
-        assertEquals(defaultTemplate, result);
-        verify(parametersRepository, never()).findByKey(anyString());
-    }
-
-    @Test
-    @DisplayName("Deve usar template padrão quando processAppointmentConfirmationTemplate recebe template nulo")
-    void deveUsarTemplatePadraoQuandoProcessAppointmentConfirmationTemplateRecebeTemplateNulo() {
-        String defaultTemplate = "<html><body><h1>Template não encontrado</h1><p>Template com chave 'APPOINTMENT_CONFIRMATION' não está disponível no banco de dados.</p></body></html>";
-
-        // Invoca método privado via reflection
-        String result = ReflectionTestUtils.invokeMethod(
-                emailService,
-                "processAppointmentConfirmationTemplate",
-                null,
-                "Test User",
-                "2025-11-11 às 09:00",
-                "Intérprete X"
-        );
-
-        assertEquals(defaultTemplate, result);
-        verify(parametersRepository, never()).findByKey(anyString());
+        verify(firstDocument, never()).getInputStream();
+        verify(secondDocument, never()).getInputStream();
     }
 
     @Test
@@ -831,7 +745,7 @@ class EmailServiceTest {
         String result = ReflectionTestUtils.invokeMethod(
                 emailService,
                 "processAppointmentConfirmationTemplate",
-                template,
+                CompiledTemplate.compile(template),
                 null,
                 "2025-11-11 às 09:00",
                 "Intérprete X"
@@ -848,7 +762,7 @@ class EmailServiceTest {
         String result = ReflectionTestUtils.invokeMethod(
                 emailService,
                 "processAppointmentConfirmationTemplate",
-                template,
+                CompiledTemplate.compile(template),
                 "Test User",
                 null,
                 "Intérprete X"
@@ -857,31 +771,6 @@ class EmailServiceTest {
         assertTrue(result.contains("Olá Test User! Sua consulta está agendada para  com Intérprete X."));
     }
 
-    @Test
-    @DisplayName("Deve retornar template padrão quando template for nulo")
-    void deveRetornarTemplatePadraoQuandoTemplateForNulo() {
-        ProcessAdminTemplateDTO dto = ProcessAdminTemplateDTO.builder()
-                .interpreterName("Interpreter Name")
-                .cpf("123456789")
-                .cnpj("12345678000195")
-                .email("test@example.com")
-                .phone("123456789")
-                .videoUrl(null)
-                .acceptLink("http://accept")
-                .rejectLink("http://reject")
-                .template(null)
-                .build();
-
-        String result = ReflectionTestUtils.invokeMethod(
-                emailService,
-                "processTemplate",
-                dto
-        );
-
-        String expectedStart = "<html><body><h1>Template não encontrado</h1>";
-        assertTrue(result.startsWith(expectedStart));
-    }
-
     @Test
     @DisplayName("Deve retornar template padrão quando interpreterName for nulo")
     void deveRetornarTemplatePadraoQuandoInterpreterNameForNulo() {
@@ -895,7 +784,7 @@ class EmailServiceTest {
                 .videoUrl(null)
                 .acceptLink("http://accept")
                 .rejectLink("http://reject")
-                .template(template)
+                .template(CompiledTemplate.compile(template))
                 .build();
 
         String result = ReflectionTestUtils.invokeMethod(
@@ -920,7 +809,7 @@ class EmailServiceTest {
                 .videoUrl(null)
                 .acceptLink("http://accept")
                 .rejectLink("http://reject")
-                .template(template)
+                .template(CompiledTemplate.compile(template))
                 .build();
 
         String result = ReflectionTestUtils.invokeMethod(
@@ -945,7 +834,7 @@ class EmailServiceTest {
                 .videoUrl(null)
                 .acceptLink("http://accept")
                 .rejectLink("http://reject")
-                .template(template)
+                .template(CompiledTemplate.compile(template))
                 .build();
 
         String result = ReflectionTestUtils.invokeMethod(
@@ -970,7 +859,7 @@ class EmailServiceTest {
                 .videoUrl(null)
                 .acceptLink("http://accept")
                 .rejectLink("http://reject")
-                .template(template)
+                .template(CompiledTemplate.compile(template))
                 .build();
 
         String result = ReflectionTestUtils.invokeMethod(
@@ -995,7 +884,7 @@ class EmailServiceTest {
                 .videoUrl(null)
                 .acceptLink("http://accept")
                 .rejectLink("http://reject")
-                .template(template)
+                .template(CompiledTemplate.compile(template))
                 .build();
 
         String result = ReflectionTestUtils.invokeMethod(
@@ -1020,7 +909,7 @@ class EmailServiceTest {
                 .videoUrl(null)
                 .acceptLink(null)
                 .rejectLink("http://reject")
-                .template(template)
+                .template(CompiledTemplate.compile(template))
                 .build();
 
         String result = ReflectionTestUtils.invokeMethod(
@@ -1045,7 +934,7 @@ class EmailServiceTest {
                 .videoUrl(null)
                 .acceptLink("http://accept")
                 .rejectLink(null)
-                .template(template)
+                .template(CompiledTemplate.compile(template))
                 .build();
 
         String result = ReflectionTestUtils.invokeMethod(
@@ -1065,20 +954,19 @@ class EmailServiceTest {
         parameter.setKey("PENDING_INTERPRETER_ADMIN");
         parameter.setValue(template);
 
-        when(parametersRepository.findByKey("PENDING_INTERPRETER_ADMIN"))
-                .thenReturn(Optional.of(parameter));
+        stubTemplate("PENDING_INTERPRETER_ADMIN", parameter);
 
         // Mock do envio do email
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(messageCaptor.capture());
+        when(emailDispatcher.enqueue(messageCaptor.capture())).thenReturn(true);
 
         InterpreterRegistrationEmailDTO dto = InterpreterRegistrationEmailDTO.builder()
                 .adminEmail("admin@pointtils.com")
                 .email("interpreter@email.com")
                 .videoUrl("http://video-url.com/video.mp4")
-                .files(Collections.emptyList())
+                .attachments(Collections.emptyList())
                 .build();
 
         // Execução do método
@@ -1090,8 +978,8 @@ class EmailServiceTest {
         assertEquals(1, messageCaptor.getValue().getFrom().length);
         assertEquals("PointTils Test <test@pointtils.com>", messageCaptor.getValue().getFrom()[0].toString());
 
-        verify(parametersRepository).findByKey("PENDING_INTERPRETER_ADMIN");
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
     }
 
     @Test
@@ -1137,20 +1025,20 @@ class EmailServiceTest {
         AppointmentUpdateEmailDTO dto = buildAppointmentUpdateEmail("");
         Parameters mockParameters = new Parameters(UUID.randomUUID(), "APPOINTMENT_ACCEPTED", "",
                 LocalDateTime.now(), LocalDateTime.now());
-        when(parametersRepository.findByKey("APPOINTMENT_ACCEPTED")).thenReturn(Optional.of(mockParameters));
+        stubTemplate("APPOINTMENT_ACCEPTED", mockParameters);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(messageCaptor.capture());
+        when(emailDispatcher.enqueue(messageCaptor.capture())).thenReturn(true);
 
         assertTrue(emailService.sendAppointmentAcceptedEmail(dto));
         assertEquals("Agendamento Aceito - PointTils", messageCaptor.getValue().getSubject());
         assertEquals(1, messageCaptor.getValue().getFrom().length);
         assertEquals("PointTils Test <test@pointtils.com>", messageCaptor.getValue().getFrom()[0].toString());
 
-        verify(mailSender).send(any(MimeMessage.class));
-        verify(parametersRepository).findByKey("APPOINTMENT_ACCEPTED");
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
     }
 
     @Test
@@ -1158,20 +1046,20 @@ class EmailServiceTest {
         AppointmentUpdateEmailDTO dto = buildAppointmentUpdateEmail("");
         Parameters mockParameters = new Parameters(UUID.randomUUID(), "APPOINTMENT_DENIED", "",
                 LocalDateTime.now(), LocalDateTime.now());
-        when(parametersRepository.findByKey("APPOINTMENT_DENIED")).thenReturn(Optional.of(mockParameters));
+        stubTemplate("APPOINTMENT_DENIED", mockParameters);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(messageCaptor.capture());
+        when(emailDispatcher.enqueue(messageCaptor.capture())).thenReturn(true);
 
         assertTrue(emailService.sendAppointmentDeniedEmail(dto));
         assertEquals("Agendamento Negado - PointTils", messageCaptor.getValue().getSubject());
         assertEquals(1, messageCaptor.getValue().getFrom().length);
         assertEquals("PointTils Test <test@pointtils.com>", messageCaptor.getValue().getFrom()[0].toString());
 
-        verify(mailSender).send(any(MimeMessage.class));
-        verify(parametersRepository).findByKey("APPOINTMENT_DENIED");
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
     }
 
     @Test
@@ -1179,25 +1067,39 @@ class EmailServiceTest {
         AppointmentUpdateEmailDTO dto = buildAppointmentUpdateEmail("");
         Parameters mockParameters = new Parameters(UUID.randomUUID(), "APPOINTMENT_CANCELED", "",
                 LocalDateTime.now(), LocalDateTime.now());
-        when(parametersRepository.findByKey("APPOINTMENT_CANCELED")).thenReturn(Optional.of(mockParameters));
+        stubTemplate("APPOINTMENT_CANCELED", mockParameters);
 
         MimeMessage mimeMessage = new MimeMessage((Session) null);
         ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(messageCaptor.capture());
+        when(emailDispatcher.enqueue(messageCaptor.capture())).thenReturn(true);
 
         assertTrue(emailService.sendAppointmentCanceledEmail(dto));
         assertEquals("Agendamento Cancelado - PointTils", messageCaptor.getValue().getSubject());
         assertEquals(1, messageCaptor.getValue().getFrom().length);
         assertEquals("PointTils Test <test@pointtils.com>", messageCaptor.getValue().getFrom()[0].toString());
 
-        verify(mailSender).send(any(MimeMessage.class));
-        verify(parametersRepository).findByKey("APPOINTMENT_CANCELED");
+        verify(emailDispatcher).enqueue(any(MimeMessage.class));
+        verify(parametersRepository).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+    }
+
+    private InterpreterRegistrationEmailDTO buildRegistrationEmail(List<EmailAttachmentDTO> attachments) {
+        return InterpreterRegistrationEmailDTO.builder()
+                .adminEmail("admin@test.com")
+                .interpreterName("João Intérprete")
+                .cpf("123.456.789-00")
+                .cnpj("12.345.678/0001-90")
+                .email("joao@email.com")
+                .phone("11999999999")
+                .acceptLink("http://accept")
+                .rejectLink("http://reject")
+                .attachments(attachments)
+                .build();
     }
 
     private AppointmentUpdateEmailDTO buildAppointmentUpdateEmail(String template) {
         return AppointmentUpdateEmailDTO.builder()
-                .template(template)
+                .template(CompiledTemplate.compile(template))
                 .email("user@example.com")
                 .userName("João Gustavo da Rocha")
                 .appointmentDate("2023-10-01 10:00")
@@ -1208,4 +1110,13 @@ class EmailServiceTest {
                 .subjectName("Maria Almeida")
                 .build();
     }
-}
\ No newline at end of file
+
+    private void stubTemplate(String key, Parameters parameter) {
+        parameter.setKey(key);
+        stubTemplates(parameter);
+    }
+
+    private void stubTemplates(Parameters... parameters) {
+        when(parametersRepository.findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS)).thenReturn(List.of(parameters));
+    }
+}
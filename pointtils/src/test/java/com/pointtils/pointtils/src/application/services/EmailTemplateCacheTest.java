@@ -0,0 +1,110 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.application.util.CompiledTemplate;
+import com.pointtils.pointtils.src.core.domain.entities.Parameters;
+import com.pointtils.pointtils.src.core.domain.events.ParametersChangedEvent;
+import com.pointtils.pointtils.src.infrastructure.repositories.ParametersRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailTemplateCacheTest {
+
+    @Mock
+    private ParametersRepository parametersRepository;
+
+    @Test
+    @DisplayName("Deve carregar todos os templates em uma consulta e compilá-los uma única vez")
+    void shouldLoadTemplatesOnce() {
+        EmailTemplateCache cache = new EmailTemplateCache(parametersRepository, 10);
+        when(parametersRepository.findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS))
+                .thenReturn(List.of(parameter("WELCOME_EMAIL", "Olá {{nome}}"),
+                        parameter("PASSWORD_RESET", "Token: {{resetToken}}")));
+
+        for (int i = 0; i < 50; i++) {
+            cache.find("WELCOME_EMAIL");
+            cache.find("PASSWORD_RESET");
+        }
+
+        assertEquals("Olá Ana", cache.find("WELCOME_EMAIL").orElseThrow().render(Map.of("nome", "Ana")));
+        verify(parametersRepository, times(1)).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+    }
+
+    @Test
+    @DisplayName("Deve manter em cache a ausência do template")
+    void shouldCacheMissingTemplate() {
+        EmailTemplateCache cache = new EmailTemplateCache(parametersRepository, 10);
+        when(parametersRepository.findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS))
+                .thenReturn(List.of(parameter("PASSWORD_RESET", null)));
+
+        assertTrue(cache.find("WELCOME_EMAIL").isEmpty());
+        assertTrue(cache.find("WELCOME_EMAIL").isEmpty());
+        assertTrue(cache.find("PASSWORD_RESET").isEmpty());
+
+        verify(parametersRepository, times(1)).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+    }
+
+    @Test
+    @DisplayName("Deve ler direto do banco, sem cache, chaves que não são templates de envio")
+    void shouldReadOtherKeysWithoutCaching() {
+        EmailTemplateCache cache = new EmailTemplateCache(parametersRepository, 10);
+        when(parametersRepository.findByKey("OTHER_KEY")).thenReturn(Optional.of(parameter("OTHER_KEY", "Outro")));
+
+        cache.find("OTHER_KEY");
+
+        assertEquals("Outro", cache.find("OTHER_KEY").map(CompiledTemplate::getSource).orElseThrow());
+        verify(parametersRepository, times(2)).findByKey("OTHER_KEY");
+        verify(parametersRepository, never()).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+    }
+
+    @Test
+    @DisplayName("Deve reler os templates após a alteração de um parâmetro")
+    void shouldReloadAfterParametersChange() {
+        EmailTemplateCache cache = new EmailTemplateCache(parametersRepository, 10);
+        when(parametersRepository.findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS))
+                .thenReturn(List.of(parameter("WELCOME_EMAIL", "Olá {{nome}}")))
+                .thenReturn(List.of(parameter("WELCOME_EMAIL", "Bem-vindo(a), {{nome}}")));
+        cache.find("WELCOME_EMAIL");
+
+        cache.onParametersChanged(new ParametersChangedEvent(UUID.randomUUID()));
+
+        assertEquals("Bem-vindo(a), {{nome}}", cache.find("WELCOME_EMAIL").map(CompiledTemplate::getSource).orElseThrow());
+        verify(parametersRepository, times(2)).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+    }
+
+    @Test
+    @DisplayName("Deve reler os templates após o tempo de validade")
+    void shouldReloadAfterTimeToLive() {
+        EmailTemplateCache cache = new EmailTemplateCache(parametersRepository, 0);
+        when(parametersRepository.findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS))
+                .thenReturn(List.of(parameter("WELCOME_EMAIL", "Olá {{nome}}")));
+
+        cache.find("WELCOME_EMAIL");
+        cache.find("WELCOME_EMAIL");
+
+        verify(parametersRepository, times(2)).findAllByKeyIn(EmailTemplateCache.TEMPLATE_KEYS);
+    }
+
+    private static Parameters parameter(String key, String value) {
+        return Parameters.builder()
+                .id(UUID.randomUUID())
+                .key(key)
+                .value(value)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pointtils.pointtils.src.application.clients.IbgeClient;
+import com.pointtils.pointtils.src.application.dto.StateDataDTO;
+import com.pointtils.pointtils.src.core.domain.entities.LocalitySnapshot;
+import com.pointtils.pointtils.src.core.domain.exceptions.ClientTimeoutException;
+import com.pointtils.pointtils.src.infrastructure.repositories.LocalitySnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Usa um {@link MockRestServiceServer} no lugar da API do IBGE, com o {@link IbgeClient} real
+ */
+@ExtendWith(MockitoExtension.class)
+class IbgeLocalityCacheTest {
+
+    private static final String STATE_URL = "http://exemplo.com.br/estados";
+    private static final String CITY_URL = "http://exemplo.com.br/estados/{state}/municipios";
+    private static final String STATES_JSON = "[{\"id\":43,\"sigla\":\"RS\",\"nome\":\"Rio Grande do Sul\"},"
+            + "{\"id\":12,\"sigla\":\"AC\",\"nome\":\"Acre\"}]";
+
+    @Mock
+    private LocalitySnapshotRepository snapshotRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Executor directExecutor = Runnable::run;
+    private MockRestServiceServer ibgeServer;
+    private IbgeClient ibgeClient;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        ibgeServer = MockRestServiceServer.bindTo(restTemplate).build();
+        ibgeClient = new IbgeClient(restTemplate, STATE_URL, CITY_URL);
+    }
+
+    @Test
+    @DisplayName("Deve buscar as UFs no IBGE uma única vez e gravar a cópia local")
+    void shouldServeStatesFromMemoryAfterFirstLookup() throws Exception {
+        IbgeLocalityCache cache = newCache(Duration.ofDays(7));
+        ibgeServer.expect(ExpectedCount.once(), requestTo(STATE_URL))
+                .andRespond(withSuccess(STATES_JSON, MediaType.APPLICATION_JSON));
+
+        List<StateDataDTO> first = cache.getStates();
+        List<StateDataDTO> second = cache.getStates();
+
+        ibgeServer.verify();
+        assertThat(first).extracting(StateDataDTO::getName).containsExactly("AC", "RS");
+        assertThat(second).isSameAs(first);
+        ArgumentCaptor<LocalitySnapshot> snapshotCaptor = ArgumentCaptor.forClass(LocalitySnapshot.class);
+        verify(snapshotRepository).save(snapshotCaptor.capture());
+        assertEquals(IbgeLocalityCache.STATES_SCOPE, snapshotCaptor.getValue().getScope());
+        assertEquals(List.of("AC", "RS"), objectMapper.readValue(snapshotCaptor.getValue().getNames(), List.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a lista vencida e atualizá-la em segundo plano")
+    void shouldServeStaleStatesWhileRevalidating() {
+        IbgeLocalityCache cache = newCache(Duration.ZERO);
+        when(snapshotRepository.findAll()).thenReturn(List.of(snapshot("states", "[\"RS\"]")));
+        cache.loadSnapshots();
+        ibgeServer.expect(ExpectedCount.manyTimes(), requestTo(STATE_URL))
+                .andRespond(withSuccess(STATES_JSON, MediaType.APPLICATION_JSON));
+
+        assertThat(cache.getStates()).extracting(StateDataDTO::getName).containsExactly("RS");
+        assertThat(cache.getStates()).extracting(StateDataDTO::getName).containsExactly("AC", "RS");
+    }
+
+    @Test
+    @DisplayName("Deve manter a lista vencida quando o IBGE está fora do ar")
+    void shouldKeepStaleStatesWhenIbgeIsDown() {
+        IbgeLocalityCache cache = newCache(Duration.ZERO);
+        when(snapshotRepository.findAll()).thenReturn(List.of(snapshot("states", "[\"RS\",\"SC\"]")));
+        cache.loadSnapshots();
+        ibgeServer.expect(ExpectedCount.twice(), requestTo(STATE_URL))
+                .andRespond(withException(new SocketTimeoutException("Timeout")));
+
+        assertThat(cache.getStates()).extracting(StateDataDTO::getName).containsExactly("RS", "SC");
+        assertThat(cache.getStates()).extracting(StateDataDTO::getName).containsExactly("RS", "SC");
+        ibgeServer.verify();
+        verify(snapshotRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve atender municípios pela cópia local carregada na inicialização sem chamar o IBGE")
+    void shouldServeCitiesFromLoadedSnapshot() {
+        IbgeLocalityCache cache = newCache(Duration.ofDays(7));
+        when(snapshotRepository.findAll())
+                .thenReturn(List.of(snapshot("cities:RS", "[\"Canoas\",\"Porto Alegre\"]")));
+        cache.loadSnapshots();
+
+        assertThat(cache.getCitiesByState("rs")).extracting(StateDataDTO::getName)
+                .containsExactly("Canoas", "Porto Alegre");
+        ibgeServer.verify();
+    }
+
+    @Test
+    @DisplayName("Deve usar a cópia gravada por outra instância quando o IBGE falha na primeira consulta")
+    void shouldFallbackToStoredSnapshotWhenIbgeFailsOnFirstLookup() {
+        IbgeLocalityCache cache = newCache(Duration.ofDays(7));
+        ibgeServer.expect(ExpectedCount.once(), requestTo("http://exemplo.com.br/estados/SC/municipios"))
+                .andRespond(withException(new SocketTimeoutException("Timeout")));
+        when(snapshotRepository.findById("cities:SC"))
+                .thenReturn(Optional.of(snapshot("cities:SC", "[\"Florianópolis\"]")));
+
+        assertThat(cache.getCitiesByState("SC")).extracting(StateDataDTO::getName).containsExactly("Florianópolis");
+        assertThat(cache.getCitiesByState("SC")).extracting(StateDataDTO::getName).containsExactly("Florianópolis");
+        ibgeServer.verify();
+    }
+
+    @Test
+    @DisplayName("Deve lançar ClientTimeoutException quando o IBGE falha e não há cópia local")
+    void shouldThrowWhenIbgeFailsAndThereIsNoSnapshot() {
+        IbgeLocalityCache cache = newCache(Duration.ofDays(7));
+        ibgeServer.expect(ExpectedCount.once(), requestTo("http://exemplo.com.br/estados/SC/municipios"))
+                .andRespond(withException(new SocketTimeoutException("Timeout")));
+        when(snapshotRepository.findById("cities:SC")).thenReturn(Optional.empty());
+
+        assertThrows(ClientTimeoutException.class, () -> cache.getCitiesByState("SC"));
+    }
+
+    private IbgeLocalityCache newCache(Duration timeToLive) {
+        return new IbgeLocalityCache(ibgeClient, snapshotRepository, objectMapper, directExecutor, timeToLive);
+    }
+
+    private static LocalitySnapshot snapshot(String scope, String names) {
+        return new LocalitySnapshot(scope, names, LocalDateTime.now().minusDays(1));
+    }
+}
@@ -1,8 +1,12 @@
 package com.pointtils.pointtils.src.application.services;
 
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentCompleteRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterDocumentUploadRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadRequestDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterDocumentResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterRegistrationEmailDTO;
+import com.pointtils.pointtils.src.application.dto.responses.PresignedUrlResponseDTO;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
 import com.pointtils.pointtils.src.core.domain.entities.InterpreterDocuments;
 import com.pointtils.pointtils.src.core.domain.exceptions.AuthenticationException;
@@ -15,20 +19,32 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -44,7 +60,11 @@ class InterpreterDocumentServiceTest {
         @Mock
         private S3Service s3Service;
         @Mock
+        private S3PresignedUrlService s3PresignedUrlService;
+        @Mock
         private EmailService emailService;
+        @Mock
+        private PlatformTransactionManager transactionManager;
         @InjectMocks
         private InterpreterDocumentService interpreterDocumentService;
 
@@ -52,6 +72,10 @@ class InterpreterDocumentServiceTest {
         void setup() {
                 ReflectionTestUtils.setField(interpreterDocumentService, "adminEmail", "admin@email.com");
                 ReflectionTestUtils.setField(interpreterDocumentService, "apiBaseUrl", "http://localhost:8080");
+                ReflectionTestUtils.setField(interpreterDocumentService, "transactionTemplate",
+                                new TransactionTemplate(transactionManager));
+                ReflectionTestUtils.setField(interpreterDocumentService, "documentUploadExecutor",
+                                (Executor) Runnable::run);
         }
 
         @Test
@@ -71,10 +95,7 @@ class InterpreterDocumentServiceTest {
                 interpreter.setPhone("51984848484");
                 when(interpreterService.findInterpreterById(interpreterId)).thenReturn(interpreter);
 
-                InterpreterDocuments savedDocument = new InterpreterDocuments();
-                savedDocument.setDocument("https://s3.amazonaws.com/documents/test-document.pdf");
-                savedDocument.setInterpreter(interpreter);
-                when(interpreterDocumentsRepository.save(any(InterpreterDocuments.class))).thenReturn(savedDocument);
+                when(interpreterDocumentsRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
                 // Act
                 List<MultipartFile> fileList = List.of(file); // <-- Corrigido
@@ -87,7 +108,7 @@ class InterpreterDocumentServiceTest {
                 assertEquals("https://s3.amazonaws.com/documents/test-document.pdf",
                                 result.getData().get(0).getDocument());
                 verify(s3Service).uploadFile(any(MultipartFile.class), anyString());
-                verify(interpreterDocumentsRepository).save(any(InterpreterDocuments.class));
+                verify(interpreterDocumentsRepository).saveAll(anyList());
                 verify(emailService)
                                 .sendInterpreterRegistrationRequestEmail(any(InterpreterRegistrationEmailDTO.class)); // <--
                                                                                                                       // Corrigido
@@ -115,10 +136,7 @@ class InterpreterDocumentServiceTest {
                 oldDocument.setInterpreter(interpreter);
                 when(interpreterDocumentsRepository.findByInterpreter(interpreter)).thenReturn(List.of(oldDocument));
 
-                InterpreterDocuments savedDocument = new InterpreterDocuments();
-                savedDocument.setDocument("https://s3.amazonaws.com/documents/test-document.pdf");
-                savedDocument.setInterpreter(interpreter); // Associe o Interpreter ao documento
-                when(interpreterDocumentsRepository.save(any(InterpreterDocuments.class))).thenReturn(savedDocument);
+                when(interpreterDocumentsRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
                 // Act
                 List<MultipartFile> fileList = List.of(file);
@@ -131,10 +149,10 @@ class InterpreterDocumentServiceTest {
                 assertEquals("https://s3.amazonaws.com/documents/test-document.pdf",
                                 result.getData().get(0).getDocument());
                 verify(s3Service).uploadFile(any(MultipartFile.class), anyString());
-                verify(s3Service).deleteFile(oldDocument.getDocument());
+                verify(s3Service).deleteFiles(List.of(oldDocument.getDocument()));
                 verify(interpreterDocumentsRepository).findByInterpreter(interpreter);
-                verify(interpreterDocumentsRepository).save(any(InterpreterDocuments.class));
-                verify(interpreterDocumentsRepository).delete(oldDocument);
+                verify(interpreterDocumentsRepository).saveAll(anyList());
+                verify(interpreterDocumentsRepository).deleteAllInBatch(List.of(oldDocument));
                 verifyNoInteractions(emailService);
         }
 
@@ -193,6 +211,200 @@ class InterpreterDocumentServiceTest {
                 assertEquals("Falha no upload", exception.getCause().getMessage());
         }
 
+        @Test
+        void shouldDeleteUploadedFilesWhenAnotherUploadFails() throws IOException {
+                // Arrange
+                UUID interpreterId = UUID.randomUUID();
+                MultipartFile firstFile = mock(MultipartFile.class);
+                MultipartFile secondFile = mock(MultipartFile.class);
+                when(secondFile.getOriginalFilename()).thenReturn("second-document.pdf");
+                when(s3Service.uploadFile(firstFile, "documents/" + interpreterId))
+                                .thenReturn("https://s3.amazonaws.com/documents/first-document.pdf");
+                when(s3Service.uploadFile(secondFile, "documents/" + interpreterId))
+                                .thenThrow(new IOException("Falha no upload"));
+
+                Interpreter interpreter = new Interpreter();
+                interpreter.setId(interpreterId);
+                when(interpreterService.findInterpreterById(interpreterId)).thenReturn(interpreter);
+
+                List<MultipartFile> fileList = List.of(firstFile, secondFile);
+
+                // Act & Assert
+                assertThrows(FileUploadException.class,
+                                () -> interpreterDocumentService.saveDocuments(interpreterId, fileList, true));
+                verify(s3Service).deleteFiles(List.of("https://s3.amazonaws.com/documents/first-document.pdf"));
+                verifyNoInteractions(interpreterDocumentsRepository, emailService);
+        }
+
+        @Test
+        void shouldDeleteUploadedFilesWhenSavingDocumentsFails() throws IOException {
+                // Arrange
+                UUID interpreterId = UUID.randomUUID();
+                MultipartFile file = mock(MultipartFile.class);
+                when(s3Service.uploadFile(any(MultipartFile.class), anyString()))
+                                .thenReturn("https://s3.amazonaws.com/documents/test-document.pdf");
+
+                Interpreter interpreter = new Interpreter();
+                interpreter.setId(interpreterId);
+                when(interpreterService.findInterpreterById(interpreterId)).thenReturn(interpreter);
+                when(interpreterDocumentsRepository.saveAll(anyList()))
+                                .thenThrow(new DataIntegrityViolationException("Falha ao salvar"));
+
+                List<MultipartFile> fileList = List.of(file);
+
+                // Act & Assert
+                assertThrows(DataIntegrityViolationException.class,
+                                () -> interpreterDocumentService.saveDocuments(interpreterId, fileList, false));
+                verify(transactionManager).rollback(any());
+                verify(s3Service).deleteFiles(List.of("https://s3.amazonaws.com/documents/test-document.pdf"));
+                verifyNoInteractions(emailService);
+        }
+
+        @Test
+        void shouldUploadDocumentsConcurrentlyAndSaveThemInOrder() throws Exception {
+                // Arrange
+                UUID interpreterId = UUID.randomUUID();
+                int fileCount = 3;
+                CountDownLatch allUploadsStarted = new CountDownLatch(fileCount);
+                List<MultipartFile> fileList = new ArrayList<>();
+                for (int i = 0; i < fileCount; i++) {
+                        MultipartFile file = mock(MultipartFile.class);
+                        String documentUrl = "https://s3.amazonaws.com/documents/document-" + i + ".pdf";
+                        when(s3Service.uploadFile(file, "documents/" + interpreterId)).thenAnswer(invocation -> {
+                                // Cada upload só termina quando todos estão em andamento ao mesmo tempo
+                                allUploadsStarted.countDown();
+                                assertTrue(allUploadsStarted.await(5, TimeUnit.SECONDS));
+                                return documentUrl;
+                        });
+                        fileList.add(file);
+                }
+
+                Interpreter interpreter = new Interpreter();
+                interpreter.setId(interpreterId);
+                when(interpreterService.findInterpreterById(interpreterId)).thenReturn(interpreter);
+                when(interpreterDocumentsRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+                ExecutorService executor = Executors.newFixedThreadPool(fileCount);
+                ReflectionTestUtils.setField(interpreterDocumentService, "documentUploadExecutor", executor);
+                try {
+                        // Act
+                        InterpreterDocumentResponseDTO result = interpreterDocumentService.saveDocuments(interpreterId,
+                                        fileList, false);
+
+                        // Assert
+                        assertEquals(List.of("https://s3.amazonaws.com/documents/document-0.pdf",
+                                        "https://s3.amazonaws.com/documents/document-1.pdf",
+                                        "https://s3.amazonaws.com/documents/document-2.pdf"),
+                                        result.getData().stream().map(document -> document.getDocument()).toList());
+                        verify(interpreterDocumentsRepository).saveAll(anyList());
+                } finally {
+                        executor.shutdownNow();
+                }
+        }
+
+        @Test
+        void shouldCreateUploadUrlsForEachFile() {
+                // Arrange
+                UUID interpreterId = UUID.randomUUID();
+                Interpreter interpreter = new Interpreter();
+                interpreter.setId(interpreterId);
+                when(interpreterService.findInterpreterById(interpreterId)).thenReturn(interpreter);
+
+                PresignedUploadRequestDTO firstFile = new PresignedUploadRequestDTO("rg.pdf", "application/pdf", 10L);
+                PresignedUploadRequestDTO secondFile = new PresignedUploadRequestDTO("diploma.pdf", "application/pdf", 20L);
+                PresignedUrlResponseDTO firstUrl = PresignedUrlResponseDTO.builder().key("first").build();
+                PresignedUrlResponseDTO secondUrl = PresignedUrlResponseDTO.builder().key("second").build();
+                when(s3PresignedUrlService.createUploadUrl("documents/" + interpreterId, firstFile)).thenReturn(firstUrl);
+                when(s3PresignedUrlService.createUploadUrl("documents/" + interpreterId, secondFile)).thenReturn(secondUrl);
+
+                // Act
+                List<PresignedUrlResponseDTO> result = interpreterDocumentService.createUploadUrls(interpreterId,
+                                new InterpreterDocumentUploadRequestDTO(List.of(firstFile, secondFile)));
+
+                // Assert
+                assertEquals(List.of(firstUrl, secondUrl), result);
+                verifyNoInteractions(s3Service, interpreterDocumentsRepository);
+        }
+
+        @Test
+        void shouldRecordDocumentsUploadedWithPresignedUrls() throws IOException {
+                // Arrange
+                UUID interpreterId = UUID.randomUUID();
+                Interpreter interpreter = new Interpreter();
+                interpreter.setId(interpreterId);
+                when(interpreterService.findInterpreterById(interpreterId)).thenReturn(interpreter);
+
+                String key = "users/documents/" + interpreterId + "/1700000000000-rg.pdf";
+                String documentUrl = "https://test-bucket.s3.amazonaws.com/" + key;
+                when(s3PresignedUrlService.confirmUpload("documents/" + interpreterId, key)).thenReturn(documentUrl);
+                when(s3PresignedUrlService.getFileName(key)).thenReturn("rg.pdf");
+                when(interpreterDocumentsRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+                // Act
+                InterpreterDocumentResponseDTO result = interpreterDocumentService.completeUpload(interpreterId,
+                                new InterpreterDocumentCompleteRequestDTO(List.of(key), false));
+
+                // Assert
+                assertEquals(documentUrl, result.getData().get(0).getDocument());
+                verify(interpreterDocumentsRepository).saveAll(anyList());
+                verify(emailService).sendInterpreterRegistrationRequestEmail(any(InterpreterRegistrationEmailDTO.class));
+                verify(s3Service, never()).uploadFile(any(), anyString());
+        }
+
+        @Test
+        void shouldNotRecordDocumentsWhenPresignedUploadWasNotCompleted() {
+                // Arrange
+                UUID interpreterId = UUID.randomUUID();
+                Interpreter interpreter = new Interpreter();
+                interpreter.setId(interpreterId);
+                when(interpreterService.findInterpreterById(interpreterId)).thenReturn(interpreter);
+
+                String key = "users/documents/" + interpreterId + "/1700000000000-rg.pdf";
+                when(s3PresignedUrlService.confirmUpload("documents/" + interpreterId, key))
+                                .thenThrow(new IllegalArgumentException("Arquivo não encontrado no S3: " + key));
+                InterpreterDocumentCompleteRequestDTO request = new InterpreterDocumentCompleteRequestDTO(List.of(key), true);
+
+                // Act & Assert
+                assertThrows(IllegalArgumentException.class,
+                                () -> interpreterDocumentService.completeUpload(interpreterId, request));
+                verifyNoInteractions(interpreterDocumentsRepository, emailService);
+        }
+
+        @Test
+        void shouldCreateDownloadUrlForInterpreterDocument() {
+                // Arrange
+                UUID interpreterId = UUID.randomUUID();
+                UUID documentId = UUID.randomUUID();
+                Interpreter interpreter = new Interpreter();
+                interpreter.setId(interpreterId);
+                InterpreterDocuments document = new InterpreterDocuments();
+                document.setInterpreter(interpreter);
+                document.setDocument("https://s3.amazonaws.com/documents/test-document.pdf");
+                when(interpreterDocumentsRepository.findById(documentId)).thenReturn(Optional.of(document));
+                PresignedUrlResponseDTO downloadUrl = PresignedUrlResponseDTO.builder().method("GET").build();
+                when(s3PresignedUrlService.createDownloadUrl(document.getDocument())).thenReturn(downloadUrl);
+
+                // Act & Assert
+                assertEquals(downloadUrl, interpreterDocumentService.createDownloadUrl(interpreterId, documentId));
+        }
+
+        @Test
+        void shouldNotCreateDownloadUrlForDocumentOfAnotherInterpreter() {
+                // Arrange
+                UUID documentId = UUID.randomUUID();
+                Interpreter interpreter = new Interpreter();
+                interpreter.setId(UUID.randomUUID());
+                InterpreterDocuments document = new InterpreterDocuments();
+                document.setInterpreter(interpreter);
+                when(interpreterDocumentsRepository.findById(documentId)).thenReturn(Optional.of(document));
+                UUID otherInterpreterId = UUID.randomUUID();
+
+                // Act & Assert
+                assertThrows(EntityNotFoundException.class,
+                                () -> interpreterDocumentService.createDownloadUrl(otherInterpreterId, documentId));
+                verifyNoInteractions(s3PresignedUrlService);
+        }
+
         @Test
         void shouldGetDocumentsByInterpreter() {
                 // Arrange
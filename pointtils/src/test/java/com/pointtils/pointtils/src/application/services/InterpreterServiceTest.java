@@ -1,20 +1,27 @@
 package com.pointtils.pointtils.src.application.services;
 
+import com.pointtils.pointtils.src.application.dto.LocationDTO;
 import com.pointtils.pointtils.src.application.dto.requests.FindAllInterpreterDTO;
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterBasicRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterListCursor;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterListResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.InterpreterPageResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.InterpreterResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.SpecialtyResponseDTO;
 import com.pointtils.pointtils.src.application.mapper.InterpreterResponseMapper;
 import com.pointtils.pointtils.src.application.mapper.LocationMapper;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
 import com.pointtils.pointtils.src.core.domain.entities.Location;
-import com.pointtils.pointtils.src.core.domain.entities.Schedule;
-import com.pointtils.pointtils.src.core.domain.entities.Specialty;
-import com.pointtils.pointtils.src.core.domain.entities.enums.DayOfWeek;
 import com.pointtils.pointtils.src.core.domain.entities.enums.Gender;
+import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterListSort;
 import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterModality;
 import com.pointtils.pointtils.src.core.domain.entities.enums.UserStatus;
 import com.pointtils.pointtils.src.infrastructure.repositories.InterpreterRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.LocationRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.UserSpecialtyRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterListingRow;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterLocationRow;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterSpecialtyRow;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,12 +35,9 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.math.BigDecimal;
-import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 import static com.pointtils.pointtils.src.util.TestDataUtil.createInterpreterCreationRequest;
@@ -48,6 +52,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -63,6 +70,12 @@ class InterpreterServiceTest {
     private InterpreterResponseMapper responseMapper;
     @Mock
     private EmailService emailService;
+    @Mock
+    private InterpreterSlotService interpreterSlotService;
+    @Mock
+    private LocationRepository locationRepository;
+    @Mock
+    private UserSpecialtyRepository userSpecialtyRepository;
     @Spy
     private LocationMapper locationMapper = new LocationMapper();
     @InjectMocks
@@ -131,14 +144,17 @@ class InterpreterServiceTest {
         dto.setAvailableDate("2025-11-07 09:00");
         dto.setName("interpreter");
         UUID id = UUID.randomUUID();
-        Interpreter foundInterpreter = Interpreter.builder().id(id).build();
+        InterpreterListingRow row = listingRow(id, "interpreter", BigDecimal.ZERO);
         InterpreterListResponseDTO mappedResponse = InterpreterListResponseDTO.builder().id(id).build();
-        when(repository.findAll(any(Specification.class))).thenReturn(List.of(foundInterpreter));
-        when(responseMapper.toListResponseDTO(foundInterpreter)).thenReturn(mappedResponse);
+        when(repository.findListingRows(any(Specification.class), isNull(), eq("interpreter"), isNull(), eq(0))).thenReturn(List.of(row));
+        when(responseMapper.toListResponseDTO(row, List.of(), List.of())).thenReturn(mappedResponse);
+
+        InterpreterPageResponseDTO result = service.findAll(dto);
 
-        assertThat(service.findAll(dto))
+        assertThat(result.getItems())
                 .hasSize(1)
                 .contains(mappedResponse);
+        assertNull(result.getNextCursor());
     }
 
     @Test
@@ -155,61 +171,136 @@ class InterpreterServiceTest {
         dto.setName("interpreter");
 
         UUID id = UUID.randomUUID();
-        Location location = Location.builder()
-                .id(UUID.randomUUID())
-                .uf("SP")
-                .city("São Paulo")
-                .neighborhood("Higienópolis")
-                .build();
-
-        List<Location> locations = new ArrayList<>();
-        locations.add(location);
-
-        Specialty specialty = new Specialty("Libras");
-        specialty.setId(UUID.randomUUID());
-        Set<Specialty> specialties = new HashSet<>();
-        specialties.add(specialty);
-
-        Schedule schedule = new Schedule();
-        schedule.setDay(DayOfWeek.WED);
-        schedule.setStartTime(LocalTime.of(9, 0));
-        schedule.setEndTime(LocalTime.of(18, 0));
-        Set<Schedule> schedules = new HashSet<>();
-        schedules.add(schedule);
-
-        Interpreter foundInterpreter = Interpreter.builder()
-                .id(id)
-                .name("interpreter")
-                .gender(Gender.FEMALE)
-                .modality(InterpreterModality.ONLINE)
-                .locations(locations)
-                .specialties(specialties)
-                .schedules(schedules)
-                .build();
-
+        UUID locationId = UUID.randomUUID();
+        UUID specialtyId = UUID.randomUUID();
+        InterpreterListingRow row = listingRow(id, "interpreter", new BigDecimal("4.50"));
         InterpreterListResponseDTO mappedResponse = InterpreterListResponseDTO.builder()
                 .id(id)
                 .build();
 
-        when(repository.findAll(any(Specification.class))).thenReturn(List.of(foundInterpreter));
-        when(responseMapper.toListResponseDTO(foundInterpreter)).thenReturn(mappedResponse);
+        when(repository.findListingRows(any(Specification.class), isNull(), eq("interpreter"), isNull(), eq(0))).thenReturn(List.of(row));
+        when(locationRepository.findListingRowsByInterpreterIds(List.of(id)))
+                .thenReturn(List.of(new InterpreterLocationRow(id, locationId, "SP", "São Paulo", "Higienópolis")));
+        when(userSpecialtyRepository.findListingRowsByUserIds(List.of(id)))
+                .thenReturn(List.of(new InterpreterSpecialtyRow(id, specialtyId, "Libras")));
+        when(responseMapper.toListResponseDTO(eq(row), any(), any())).thenReturn(mappedResponse);
 
         // Act
-        List<InterpreterListResponseDTO> result = service.findAll(dto);
+        List<InterpreterListResponseDTO> result = service.findAll(dto).getItems();
 
         // Assert
         assertThat(result)
                 .hasSize(1)
                 .contains(mappedResponse);
+        ArgumentCaptor<List<LocationDTO>> locationsCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<SpecialtyResponseDTO>> specialtiesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(responseMapper).toListResponseDTO(eq(row), locationsCaptor.capture(), specialtiesCaptor.capture());
+        assertEquals(locationId, locationsCaptor.getValue().get(0).getId());
+        assertEquals("Higienópolis", locationsCaptor.getValue().get(0).getNeighborhood());
+        assertEquals(specialtyId, specialtiesCaptor.getValue().get(0).getId());
+        assertEquals("Libras", specialtiesCaptor.getValue().get(0).getName());
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenThereAreMoreInterpreters() {
+        FindAllInterpreterDTO dto = new FindAllInterpreterDTO();
+        dto.setSort("rating");
+        dto.setSize(2);
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        InterpreterListingRow first = listingRow(firstId, "Ana", new BigDecimal("5.00"));
+        InterpreterListingRow second = listingRow(secondId, "Bruno", new BigDecimal("4.50"));
+        InterpreterListingRow third = listingRow(UUID.randomUUID(), "Carla", new BigDecimal("4.00"));
+
+        when(repository.findListingRows(any(Specification.class), eq(InterpreterListSort.RATING), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(first, second, third));
+        when(responseMapper.toListResponseDTO(any(InterpreterListingRow.class), any(), any()))
+                .thenReturn(new InterpreterListResponseDTO());
+
+        InterpreterPageResponseDTO result = service.findAll(dto);
+
+        assertEquals(2, result.getItems().size());
+        InterpreterListCursor cursor = InterpreterListCursor.decode(result.getNextCursor(), InterpreterListSort.RATING);
+        assertEquals(secondId, cursor.getId());
+        assertEquals(new BigDecimal("4.50"), cursor.getRating());
+        verify(locationRepository).findListingRowsByInterpreterIds(List.of(firstId, secondId));
+    }
+
+    @Test
+    void shouldContinueFromCursorOrderedByName() {
+        UUID lastId = UUID.randomUUID();
+        FindAllInterpreterDTO dto = new FindAllInterpreterDTO();
+        dto.setCursor(InterpreterListCursor.after(InterpreterListSort.NAME, "Bruno", null, null, lastId).encode());
+        ArgumentCaptor<InterpreterListCursor> cursorCaptor = ArgumentCaptor.forClass(InterpreterListCursor.class);
+
+        when(repository.findListingRows(any(Specification.class), eq(InterpreterListSort.NAME), isNull(),
+                cursorCaptor.capture(), eq(21)))
+                .thenReturn(List.of());
+
+        InterpreterPageResponseDTO result = service.findAll(dto);
+
+        assertThat(result.getItems()).isEmpty();
+        assertNull(result.getNextCursor());
+        assertEquals("Bruno", cursorCaptor.getValue().getName());
+        assertEquals(lastId, cursorCaptor.getValue().getId());
+        verify(locationRepository, never()).findListingRowsByInterpreterIds(any());
+    }
+
+    @Test
+    void shouldRejectInvalidPageSizeOrCursor() {
+        FindAllInterpreterDTO invalidSize = new FindAllInterpreterDTO();
+        invalidSize.setSize(101);
+        FindAllInterpreterDTO invalidCursor = new FindAllInterpreterDTO();
+        invalidCursor.setCursor("cursor-invalido");
+        FindAllInterpreterDTO otherSortCursor = new FindAllInterpreterDTO();
+        otherSortCursor.setSort("rating");
+        otherSortCursor.setCursor(InterpreterListCursor.after(InterpreterListSort.NAME, "Ana", null, null, UUID.randomUUID()).encode());
+
+        assertThrows(IllegalArgumentException.class, () -> service.findAll(invalidSize));
+        assertThrows(IllegalArgumentException.class, () -> service.findAll(invalidCursor));
+        assertThrows(IllegalArgumentException.class, () -> service.findAll(otherSortCursor));
+        verify(repository, never()).findListingRows(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldPageNameSearchByRelevanceByDefault() {
+        FindAllInterpreterDTO dto = new FindAllInterpreterDTO();
+        dto.setName("ana");
+        dto.setSize(1);
+        UUID firstId = UUID.randomUUID();
+        InterpreterListingRow first = new InterpreterListingRow(firstId, "Ana", null, BigDecimal.ZERO,
+                InterpreterModality.ONLINE, (double) 0.42857143F);
+        InterpreterListingRow second = new InterpreterListingRow(UUID.randomUUID(), "Mariana", null, BigDecimal.ZERO,
+                InterpreterModality.ONLINE, 0.25d);
+
+        when(repository.findListingRows(any(Specification.class), eq(InterpreterListSort.RELEVANCE), eq("ana"), isNull(),
+                eq(2))).thenReturn(List.of(first, second));
+        when(responseMapper.toListResponseDTO(any(InterpreterListingRow.class), any(), any()))
+                .thenReturn(new InterpreterListResponseDTO());
+
+        InterpreterPageResponseDTO result = service.findAll(dto);
+
+        InterpreterListCursor cursor = InterpreterListCursor.decode(result.getNextCursor(), InterpreterListSort.RELEVANCE);
+        assertEquals(firstId, cursor.getId());
+        assertEquals(first.relevance(), cursor.getRelevance());
     }
 
+    @Test
+    void shouldRejectRelevanceSortWithoutName() {
+        FindAllInterpreterDTO dto = new FindAllInterpreterDTO();
+        dto.setSort("relevance");
+        dto.setSize(10);
+
+        assertThrows(IllegalArgumentException.class, () -> service.findAll(dto));
+        verify(repository, never()).findListingRows(any(), any(), any(), any(), anyInt());
+    }
 
     @Test
     void shouldFindById() {
         UUID id = UUID.randomUUID();
         Interpreter foundInterpreter = Interpreter.builder().id(id).build();
         InterpreterResponseDTO mappedResponse = InterpreterResponseDTO.builder().id(id).build();
-        when(repository.findById(id)).thenReturn(Optional.of(foundInterpreter));
+        when(repository.findProfileById(id)).thenReturn(Optional.of(foundInterpreter));
         when(responseMapper.toResponseDTO(foundInterpreter)).thenReturn(mappedResponse);
 
         assertEquals(mappedResponse, service.findById(id));
@@ -218,7 +309,7 @@ class InterpreterServiceTest {
     @Test
     void shouldThrowExceptionIfFindByIdHasNoInterpreter() {
         UUID id = UUID.randomUUID();
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(repository.findProfileById(id)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> service.findById(id));
     }
@@ -553,4 +644,8 @@ class InterpreterServiceTest {
         assertDoesNotThrow(() -> service.registerBasic(request));
     }
 
+
+    private static InterpreterListingRow listingRow(UUID id, String name, BigDecimal rating) {
+        return new InterpreterListingRow(id, name, "picture_url", rating, InterpreterModality.ONLINE);
+    }
 }
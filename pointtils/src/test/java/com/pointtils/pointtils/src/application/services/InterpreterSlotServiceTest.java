@@ -0,0 +1,157 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.infrastructure.repositories.InterpreterSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do InterpreterSlotService")
+class InterpreterSlotServiceTest {
+
+    private static final int HORIZON_DAYS = 90;
+    private static final ZoneId ZONE_ID = ZoneId.of("America/Sao_Paulo");
+    private static final LocalDate TODAY = LocalDate.of(2025, 10, 10);
+    // 23:30 em São Paulo, já no dia seguinte em UTC
+    private static final Clock CLOCK = Clock.fixed(TODAY.atTime(23, 30).atZone(ZONE_ID).toInstant(), ZONE_ID);
+
+    @Mock
+    private InterpreterSlotRepository interpreterSlotRepository;
+
+    @Mock
+    private AvailabilityEngine availabilityEngine;
+
+    private InterpreterSlotService interpreterSlotService;
+    private LocalDate horizonEnd;
+
+    @BeforeEach
+    void setUp() {
+        interpreterSlotService = newService(true);
+        horizonEnd = TODAY.plusDays(HORIZON_DAYS - 1L);
+    }
+
+    @Test
+    @DisplayName("Não deve considerar o horizonte materializado com a tabela vazia")
+    void shouldNotBeMaterializedWithEmptyTable() {
+        assertFalse(interpreterSlotService.isMaterialized(TODAY, TODAY));
+
+        interpreterSlotService.refreshDay(UUID.randomUUID(), TODAY);
+        interpreterSlotService.refreshInterpreter(UUID.randomUUID());
+
+        verify(interpreterSlotRepository, never()).insertAvailableSlots(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Não deve acessar a tabela com a materialização desligada")
+    void shouldIgnoreTableWhenMaterializationIsDisabled() {
+        InterpreterSlotService disabledService = newService(false);
+
+        assertFalse(disabledService.isMaterialized(TODAY, TODAY));
+        disabledService.refreshDay(UUID.randomUUID(), TODAY);
+
+        verifyNoInteractions(interpreterSlotRepository);
+    }
+
+    @Test
+    @DisplayName("Deve ler o horizonte da maior data na tabela e reler apenas após o intervalo")
+    void shouldReadHorizonFromTable() {
+        when(interpreterSlotRepository.findMaxSlotDate()).thenReturn(horizonEnd);
+
+        assertTrue(interpreterSlotService.isMaterialized(TODAY, horizonEnd));
+        assertFalse(interpreterSlotService.isMaterialized(TODAY.minusDays(1), TODAY));
+        assertFalse(interpreterSlotService.isMaterialized(TODAY, horizonEnd.plusDays(1)));
+        verify(interpreterSlotRepository, times(1)).findMaxSlotDate();
+    }
+
+    @Test
+    @DisplayName("Deve materializar todo o horizonte a partir de hoje em São Paulo com a tabela vazia")
+    void shouldMaterializeWholeHorizonWhenTableIsEmpty() {
+        when(interpreterSlotRepository.findMaxSlotDate()).thenReturn(null, horizonEnd);
+
+        interpreterSlotService.advanceHorizon();
+
+        verify(interpreterSlotRepository).deleteBySlotDateBefore(TODAY);
+        verify(interpreterSlotRepository).deleteBySlotDateBetween(TODAY, horizonEnd);
+        verify(interpreterSlotRepository).insertAvailableSlots(null, TODAY, horizonEnd);
+        assertTrue(interpreterSlotService.isMaterialized(TODAY, horizonEnd));
+        verify(availabilityEngine).rebuildIfLoaded();
+    }
+
+    @Test
+    @DisplayName("Deve materializar apenas os dias após a maior data já presente na tabela")
+    void shouldMaterializeOnlyMissingDays() {
+        LocalDate until = TODAY.plusDays(10);
+        when(interpreterSlotRepository.findMaxSlotDate()).thenReturn(until, horizonEnd);
+
+        interpreterSlotService.advanceHorizon();
+
+        verify(interpreterSlotRepository).deleteBySlotDateBetween(until.plusDays(1), horizonEnd);
+        verify(interpreterSlotRepository).insertAvailableSlots(null, until.plusDays(1), horizonEnd);
+    }
+
+    @Test
+    @DisplayName("Não deve gerar horários novamente quando o horizonte já está materializado")
+    void shouldOnlyRemovePastDaysWhenHorizonIsUpToDate() {
+        when(interpreterSlotRepository.findMaxSlotDate()).thenReturn(horizonEnd);
+
+        interpreterSlotService.advanceHorizon();
+
+        verify(interpreterSlotRepository).deleteBySlotDateBefore(TODAY);
+        verify(interpreterSlotRepository, never()).deleteBySlotDateBetween(any(), any());
+        verify(interpreterSlotRepository, never()).insertAvailableSlots(isNull(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve recalcular apenas o dia do agendamento quando dentro do horizonte")
+    void shouldRefreshSingleDay() {
+        UUID interpreterId = UUID.randomUUID();
+        LocalDate date = TODAY.plusDays(3);
+        when(interpreterSlotRepository.findMaxSlotDate()).thenReturn(horizonEnd);
+
+        interpreterSlotService.refreshDay(interpreterId, date);
+        interpreterSlotService.refreshDay(interpreterId, horizonEnd.plusDays(1));
+
+        verify(interpreterSlotRepository).deleteByInterpreterIdAndSlotDateBetween(interpreterId, date, date);
+        verify(interpreterSlotRepository).insertAvailableSlots(interpreterId, date, date);
+        verify(interpreterSlotRepository, never())
+                .insertAvailableSlots(eq(interpreterId), eq(horizonEnd.plusDays(1)), any());
+    }
+
+    @Test
+    @DisplayName("Deve recalcular todo o horizonte do intérprete quando seus horários mudam")
+    void shouldRefreshInterpreterHorizon() {
+        UUID interpreterId = UUID.randomUUID();
+        when(interpreterSlotRepository.findMaxSlotDate()).thenReturn(horizonEnd);
+
+        interpreterSlotService.refreshInterpreter(interpreterId);
+
+        verify(interpreterSlotRepository).deleteByInterpreterIdAndSlotDateBetween(interpreterId, TODAY, horizonEnd);
+        verify(interpreterSlotRepository).insertAvailableSlots(interpreterId, TODAY, horizonEnd);
+        verify(availabilityEngine).refreshInterpreter(interpreterId);
+    }
+
+    private InterpreterSlotService newService(boolean materializationEnabled) {
+        return new InterpreterSlotService(interpreterSlotRepository, availabilityEngine, CLOCK, materializationEnabled,
+                HORIZON_DAYS, Duration.ofMinutes(1));
+    }
+}
@@ -1,5 +1,6 @@
 package com.pointtils.pointtils.src.application.services;
 
+import com.pointtils.pointtils.src.infrastructure.configs.InMemorySharedAuthStateStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MemoryResetTokenServiceTest {
 
@@ -20,7 +22,7 @@ class MemoryResetTokenServiceTest {
 
     @BeforeEach
     void setUp() {
-        memoryResetTokenService = new MemoryResetTokenService();
+        memoryResetTokenService = new MemoryResetTokenService(new InMemorySharedAuthStateStore());
     }
 
     @Test
@@ -97,4 +99,18 @@ class MemoryResetTokenServiceTest {
             assertNull(memoryResetTokenService.validateResetToken(token));
         }
     }
+
+    @Test
+    @DisplayName("Deve aceitar o token de reset gerado por outra instância que compartilha o estado")
+    void shouldValidateTokenGeneratedByOtherInstance() {
+        InMemorySharedAuthStateStore sharedStateStore = new InMemorySharedAuthStateStore();
+        MemoryResetTokenService nodeA = new MemoryResetTokenService(sharedStateStore);
+        MemoryResetTokenService nodeB = new MemoryResetTokenService(sharedStateStore);
+
+        String token = nodeA.generateResetToken("user@email.com");
+
+        assertEquals("user@email.com", nodeB.validateResetToken(token));
+        assertTrue(sharedStateStore.get(MemoryResetTokenService.NAMESPACE, token).isEmpty(),
+                "O token não deve ser armazenado sem hash");
+    }
 }
@@ -1,39 +1,34 @@
 package com.pointtils.pointtils.src.application.services;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.pointtils.pointtils.src.application.dto.responses.ParametersResponseDTO;
+import com.pointtils.pointtils.src.application.dto.NotificationContentDTO;
+import com.pointtils.pointtils.src.core.domain.entities.ScheduledNotification;
 import com.pointtils.pointtils.src.core.domain.entities.UserApp;
 import com.pointtils.pointtils.src.core.domain.entities.enums.NotificationType;
-import jakarta.persistence.EntityNotFoundException;
+import com.pointtils.pointtils.src.infrastructure.repositories.ScheduledNotificationRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.CsvSource;
-import org.mockito.ArgumentCaptor;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.scheduling.TaskScheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -43,91 +38,57 @@ class NotificationServiceTest {
 
     private static final UUID userId = UUID.fromString("5c81cdb8-db52-4264-93c8-d010e1511464");
     @Mock
-    private TaskScheduler taskScheduler;
+    private ScheduledNotificationRepository scheduledNotificationRepository;
     @Mock
     private UserAppService userAppService;
     @Mock
-    private ParametersService parametersService;
-    @Spy
-    private ObjectMapper objectMapper = new ObjectMapper();
+    private NotificationTemplateCache notificationTemplateCache;
+    @Mock
+    private PushNotificationDispatcher pushNotificationDispatcher;
     @InjectMocks
     private NotificationService notificationService;
 
     @ParameterizedTest
-    @CsvSource(value = {
-            "APPOINTMENT_REQUESTED,NOTIFICATION_APPOINTMENT_REQUESTED",
-            "APPOINTMENT_CANCELED,NOTIFICATION_APPOINTMENT_CANCELED",
-            "APPOINTMENT_ACCEPTED,NOTIFICATION_APPOINTMENT_ACCEPTED"
-    })
-    void shouldSendNotificationToAllUserApps(String notificationTypeStr, String parameterKey) throws FirebaseMessagingException {
+    @EnumSource(NotificationType.class)
+    void shouldEnqueueNotificationForAllUserApps(NotificationType notificationType) {
         mockUserApps();
-        String mockedParameterValue = "{\"title\":\"Nova notificação\"," +
-                "\"body\":\"Você recebeu uma atualização importante. Clique para mais detalhes.\"}";
-        ParametersResponseDTO mockResponse = ParametersResponseDTO.builder()
-                .id(UUID.randomUUID())
-                .key(parameterKey)
-                .value(mockedParameterValue)
-                .build();
-        when(parametersService.findByKey(parameterKey)).thenReturn(mockResponse);
-
-        NotificationType notificationType = NotificationType.valueOf(notificationTypeStr);
+        when(notificationTemplateCache.find(notificationType))
+                .thenReturn(Optional.of(new NotificationContentDTO("Nova notificação",
+                        "Você recebeu uma atualização importante. Clique para mais detalhes.")));
 
-        try (MockedStatic<FirebaseMessaging> mockedFirebaseMessaging = Mockito.mockStatic(FirebaseMessaging.class)) {
-            FirebaseMessaging mockedMessagingInstance = mock(FirebaseMessaging.class);
-            when(mockedMessagingInstance.send(any(Message.class)))
-                    .thenThrow(FirebaseMessagingException.class)
-                    .thenReturn("response");
-            mockedFirebaseMessaging.when(FirebaseMessaging::getInstance).thenReturn(mockedMessagingInstance);
-
-            assertDoesNotThrow(() -> notificationService.sendNotificationToUser(userId, notificationType));
-            verify(mockedMessagingInstance, times(2)).send(any(Message.class));
-            verify(parametersService, times(2)).findByKey(parameterKey);
-        }
+        assertDoesNotThrow(() -> notificationService.sendNotificationToUser(userId, notificationType));
+        verify(pushNotificationDispatcher).enqueue(List.of("token1", "token2"), "Nova notificação",
+                "Você recebeu uma atualização importante. Clique para mais detalhes.");
     }
 
     @Test
-    void shouldNotSendNotificationToAllUserAppsIfParameterNotFound() throws FirebaseMessagingException {
+    void shouldNotEnqueueNotificationIfContentNotFound() {
         mockUserApps();
-        when(parametersService.findByKey("NOTIFICATION_APPOINTMENT_ACCEPTED")).thenThrow(new EntityNotFoundException());
-
-        try (MockedStatic<FirebaseMessaging> mockedFirebaseMessaging = Mockito.mockStatic(FirebaseMessaging.class)) {
-            FirebaseMessaging mockedMessagingInstance = mock(FirebaseMessaging.class);
-            mockedFirebaseMessaging.when(FirebaseMessaging::getInstance).thenReturn(mockedMessagingInstance);
+        when(notificationTemplateCache.find(NotificationType.APPOINTMENT_ACCEPTED))
+                .thenReturn(Optional.empty());
 
-            assertDoesNotThrow(() -> notificationService.sendNotificationToUser(userId, NotificationType.APPOINTMENT_ACCEPTED));
-            verify(mockedMessagingInstance, never()).send(any(Message.class));
-            verify(parametersService, times(2)).findByKey("NOTIFICATION_APPOINTMENT_ACCEPTED");
-        }
+        assertDoesNotThrow(() -> notificationService.sendNotificationToUser(userId, NotificationType.APPOINTMENT_ACCEPTED));
+        verifyNoInteractions(pushNotificationDispatcher);
     }
 
     @Test
-    void shouldNotSendNotificationIfUserHasNoApps() {
+    void shouldNotEnqueueNotificationIfUserHasNoApps() {
         when(userAppService.getUserAppsByUserId(userId)).thenReturn(Collections.emptyList());
 
-        try (MockedStatic<FirebaseMessaging> mockedFirebaseMessaging = Mockito.mockStatic(FirebaseMessaging.class)) {
-            FirebaseMessaging mockedMessagingInstance = mock(FirebaseMessaging.class);
-            mockedFirebaseMessaging.when(FirebaseMessaging::getInstance).thenReturn(mockedMessagingInstance);
-
-            assertDoesNotThrow(() -> notificationService.sendNotificationToUser(userId, NotificationType.APPOINTMENT_REQUESTED));
-            verifyNoInteractions(mockedMessagingInstance);
-        }
+        assertDoesNotThrow(() -> notificationService.sendNotificationToUser(userId, NotificationType.APPOINTMENT_REQUESTED));
+        verifyNoInteractions(notificationTemplateCache, pushNotificationDispatcher);
     }
 
     @Test
-    void shouldScheduleNotificationTaskForFutureTime() {
+    void shouldPersistNotificationForFutureTime() {
         NotificationType type = NotificationType.APPOINTMENT_REQUESTED;
         LocalDateTime futureTime = LocalDateTime.now(ZoneId.of("America/Sao_Paulo")).plusHours(1);
 
-        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
-
         notificationService.scheduleNotificationForUser(userId, type, futureTime);
 
-        verify(taskScheduler).schedule(taskCaptor.capture(), eq(futureTime.atZone(ZoneId.of("America/Sao_Paulo")).toInstant()));
-        Runnable scheduledTask = taskCaptor.getValue();
-        assertNotNull(scheduledTask);
-
-        scheduledTask.run();
-        verify(userAppService).getUserAppsByUserId(userId);
+        verify(scheduledNotificationRepository).insertIfAbsent(any(UUID.class), eq(userId), eq(type.name()),
+                eq(futureTime));
+        verifyNoInteractions(userAppService, pushNotificationDispatcher);
     }
 
     @Test
@@ -137,7 +98,70 @@ class NotificationServiceTest {
 
         notificationService.scheduleNotificationForUser(userId, type, pastTime);
 
-        verifyNoInteractions(taskScheduler);
+        verifyNoInteractions(scheduledNotificationRepository);
+    }
+
+    @Test
+    void shouldLeaseClaimedDueNotifications() {
+        ScheduledNotification notification = reminder();
+        notification.setAttempts(1);
+        when(scheduledNotificationRepository.findDueForUpdate(any(LocalDateTime.class), eq(50)))
+                .thenReturn(List.of(notification));
+        LocalDateTime beforeClaim = LocalDateTime.now(ZoneId.of("America/Sao_Paulo"));
+
+        List<ScheduledNotification> claimed = notificationService.claimDueNotifications(50, Duration.ofMinutes(5));
+
+        assertEquals(List.of(notification), claimed);
+        assertEquals(2, notification.getAttempts());
+        assertFalse(notification.getClaimedUntil().isBefore(beforeClaim.plusMinutes(5)));
+        verify(scheduledNotificationRepository, never()).deleteAllInBatch(anyList());
+    }
+
+    @Test
+    void shouldDeliverScheduledNotificationSynchronously() {
+        mockUserApps();
+        when(notificationTemplateCache.find(NotificationType.APPOINTMENT_REMINDER))
+                .thenReturn(Optional.of(new NotificationContentDTO("Lembrete", "Seu agendamento é amanhã")));
+        when(pushNotificationDispatcher.sendNow(List.of("token1", "token2"), "Lembrete", "Seu agendamento é amanhã"))
+                .thenReturn(false);
+
+        assertFalse(notificationService.deliverScheduledNotification(reminder()));
+        verify(pushNotificationDispatcher, never()).enqueue(anyList(), any(), any());
+    }
+
+    @Test
+    void shouldNotRetryScheduledNotificationWhenUserHasNoApps() {
+        when(userAppService.getUserAppsByUserId(userId)).thenReturn(Collections.emptyList());
+
+        assertTrue(notificationService.deliverScheduledNotification(reminder()));
+        verifyNoInteractions(notificationTemplateCache, pushNotificationDispatcher);
+    }
+
+    @Test
+    void shouldRetryScheduledNotificationWhenContentIsMissing() {
+        mockUserApps();
+        when(notificationTemplateCache.find(NotificationType.APPOINTMENT_REMINDER))
+                .thenReturn(Optional.empty());
+
+        assertFalse(notificationService.deliverScheduledNotification(reminder()));
+        verifyNoInteractions(pushNotificationDispatcher);
+    }
+
+    @Test
+    void shouldDeleteCompletedScheduledNotification() {
+        UUID id = UUID.randomUUID();
+
+        notificationService.completeScheduledNotification(id);
+
+        verify(scheduledNotificationRepository).deleteById(id);
+    }
+
+    private static ScheduledNotification reminder() {
+        return ScheduledNotification.builder()
+                .userId(userId)
+                .type(NotificationType.APPOINTMENT_REMINDER)
+                .dueAt(LocalDateTime.now(ZoneId.of("America/Sao_Paulo")).minusMinutes(1))
+                .build();
     }
 
     private void mockUserApps() {
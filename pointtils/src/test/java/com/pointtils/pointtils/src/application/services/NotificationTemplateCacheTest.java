@@ -0,0 +1,114 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pointtils.pointtils.src.application.dto.NotificationContentDTO;
+import com.pointtils.pointtils.src.core.domain.entities.Parameters;
+import com.pointtils.pointtils.src.core.domain.entities.enums.NotificationType;
+import com.pointtils.pointtils.src.core.domain.events.ParametersChangedEvent;
+import com.pointtils.pointtils.src.infrastructure.repositories.ParametersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationTemplateCacheTest {
+
+    private static final String REMINDER_VALUE = "{\"title\":\"Lembrete para você!\"," +
+            "\"body\":\"Seu agendamento está chegando. Não esqueça!\"}";
+
+    @Mock
+    private ParametersRepository parametersRepository;
+    private NotificationTemplateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NotificationTemplateCache(parametersRepository, new ObjectMapper(), 10);
+    }
+
+    @Test
+    @DisplayName("Deve ler os parâmetros uma única vez para várias notificações")
+    void shouldLoadParametersOnceForRepeatedLookups() {
+        mockParameters(parameter(NotificationType.APPOINTMENT_REMINDER, REMINDER_VALUE));
+
+        for (int i = 0; i < 100; i++) {
+            cache.find(NotificationType.APPOINTMENT_REMINDER);
+        }
+
+        assertEquals(Optional.of(new NotificationContentDTO("Lembrete para você!",
+                        "Seu agendamento está chegando. Não esqueça!")),
+                cache.find(NotificationType.APPOINTMENT_REMINDER));
+        verify(parametersRepository, times(1)).findAllByKeyIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar parâmetros ausentes, inválidos ou sem título e corpo")
+    void shouldIgnoreMissingOrInvalidParameters() {
+        mockParameters(
+                parameter(NotificationType.APPOINTMENT_REQUESTED, "{titulo invalido"),
+                parameter(NotificationType.APPOINTMENT_ACCEPTED, "{\"title\":\"Sem corpo\"}"),
+                parameter(NotificationType.APPOINTMENT_REMINDER, REMINDER_VALUE));
+
+        assertTrue(cache.find(NotificationType.APPOINTMENT_REQUESTED).isEmpty());
+        assertTrue(cache.find(NotificationType.APPOINTMENT_ACCEPTED).isEmpty());
+        assertTrue(cache.find(NotificationType.APPOINTMENT_CANCELED).isEmpty());
+        assertEquals("Lembrete para você!", title());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar os parâmetros após a alteração de um parâmetro")
+    void shouldReloadAfterParametersChange() {
+        mockParameters(parameter(NotificationType.APPOINTMENT_REMINDER, REMINDER_VALUE));
+        assertEquals("Lembrete para você!", title());
+
+        mockParameters(parameter(NotificationType.APPOINTMENT_REMINDER,
+                "{\"title\":\"Novo lembrete\",\"body\":\"Corpo\"}"));
+        cache.onParametersChanged(new ParametersChangedEvent(UUID.randomUUID()));
+
+        assertEquals("Novo lembrete", title());
+        verify(parametersRepository, times(2)).findAllByKeyIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar os parâmetros após o tempo de validade")
+    void shouldReloadAfterTimeToLive() {
+        cache = new NotificationTemplateCache(parametersRepository, new ObjectMapper(), 0);
+        mockParameters(parameter(NotificationType.APPOINTMENT_REMINDER, REMINDER_VALUE));
+
+        title();
+        title();
+
+        verify(parametersRepository, times(2)).findAllByKeyIn(anyCollection());
+    }
+
+    private String title() {
+        return cache.find(NotificationType.APPOINTMENT_REMINDER)
+                .map(NotificationContentDTO::title)
+                .orElse(null);
+    }
+
+    private void mockParameters(Parameters... parameters) {
+        when(parametersRepository.findAllByKeyIn(anyCollection())).thenReturn(List.of(parameters));
+    }
+
+    private static Parameters parameter(NotificationType type, String value) {
+        return Parameters.builder()
+                .id(UUID.randomUUID())
+                .key(NotificationTemplateCache.parameterKey(type))
+                .value(value)
+                .build();
+    }
+}
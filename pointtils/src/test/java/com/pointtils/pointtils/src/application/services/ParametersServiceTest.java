@@ -5,6 +5,7 @@ import com.pointtils.pointtils.src.application.dto.requests.ParametersPatchReque
 import com.pointtils.pointtils.src.application.dto.responses.ParametersResponseDTO;
 import com.pointtils.pointtils.src.application.mapper.ParametersMapper;
 import com.pointtils.pointtils.src.core.domain.entities.Parameters;
+import com.pointtils.pointtils.src.core.domain.events.ParametersChangedEvent;
 import com.pointtils.pointtils.src.infrastructure.repositories.ParametersRepository;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +35,9 @@ class ParametersServiceTest {
     @Mock
     private ParametersMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ParametersService parametersService;
 
@@ -86,6 +91,7 @@ class ParametersServiceTest {
         verify(mapper).toEntity(basicRequestDTO);
         verify(repository).save(any(Parameters.class));
         verify(mapper).toResponseDTO(parameters);
+        verify(eventPublisher).publishEvent(new ParametersChangedEvent(parameters.getId()));
     }
 
     @Test
@@ -188,6 +194,7 @@ class ParametersServiceTest {
         verify(repository).findById(parametersId);
         verify(repository).save(any(Parameters.class));
         verify(mapper).toResponseDTO(updatedParameters);
+        verify(eventPublisher).publishEvent(new ParametersChangedEvent(parametersId));
     }
 
     @Test
@@ -226,6 +233,7 @@ class ParametersServiceTest {
         verify(repository).findById(parametersId);
         verify(repository, never()).save(any());
         verify(mapper, never()).toResponseDTO(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -236,6 +244,7 @@ class ParametersServiceTest {
         assertDoesNotThrow(() -> parametersService.delete(parametersId));
         
         verify(repository).deleteById(parametersId);
+        verify(eventPublisher).publishEvent(new ParametersChangedEvent(parametersId));
     }
 
     @Test
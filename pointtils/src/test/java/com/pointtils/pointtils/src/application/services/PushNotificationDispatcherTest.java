@@ -0,0 +1,175 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.application.clients.PushNotificationSender;
+import com.pointtils.pointtils.src.core.domain.entities.enums.PushDeliveryStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PushNotificationDispatcherTest {
+
+    @Mock
+    private UserAppService userAppService;
+    @Mock
+    private TaskScheduler taskScheduler;
+    private StubPushNotificationSender sender;
+    private PushNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        sender = new StubPushNotificationSender();
+        dispatcher = new PushNotificationDispatcher(sender, userAppService, taskScheduler, 3, 1, 2, 1000);
+    }
+
+    @Test
+    @DisplayName("Deve juntar notificações de mesmo conteúdo em lotes de até 500 tokens")
+    void shouldGroupNotificationsInBatchesOf500Tokens() {
+        dispatcher.enqueue(tokens("a", 700), "Título", "Corpo");
+        dispatcher.enqueue(tokens("b", 500), "Título", "Corpo");
+        dispatcher.enqueue(List.of("c1"), "Outro título", "Outro corpo");
+
+        dispatcher.deliverQueued();
+
+        assertEquals(List.of(500, 500, 200, 1), sender.batches.stream().map(List::size).toList());
+        assertEquals(List.of("c1"), sender.batches.get(3));
+        verifyNoInteractions(userAppService, taskScheduler);
+    }
+
+    @Test
+    @DisplayName("Deve remover os dispositivos com token não registrado")
+    void shouldDeleteUnregisteredTokens() {
+        sender.statuses.put("token2", PushDeliveryStatus.UNREGISTERED);
+        dispatcher.enqueue(List.of("token1", "token2"), "Título", "Corpo");
+
+        dispatcher.deliverQueued();
+
+        verify(userAppService).deleteUserAppsByTokens(List.of("token2"));
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    @DisplayName("Deve reenviar apenas os tokens com falha temporária com espera crescente")
+    void shouldRetryFailedTokensWithBackoff() {
+        sender.statuses.put("token2", PushDeliveryStatus.RETRY);
+        dispatcher.enqueue(List.of("token1", "token2"), "Título", "Corpo");
+        Instant beforeDelivery = Instant.now();
+
+        dispatcher.deliverQueued();
+
+        ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Instant> instantCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(retryCaptor.capture(), instantCaptor.capture());
+        assertFalse(instantCaptor.getValue().isBefore(beforeDelivery.plusMillis(1000)));
+
+        sender.statuses.clear();
+        retryCaptor.getValue().run();
+        dispatcher.deliverQueued();
+
+        assertEquals(List.of(List.of("token1", "token2"), List.of("token2")), sender.batches);
+    }
+
+    @Test
+    @DisplayName("Deve desistir do envio após a quantidade máxima de tentativas")
+    void shouldGiveUpAfterMaxAttempts() {
+        sender.statuses.put("token1", PushDeliveryStatus.RETRY);
+        dispatcher.enqueue(List.of("token1"), "Título", "Corpo");
+
+        dispatcher.deliverQueued();
+        ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(retryCaptor.capture(), any(Instant.class));
+        retryCaptor.getValue().run();
+        dispatcher.deliverQueued();
+
+        assertEquals(2, sender.batches.size());
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Deve reenviar o lote inteiro quando o envio falhar com exceção")
+    void shouldRetryWholeBatchWhenSenderThrows() {
+        sender.failure = new IllegalStateException("FCM indisponível");
+        dispatcher.enqueue(List.of("token1", "token2"), "Título", "Corpo");
+
+        dispatcher.deliverQueued();
+
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Deve enviar na thread atual e informar que o envio foi concluído")
+    void shouldSendNowAndReportDelivery() {
+        sender.statuses.put("token2", PushDeliveryStatus.UNREGISTERED);
+
+        assertTrue(dispatcher.sendNow(tokens("a", 600), "Título", "Corpo"));
+        assertTrue(dispatcher.sendNow(List.of("token1", "token2"), "Título", "Corpo"));
+
+        assertEquals(List.of(500, 100, 2), sender.batches.stream().map(List::size).toList());
+        verify(userAppService).deleteUserAppsByTokens(List.of("token2"));
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    @DisplayName("Deve informar falha temporária no envio imediato sem reagendar")
+    void shouldReportRetryOnSendNowWithoutScheduling() {
+        sender.statuses.put("token2", PushDeliveryStatus.RETRY);
+
+        assertFalse(dispatcher.sendNow(List.of("token1", "token2"), "Título", "Corpo"));
+
+        sender.failure = new IllegalStateException("FCM indisponível");
+        assertFalse(dispatcher.sendNow(List.of("token1"), "Título", "Corpo"));
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a notificação quando a fila estiver cheia")
+    void shouldRejectNotificationWhenQueueIsFull() {
+        assertTrue(dispatcher.enqueue(List.of("token1"), "Título", "Corpo"));
+        assertTrue(dispatcher.enqueue(List.of("token2"), "Título", "Corpo"));
+        assertTrue(dispatcher.enqueue(List.of("token3"), "Título", "Corpo"));
+
+        assertFalse(dispatcher.enqueue(List.of("token4"), "Título", "Corpo"));
+    }
+
+    private static List<String> tokens(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + i).toList();
+    }
+
+    private static class StubPushNotificationSender implements PushNotificationSender {
+
+        private final List<List<String>> batches = new ArrayList<>();
+        private final Map<String, PushDeliveryStatus> statuses = new HashMap<>();
+        private RuntimeException failure;
+
+        @Override
+        public List<PushDeliveryStatus> send(List<String> tokens, String title, String body) {
+            batches.add(List.copyOf(tokens));
+            if (failure != null) {
+                throw failure;
+            }
+            return tokens.stream()
+                    .map(token -> statuses.getOrDefault(token, PushDeliveryStatus.SENT))
+                    .toList();
+        }
+    }
+}
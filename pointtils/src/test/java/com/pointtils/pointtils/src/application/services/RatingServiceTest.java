@@ -1,8 +1,11 @@
 package com.pointtils.pointtils.src.application.services;
 
+import com.pointtils.pointtils.src.application.dto.requests.RatingFeedCursor;
 import com.pointtils.pointtils.src.application.dto.requests.RatingPatchRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.RatingRequestDTO;
+import com.pointtils.pointtils.src.application.dto.responses.RatingPageResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.RatingResponseDTO;
+import com.pointtils.pointtils.src.application.dto.responses.RatingSummaryResponseDTO;
 import com.pointtils.pointtils.src.application.mapper.RatingResponseMapper;
 import com.pointtils.pointtils.src.core.domain.entities.Appointment;
 import com.pointtils.pointtils.src.core.domain.entities.Enterprise;
@@ -10,8 +13,10 @@ import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
 import com.pointtils.pointtils.src.core.domain.entities.Person;
 import com.pointtils.pointtils.src.core.domain.entities.Rating;
 import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
+import com.pointtils.pointtils.src.core.domain.entities.enums.RatingFeedSort;
 import com.pointtils.pointtils.src.core.domain.exceptions.RatingException;
 import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentRepository;
+import com.pointtils.pointtils.src.infrastructure.repositories.InterpreterRepository;
 import com.pointtils.pointtils.src.infrastructure.repositories.RatingRepository;
 import com.pointtils.pointtils.src.infrastructure.repositories.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -21,18 +26,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,6 +58,8 @@ class RatingServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private InterpreterRepository interpreterRepository;
+    @Mock
     private RatingResponseMapper ratingResponseMapper;
 
     @InjectMocks
@@ -94,13 +108,15 @@ class RatingServiceTest {
 
         when(ratingRepository.save(any(Rating.class))).thenReturn(rating);
         when(ratingResponseMapper.toResponseDTO(any())).thenReturn(mock(RatingResponseDTO.class));
-        when(ratingRepository.findByInterpreterId(any())).thenReturn(List.of(rating));
 
         RatingResponseDTO response = ratingService.createRating(dto);
 
         assertNotNull(response);
         verify(ratingRepository).save(any(Rating.class));
         verify(ratingResponseMapper).toResponseDTO(any());
+        verify(interpreterRepository).applyRatingChange(appointment.getInterpreter().getId(), 1,
+                BigDecimal.valueOf(5), 5, 0);
+        verify(ratingRepository, never()).findByInterpreterId(any());
     }
 
     @Test
@@ -215,11 +231,9 @@ class RatingServiceTest {
         patchDTO.setStars(BigDecimal.valueOf(3));
         patchDTO.setDescription("Updated");
 
-        when(ratingRepository.findById(ratingId)).thenReturn(Optional.of(rating));
+        when(ratingRepository.findByIdForUpdate(ratingId)).thenReturn(Optional.of(rating));
         when(ratingRepository.save(any())).thenReturn(rating);
         when(ratingResponseMapper.toResponseDTO(any())).thenReturn(mock(RatingResponseDTO.class));
-        when(ratingRepository.findByInterpreterId(any())).thenReturn(List.of(rating));
-        when(userRepository.save(any())).thenReturn(appointment.getInterpreter());
 
         RatingResponseDTO response = ratingService.patchRating(patchDTO, ratingId);
 
@@ -227,6 +241,22 @@ class RatingServiceTest {
         verify(ratingRepository).save(rating);
         assertEquals(patchDTO.getStars(), rating.getStars());
         assertEquals(patchDTO.getDescription(), rating.getDescription());
+        verify(interpreterRepository).applyRatingChange(appointment.getInterpreter().getId(), 0,
+                BigDecimal.valueOf(-1), 3, 4);
+    }
+
+    @Test
+    void patchRating_shouldNotTouchAggregatesWhenStarsAreUnchanged() {
+        UUID ratingId = rating.getId();
+        RatingPatchRequestDTO patchDTO = new RatingPatchRequestDTO();
+        patchDTO.setStars(new BigDecimal("4.00"));
+
+        when(ratingRepository.findByIdForUpdate(ratingId)).thenReturn(Optional.of(rating));
+        when(ratingResponseMapper.toResponseDTO(any())).thenReturn(mock(RatingResponseDTO.class));
+
+        ratingService.patchRating(patchDTO, ratingId);
+
+        verify(interpreterRepository, never()).applyRatingChange(any(), anyInt(), any(), anyInt(), anyInt());
     }
 
     @Test
@@ -234,7 +264,7 @@ class RatingServiceTest {
         UUID ratingId = UUID.randomUUID();
         RatingPatchRequestDTO patchDTO = new RatingPatchRequestDTO();
 
-        when(ratingRepository.findById(ratingId)).thenReturn(Optional.empty());
+        when(ratingRepository.findByIdForUpdate(ratingId)).thenReturn(Optional.empty());
 
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class,
                 () -> ratingService.patchRating(patchDTO, ratingId));
@@ -245,21 +275,20 @@ class RatingServiceTest {
     void deleteRating_shouldDeleteAndUpdateInterpreterRating() {
         UUID ratingId = rating.getId();
 
-        when(ratingRepository.findById(ratingId)).thenReturn(Optional.of(rating));
+        when(ratingRepository.findByIdForUpdate(ratingId)).thenReturn(Optional.of(rating));
         when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.of(appointment));
-        when(ratingRepository.findByInterpreterId(any())).thenReturn(List.of());
-        when(userRepository.save(any())).thenReturn(appointment.getInterpreter());
 
         ratingService.deleteRating(ratingId);
 
         verify(ratingRepository).delete(rating);
-        verify(userRepository).save(appointment.getInterpreter());
+        verify(interpreterRepository).applyRatingChange(appointment.getInterpreter().getId(), -1,
+                BigDecimal.valueOf(-4), 0, 4);
     }
 
     @Test
     void deleteRating_shouldThrowIfRatingNotFound() {
         UUID ratingId = UUID.randomUUID();
-        when(ratingRepository.findById(ratingId)).thenReturn(Optional.empty());
+        when(ratingRepository.findByIdForUpdate(ratingId)).thenReturn(Optional.empty());
 
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class,
                 () -> ratingService.deleteRating(ratingId));
@@ -269,7 +298,7 @@ class RatingServiceTest {
     @Test
     void deleteRating_shouldThrowIfAppointmentNotFound() {
         UUID ratingId = rating.getId();
-        when(ratingRepository.findById(ratingId)).thenReturn(Optional.of(rating));
+        when(ratingRepository.findByIdForUpdate(ratingId)).thenReturn(Optional.of(rating));
         when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.empty());
 
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class,
@@ -288,11 +317,119 @@ class RatingServiceTest {
         appointmentWithoutInterpreter.setInterpreter(null);
         ratingForAppointmentWithoutInterpreter.setAppointment(appointmentWithoutInterpreter);
 
-        when(ratingRepository.findById(ratingId)).thenReturn(Optional.of(ratingForAppointmentWithoutInterpreter));
+        when(ratingRepository.findByIdForUpdate(ratingId)).thenReturn(Optional.of(ratingForAppointmentWithoutInterpreter));
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
                 () -> ratingService.patchRating(request, ratingId));
 
         assert (exception.getMessage().equals("Intérprete não encontrado"));
     }
+
+    @Test
+    void getRatingSummary_shouldReturnAggregatesWithoutLoadingRatings() {
+        Interpreter interpreter = Interpreter.builder()
+                .rating(new BigDecimal("4.50"))
+                .ratingCount(4)
+                .ratingStars5(2)
+                .ratingStars4(2)
+                .ratingStars3(0)
+                .ratingStars2(0)
+                .ratingStars1(0)
+                .build();
+        when(interpreterRepository.findById(interpreterId)).thenReturn(Optional.of(interpreter));
+
+        RatingSummaryResponseDTO summary = ratingService.getRatingSummary(interpreterId);
+
+        assertEquals(interpreterId, summary.getInterpreterId());
+        assertEquals(new BigDecimal("4.50"), summary.getAverage());
+        assertEquals(4, summary.getCount());
+        assertEquals(Map.of(5, 2, 4, 2, 3, 0, 2, 0, 1, 0), summary.getHistogram());
+        assertEquals(List.of(5, 4, 3, 2, 1), List.copyOf(summary.getHistogram().keySet()));
+        verify(ratingRepository, never()).findByInterpreterId(any());
+    }
+
+    @Test
+    void getRatingSummary_shouldThrowIfInterpreterNotFound() {
+        when(interpreterRepository.findById(interpreterId)).thenReturn(Optional.empty());
+
+        EntityNotFoundException ex = assertThrows(EntityNotFoundException.class,
+                () -> ratingService.getRatingSummary(interpreterId));
+        assertEquals("Intérprete não encontrado", ex.getMessage());
+    }
+
+    @Test
+    void getRatingFeed_shouldReturnSummaryAndNextCursorOnFirstPage() {
+        Rating older = feedRating("3.00", LocalDateTime.of(2025, 10, 9, 12, 0));
+        Rating oldest = feedRating("5.00", LocalDateTime.of(2025, 10, 8, 12, 0));
+        when(interpreterRepository.findById(interpreterId)).thenReturn(Optional.of(Interpreter.builder()
+                .rating(new BigDecimal("4.00"))
+                .ratingCount(3)
+                .build()));
+        when(ratingRepository.findFeedByCreatedAt(interpreterId, PageRequest.of(0, 3)))
+                .thenReturn(List.of(rating, older, oldest));
+        when(ratingResponseMapper.toResponseDTO(any())).thenReturn(mock(RatingResponseDTO.class));
+
+        RatingPageResponseDTO page = ratingService.getRatingFeed(interpreterId, null, 2, null);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals(3, page.getSummary().getCount());
+        RatingFeedCursor next = RatingFeedCursor.decode(page.getNextCursor(), RatingFeedSort.RECENT);
+        assertEquals(older.getId(), next.getId());
+        assertEquals(older.getCreatedAt(), next.getCreatedAt());
+    }
+
+    @Test
+    void getRatingFeed_shouldContinueFromCursorWithoutSummary() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 10, 9, 12, 0);
+        UUID lastId = UUID.randomUUID();
+        String cursor = new RatingFeedCursor(RatingFeedSort.STARS, new BigDecimal("4.50"), createdAt, lastId).encode();
+        when(ratingRepository.findFeedByStarsAfter(interpreterId, new BigDecimal("4.50"), createdAt, lastId,
+                PageRequest.of(0, 21))).thenReturn(List.of(rating));
+        when(ratingResponseMapper.toResponseDTO(rating)).thenReturn(mock(RatingResponseDTO.class));
+
+        RatingPageResponseDTO page = ratingService.getRatingFeed(interpreterId, "stars", null, cursor);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getSummary());
+        assertNull(page.getNextCursor());
+        verifyNoInteractions(interpreterRepository);
+    }
+
+    @Test
+    void getRatingFeed_shouldRejectInvalidPageSizeAndCursor() {
+        String recentCursor = new RatingFeedCursor(RatingFeedSort.RECENT, null, LocalDateTime.now(),
+                UUID.randomUUID()).encode();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ratingService.getRatingFeed(interpreterId, null, 101, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> ratingService.getRatingFeed(interpreterId, "stars", 10, recentCursor));
+        assertThrows(IllegalArgumentException.class,
+                () -> ratingService.getRatingFeed(interpreterId, null, 10, "cursor-invalido"));
+        verifyNoInteractions(ratingRepository);
+    }
+
+    @Test
+    void starsBucket_shouldRoundFractionalStarsAndClampToHistogramRange() {
+        assertEquals(1, RatingService.starsBucket(new BigDecimal("0.40")));
+        assertEquals(3, RatingService.starsBucket(new BigDecimal("2.50")));
+        assertEquals(4, RatingService.starsBucket(new BigDecimal("4.49")));
+        assertEquals(5, RatingService.starsBucket(new BigDecimal("5.00")));
+    }
+
+    @Test
+    void rebuildInterpreterRatingAggregates_shouldDelegateToRepository() {
+        when(interpreterRepository.rebuildRatingAggregates()).thenReturn(2);
+
+        assertEquals(2, ratingService.rebuildInterpreterRatingAggregates());
+    }
+
+    private Rating feedRating(String stars, LocalDateTime createdAt) {
+        Rating feedRating = new Rating();
+        feedRating.setId(UUID.randomUUID());
+        feedRating.setStars(new BigDecimal(stars));
+        feedRating.setCreatedAt(createdAt);
+        feedRating.setAppointment(appointment);
+        return feedRating;
+    }
 }
@@ -0,0 +1,136 @@
+package com.pointtils.pointtils.src.application.services;
+
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadRequestDTO;
+import com.pointtils.pointtils.src.application.dto.responses.PresignedUrlResponseDTO;
+import com.pointtils.pointtils.src.util.InMemoryS3Client;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3PresignedUrlServiceTest {
+
+    private static final String ENDPOINT = "http://localhost:9000";
+
+    private InMemoryS3Client s3Client;
+    private S3Presigner s3Presigner;
+    private S3PresignedUrlService presignedUrlService;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new InMemoryS3Client();
+        // Mesma configuração usada com app.s3.endpoint apontando para um serviço local compatível com S3
+        s3Presigner = S3Presigner.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("local", "local")))
+                .endpointOverride(URI.create(ENDPOINT))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        S3Service s3Service = new S3Service("test-bucket", true, s3Client,
+                DataSize.ofMegabytes(8), DataSize.ofMegabytes(5));
+        presignedUrlService = new S3PresignedUrlService(s3Service, s3Presigner,
+                Duration.ofMinutes(10), Duration.ofMinutes(5), DataSize.ofMegabytes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Presigner.close();
+    }
+
+    @Test
+    void shouldCreateSignedUploadUrlWithContentTypeAndLength() {
+        PresignedUploadRequestDTO request = new PresignedUploadRequestDTO("meu documento (1).pdf",
+                "application/pdf", 2048L);
+
+        PresignedUrlResponseDTO response = presignedUrlService.createUploadUrl("documents/interpreter-1", request);
+
+        assertEquals("PUT", response.getMethod());
+        assertTrue(response.getKey().startsWith("users/documents/interpreter-1/"));
+        assertTrue(response.getKey().endsWith("-meu_documento__1_.pdf"));
+        assertTrue(response.getUrl().startsWith(ENDPOINT + "/test-bucket/" + response.getKey() + "?"));
+        assertTrue(response.getUrl().contains("X-Amz-Signature="));
+        assertTrue(response.getUrl().contains("X-Amz-Expires=600"));
+        assertEquals("application/pdf", response.getHeaders().get("content-type"));
+        assertEquals("2048", response.getHeaders().get("content-length"));
+        assertTrue(response.getExpiresAt().isAfter(Instant.now().plus(Duration.ofMinutes(9))));
+    }
+
+    @Test
+    void shouldRejectUploadLargerThanMaxFileSize() {
+        PresignedUploadRequestDTO request = new PresignedUploadRequestDTO("video.mp4", "video/mp4",
+                DataSize.ofMegabytes(11).toBytes());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> presignedUrlService.createUploadUrl("user-1", request));
+        assertEquals("O arquivo excede o tamanho máximo permitido", exception.getMessage());
+    }
+
+    @Test
+    void shouldCreateSignedDownloadUrl() {
+        PresignedUrlResponseDTO response = presignedUrlService
+                .createDownloadUrl("https://test-bucket.s3.amazonaws.com/users/user-1/1-foto.png");
+
+        assertEquals("GET", response.getMethod());
+        assertEquals("users/user-1/1-foto.png", response.getKey());
+        assertTrue(response.getUrl().startsWith(ENDPOINT + "/test-bucket/users/user-1/1-foto.png?"));
+        assertTrue(response.getUrl().contains("X-Amz-Expires=300"));
+        assertTrue(response.getHeaders().isEmpty());
+    }
+
+    @Test
+    void shouldConfirmUploadedFile() {
+        s3Client.putObjectContent("users/user-1/1-foto.png", new byte[]{1, 2, 3});
+
+        String url = presignedUrlService.confirmUpload("user-1", "users/user-1/1-foto.png");
+
+        assertEquals("https://test-bucket.s3.amazonaws.com/users/user-1/1-foto.png", url);
+    }
+
+    @Test
+    void shouldRejectConfirmationForMissingFile() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> presignedUrlService.confirmUpload("user-1", "users/user-1/1-foto.png"));
+        assertEquals("Arquivo não encontrado no S3: users/user-1/1-foto.png", exception.getMessage());
+    }
+
+    @Test
+    void shouldRejectConfirmationForKeyOutsideUserPrefix() {
+        s3Client.putObjectContent("users/user-2/1-foto.png", new byte[]{1, 2, 3});
+
+        assertThrows(IllegalArgumentException.class,
+                () -> presignedUrlService.confirmUpload("user-1", "users/user-2/1-foto.png"));
+        assertThrows(IllegalArgumentException.class,
+                () -> presignedUrlService.confirmUpload("user-1", "users/user-1/../user-2/1-foto.png"));
+    }
+
+    @Test
+    void shouldExtractFileNameFromKey() {
+        assertEquals("meu-documento.pdf",
+                presignedUrlService.getFileName("users/documents/interpreter-1/1700000000000-meu-documento.pdf"));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenS3IsDisabled() {
+        S3PresignedUrlService disabledService = new S3PresignedUrlService(
+                new S3Service("test-bucket", false, null, DataSize.ofMegabytes(8), DataSize.ofMegabytes(5)),
+                s3Presigner, Duration.ofMinutes(10), Duration.ofMinutes(5), DataSize.ofMegabytes(10));
+        PresignedUploadRequestDTO request = new PresignedUploadRequestDTO("foto.png", "image/png", 10L);
+
+        UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                () -> disabledService.createUploadUrl("user-1", request));
+        assertEquals("Upload de arquivos está desabilitado.", exception.getMessage());
+    }
+}
@@ -1,9 +1,13 @@
 package com.pointtils.pointtils.src.application.services;
 
+import com.pointtils.pointtils.src.util.InMemoryS3Client;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
@@ -13,16 +17,27 @@ import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,6 +45,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class S3ServiceTest {
@@ -40,7 +56,7 @@ class S3ServiceTest {
     @BeforeEach
     void setUp() {
         s3Client = Mockito.mock(S3Client.class);
-        s3Service = new S3Service("test-bucket", true, s3Client);
+        s3Service = new S3Service("test-bucket", true, s3Client, DataSize.ofMegabytes(16), DataSize.ofMegabytes(8));
     }
 
     @Test
@@ -49,7 +65,7 @@ class S3ServiceTest {
         MultipartFile file = mock(MultipartFile.class);
         when(file.getOriginalFilename()).thenReturn("test-file.txt");
         when(file.getContentType()).thenReturn("text/plain");
-        when(file.getBytes()).thenReturn("test-content".getBytes());
+        when(file.getSize()).thenReturn(12L);
 
         // Act
         String result = s3Service.uploadFile(file, "user123");
@@ -64,7 +80,7 @@ class S3ServiceTest {
     @Test
     void shouldThrowExceptionWhenS3IsDisabled() {
         // Arrange
-        S3Service disabledS3Service = new S3Service("test-bucket", false, null);
+        S3Service disabledS3Service = new S3Service("test-bucket", false, null, DataSize.ofMegabytes(16), DataSize.ofMegabytes(8));
         MultipartFile file = mock(MultipartFile.class);
 
         // Act & Assert
@@ -76,7 +92,7 @@ class S3ServiceTest {
     @Test
     void shouldThrowExceptionWhenGettingFileAndS3IsDisabled() {
         // Arrange
-        S3Service disabledS3Service = new S3Service("test-bucket", false, null);
+        S3Service disabledS3Service = new S3Service("test-bucket", false, null, DataSize.ofMegabytes(16), DataSize.ofMegabytes(8));
         String key = "some-key";
         // Act & Assert
         UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
@@ -159,7 +175,7 @@ class S3ServiceTest {
     @Test
     void deleteShouldThrowExceptionIfS3IsDisabled() {
         // Arrange
-        S3Service disabledS3Service = new S3Service("test-bucket", false, null);
+        S3Service disabledS3Service = new S3Service("test-bucket", false, null, DataSize.ofMegabytes(16), DataSize.ofMegabytes(8));
         String documentUrl = "https://test-bucket.s3.amazonaws.com/users/user123/test-file.txt";
 
         // Act & Assert
@@ -182,4 +198,152 @@ class S3ServiceTest {
 
         verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldStreamSmallFileInSinglePutObject() throws IOException {
+        InMemoryS3Client inMemoryS3Client = new InMemoryS3Client();
+        S3Service service = new S3Service("test-bucket", true, inMemoryS3Client,
+                DataSize.ofKilobytes(64), DataSize.ofKilobytes(16));
+        byte[] content = randomContent(10 * 1024);
+
+        String url = service.uploadFile(new MockMultipartFile("file", "doc.pdf", "application/pdf", content), "user123");
+
+        assertEquals(1, inMemoryS3Client.getPutObjectCount());
+        assertEquals(0, inMemoryS3Client.getUploadPartCount());
+        assertArrayEquals(content, inMemoryS3Client.getObjectContent(keyOf(url)));
+    }
+
+    @Test
+    void shouldUploadLargeFileInParts() throws IOException {
+        InMemoryS3Client inMemoryS3Client = new InMemoryS3Client();
+        S3Service service = new S3Service("test-bucket", true, inMemoryS3Client,
+                DataSize.ofKilobytes(64), DataSize.ofKilobytes(16));
+        byte[] content = randomContent(100 * 1024);
+
+        String url = service.uploadFile(new MockMultipartFile("file", "doc.pdf", "application/pdf", content), "user123");
+
+        assertEquals(0, inMemoryS3Client.getPutObjectCount());
+        assertEquals(7, inMemoryS3Client.getUploadPartCount());
+        assertEquals(0, inMemoryS3Client.getPendingMultipartUploads());
+        assertArrayEquals(content, inMemoryS3Client.getObjectContent(keyOf(url)));
+    }
+
+    @Test
+    void shouldAbortMultipartUploadWhenReadingFileFails() throws IOException {
+        InMemoryS3Client inMemoryS3Client = new InMemoryS3Client();
+        S3Service service = new S3Service("test-bucket", true, inMemoryS3Client,
+                DataSize.ofKilobytes(64), DataSize.ofKilobytes(16));
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.getOriginalFilename()).thenReturn("doc.pdf");
+        when(file.getSize()).thenReturn(100 * 1024L);
+        when(file.getInputStream()).thenReturn(new SequenceInputStream(
+                new ByteArrayInputStream(randomContent(40 * 1024)), failingStream()));
+
+        assertThrows(IOException.class, () -> service.uploadFile(file, "user123"));
+
+        assertEquals(2, inMemoryS3Client.getUploadPartCount());
+        assertEquals(1, inMemoryS3Client.getAbortedUploads().size());
+        assertEquals(0, inMemoryS3Client.getPendingMultipartUploads());
+    }
+
+    @Test
+    void shouldOpenStoredFileAsStream() throws IOException {
+        InMemoryS3Client inMemoryS3Client = new InMemoryS3Client();
+        S3Service service = new S3Service("test-bucket", true, inMemoryS3Client,
+                DataSize.ofKilobytes(64), DataSize.ofKilobytes(16));
+        byte[] content = randomContent(100 * 1024);
+        String url = service.uploadFile(new MockMultipartFile("file", "doc.pdf", "application/pdf", content), "user123");
+
+        InputStreamSource source = service.openFile(url);
+
+        try (InputStream first = source.getInputStream(); InputStream second = source.getInputStream()) {
+            assertArrayEquals(content, first.readAllBytes());
+            assertArrayEquals(content, second.readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldThrowIOExceptionWhenOpenedFileDoesNotExist() {
+        S3Service service = new S3Service("test-bucket", true, new InMemoryS3Client(),
+                DataSize.ofKilobytes(64), DataSize.ofKilobytes(16));
+
+        InputStreamSource source = service.openFile("https://test-bucket.s3.amazonaws.com/users/user123/missing.pdf");
+
+        assertThrows(IOException.class, source::getInputStream);
+    }
+
+    @Test
+    void shouldDeleteFilesInBatchesOfOneThousandKeys() {
+        InMemoryS3Client inMemoryS3Client = new InMemoryS3Client();
+        S3Service service = new S3Service("test-bucket", true, inMemoryS3Client,
+                DataSize.ofKilobytes(64), DataSize.ofKilobytes(16));
+        List<String> documentUrls = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            String key = "users/documents/user123/" + i + "-doc.pdf";
+            inMemoryS3Client.putObjectContent(key, new byte[]{1});
+            documentUrls.add("https://test-bucket.s3.amazonaws.com/" + key);
+        }
+
+        service.deleteFiles(documentUrls);
+
+        assertEquals(2, inMemoryS3Client.getDeleteObjectsCount());
+        assertNull(inMemoryS3Client.getObjectContent("users/documents/user123/0-doc.pdf"));
+        assertNull(inMemoryS3Client.getObjectContent("users/documents/user123/1000-doc.pdf"));
+    }
+
+    @Test
+    void shouldNotThrowExceptionWhenDeleteFilesPartiallyFails() {
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder()
+                .errors(S3Error.builder().key("users/user123/test-file.txt").code("AccessDenied").build())
+                .build());
+
+        assertDoesNotThrow(() -> s3Service.deleteFiles(
+                List.of("https://test-bucket.s3.amazonaws.com/users/user123/test-file.txt")));
+
+        ArgumentCaptor<DeleteObjectsRequest> requestCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client).deleteObjects(requestCaptor.capture());
+        assertEquals("test-bucket", requestCaptor.getValue().bucket());
+        assertEquals("users/user123/test-file.txt", requestCaptor.getValue().delete().objects().get(0).key());
+    }
+
+    @Test
+    void shouldUploadGeneratedContentWithContentLength() {
+        byte[] content = randomContent(2048);
+
+        String result = s3Service.uploadContent("user123", "avatar.jpg", content, "image/jpeg");
+
+        assertTrue(result.startsWith("https://test-bucket.s3.amazonaws.com/users/user123/"));
+        assertTrue(result.endsWith("-avatar.jpg"));
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(requestCaptor.capture(), any(software.amazon.awssdk.core.sync.RequestBody.class));
+        assertEquals(keyOf(result), requestCaptor.getValue().key());
+        assertEquals("image/jpeg", requestCaptor.getValue().contentType());
+        assertEquals(2048L, requestCaptor.getValue().contentLength());
+    }
+
+    @Test
+    void shouldNotCallS3WhenThereAreNoFilesToDelete() {
+        s3Service.deleteFiles(List.of());
+
+        verifyNoInteractions(s3Client);
+    }
+
+    private static byte[] randomContent(int length) {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        return content;
+    }
+
+    private static String keyOf(String url) {
+        return url.replace("https://test-bucket.s3.amazonaws.com/", "");
+    }
+
+    private static InputStream failingStream() {
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Conexão interrompida");
+            }
+        };
+    }
+}
@@ -9,6 +9,7 @@ import com.pointtils.pointtils.src.application.dto.responses.PaginatedScheduleRe
 import com.pointtils.pointtils.src.application.dto.responses.ScheduleResponseDTO;
 import com.pointtils.pointtils.src.application.mapper.TimeSlotMapper;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
+import com.pointtils.pointtils.src.core.domain.entities.InterpreterSlot;
 import com.pointtils.pointtils.src.core.domain.entities.Schedule;
 import com.pointtils.pointtils.src.core.domain.entities.enums.DayOfWeek;
 import com.pointtils.pointtils.src.infrastructure.repositories.InterpreterRepository;
@@ -39,8 +40,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +54,10 @@ class ScheduleServiceTest {
     private InterpreterRepository interpreterRepository;
     @Mock
     private TimeSlotMapper timeSlotMapper;
+    @Mock
+    private InterpreterSlotService interpreterSlotService;
+    @Mock
+    private AvailabilityEngine availabilityEngine;
     @InjectMocks
     private ScheduleService scheduleService;
 
@@ -218,16 +225,21 @@ class ScheduleServiceTest {
     @Test
     void deleteById_shouldDeleteWhenExists() {
         UUID id = UUID.randomUUID();
-        when(scheduleRepository.existsById(id)).thenReturn(true);
+        Interpreter interpreter = new Interpreter();
+        interpreter.setId(UUID.randomUUID());
+        Schedule schedule = Schedule.builder().id(id).interpreter(interpreter).build();
+        when(scheduleRepository.findById(id)).thenReturn(Optional.of(schedule));
         scheduleService.deleteById(id);
         verify(scheduleRepository, times(1)).deleteById(id);
+        verify(interpreterSlotService).refreshInterpreter(interpreter.getId());
     }
 
     @Test
     void deleteById_shouldThrowEntityNotFound() {
         UUID id = UUID.randomUUID();
-        when(scheduleRepository.existsById(id)).thenReturn(false);
+        when(scheduleRepository.findById(id)).thenReturn(Optional.empty());
         assertThrows(EntityNotFoundException.class, () -> scheduleService.deleteById(id));
+        verifyNoInteractions(interpreterSlotService);
     }
 
     @Test
@@ -261,4 +273,42 @@ class ScheduleServiceTest {
         assertEquals("11:00", timeSlotsCaptor.getValue().get(1).getStartTime().toString());
         assertEquals("12:00", timeSlotsCaptor.getValue().get(1).getEndTime().toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findAvailableSchedules_shouldReadMaterializedSlotsWhenInsideHorizon() {
+        UUID interpreterId = UUID.randomUUID();
+        LocalDate dateFrom = LocalDate.of(2025, 9, 30);
+        LocalDate dateTo = LocalDate.of(2025, 10, 10);
+        InterpreterSlot slot = InterpreterSlot.builder()
+                .slotDate(dateFrom)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(9, 30))
+                .build();
+
+        ArgumentCaptor<List<TimeSlotDTO>> timeSlotsCaptor = ArgumentCaptor.forClass(List.class);
+        AvailableTimeSlotsResponseDTO mockMappedResponse = new AvailableTimeSlotsResponseDTO();
+        when(interpreterSlotService.isMaterialized(dateFrom, dateTo)).thenReturn(true);
+        when(interpreterSlotService.findAvailableSlots(interpreterId, dateFrom, dateTo)).thenReturn(List.of(slot));
+        when(timeSlotMapper.toAvailableTimeSlotsResponse(timeSlotsCaptor.capture())).thenReturn(List.of(mockMappedResponse));
+
+        assertThat(scheduleService.findAvailableSchedules(interpreterId, dateFrom, dateTo))
+                .containsExactly(mockMappedResponse);
+        assertEquals(1, timeSlotsCaptor.getValue().size());
+        assertEquals("2025-09-30", timeSlotsCaptor.getValue().get(0).getDate().toString());
+        assertEquals(interpreterId, timeSlotsCaptor.getValue().get(0).getInterpreterId());
+        assertEquals("09:00", timeSlotsCaptor.getValue().get(0).getStartTime().toString());
+        assertEquals("09:30", timeSlotsCaptor.getValue().get(0).getEndTime().toString());
+        verify(scheduleRepository, never()).findAvailableTimeSlots(any(), any(), any());
+    }
+
+    @Test
+    void findAvailableInterpreters_shouldDelegateToAvailabilityEngine() {
+        UUID interpreterId = UUID.randomUUID();
+        LocalDate dateFrom = LocalDate.of(2025, 9, 30);
+        LocalDate dateTo = LocalDate.of(2025, 10, 10);
+        when(availabilityEngine.findAvailableInterpreters(dateFrom, dateTo, 3)).thenReturn(List.of(interpreterId));
+
+        assertThat(scheduleService.findAvailableInterpreters(dateFrom, dateTo, 3)).containsExactly(interpreterId);
+    }
+}
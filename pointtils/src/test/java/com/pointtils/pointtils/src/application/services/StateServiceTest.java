@@ -1,6 +1,5 @@
 package com.pointtils.pointtils.src.application.services;
 
-import com.pointtils.pointtils.src.application.clients.IbgeClient;
 import com.pointtils.pointtils.src.application.dto.StateDataDTO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,7 +19,7 @@ import static org.mockito.Mockito.when;
 class StateServiceTest {
 
     @Mock
-    private IbgeClient ibgeClient;
+    private IbgeLocalityCache ibgeLocalityCache;
     @InjectMocks
     private StateService stateService;
 
@@ -29,7 +28,7 @@ class StateServiceTest {
     void shouldGetAllStates() {
         var firstMockedData = new StateDataDTO("RS");
         var secondMockedData = new StateDataDTO("SC");
-        when(ibgeClient.getStateList()).thenReturn(List.of(firstMockedData, secondMockedData));
+        when(ibgeLocalityCache.getStates()).thenReturn(List.of(firstMockedData, secondMockedData));
 
         var response = stateService.getAllStates();
         assertTrue(response.isSuccess());
@@ -43,7 +42,7 @@ class StateServiceTest {
     @DisplayName("Deve buscar todos os municípios de uma determinada UF")
     void shouldGetCitiesByState() {
         var firstMockedData = new StateDataDTO("Porto Alegre");
-        when(ibgeClient.getCityListByState("RS")).thenReturn(List.of(firstMockedData));
+        when(ibgeLocalityCache.getCitiesByState("RS")).thenReturn(List.of(firstMockedData));
 
         var response = stateService.getCitiesByState("RS");
         assertTrue(response.isSuccess());
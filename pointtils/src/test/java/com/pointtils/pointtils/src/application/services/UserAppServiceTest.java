@@ -212,4 +212,14 @@ class UserAppServiceTest {
         assertThat(userAppService.getUserAppsByUserId(userId))
                 .containsExactly(userApp);
     }
+
+    @Test
+    void deleteUserAppsByTokens_ShouldDeleteAppsWithGivenTokens() {
+        List<String> tokens = List.of("token1", "token2");
+        when(userAppRepository.deleteAllByTokenIn(tokens)).thenReturn(2);
+
+        userAppService.deleteUserAppsByTokens(tokens);
+
+        verify(userAppRepository).deleteAllByTokenIn(tokens);
+    }
 }
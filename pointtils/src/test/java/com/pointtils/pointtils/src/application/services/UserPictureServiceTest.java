@@ -1,7 +1,11 @@
 package com.pointtils.pointtils.src.application.services;
 
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadCompleteRequestDTO;
+import com.pointtils.pointtils.src.application.dto.requests.PresignedUploadRequestDTO;
 import com.pointtils.pointtils.src.application.dto.requests.UserPicturePostRequestDTO;
+import com.pointtils.pointtils.src.application.dto.responses.PresignedUrlResponseDTO;
 import com.pointtils.pointtils.src.application.dto.responses.UserResponseDTO;
+import com.pointtils.pointtils.src.application.services.AvatarImageProcessor.AvatarVariants;
 import com.pointtils.pointtils.src.core.domain.entities.User;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,10 +15,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -22,10 +28,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -41,12 +47,19 @@ class UserPictureServiceTest {
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private S3PresignedUrlService s3PresignedUrlService;
+
+    @Mock
+    private AvatarImageProcessor avatarImageProcessor;
+
     @InjectMocks
     private UserPictureService userPictureService;
 
     private User user;
     private UUID userId;
     private String pictureUrl;
+    private AvatarVariants variants;
 
     @BeforeEach
     void setUp() {
@@ -69,6 +82,8 @@ class UserPictureServiceTest {
         user.setPicture(pictureUrl);
         user.setPassword("password");
         user.setPhone("1234567890");
+
+        variants = new AvatarVariants(new byte[]{1}, new byte[]{2}, new byte[]{3});
     }
 
     @Test
@@ -160,11 +175,16 @@ class UserPictureServiceTest {
     @DisplayName("Deve lançar exceção ao atualizar foto quando upload para S3 falha/desabilitado")
     void shouldThrowExceptionWhenUpdatingPictureWithS3Failure() throws IOException {
         // Arrange
-        MultipartFile file = mock(MultipartFile.class);
+        MultipartFile file = new MockMultipartFile("file", "foto.png", "image/png", "conteudo".getBytes());
         UserPicturePostRequestDTO request = new UserPicturePostRequestDTO(userId, file);
 
         when(userService.findById(userId)).thenReturn(user);
-        when(s3Service.uploadFile(file, userId.toString())).thenThrow(new UnsupportedOperationException("Upload de fotos está desabilitado"));
+        when(avatarImageProcessor.process(any())).thenReturn(variants);
+        when(s3Service.getFileUrl("users/" + userId + "/"))
+                .thenReturn("https://test-bucket.s3.amazonaws.com/users/" + userId + "/");
+        when(s3Service.uploadContent(userId.toString(), "avatar.jpg", variants.original(),
+                AvatarImageProcessor.CONTENT_TYPE))
+                .thenThrow(new UnsupportedOperationException("Upload de fotos está desabilitado"));
 
         // Act & Assert
         UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class, () -> {
@@ -173,16 +193,19 @@ class UserPictureServiceTest {
 
         assertTrue(exception.getMessage().contains("desabilitado"));
         verify(userService, times(1)).findById(userId);
-        verify(s3Service, times(1)).uploadFile(file, userId.toString());
         verify(userService, never()).updateUser(any(User.class));
+        verify(s3Service, never()).deleteFiles(any());
+        assertEquals(pictureUrl, user.getPicture());
     }
 
     @Test
-    @DisplayName("updatePicture - Deve enviar arquivo ao S3, atualizar foto e retornar UserResponseDTO com URL")
+    @DisplayName("updatePicture - Deve enviar as variantes ao S3, atualizar foto e retornar UserResponseDTO com URLs")
     void updatePicture_success() throws IOException {
         UUID uid = UUID.randomUUID();
         MultipartFile file = new MockMultipartFile("file", "foto.png", "image/png", "conteudo".getBytes());
-        String s3Url = "https://test-bucket.s3.amazonaws.com/users/" + uid + "/test.jpg";
+        String s3Url = "https://test-bucket.s3.amazonaws.com/users/" + uid + "/1-avatar.jpg";
+        String mediumUrl = "https://test-bucket.s3.amazonaws.com/users/" + uid + "/1-avatar-medium.jpg";
+        String thumbnailUrl = "https://test-bucket.s3.amazonaws.com/users/" + uid + "/1-avatar-thumbnail.jpg";
 
         User u = new User() {
             @Override
@@ -199,7 +222,13 @@ class UserPictureServiceTest {
         u.setEmail("test@example.com");
 
         when(userService.findById(uid)).thenReturn(u);
-        when(s3Service.uploadFile(file, uid.toString())).thenReturn(s3Url);
+        when(avatarImageProcessor.process(any())).thenReturn(variants);
+        when(s3Service.uploadContent(uid.toString(), "avatar.jpg", variants.original(),
+                AvatarImageProcessor.CONTENT_TYPE)).thenReturn(s3Url);
+        when(s3Service.uploadContent(uid.toString(), "avatar-medium.jpg", variants.medium(),
+                AvatarImageProcessor.CONTENT_TYPE)).thenReturn(mediumUrl);
+        when(s3Service.uploadContent(uid.toString(), "avatar-thumbnail.jpg", variants.thumbnail(),
+                AvatarImageProcessor.CONTENT_TYPE)).thenReturn(thumbnailUrl);
         when(userService.updateUser(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         UserResponseDTO response = userPictureService.updatePicture(
@@ -212,10 +241,49 @@ class UserPictureServiceTest {
         assertNotNull(response);
         assertEquals(uid, response.getId());
         assertEquals(s3Url, response.getPicture());
+        assertEquals(mediumUrl, response.getPictureMedium());
+        assertEquals(thumbnailUrl, response.getPictureThumbnail());
 
         verify(userService).findById(uid);
-        verify(s3Service).uploadFile(file, uid.toString());
         verify(userService).updateUser(any(User.class));
+        verify(s3Service).deleteFiles(List.of());
+    }
+
+    @Test
+    @DisplayName("updatePicture - Deve remover as variantes anteriores do usuário depois de salvar as novas")
+    void updatePicture_shouldDeletePreviousVariants() throws IOException {
+        String folderUrl = "https://test-bucket.s3.amazonaws.com/users/" + userId + "/";
+        user.setPictureVariants(folderUrl + "1-avatar.jpg", folderUrl + "1-avatar-medium.jpg",
+                folderUrl + "1-avatar-thumbnail.jpg");
+        MultipartFile file = new MockMultipartFile("file", "foto.png", "image/png", "conteudo".getBytes());
+
+        when(userService.findById(userId)).thenReturn(user);
+        when(avatarImageProcessor.process(any())).thenReturn(variants);
+        when(s3Service.getFileUrl("users/" + userId + "/")).thenReturn(folderUrl);
+        when(s3Service.uploadContent(eq(userId.toString()), anyString(), any(), eq(AvatarImageProcessor.CONTENT_TYPE)))
+                .thenAnswer(invocation -> folderUrl + "2-" + invocation.getArgument(1));
+        when(userService.updateUser(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserResponseDTO response = userPictureService.updatePicture(new UserPicturePostRequestDTO(userId, file));
+
+        assertEquals(folderUrl + "2-avatar-thumbnail.jpg", response.getPictureThumbnail());
+        verify(s3Service).deleteFiles(List.of(folderUrl + "1-avatar.jpg", folderUrl + "1-avatar-medium.jpg",
+                folderUrl + "1-avatar-thumbnail.jpg"));
+    }
+
+    @Test
+    @DisplayName("updatePicture - Deve recusar arquivo que não é uma imagem válida sem enviar ao S3")
+    void updatePicture_invalidImage() throws IOException {
+        MultipartFile file = new MockMultipartFile("file", "foto.png", "image/png", "conteudo".getBytes());
+        UserPicturePostRequestDTO request = new UserPicturePostRequestDTO(userId, file);
+        when(userService.findById(userId)).thenReturn(user);
+        when(avatarImageProcessor.process(any()))
+                .thenThrow(new IllegalArgumentException("Arquivo de imagem inválido ou formato não suportado"));
+
+        assertThrows(IllegalArgumentException.class, () -> userPictureService.updatePicture(request));
+
+        verifyNoInteractions(s3Service);
+        verify(userService, never()).updateUser(any());
     }
 
     @Test
@@ -237,5 +305,95 @@ class UserPictureServiceTest {
         verifyNoInteractions(s3Service);
         verify(userService, never()).updateUser(any());
     }
-}
 
+    @Test
+    @DisplayName("createPictureUploadUrl - Deve gerar URL de upload para imagens")
+    void createPictureUploadUrl_success() {
+        PresignedUploadRequestDTO request = new PresignedUploadRequestDTO("foto.png", "image/png", 1024L);
+        PresignedUrlResponseDTO presignedUrl = PresignedUrlResponseDTO.builder()
+                .url("https://test-bucket.s3.amazonaws.com/users/" + userId + "/1-foto.png?X-Amz-Signature=abc")
+                .method("PUT")
+                .key("users/" + userId + "/1-foto.png")
+                .build();
+        when(userService.findById(userId)).thenReturn(user);
+        when(s3PresignedUrlService.createUploadUrl(userId.toString(), request)).thenReturn(presignedUrl);
+
+        PresignedUrlResponseDTO response = userPictureService.createPictureUploadUrl(userId, request);
+
+        assertEquals(presignedUrl, response);
+        verifyNoInteractions(s3Service);
+    }
+
+    @Test
+    @DisplayName("createPictureUploadUrl - Deve recusar arquivos que não são imagens")
+    void createPictureUploadUrl_notAnImage() {
+        PresignedUploadRequestDTO request = new PresignedUploadRequestDTO("foto.pdf", "application/pdf", 1024L);
+        when(userService.findById(userId)).thenReturn(user);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> userPictureService.createPictureUploadUrl(userId, request));
+
+        assertEquals("O arquivo da foto deve ser uma imagem", exception.getMessage());
+        verifyNoInteractions(s3PresignedUrlService);
+    }
+
+    @Test
+    @DisplayName("completePictureUpload - Deve gerar as variantes da foto enviada diretamente ao S3")
+    void completePictureUpload_success() throws IOException {
+        String key = "users/" + userId + "/1-foto.png";
+        String url = "https://test-bucket.s3.amazonaws.com/" + key;
+        String avatarUrl = "https://test-bucket.s3.amazonaws.com/users/" + userId + "/2-avatar.jpg";
+        when(userService.findById(userId)).thenReturn(user);
+        when(s3PresignedUrlService.confirmUpload(userId.toString(), key)).thenReturn(url);
+        when(s3Service.openFile(url)).thenReturn(new ByteArrayResource("conteudo".getBytes()));
+        when(avatarImageProcessor.process(any())).thenReturn(variants);
+        when(s3Service.getFileUrl("users/" + userId + "/"))
+                .thenReturn("https://test-bucket.s3.amazonaws.com/users/" + userId + "/");
+        when(s3Service.uploadContent(eq(userId.toString()), anyString(), any(), eq(AvatarImageProcessor.CONTENT_TYPE)))
+                .thenReturn(avatarUrl);
+        when(userService.updateUser(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserResponseDTO response = userPictureService.completePictureUpload(userId,
+                new PresignedUploadCompleteRequestDTO(key));
+
+        assertEquals(avatarUrl, response.getPicture());
+        verify(userService).updateUser(user);
+        // O arquivo original, com metadados, é removido depois de gerar as variantes
+        verify(s3Service).deleteFiles(List.of(url));
+    }
+
+    @Test
+    @DisplayName("completePictureUpload - Não deve alterar a foto quando o arquivo não foi enviado")
+    void completePictureUpload_fileNotUploaded() {
+        String key = "users/" + userId + "/1-foto.png";
+        when(userService.findById(userId)).thenReturn(user);
+        when(s3PresignedUrlService.confirmUpload(userId.toString(), key))
+                .thenThrow(new IllegalArgumentException("Arquivo não encontrado no S3: " + key));
+        PresignedUploadCompleteRequestDTO request = new PresignedUploadCompleteRequestDTO(key);
+
+        assertThrows(IllegalArgumentException.class, () -> userPictureService.completePictureUpload(userId, request));
+
+        assertEquals(pictureUrl, user.getPicture());
+        verify(userService, never()).updateUser(any());
+    }
+
+    @Test
+    @DisplayName("createPictureDownloadUrl - Deve gerar URL de download da foto atual")
+    void createPictureDownloadUrl_success() {
+        PresignedUrlResponseDTO presignedUrl = PresignedUrlResponseDTO.builder().method("GET").build();
+        when(userService.findById(userId)).thenReturn(user);
+        when(s3PresignedUrlService.createDownloadUrl(pictureUrl)).thenReturn(presignedUrl);
+
+        assertEquals(presignedUrl, userPictureService.createPictureDownloadUrl(userId));
+    }
+
+    @Test
+    @DisplayName("createPictureDownloadUrl - Deve lançar EntityNotFoundException quando usuário não tem foto")
+    void createPictureDownloadUrl_withoutPicture() {
+        user.setPicture(null);
+        when(userService.findById(userId)).thenReturn(user);
+
+        assertThrows(EntityNotFoundException.class, () -> userPictureService.createPictureDownloadUrl(userId));
+        verifyNoInteractions(s3PresignedUrlService);
+    }
+}
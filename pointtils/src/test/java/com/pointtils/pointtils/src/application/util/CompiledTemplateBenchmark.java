@@ -0,0 +1,107 @@
+package com.pointtils.pointtils.src.application.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a renderização do template de cadastro de intérprete com {@link CompiledTemplate} com a substituição
+ * encadeada de {@link String#replace} usada antes pelo EmailService, em templates HTML de alguns kilobytes.
+ * <p>
+ * Execução: {@code mvn test-compile exec:exec -Pbenchmark -Dbenchmark.include=CompiledTemplateBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CompiledTemplateBenchmark {
+
+    private static final String[] PLACEHOLDERS = {
+            "nome", "cpf", "cnpj", "email", "telefone", "link_accept_api", "link_reject_api", "ano", "video"
+    };
+
+    @Param({"2", "8", "32"})
+    private int sizeInKilobytes;
+
+    private String source;
+    private CompiledTemplate compiledTemplate;
+    private Map<String, String> values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = buildTemplate(sizeInKilobytes * 1024);
+        compiledTemplate = CompiledTemplate.compile(source);
+        values = Map.of(
+                "nome", "Maria Almeida",
+                "cpf", "123.***.***-01",
+                "cnpj", "12345678000195",
+                "email", "maria@example.com",
+                "telefone", "51999999999",
+                "link_accept_api", "https://api.pointtils.com/v1/email/interpreter/1/approve",
+                "link_reject_api", "https://api.pointtils.com/v1/email/interpreter/1/reject",
+                "ano", "2025",
+                "video", "<a href=\"https://video\" target=\"_blank\" rel=\"noreferrer noopener\">Assistir</a>");
+    }
+
+    @Benchmark
+    public String chainedReplace() {
+        return source
+                .replace("{{nome}}", values.get("nome"))
+                .replace("{{cpf}}", values.get("cpf"))
+                .replace("{{cnpj}}", values.get("cnpj"))
+                .replace("{{email}}", values.get("email"))
+                .replace("{{telefone}}", values.get("telefone"))
+                .replace("{{link_accept_api}}", values.get("link_accept_api"))
+                .replace("{{link_reject_api}}", values.get("link_reject_api"))
+                .replace("{{ano}}", values.get("ano"))
+                .replace("{{video}}", values.get("video"));
+    }
+
+    @Benchmark
+    public String compiledRender() {
+        return compiledTemplate.render(values);
+    }
+
+    @Benchmark
+    public String compileAndRender() {
+        return CompiledTemplate.compile(source).render(values);
+    }
+
+    private static String buildTemplate(int length) {
+        StringBuilder template = new StringBuilder(length + 512)
+                .append("<html><head><style>body{font-family:Arial,sans-serif;color:#333}</style></head><body>");
+        int row = 0;
+        while (template.length() < length) {
+            String placeholder = PLACEHOLDERS[row % PLACEHOLDERS.length];
+            template.append("<tr><td style=\"padding:8px;border-bottom:1px solid #eee\">Campo ")
+                    .append(row++)
+                    .append("</td><td style=\"padding:8px;border-bottom:1px solid #eee\">{{")
+                    .append(placeholder)
+                    .append("}}</td></tr>\n");
+        }
+        return template.append("</body></html>").toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CompiledTemplateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,49 @@
+package com.pointtils.pointtils.src.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompiledTemplateTest {
+
+    @Test
+    void shouldRenderLiteralsAndPlaceholders() {
+        CompiledTemplate template = CompiledTemplate.compile("<p>Olá {{nome}}, {{nome}}!</p><p>{{ano}}</p>");
+
+        assertEquals("<p>Olá Ana, Ana!</p><p>2025</p>", template.render(Map.of("nome", "Ana", "ano", "2025")));
+    }
+
+    @Test
+    void shouldKeepPlaceholdersWithoutValue() {
+        CompiledTemplate template = CompiledTemplate.compile("Token: {{resetToken}} para {{nome}}");
+
+        assertEquals("Token: {{resetToken}} para Ana", template.render(Map.of("nome", "Ana")));
+    }
+
+    @Test
+    void shouldNotReplacePlaceholdersInsideValues() {
+        CompiledTemplate template = CompiledTemplate.compile("{{nome}} - {{ano}}");
+
+        assertEquals("{{ano}} - 2025", template.render(Map.of("nome", "{{ano}}", "ano", "2025")));
+    }
+
+    @Test
+    void shouldUseInnermostBracesAsPlaceholder() {
+        CompiledTemplate template = CompiledTemplate.compile("{{a {{nome}} e {{{nome}}}");
+
+        assertEquals("{{a Ana e {Ana}", template.render(Map.of("nome", "Ana")));
+    }
+
+    @Test
+    void shouldRenderTemplateWithoutPlaceholders() {
+        assertEquals("", CompiledTemplate.compile("").render(Map.of()));
+        assertEquals("sem {{ fechamento", CompiledTemplate.compile("sem {{ fechamento").render(Map.of()));
+    }
+
+    @Test
+    void shouldKeepSource() {
+        assertEquals("Olá {{nome}}", CompiledTemplate.compile("Olá {{nome}}").getSource());
+    }
+}
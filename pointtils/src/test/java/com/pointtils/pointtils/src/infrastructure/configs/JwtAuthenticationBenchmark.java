@@ -0,0 +1,84 @@
+package com.pointtils.pointtils.src.infrastructure.configs;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de autenticar uma requisição no {@link JwtAuthenticationFilter}: a verificação anterior (duas leituras do
+ * token, cada uma criando a chave e o parser), a leitura única com chave e parser prontos e a consulta ao cache de
+ * tokens já verificados.
+ * <p>
+ * Execução: {@code mvn test-compile exec:exec -Pbenchmark -Dbenchmark.include=JwtAuthenticationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET_KEY = "c2VjdXJldGVzdGtleXNlY3VyZXRlc3RrZXlzZWN1cmV0ZXN0a2V5c2VjdXJldGVzdGtleQ==";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+        token = jwtService.generateToken("usuario@pointtils.com");
+        jwtService.verifyToken(token);
+    }
+
+    @Benchmark
+    public String doubleParse() {
+        Date expiration = legacyClaims(token).getExpiration();
+        if (expiration.before(new Date())) {
+            throw new IllegalStateException("Token expirado");
+        }
+        return legacyClaims(token).getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        return jwtService.parseToken(token).subject();
+    }
+
+    @Benchmark
+    public String cachedVerify() {
+        return jwtService.verifyToken(token).subject();
+    }
+
+    private static Claims legacyClaims(String token) {
+        Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -11,9 +11,12 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.pointtils.pointtils.src.infrastructure.configs.JwtService.VerifiedToken;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import java.io.IOException;
+import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -95,7 +98,7 @@ class JwtAuthenticationFilterTest {
         String token = "expired_token";
         request.addHeader("Authorization", "Bearer " + token);
         when(memoryBlacklistService.isBlacklisted(token)).thenReturn(false);
-        when(jwtService.isTokenExpired(token)).thenReturn(true);
+        when(jwtService.verifyToken(token)).thenThrow(new ExpiredJwtException(null, null, "Token expirado"));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -114,8 +117,7 @@ class JwtAuthenticationFilterTest {
         String email = "test@email.com";
         request.addHeader("Authorization", "Bearer " + token);
         when(memoryBlacklistService.isBlacklisted(token)).thenReturn(false);
-        when(jwtService.isTokenExpired(token)).thenReturn(false);
-        when(jwtService.extractClaim(eq(token), any())).thenReturn(email);
+        when(jwtService.verifyToken(token)).thenReturn(verifiedToken(email));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -134,7 +136,7 @@ class JwtAuthenticationFilterTest {
         String token = "invalid_token";
         request.addHeader("Authorization", "Bearer " + token);
         when(memoryBlacklistService.isBlacklisted(token)).thenReturn(false);
-        when(jwtService.isTokenExpired(token)).thenThrow(new RuntimeException("Token inválido"));
+        when(jwtService.verifyToken(token)).thenThrow(new RuntimeException("Token inválido"));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -154,8 +156,7 @@ class JwtAuthenticationFilterTest {
         String email = "test@email.com";
         request.addHeader("Authorization", "Bearer " + token);
         when(memoryBlacklistService.isBlacklisted(token)).thenReturn(false);
-        when(jwtService.isTokenExpired(token)).thenReturn(false);
-        when(jwtService.extractClaim(eq(token), any())).thenReturn(email);
+        when(jwtService.verifyToken(token)).thenReturn(verifiedToken(email));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -175,8 +176,7 @@ class JwtAuthenticationFilterTest {
         String token = "blacklisted_token";
         request.addHeader("Authorization", "Bearer " + token);
         request.setRequestURI("/v1/auth/logout");
-        when(jwtService.isTokenExpired(token)).thenReturn(false);
-        when(jwtService.extractClaim(eq(token), any())).thenReturn("test@email.com");
+        when(jwtService.verifyToken(token)).thenReturn(verifiedToken("test@email.com"));
 
         // Act - Não deve verificar blacklist para endpoints de logout
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -194,8 +194,7 @@ class JwtAuthenticationFilterTest {
         String token = "blacklisted_token";
         request.addHeader("Authorization", "Bearer " + token);
         request.setRequestURI("/v1/auth/logout/123");
-        when(jwtService.isTokenExpired(token)).thenReturn(false);
-        when(jwtService.extractClaim(eq(token), any())).thenReturn("test@email.com");
+        when(jwtService.verifyToken(token)).thenReturn(verifiedToken("test@email.com"));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -212,8 +211,7 @@ class JwtAuthenticationFilterTest {
         String token = "blacklisted_token";
         request.addHeader("Authorization", "Bearer " + token);
         request.setRequestURI("/api/v1/auth/logout");
-        when(jwtService.isTokenExpired(token)).thenReturn(false);
-        when(jwtService.extractClaim(eq(token), any())).thenReturn("test@email.com");
+        when(jwtService.verifyToken(token)).thenReturn(verifiedToken("test@email.com"));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -248,8 +246,7 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + token);
         request.setRequestURI("/v1/auth/refresh");
         when(memoryBlacklistService.isBlacklisted(token)).thenReturn(false);
-        when(jwtService.isTokenExpired(token)).thenReturn(false);
-        when(jwtService.extractClaim(eq(token), any())).thenReturn("test@email.com");
+        when(jwtService.verifyToken(token)).thenReturn(verifiedToken("test@email.com"));
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -258,4 +255,8 @@ class JwtAuthenticationFilterTest {
         verify(filterChain).doFilter(request, response);
         assertEquals(200, response.getStatus());
     }
+
+    private static VerifiedToken verifiedToken(String subject) {
+        return new VerifiedToken(subject, Instant.now().plusSeconds(60));
+    }
 }
@@ -8,7 +8,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.util.Date;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -18,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -240,4 +243,60 @@ class JwtServiceTest {
         // Then
         assertTrue(refreshTokenExpiration.after(regularTokenExpiration));
     }
+
+    @Test
+    void shouldVerifyTokenOnceAndServeRepeatedCallsFromCache() {
+        // Given
+        String token = jwtService.generateToken("testuser");
+
+        // When
+        JwtService.VerifiedToken first = jwtService.verifyToken(token);
+        JwtService.VerifiedToken second = jwtService.verifyToken(token);
+
+        // Then
+        assertEquals("testuser", first.subject());
+        assertTrue(first.expiresAt().isAfter(Instant.now()));
+        assertSame(first, second);
+    }
+
+    @Test
+    void shouldNotCacheTokenWithWrongSignature() {
+        // Given
+        JwtService differentKeyService = new JwtService();
+        ReflectionTestUtils.setField(differentKeyService, "secretKey", "ZGlmZmVyZW50a2V5ZGlmZmVyZW50a2V5ZGlmZmVyZW50a2V5ZGlmZmVyZW50a2V5");
+        ReflectionTestUtils.setField(differentKeyService, "jwtExpiration", JWT_EXPIRATION);
+        String tokenWithDifferentKey = differentKeyService.generateToken("testuser");
+
+        // When & Then
+        assertThrows(SignatureException.class, () -> jwtService.verifyToken(tokenWithDifferentKey));
+        assertThrows(SignatureException.class, () -> jwtService.verifyToken(tokenWithDifferentKey));
+    }
+
+    @Test
+    void shouldRejectExpiredTokenOnVerify() {
+        // Given
+        JwtService expiredJwtService = new JwtService();
+        ReflectionTestUtils.setField(expiredJwtService, "secretKey", TEST_SECRET_KEY);
+        ReflectionTestUtils.setField(expiredJwtService, "jwtExpiration", -60000L);
+        String expiredToken = expiredJwtService.generateToken("testuser");
+
+        // When & Then
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verifyToken(expiredToken));
+    }
+
+    @Test
+    void shouldKeepVerifiedTokenCacheBounded() {
+        // Given
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheSize", 2);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertEquals("user" + i, jwtService.verifyToken(jwtService.generateToken("user" + i)).subject());
+        }
+
+        // Then
+        Map<?, ?> verifiedTokens = (Map<?, ?>) ReflectionTestUtils.getField(jwtService, "verifiedTokens");
+        assertNotNull(verifiedTokens);
+        assertTrue(verifiedTokens.size() <= 2);
+    }
 }
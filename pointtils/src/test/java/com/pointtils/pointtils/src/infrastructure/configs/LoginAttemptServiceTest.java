@@ -1,23 +1,25 @@
 package com.pointtils.pointtils.src.infrastructure.configs;
 
-import java.lang.reflect.Field;
 import java.time.Instant;
-import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 
 class LoginAttemptServiceTest {
 
+    private InMemorySharedAuthStateStore sharedStateStore;
     private LoginAttemptService service;
 
     @BeforeEach
     @SuppressWarnings("unused")
     void setUp() {
-        service = new LoginAttemptService();
+        sharedStateStore = new InMemorySharedAuthStateStore();
+        service = new LoginAttemptService(sharedStateStore);
     }
 
     @Test
@@ -78,15 +80,12 @@ class LoginAttemptServiceTest {
             service.loginFailed(ip);
         }
 
-        Field attemptsField = getAttemptsField();
-        @SuppressWarnings("unchecked")
-        Map<String, Object> attempts = (Map<String, Object>) getFieldValue(service, attemptsField);
-        Object attempt = attempts.get(ip);
+        Instant vinteMinutosDepois = Instant.now().plusSeconds(20 * 60);
+        try (MockedStatic<Instant> instantMockedStatic = Mockito.mockStatic(Instant.class)) {
+            instantMockedStatic.when(Instant::now).thenReturn(vinteMinutosDepois);
 
-        long vinteMinutosAtrasEmSegundos = Instant.now().minusSeconds(20 * 60).getEpochSecond();
-        setLastAttempt(attempt, vinteMinutosAtrasEmSegundos);
-
-        assertFalse(service.isBlocked(ip), "Deveria estar desbloqueado após o tempo de bloqueio expirar");
+            assertFalse(service.isBlocked(ip), "Deveria estar desbloqueado após o tempo de bloqueio expirar");
+        }
     }
 
     @Test
@@ -97,35 +96,17 @@ class LoginAttemptServiceTest {
         assertFalse(service.isBlocked(ip));
     }
 
-    @SuppressWarnings("UseSpecificCatch")
-    private Field getAttemptsField() {
-        try {
-            Field field = LoginAttemptService.class.getDeclaredField("attempts");
-            field.setAccessible(true);
-            return field;
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
+    @Test
+    @DisplayName("Deve bloquear o IP em todas as instâncias que compartilham o estado")
+    void deveBloquearEmTodasAsInstancias() {
+        String ip = "172.16.0.1";
+        LoginAttemptService outraInstancia = new LoginAttemptService(sharedStateStore);
 
-    @SuppressWarnings("UseSpecificCatch")
-    private Object getFieldValue(Object obj, Field field) {
-        try {
-            return field.get(obj);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        for (int i = 0; i < 5; i++) {
+            (i % 2 == 0 ? service : outraInstancia).loginFailed(ip);
         }
-    }
 
-    @SuppressWarnings("UseSpecificCatch")
-    private void setLastAttempt(Object attempt, long newValueSeconds) {
-        try {
-            Field field = attempt.getClass().getDeclaredField("lastAttempt");
-            field.setAccessible(true);
-            // usar setLong para evitar auto-boxing/erros de tipo
-            field.setLong(attempt, newValueSeconds);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        assertTrue(service.isBlocked(ip));
+        assertTrue(outraInstancia.isBlocked(ip));
     }
 }
@@ -3,22 +3,34 @@ package com.pointtils.pointtils.src.infrastructure.configs;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class MemoryBlacklistServiceTest {
 
+    private InMemorySharedAuthStateStore sharedStateStore;
     private MemoryBlacklistService memoryBlacklistService;
 
     @BeforeEach
     void setUp() {
-        memoryBlacklistService = new MemoryBlacklistService();
+        sharedStateStore = new InMemorySharedAuthStateStore();
+        memoryBlacklistService = new MemoryBlacklistService(100, Duration.ofHours(1), sharedStateStore);
     }
 
     @Test
@@ -151,4 +163,101 @@ class MemoryBlacklistServiceTest {
             assertFalse(memoryBlacklistService.isBlacklisted(mockToken));
         }
     }
+
+    @Test
+    @DisplayName("Deve remover da blacklist os tokens expirados na varredura")
+    void shouldSweepExpiredTokens() {
+        memoryBlacklistService.addToBlacklist("token_expirado", Instant.now().minusSeconds(1));
+        memoryBlacklistService.addToBlacklist("token_valido", Instant.now().plusSeconds(60));
+
+        memoryBlacklistService.cleanupExpiredTokens();
+
+        assertEquals(1, memoryBlacklistService.size());
+        assertFalse(memoryBlacklistService.isBlacklisted("token_expirado"));
+        assertTrue(memoryBlacklistService.isBlacklisted("token_valido"),
+                "Token válido deveria continuar na blacklist após a reconstrução do filtro");
+    }
+
+    @Test
+    @DisplayName("Não deve descartar token válido quando a blacklist atinge o limite")
+    void shouldKeepRevokedTokensWhenFull() {
+        MemoryBlacklistService boundedService = new MemoryBlacklistService(2, Duration.ofHours(1),
+                new InMemorySharedAuthStateStore());
+        Instant now = Instant.now();
+        boundedService.addToBlacklist("token_longo", now.plusSeconds(3600));
+        boundedService.addToBlacklist("token_curto", now.plusSeconds(60));
+        boundedService.addToBlacklist("token_novo", now.plusSeconds(1800));
+
+        assertEquals(2, boundedService.size());
+        assertTrue(boundedService.isBlacklisted("token_curto"));
+        assertTrue(boundedService.isBlacklisted("token_longo"));
+        assertTrue(boundedService.isBlacklisted("token_novo"));
+        assertFalse(boundedService.isBlacklisted("token_ativo"));
+    }
+
+    @Test
+    @DisplayName("Deve tratar como revogado o token fora da cópia local se o armazenamento não responder")
+    void shouldFailClosedWhenSharedStoreIsUnavailable() {
+        SharedAuthStateStore failingStore = mock(SharedAuthStateStore.class);
+        when(failingStore.get(eq(MemoryBlacklistService.NAMESPACE), anyString()))
+                .thenThrow(new IllegalStateException("banco indisponível"));
+        MemoryBlacklistService boundedService = new MemoryBlacklistService(1, Duration.ofHours(1), failingStore);
+        boundedService.addToBlacklist("token_1", Instant.now().plusSeconds(60));
+        boundedService.addToBlacklist("token_2", Instant.now().plusSeconds(60));
+
+        assertTrue(boundedService.isBlacklisted("token_2"));
+    }
+
+    @Test
+    @DisplayName("Não deve manter o token na blacklist além da duração máxima de um token")
+    void shouldCapExpiryAtTokenTimeToLive() {
+        memoryBlacklistService.addToBlacklist("token", Instant.now().plus(30, ChronoUnit.DAYS));
+
+        Instant afterTimeToLive = Instant.now().plus(2, ChronoUnit.HOURS);
+        try (MockedStatic<Instant> instantMockedStatic = Mockito.mockStatic(Instant.class)) {
+            instantMockedStatic.when(Instant::now).thenReturn(afterTimeToLive);
+
+            assertFalse(memoryBlacklistService.isBlacklisted("token"));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter uma única entrada ao adicionar o mesmo token duas vezes")
+    void shouldKeepSingleEntryForRepeatedToken() {
+        memoryBlacklistService.addToBlacklist("token", Instant.now().plusSeconds(60));
+        memoryBlacklistService.addToBlacklist("token", Instant.now().plusSeconds(120));
+
+        assertEquals(1, memoryBlacklistService.size());
+        assertTrue(memoryBlacklistService.isBlacklisted("token"));
+    }
+
+    @Test
+    @DisplayName("Deve propagar o token revogado para as outras instâncias que compartilham o estado")
+    void shouldPropagateRevokedTokenToOtherInstances() {
+        MemoryBlacklistService otherInstance = new MemoryBlacklistService(100, Duration.ofHours(1), sharedStateStore);
+
+        memoryBlacklistService.addToBlacklist("token_logout", Instant.now().plusSeconds(60));
+
+        assertTrue(otherInstance.isBlacklisted("token_logout"));
+        assertFalse(otherInstance.isBlacklisted("token_ativo"));
+        assertEquals(1, sharedStateStore.findAll(MemoryBlacklistService.NAMESPACE, 10).size());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar as revogações do armazenamento compartilhado ao ser avisado de perda de avisos")
+    void shouldReloadRevokedTokensOnResync() {
+        memoryBlacklistService.addToBlacklist("token_anterior", Instant.now().plusSeconds(60));
+        SharedAuthStateStore.Entry stored = sharedStateStore.findAll(MemoryBlacklistService.NAMESPACE, 10).get(0);
+        SharedAuthStateStore restartedStore = mock(SharedAuthStateStore.class);
+        when(restartedStore.findAll(MemoryBlacklistService.NAMESPACE, 100)).thenReturn(List.of(stored));
+        MemoryBlacklistService restarted = new MemoryBlacklistService(100, Duration.ofHours(1), restartedStore);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(restartedStore).addInvalidationListener(eq(MemoryBlacklistService.NAMESPACE), listener.capture());
+        assertFalse(restarted.isBlacklisted("token_anterior"));
+
+        listener.getValue().accept(null);
+
+        assertTrue(restarted.isBlacklisted("token_anterior"));
+    }
 }
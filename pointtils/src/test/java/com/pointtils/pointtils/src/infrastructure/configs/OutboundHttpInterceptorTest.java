@@ -0,0 +1,152 @@
+package com.pointtils.pointtils.src.infrastructure.configs;
+
+import com.pointtils.pointtils.src.infrastructure.configs.OutboundHttpInterceptor.CircuitState;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Executa as chamadas pelo mesmo pool configurado em {@link RestTemplateConfig} contra um servidor HTTP local
+ */
+class OutboundHttpInterceptorTest {
+
+    private static final String HOST = "127.0.0.1";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile int responseStatus = 200;
+
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(HOST, 0), 0);
+        server.createContext("/estados", exchange -> {
+            requests.incrementAndGet();
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = gzip("[{\"sigla\":\"RS\"}]");
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://" + HOST + ":" + server.getAddress().getPort();
+
+        RestTemplateConfig config = new RestTemplateConfig();
+        connectionManager = config.outboundConnectionManager(10, 5, Duration.ofSeconds(1), Duration.ofMinutes(5));
+        httpClient = config.outboundHttpClient(connectionManager, Duration.ofSeconds(30));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar a conexão do pool e descompactar respostas gzip")
+    void shouldReuseConnectionAndDecompressGzip() {
+        RestTemplate restTemplate = restTemplate(new OutboundHttpInterceptor(connectionManager, meterRegistry,
+                5, Duration.ofSeconds(30)));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("[{\"sigla\":\"RS\"}]", restTemplate.getForObject(baseUrl + "/estados", String.class));
+        }
+
+        assertEquals(5, requests.get());
+        assertEquals(1, clientPorts.size());
+        assertEquals(1.0, meterRegistry.get("pointtils.http.client.pool.connections")
+                .tags("host", HOST, "state", "available").gauge().value());
+        assertEquals(0.0, meterRegistry.get("pointtils.http.client.pool.connections")
+                .tags("host", HOST, "state", "leased").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve abrir o circuito depois de falhas seguidas e recusar chamadas sem acessar o host")
+    void shouldOpenCircuitAfterConsecutiveFailures() {
+        OutboundHttpInterceptor interceptor = new OutboundHttpInterceptor(connectionManager, meterRegistry,
+                3, Duration.ofMinutes(1));
+        RestTemplate restTemplate = restTemplate(interceptor);
+        responseStatus = 503;
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(HttpServerErrorException.class,
+                    () -> restTemplate.getForObject(baseUrl + "/estados", String.class));
+        }
+        assertThrows(ResourceAccessException.class,
+                () -> restTemplate.getForObject(baseUrl + "/estados", String.class));
+
+        assertEquals(3, requests.get());
+        assertEquals(CircuitState.OPEN, interceptor.getState(HOST));
+        assertEquals(1.0, meterRegistry.get("pointtils.http.client.circuit.rejected").tags("host", HOST)
+                .counter().count());
+        assertEquals(1.0, meterRegistry.get("pointtils.http.client.circuit.state").tags("host", HOST)
+                .gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve fechar o circuito quando a chamada de teste tem sucesso")
+    void shouldCloseCircuitAfterSuccessfulProbe() {
+        OutboundHttpInterceptor interceptor = new OutboundHttpInterceptor(connectionManager, meterRegistry,
+                1, Duration.ZERO);
+        RestTemplate restTemplate = restTemplate(interceptor);
+        responseStatus = 500;
+        assertThrows(HttpServerErrorException.class,
+                () -> restTemplate.getForObject(baseUrl + "/estados", String.class));
+        assertEquals(CircuitState.OPEN, interceptor.getState(HOST));
+
+        responseStatus = 200;
+        restTemplate.getForObject(baseUrl + "/estados", String.class);
+
+        assertEquals(CircuitState.CLOSED, interceptor.getState(HOST));
+        assertEquals(2, requests.get());
+    }
+
+    private RestTemplate restTemplate(OutboundHttpInterceptor interceptor) {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofSeconds(2));
+        RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.setInterceptors(List.of(interceptor));
+        return restTemplate;
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return output.toByteArray();
+    }
+}
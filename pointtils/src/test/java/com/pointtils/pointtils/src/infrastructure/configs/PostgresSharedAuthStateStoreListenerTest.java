@@ -0,0 +1,73 @@
+package com.pointtils.pointtils.src.infrastructure.configs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Comportamento da conexão de LISTEN sem banco: a conexão é simulada e nunca entrega avisos, como uma conexão
+ * TCP meio aberta
+ */
+@DisplayName("Testes da conexão de LISTEN do estado de autenticação compartilhado")
+class PostgresSharedAuthStateStoreListenerTest {
+
+    @Test
+    @DisplayName("Deve reconectar e recarregar tudo quando a verificação da conexão falha")
+    void shouldReconnectWhenLivenessCheckFails() throws Exception {
+        Connection connection = silentConnection();
+        AtomicInteger connections = new AtomicInteger();
+        List<String> received = new CopyOnWriteArrayList<>();
+        PostgresSharedAuthStateStore store = new PostgresSharedAuthStateStore(mock(JdbcTemplate.class), () -> {
+            connections.incrementAndGet();
+            return connection;
+        }, 10, 10, Duration.ofMillis(20), Duration.ofMinutes(5));
+        store.addInvalidationListener("teste", received::add);
+
+        try {
+            store.start();
+            awaitAtLeast(connections, 2);
+        } finally {
+            store.stop();
+        }
+
+        assertTrue(connections.get() >= 2);
+        assertTrue(received.size() >= 2, "Cada reconexão deve pedir a recarga do estado");
+        verify(connection, atLeastOnce()).close();
+    }
+
+    private static Connection silentConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement listenStatement = mock(Statement.class);
+        Statement livenessStatement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(listenStatement, livenessStatement);
+        when(livenessStatement.execute("SELECT 1")).thenThrow(new SQLException("Read timed out"));
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getNotifications(anyInt())).thenReturn(new PGNotification[0]);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        return connection;
+    }
+
+    private static void awaitAtLeast(AtomicInteger counter, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (counter.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
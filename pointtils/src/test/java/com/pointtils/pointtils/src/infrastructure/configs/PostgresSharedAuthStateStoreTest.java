@@ -0,0 +1,141 @@
+package com.pointtils.pointtils.src.infrastructure.configs;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Duas instâncias do armazenamento sobre o mesmo banco, simulando duas instâncias da aplicação. Requer Docker para
+ * subir o PostgreSQL.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Testes de Integração do estado de autenticação compartilhado no PostgreSQL")
+class PostgresSharedAuthStateStoreTest {
+
+    private static final String NAMESPACE = "teste";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DriverManagerDataSource dataSource;
+
+    private PostgresSharedAuthStateStore nodeA;
+    private PostgresSharedAuthStateStore nodeB;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM auth_shared_state");
+        nodeA = newStore(jdbcTemplate, Duration.ofMinutes(5));
+        nodeB = newStore(jdbcTemplate, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    @DisplayName("Deve avisar a outra instância da chave gravada e recarregar tudo ao conectar")
+    void shouldNotifyOtherInstanceThroughListen() throws InterruptedException {
+        List<String> received = new CopyOnWriteArrayList<>();
+        nodeB.addInvalidationListener(NAMESPACE, received::add);
+        nodeB.start();
+        awaitSize(received, 1);
+
+        nodeA.put(NAMESPACE, "chave", "valor", Instant.now().plusSeconds(60));
+        awaitSize(received, 2);
+
+        assertEquals(null, received.get(0));
+        assertEquals("chave", received.get(1));
+        assertEquals("valor", nodeB.get(NAMESPACE, "chave").orElseThrow().value());
+    }
+
+    @Test
+    @DisplayName("Deve contar tentativas de forma atômica e recomeçar após a expiração")
+    void shouldIncrementAndRestartAfterExpiry() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        assertEquals(1, nodeA.increment(NAMESPACE, "ip", expiresAt));
+        assertEquals(2, nodeB.increment(NAMESPACE, "ip", expiresAt));
+        nodeA.increment(NAMESPACE, "ip_expirado", Instant.now().minusSeconds(1));
+        assertEquals(1, nodeB.increment(NAMESPACE, "ip_expirado", expiresAt));
+    }
+
+    @Test
+    @DisplayName("Não deve retornar registros expirados e deve removê-los na varredura")
+    void shouldHideAndDeleteExpiredEntries() {
+        nodeA.put(NAMESPACE, "expirado", "valor", Instant.now().minusSeconds(1));
+        nodeA.put(NAMESPACE, "valido", "valor", Instant.now().plusSeconds(60));
+
+        assertTrue(nodeB.get(NAMESPACE, "expirado").isEmpty());
+        assertEquals(1, nodeB.findAll(NAMESPACE, 10).size());
+        assertEquals(1, nodeA.deleteExpired());
+        assertTrue(nodeA.remove(NAMESPACE, "valido"));
+        assertFalse(nodeA.remove(NAMESPACE, "valido"));
+    }
+
+    @Test
+    @DisplayName("Deve pedir a recarga de tudo periodicamente para recuperar avisos perdidos")
+    void shouldResyncPeriodically() throws InterruptedException {
+        PostgresSharedAuthStateStore node = newStore(new JdbcTemplate(dataSource), Duration.ofMillis(200));
+        List<String> received = new CopyOnWriteArrayList<>();
+        node.addInvalidationListener(NAMESPACE, received::add);
+        try {
+            node.start();
+            long deadline = System.currentTimeMillis() + 5000;
+            while (received.size() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+        } finally {
+            node.stop();
+        }
+
+        assertTrue(received.size() >= 3);
+        assertTrue(received.stream().allMatch(Objects::isNull));
+    }
+
+    private static PostgresSharedAuthStateStore newStore(JdbcTemplate jdbcTemplate, Duration resyncInterval) {
+        return new PostgresSharedAuthStateStore(jdbcTemplate,
+                () -> DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()),
+                100, 100, Duration.ofMillis(100), resyncInterval);
+    }
+
+    private static void awaitSize(List<String> received, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (received.size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(size, received.size());
+    }
+}
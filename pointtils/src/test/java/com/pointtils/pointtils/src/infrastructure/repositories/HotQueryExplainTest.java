@@ -0,0 +1,175 @@
+package com.pointtils.pointtils.src.infrastructure.repositories;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Executa EXPLAIN nas consultas mais frequentes sobre uma massa de dados grande e falha caso alguma delas
+ * faça leitura sequencial das tabelas indexadas pela migration V26.
+ * <p>
+ * Requer Docker para subir o PostgreSQL via Testcontainers e é ignorado quando o Docker não está disponível. Na CI
+ * os runners {@code ubuntu-latest} do GitHub Actions já trazem Docker, então o teste roda junto com {@code mvn test}.
+ * A declaração dos índices nas migrations é conferida sem Docker pelo {@link MigrationIndexTest}.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Testes de plano de execução das consultas mais frequentes")
+class HotQueryExplainTest {
+
+    private static final Set<String> INDEXED_TABLES = Set.of(
+            "schedule", "appointment", "rating", "location", "user_specialties", "user_app");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static UUID interpreterId;
+    private static UUID userId;
+    private static UUID appointmentId;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = openConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/explain/seed_large_dataset.sql"));
+            interpreterId = queryUuid(connection, "SELECT interpreter_id FROM appointment ORDER BY interpreter_id LIMIT 1");
+            userId = queryUuid(connection, "SELECT user_id FROM appointment ORDER BY user_id LIMIT 1");
+            appointmentId = queryUuid(connection, "SELECT appointment_id FROM rating ORDER BY appointment_id LIMIT 1");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve usar índice ao buscar horários do intérprete por dia")
+    void shouldUseIndexForScheduleByInterpreterAndDay() throws Exception {
+        assertNoSequentialScan("SELECT * FROM schedule WHERE interpreter_id = ? AND day = 'MON'", interpreterId);
+    }
+
+    @Test
+    @DisplayName("Deve usar índice ao buscar agendamentos do intérprete ordenados por data")
+    void shouldUseIndexForAppointmentsByInterpreter() throws Exception {
+        assertNoSequentialScan("SELECT * FROM appointment WHERE interpreter_id = ? AND status = 'ACCEPTED' "
+                + "ORDER BY date DESC, end_time DESC LIMIT 20", interpreterId);
+    }
+
+    @Test
+    @DisplayName("Deve usar índice ao buscar agendamentos do usuário ordenados por data")
+    void shouldUseIndexForAppointmentsByUser() throws Exception {
+        assertNoSequentialScan("SELECT * FROM appointment WHERE user_id = ? "
+                + "ORDER BY date DESC, end_time DESC LIMIT 20", userId);
+    }
+
+    @Test
+    @DisplayName("Deve usar índice parcial ao verificar conflito de agendamento")
+    void shouldUseIndexForBusyAppointmentLookup() throws Exception {
+        assertNoSequentialScan("SELECT 1 FROM appointment WHERE interpreter_id = ? AND date = DATE '2024-06-03' "
+                + "AND status IN ('ACCEPTED', 'COMPLETED') AND start_time < TIME '11:00' AND end_time > TIME '10:00'",
+                interpreterId);
+    }
+
+    @Test
+    @DisplayName("Deve usar índice ao verificar avaliação do agendamento")
+    void shouldUseIndexForRatingByAppointment() throws Exception {
+        assertNoSequentialScan("SELECT 1 FROM rating WHERE appointment_id = ?", appointmentId);
+    }
+
+    @Test
+    @DisplayName("Deve usar índices ao buscar avaliações do intérprete")
+    void shouldUseIndexForRatingsByInterpreter() throws Exception {
+        assertNoSequentialScan("SELECT r.* FROM rating r JOIN appointment a ON a.id = r.appointment_id "
+                + "WHERE a.interpreter_id = ?", interpreterId);
+    }
+
+    @Test
+    @DisplayName("Deve usar índice ao paginar o feed de avaliações do intérprete")
+    void shouldUseIndexForRatingFeed() throws Exception {
+        assertNoSequentialScan("SELECT * FROM rating WHERE interpreter_id = ? "
+                + "ORDER BY created_at DESC, id DESC LIMIT 21", interpreterId);
+        assertNoSequentialScan("SELECT * FROM rating WHERE interpreter_id = ? "
+                + "ORDER BY stars DESC, created_at DESC, id DESC LIMIT 21", interpreterId);
+    }
+
+    @Test
+    @DisplayName("Deve usar índice ao buscar localizações, especialidades e dispositivos do usuário")
+    void shouldUseIndexForUserAssociations() throws Exception {
+        assertNoSequentialScan("SELECT * FROM location WHERE user_id = ? AND uf = 'RS'", interpreterId);
+        assertNoSequentialScan("SELECT * FROM user_specialties WHERE user_id = ?", interpreterId);
+        assertNoSequentialScan("SELECT * FROM user_app WHERE user_id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("Deve usar índices na consulta de horários disponíveis")
+    void shouldUseIndexForAvailableTimeSlots() throws Exception {
+        String sql = ScheduleRepository.class
+                .getMethod("findAvailableTimeSlots", UUID.class, LocalDate.class, LocalDate.class)
+                .getAnnotation(Query.class)
+                .value()
+                .replace(":interpreterId", "?")
+                .replace(":dateFrom", "DATE '2024-06-01'")
+                .replace(":dateTo", "DATE '2024-06-30'");
+
+        assertNoSequentialScan(sql, interpreterId);
+    }
+
+    private static void assertNoSequentialScan(String sql, UUID parameter) throws Exception {
+        try (Connection connection = openConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+            statement.setObject(1, parameter);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                JsonNode plan = OBJECT_MAPPER.readTree(resultSet.getString(1)).get(0).get("Plan");
+                List<String> sequentialScans = new ArrayList<>();
+                collectSequentialScans(plan, sequentialScans);
+                assertTrue(sequentialScans.isEmpty(),
+                        "Leitura sequencial em " + sequentialScans + " para a consulta: " + sql + "\n" + plan.toPrettyString());
+            }
+        }
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> sequentialScans) {
+        String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && INDEXED_TABLES.contains(relation)) {
+            sequentialScans.add(relation);
+        }
+        node.path("Plans").forEach(child -> collectSequentialScans(child, sequentialScans));
+    }
+
+    private static UUID queryUuid(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getObject(1, UUID.class);
+        }
+    }
+
+    private static Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,224 @@
+package com.pointtils.pointtils.src.infrastructure.repositories;
+
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterListCursor;
+import com.pointtils.pointtils.src.application.dto.requests.InterpreterSpecificationFilterDTO;
+import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
+import com.pointtils.pointtils.src.core.domain.entities.Location;
+import com.pointtils.pointtils.src.core.domain.entities.Specialty;
+import com.pointtils.pointtils.src.core.domain.entities.UserSpecialty;
+import com.pointtils.pointtils.src.core.domain.entities.enums.Gender;
+import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterListSort;
+import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterModality;
+import com.pointtils.pointtils.src.core.domain.entities.enums.UserStatus;
+import com.pointtils.pointtils.src.core.domain.entities.enums.UserTypeE;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterListingRow;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterLocationRow;
+import com.pointtils.pointtils.src.infrastructure.repositories.projections.InterpreterSpecialtyRow;
+import com.pointtils.pointtils.src.infrastructure.repositories.spec.InterpreterSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração da listagem paginada de intérpretes")
+class InterpreterListingRepositoryTest {
+
+    @Autowired
+    private InterpreterRepository interpreterRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private UserSpecialtyRepository userSpecialtyRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int sequence;
+
+    @Test
+    @DisplayName("Deve paginar por nome sem repetir intérpretes com o mesmo nome")
+    void shouldPaginateByNameWithCursor() {
+        Interpreter ana = persistInterpreter("Ana", BigDecimal.ZERO, Gender.FEMALE);
+        Interpreter bruno = persistInterpreter("Bruno", BigDecimal.ZERO, Gender.MALE);
+        Interpreter otherBruno = persistInterpreter("Bruno", BigDecimal.ZERO, Gender.MALE);
+        Interpreter carla = persistInterpreter("Carla", BigDecimal.ZERO, Gender.FEMALE);
+        List<UUID> brunos = sortedIds(bruno, otherBruno);
+
+        List<InterpreterListingRow> firstPage = findPage(InterpreterListSort.NAME, null, 2);
+        InterpreterListingRow lastOfFirstPage = firstPage.get(1);
+        InterpreterListCursor cursor = InterpreterListCursor.after(InterpreterListSort.NAME,
+                lastOfFirstPage.name(), lastOfFirstPage.rating(), null, lastOfFirstPage.id());
+        List<InterpreterListingRow> secondPage = findPage(InterpreterListSort.NAME, cursor, 2);
+
+        assertEquals(List.of(ana.getId(), brunos.get(0)), ids(firstPage));
+        assertEquals(List.of(brunos.get(1), carla.getId()), ids(secondPage));
+    }
+
+    @Test
+    @DisplayName("Deve paginar por avaliação decrescente")
+    void shouldPaginateByRatingWithCursor() {
+        Interpreter best = persistInterpreter("Ana", new BigDecimal("5.00"), Gender.FEMALE);
+        Interpreter middle = persistInterpreter("Bruno", new BigDecimal("3.50"), Gender.MALE);
+        Interpreter unrated = persistInterpreter("Carla", BigDecimal.ZERO, Gender.FEMALE);
+
+        List<InterpreterListingRow> firstPage = findPage(InterpreterListSort.RATING, null, 2);
+        InterpreterListingRow lastOfFirstPage = firstPage.get(1);
+        InterpreterListCursor cursor = InterpreterListCursor.after(InterpreterListSort.RATING,
+                lastOfFirstPage.name(), lastOfFirstPage.rating(), null, lastOfFirstPage.id());
+        List<InterpreterListingRow> secondPage = findPage(InterpreterListSort.RATING, cursor, 2);
+
+        assertEquals(List.of(best.getId(), middle.getId()), ids(firstPage));
+        assertEquals(List.of(unrated.getId()), ids(secondPage));
+    }
+
+    @Test
+    @DisplayName("Deve paginar a busca por nome pela relevância, desempatando pelo id")
+    void shouldPaginateByRelevanceWithCursor() {
+        // O H2 não tem pg_trgm nem a função da migration V27; registra equivalentes em Java
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS search_normalize FOR \""
+                + SearchFunctions.class.getName() + ".searchNormalize\"");
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS similarity FOR \""
+                + SearchFunctions.class.getName() + ".similarity\"");
+        Interpreter mariana = persistInterpreter("Mariana", BigDecimal.ZERO, Gender.FEMALE);
+        Interpreter anaPaula = persistInterpreter("Ana Paula", BigDecimal.ZERO, Gender.FEMALE);
+        Interpreter ana = persistInterpreter("Ana", BigDecimal.ZERO, Gender.FEMALE);
+        Interpreter otherAna = persistInterpreter("Aná", BigDecimal.ZERO, Gender.FEMALE);
+        persistInterpreter("Carlos", BigDecimal.ZERO, Gender.MALE);
+        List<UUID> anas = sortedIds(ana, otherAna);
+
+        InterpreterSpecificationFilterDTO filter = new InterpreterSpecificationFilterDTO();
+        filter.setName("ana");
+        List<UUID> collected = new java.util.ArrayList<>();
+        InterpreterListCursor cursor = null;
+        List<InterpreterListingRow> page;
+        do {
+            page = interpreterRepository.findListingRows(InterpreterSpecification.filter(filter),
+                    InterpreterListSort.RELEVANCE, "ana", cursor, 2);
+            page.forEach(row -> collected.add(row.id()));
+            if (!page.isEmpty()) {
+                InterpreterListingRow last = page.get(page.size() - 1);
+                cursor = InterpreterListCursor.decode(InterpreterListCursor.after(InterpreterListSort.RELEVANCE,
+                        last.name(), last.rating(), last.relevance(), last.id()).encode(), InterpreterListSort.RELEVANCE);
+            }
+        } while (page.size() == 2);
+
+        assertEquals(List.of(anas.get(0), anas.get(1), anaPaula.getId(), mariana.getId()), collected);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar os filtros da listagem junto com o cursor")
+    void shouldApplySpecificationFilters() {
+        persistInterpreter("Ana", BigDecimal.ZERO, Gender.FEMALE);
+        Interpreter bruno = persistInterpreter("Bruno", BigDecimal.ZERO, Gender.MALE);
+
+        InterpreterSpecificationFilterDTO filter = new InterpreterSpecificationFilterDTO();
+        filter.setGender(Gender.MALE);
+        List<InterpreterListingRow> rows = interpreterRepository.findListingRows(InterpreterSpecification.filter(filter),
+                InterpreterListSort.NAME, null, null, 10);
+
+        assertEquals(List.of(bruno.getId()), ids(rows));
+        assertEquals(InterpreterModality.ONLINE, rows.get(0).modality());
+    }
+
+    @Test
+    @DisplayName("Deve buscar localizações e especialidades de vários intérpretes em uma consulta cada")
+    void shouldFindLocationsAndSpecialtiesForManyInterpreters() {
+        Interpreter ana = persistInterpreter("Ana", BigDecimal.ZERO, Gender.FEMALE);
+        Interpreter bruno = persistInterpreter("Bruno", BigDecimal.ZERO, Gender.MALE);
+        entityManager.persistAndFlush(Location.builder()
+                .uf("RS").city("Porto Alegre").neighborhood("Centro").interpreter(ana).build());
+        entityManager.persistAndFlush(Location.builder()
+                .uf("SP").city("São Paulo").neighborhood("Sé").interpreter(bruno).build());
+        Specialty libras = entityManager.persistAndFlush(new Specialty("Libras"));
+        entityManager.persistAndFlush(new UserSpecialty(libras, bruno));
+
+        List<InterpreterLocationRow> locations = locationRepository.findListingRowsByInterpreterIds(List.of(ana.getId(), bruno.getId()));
+        List<InterpreterSpecialtyRow> specialties = userSpecialtyRepository.findListingRowsByUserIds(List.of(ana.getId(), bruno.getId()));
+
+        assertEquals(2, locations.size());
+        assertEquals(1, specialties.size());
+        assertEquals(bruno.getId(), specialties.get(0).userId());
+        assertEquals(libras.getId(), specialties.get(0).specialtyId());
+        assertEquals("Libras", specialties.get(0).name());
+    }
+
+    /**
+     * Equivalentes simplificados de {@code search_normalize} e da similaridade por trigramas do pg_trgm
+     */
+    public static class SearchFunctions {
+
+        public static String searchNormalize(String value) {
+            return java.text.Normalizer.normalize(value, java.text.Normalizer.Form.NFD)
+                    .replaceAll("\\p{M}", "")
+                    .toLowerCase(java.util.Locale.ROOT);
+        }
+
+        public static double similarity(String value, String term) {
+            java.util.Set<String> valueTrigrams = trigrams(value);
+            java.util.Set<String> termTrigrams = trigrams(term);
+            long shared = valueTrigrams.stream().filter(termTrigrams::contains).count();
+            long total = valueTrigrams.size() + termTrigrams.size() - shared;
+            return total == 0 ? 0 : (double) shared / total;
+        }
+
+        private static java.util.Set<String> trigrams(String text) {
+            java.util.Set<String> trigrams = new java.util.HashSet<>();
+            for (String word : text.split("[^\\p{L}\\p{N}]+")) {
+                String padded = "  " + word + " ";
+                for (int i = 0; !word.isEmpty() && i + 3 <= padded.length(); i++) {
+                    trigrams.add(padded.substring(i, i + 3));
+                }
+            }
+            return trigrams;
+        }
+    }
+
+    private List<InterpreterListingRow> findPage(InterpreterListSort sort, InterpreterListCursor after, int limit) {
+        return interpreterRepository.findListingRows(
+                InterpreterSpecification.filter(new InterpreterSpecificationFilterDTO()), sort, null, after, limit);
+    }
+
+    private static List<UUID> ids(List<InterpreterListingRow> rows) {
+        return rows.stream().map(InterpreterListingRow::id).toList();
+    }
+
+    /**
+     * Ordena como o banco: UUID comparado sem sinal, equivalente à ordem do texto hexadecimal
+     * ({@link UUID#compareTo} compara com sinal)
+     */
+    private static List<UUID> sortedIds(Interpreter... interpreters) {
+        return java.util.Arrays.stream(interpreters).map(Interpreter::getId)
+                .sorted(java.util.Comparator.comparing(UUID::toString)).toList();
+    }
+
+    private Interpreter persistInterpreter(String name, BigDecimal rating, Gender gender) {
+        sequence++;
+        return entityManager.persistAndFlush(Interpreter.builder()
+                .email("interpreter" + sequence + "@test.com")
+                .password("password")
+                .phone("1188888888" + sequence)
+                .status(UserStatus.ACTIVE)
+                .type(UserTypeE.INTERPRETER)
+                .name(name)
+                .gender(gender)
+                .rating(rating)
+                .modality(InterpreterModality.ONLINE)
+                .build());
+    }
+}
@@ -0,0 +1,203 @@
+package com.pointtils.pointtils.src.infrastructure.repositories;
+
+import com.pointtils.pointtils.src.application.mapper.RatingResponseMapper;
+import com.pointtils.pointtils.src.application.services.RatingService;
+import com.pointtils.pointtils.src.core.domain.entities.Appointment;
+import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
+import com.pointtils.pointtils.src.core.domain.entities.Person;
+import com.pointtils.pointtils.src.core.domain.entities.Rating;
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentModality;
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
+import com.pointtils.pointtils.src.core.domain.entities.enums.UserStatus;
+import com.pointtils.pointtils.src.core.domain.entities.enums.UserTypeE;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({RatingService.class, RatingResponseMapper.class})
+@DisplayName("Testes de Integração do feed paginado de avaliações")
+class RatingFeedRepositoryTest {
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 10, 10, 12, 0);
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private InterpreterRepository interpreterRepository;
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Person user;
+    private Interpreter interpreter;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persistAndFlush(Person.builder()
+                .email("user@test.com")
+                .password("password")
+                .phone("11999999999")
+                .status(UserStatus.ACTIVE)
+                .type(UserTypeE.PERSON)
+                .name("Test User")
+                .build());
+        interpreter = persistInterpreter("interpreter@test.com", "11888888888");
+    }
+
+    @Test
+    @DisplayName("Deve paginar das avaliações mais recentes para as mais antigas sem repetir empates")
+    void shouldPaginateByCreatedAtWithCursor() {
+        Rating newest = persistRating(interpreter, "3.00", BASE_DATE.plusDays(3));
+        Rating tied = persistRating(interpreter, "5.00", BASE_DATE.plusDays(2));
+        Rating otherTied = persistRating(interpreter, "4.00", BASE_DATE.plusDays(2));
+        Rating oldest = persistRating(interpreter, "1.00", BASE_DATE);
+        persistRating(persistInterpreter("other@test.com", "11888888887"), "5.00", BASE_DATE.plusDays(5));
+        List<UUID> ties = sortedIdsDesc(tied, otherTied);
+
+        List<UUID> collected = new ArrayList<>();
+        List<Rating> page = ratingRepository.findFeedByCreatedAt(interpreter.getId(), PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            page.forEach(rating -> collected.add(rating.getId()));
+            Rating last = page.get(page.size() - 1);
+            page = ratingRepository.findFeedByCreatedAtAfter(interpreter.getId(), last.getCreatedAt(), last.getId(),
+                    PageRequest.of(0, 2));
+        }
+
+        assertEquals(List.of(newest.getId(), ties.get(0), ties.get(1), oldest.getId()), collected);
+    }
+
+    @Test
+    @DisplayName("Deve paginar pelas maiores notas desempatando pela data e pelo id")
+    void shouldPaginateByStarsWithCursor() {
+        Rating best = persistRating(interpreter, "5.00", BASE_DATE);
+        Rating recentGood = persistRating(interpreter, "4.00", BASE_DATE.plusDays(2));
+        Rating tied = persistRating(interpreter, "4.00", BASE_DATE.plusDays(1));
+        Rating otherTied = persistRating(interpreter, "4.00", BASE_DATE.plusDays(1));
+        Rating worst = persistRating(interpreter, "2.00", BASE_DATE.plusDays(3));
+        List<UUID> ties = sortedIdsDesc(tied, otherTied);
+
+        List<UUID> collected = new ArrayList<>();
+        List<Rating> page = ratingRepository.findFeedByStars(interpreter.getId(), PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            page.forEach(rating -> collected.add(rating.getId()));
+            Rating last = page.get(page.size() - 1);
+            page = ratingRepository.findFeedByStarsAfter(interpreter.getId(), last.getStars(), last.getCreatedAt(),
+                    last.getId(), PageRequest.of(0, 2));
+        }
+
+        assertEquals(List.of(best.getId(), recentGood.getId(), ties.get(0), ties.get(1), worst.getId()), collected);
+    }
+
+    @Test
+    @DisplayName("Deve mover a avaliação ao reatribuir o agendamento e descontá-la do novo intérprete na exclusão")
+    void shouldMoveRatingWithReassignedAppointmentAndDeleteFromNewInterpreter() {
+        Interpreter newInterpreter = persistInterpreter("new@test.com", "11888888886");
+        Rating rating = persistRating(interpreter, "4.00", BASE_DATE);
+        interpreterRepository.applyRatingChange(interpreter.getId(), 1, rating.getStars(), 4, 0);
+        Appointment appointment = entityManager.find(Appointment.class, rating.getAppointment().getId());
+        appointment.setInterpreter(entityManager.find(Interpreter.class, newInterpreter.getId()));
+        entityManager.flush();
+
+        ratingService.moveAppointmentRatings(appointment.getId(), newInterpreter.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(List.of(), ratingRepository.findFeedByCreatedAt(interpreter.getId(), PageRequest.of(0, 10)));
+        assertEquals(List.of(rating.getId()), ratingRepository.findFeedByCreatedAt(newInterpreter.getId(),
+                PageRequest.of(0, 10)).stream().map(Rating::getId).toList());
+        assertRatingAggregates(interpreter, 0, 0);
+        assertRatingAggregates(newInterpreter, 1, 1);
+
+        ratingService.deleteRating(rating.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertRatingAggregates(interpreter, 0, 0);
+        assertRatingAggregates(newInterpreter, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Deve carregar a avaliação com lock de escrita para alterá-la")
+    void shouldLoadRatingForUpdate() {
+        Rating rating = persistRating(interpreter, "4.00", BASE_DATE);
+
+        assertEquals(new BigDecimal("4.00"),
+                ratingRepository.findByIdForUpdate(rating.getId()).orElseThrow().getStars());
+    }
+
+    private void assertRatingAggregates(Interpreter ratedInterpreter, int count, int fourStars) {
+        Interpreter found = entityManager.find(Interpreter.class, ratedInterpreter.getId());
+        assertEquals(count, found.getRatingCount());
+        assertEquals(fourStars, found.getRatingStars4());
+    }
+
+    /**
+     * Ordena como o banco, de forma decrescente: UUID comparado sem sinal, equivalente à ordem do texto hexadecimal
+     */
+    private static List<UUID> sortedIdsDesc(Rating... ratings) {
+        return Arrays.stream(ratings).map(Rating::getId)
+                .sorted(Comparator.comparing(UUID::toString).reversed()).toList();
+    }
+
+    private Rating persistRating(Interpreter ratedInterpreter, String stars, LocalDateTime createdAt) {
+        Appointment appointment = entityManager.persistAndFlush(Appointment.builder()
+                .modality(AppointmentModality.ONLINE)
+                .date(LocalDate.of(2025, 10, 1))
+                .description("Agendamento de teste")
+                .status(AppointmentStatus.COMPLETED)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .interpreter(ratedInterpreter)
+                .user(user)
+                .build());
+        Rating rating = entityManager.persistAndFlush(Rating.builder()
+                .stars(new BigDecimal(stars))
+                .description("Avaliação de teste")
+                .appointment(appointment)
+                .interpreterId(ratedInterpreter.getId())
+                .build());
+        // created_at é preenchido pelo Hibernate na inserção; fixa a data para controlar a ordem do feed
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Rating r SET r.createdAt = :createdAt WHERE r.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", rating.getId())
+                .executeUpdate();
+        entityManager.clear();
+        return rating;
+    }
+
+    private Interpreter persistInterpreter(String email, String phone) {
+        return entityManager.persistAndFlush(Interpreter.builder()
+                .email(email)
+                .password("password")
+                .phone(phone)
+                .status(UserStatus.ACTIVE)
+                .type(UserTypeE.INTERPRETER)
+                .name("Test Interpreter")
+                .build());
+    }
+}
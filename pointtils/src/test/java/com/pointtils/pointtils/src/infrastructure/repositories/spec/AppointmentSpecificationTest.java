@@ -0,0 +1,276 @@
+package com.pointtils.pointtils.src.infrastructure.repositories.spec;
+
+import com.pointtils.pointtils.src.application.dto.requests.AppointmentSpecificationFilterDTO;
+import com.pointtils.pointtils.src.core.domain.entities.Appointment;
+import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
+import com.pointtils.pointtils.src.core.domain.entities.Person;
+import com.pointtils.pointtils.src.core.domain.entities.Rating;
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentModality;
+import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
+import com.pointtils.pointtils.src.core.domain.entities.enums.UserStatus;
+import com.pointtils.pointtils.src.core.domain.entities.enums.UserTypeE;
+import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentRepository;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração AppointmentSpecification")
+class AppointmentSpecificationTest {
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Person user;
+    private Person otherUser;
+    private Interpreter interpreter;
+    private Interpreter otherInterpreter;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persistAndFlush(buildPerson("user@test.com", "11999999999"));
+        otherUser = entityManager.persistAndFlush(buildPerson("other-user@test.com", "11999999998"));
+        interpreter = entityManager.persistAndFlush(buildInterpreter("interpreter@test.com", "11888888888"));
+        otherInterpreter = entityManager.persistAndFlush(buildInterpreter("other-interpreter@test.com", "11888888887"));
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por intérprete e usuário")
+    void shouldFilterByInterpreterAndUser() {
+        Appointment expected = persistAppointment(interpreter, user, LocalDate.now().plusDays(1), AppointmentStatus.PENDING);
+        persistAppointment(otherInterpreter, user, LocalDate.now().plusDays(1), AppointmentStatus.PENDING);
+        persistAppointment(interpreter, otherUser, LocalDate.now().plusDays(1), AppointmentStatus.PENDING);
+
+        AppointmentSpecificationFilterDTO filter = new AppointmentSpecificationFilterDTO();
+        filter.setInterpreterId(interpreter.getId());
+        filter.setUserId(user.getId());
+
+        List<Appointment> result = appointmentRepository.findAll(AppointmentSpecification.filter(filter));
+
+        assertEquals(1, result.size());
+        assertEquals(expected.getId(), result.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por status e modalidade")
+    void shouldFilterByStatusAndModality() {
+        Appointment expected = persistAppointment(interpreter, user, LocalDate.now().plusDays(1), AppointmentStatus.ACCEPTED);
+        persistAppointment(interpreter, user, LocalDate.now().plusDays(1), AppointmentStatus.PENDING);
+
+        AppointmentSpecificationFilterDTO filter = new AppointmentSpecificationFilterDTO();
+        filter.setStatus(AppointmentStatus.ACCEPTED);
+        filter.setModality(AppointmentModality.ONLINE);
+
+        List<Appointment> result = appointmentRepository.findAll(AppointmentSpecification.filter(filter));
+
+        assertEquals(1, result.size());
+        assertEquals(expected.getId(), result.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar agendamentos que iniciam após a data e hora informadas")
+    void shouldFilterByFromDateTime() {
+        LocalDate today = LocalDate.of(2025, 10, 10);
+        Appointment sameDayLater = persistAppointment(interpreter, user, today, LocalTime.of(15, 0), LocalTime.of(16, 0));
+        Appointment nextDay = persistAppointment(interpreter, user, today.plusDays(1), LocalTime.of(8, 0), LocalTime.of(9, 0));
+        persistAppointment(interpreter, user, today, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        persistAppointment(interpreter, user, today.minusDays(1), LocalTime.of(15, 0), LocalTime.of(16, 0));
+
+        AppointmentSpecificationFilterDTO filter = new AppointmentSpecificationFilterDTO();
+        filter.setFromDateTime(LocalDateTime.of(today, LocalTime.of(12, 0)));
+
+        List<Appointment> result = appointmentRepository.findAll(AppointmentSpecification.filter(filter),
+                AppointmentSpecification.DEFAULT_SORT);
+
+        assertEquals(List.of(nextDay.getId(), sameDayLater.getId()), result.stream().map(Appointment::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar agendamentos com e sem avaliação")
+    void shouldFilterByHasRating() {
+        Appointment rated = persistAppointment(interpreter, user, LocalDate.now().minusDays(1), AppointmentStatus.COMPLETED);
+        Appointment notRated = persistAppointment(interpreter, user, LocalDate.now().minusDays(2), AppointmentStatus.COMPLETED);
+        entityManager.persistAndFlush(Rating.builder()
+                .stars(new BigDecimal("5.00"))
+                .appointment(rated)
+                .interpreterId(rated.getInterpreter().getId())
+                .build());
+
+        AppointmentSpecificationFilterDTO filter = new AppointmentSpecificationFilterDTO();
+        filter.setHasRating(true);
+        List<Appointment> withRating = appointmentRepository.findAll(AppointmentSpecification.filter(filter));
+        filter.setHasRating(false);
+        List<Appointment> withoutRating = appointmentRepository.findAll(AppointmentSpecification.filter(filter));
+
+        assertEquals(List.of(rated.getId()), withRating.stream().map(Appointment::getId).toList());
+        assertEquals(List.of(notRated.getId()), withoutRating.stream().map(Appointment::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve desconsiderar agendamentos encerrados há mais dias que o limite informado")
+    void shouldFilterByDayLimit() {
+        Appointment recent = persistAppointment(interpreter, user, LocalDate.now().minusDays(1), AppointmentStatus.COMPLETED);
+        persistAppointment(interpreter, user, LocalDate.now().minusDays(10), AppointmentStatus.COMPLETED);
+
+        AppointmentSpecificationFilterDTO filter = new AppointmentSpecificationFilterDTO();
+        filter.setDayLimit(3);
+
+        List<Appointment> result = appointmentRepository.findAll(AppointmentSpecification.filter(filter));
+
+        assertEquals(1, result.size());
+        assertEquals(recent.getId(), result.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar limite de dias quando igual a -1")
+    void shouldIgnoreDayLimitWhenDisabled() {
+        persistAppointment(interpreter, user, LocalDate.now().minusDays(1), AppointmentStatus.COMPLETED);
+        persistAppointment(interpreter, user, LocalDate.now().minusDays(10), AppointmentStatus.COMPLETED);
+
+        AppointmentSpecificationFilterDTO filter = new AppointmentSpecificationFilterDTO();
+        filter.setDayLimit(-1);
+
+        assertEquals(2, appointmentRepository.findAll(AppointmentSpecification.filter(filter)).size());
+    }
+
+    @Test
+    @DisplayName("Deve paginar e ordenar por data e horário de término decrescentes")
+    void shouldPaginateOrderedByDateAndEndTimeDesc() {
+        LocalDate date = LocalDate.of(2025, 10, 10);
+        Appointment first = persistAppointment(interpreter, user, date.plusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        Appointment second = persistAppointment(interpreter, user, date, LocalTime.of(14, 0), LocalTime.of(15, 0));
+        Appointment third = persistAppointment(interpreter, user, date, LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+        AppointmentSpecificationFilterDTO filter = new AppointmentSpecificationFilterDTO();
+        Page<Appointment> firstPage = appointmentRepository.findAll(AppointmentSpecification.filter(filter),
+                PageRequest.of(0, 2, AppointmentSpecification.DEFAULT_SORT));
+        Page<Appointment> secondPage = appointmentRepository.findAll(AppointmentSpecification.filter(filter),
+                PageRequest.of(1, 2, AppointmentSpecification.DEFAULT_SORT));
+
+        assertEquals(3, firstPage.getTotalElements());
+        assertEquals(List.of(first.getId(), second.getId()), firstPage.map(Appointment::getId).toList());
+        assertEquals(List.of(third.getId()), secondPage.map(Appointment::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve desempatar pelo id para paginar agendamentos com a mesma data e horário")
+    void shouldPaginateTiesByIdWithoutRepeating() {
+        LocalDate date = LocalDate.of(2025, 10, 10);
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(persistAppointment(interpreter, user, date, LocalTime.of(10, 0), LocalTime.of(11, 0)).getId());
+        }
+        // O banco compara UUIDs byte a byte, mesma ordem do texto hexadecimal
+        expected.sort(Comparator.comparing(UUID::toString).reversed());
+
+        AppointmentSpecificationFilterDTO filter = new AppointmentSpecificationFilterDTO();
+        List<UUID> collected = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            appointmentRepository.findAll(AppointmentSpecification.filter(filter),
+                            PageRequest.of(page, 2, AppointmentSpecification.DEFAULT_SORT))
+                    .forEach(appointment -> collected.add(appointment.getId()));
+        }
+
+        assertEquals(expected, collected);
+    }
+
+    @Test
+    @DisplayName("Deve buscar a fatia com os participantes carregados e indicar se há próxima página")
+    void shouldFetchSliceWithParticipantsAndNextPageFlag() {
+        LocalDate date = LocalDate.of(2025, 10, 10);
+        Appointment first = persistAppointment(interpreter, user, date.plusDays(2), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        Appointment second = persistAppointment(interpreter, user, date.plusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        Appointment third = persistAppointment(interpreter, user, date, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        entityManager.clear();
+
+        AppointmentSpecificationFilterDTO filter = new AppointmentSpecificationFilterDTO();
+        Slice<Appointment> firstSlice = appointmentRepository.findSliceWithParticipants(
+                AppointmentSpecification.filter(filter), PageRequest.of(0, 2, AppointmentSpecification.DEFAULT_SORT));
+        Slice<Appointment> secondSlice = appointmentRepository.findSliceWithParticipants(
+                AppointmentSpecification.filter(filter), PageRequest.of(1, 2, AppointmentSpecification.DEFAULT_SORT));
+
+        assertEquals(List.of(first.getId(), second.getId()), firstSlice.map(Appointment::getId).toList());
+        assertTrue(firstSlice.hasNext());
+        assertEquals(List.of(third.getId()), secondSlice.map(Appointment::getId).toList());
+        assertFalse(secondSlice.hasNext());
+        firstSlice.forEach(appointment -> {
+            assertTrue(Hibernate.isInitialized(appointment.getInterpreter()));
+            assertTrue(Hibernate.isInitialized(appointment.getUser()));
+        });
+    }
+
+    private Appointment persistAppointment(Interpreter appointmentInterpreter, Person appointmentUser,
+                                           LocalDate date, AppointmentStatus status) {
+        return entityManager.persistAndFlush(Appointment.builder()
+                .modality(AppointmentModality.ONLINE)
+                .date(date)
+                .description("Agendamento de teste")
+                .status(status)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .interpreter(appointmentInterpreter)
+                .user(appointmentUser)
+                .build());
+    }
+
+    private Appointment persistAppointment(Interpreter appointmentInterpreter, Person appointmentUser,
+                                           LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return entityManager.persistAndFlush(Appointment.builder()
+                .modality(AppointmentModality.ONLINE)
+                .date(date)
+                .description("Agendamento de teste")
+                .status(AppointmentStatus.PENDING)
+                .startTime(startTime)
+                .endTime(endTime)
+                .interpreter(appointmentInterpreter)
+                .user(appointmentUser)
+                .build());
+    }
+
+    private Person buildPerson(String email, String phone) {
+        return Person.builder()
+                .email(email)
+                .password("password")
+                .phone(phone)
+                .status(UserStatus.ACTIVE)
+                .type(UserTypeE.PERSON)
+                .name("Test User")
+                .build();
+    }
+
+    private Interpreter buildInterpreter(String email, String phone) {
+        return Interpreter.builder()
+                .email(email)
+                .password("password")
+                .phone(phone)
+                .status(UserStatus.ACTIVE)
+                .type(UserTypeE.INTERPRETER)
+                .name("Test Interpreter")
+                .build();
+    }
+}
@@ -3,6 +3,9 @@ package com.pointtils.pointtils.src.infrastructure.repositories.spec;
 import com.pointtils.pointtils.src.application.dto.requests.InterpreterSpecificationFilterDTO;
 import com.pointtils.pointtils.src.core.domain.entities.Appointment;
 import com.pointtils.pointtils.src.core.domain.entities.Interpreter;
+import com.pointtils.pointtils.src.core.domain.entities.InterpreterSlot;
+import com.pointtils.pointtils.src.core.domain.entities.Location;
+import com.pointtils.pointtils.src.core.domain.entities.Schedule;
 import com.pointtils.pointtils.src.core.domain.entities.enums.AppointmentStatus;
 import com.pointtils.pointtils.src.core.domain.entities.enums.DayOfWeek;
 import com.pointtils.pointtils.src.core.domain.entities.enums.Gender;
@@ -10,13 +13,14 @@ import com.pointtils.pointtils.src.core.domain.entities.enums.InterpreterModalit
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
@@ -26,7 +30,10 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -125,18 +132,32 @@ class InterpreterSpecificationTest {
         CriteriaQuery<?> query = mock(CriteriaQuery.class);
         CriteriaBuilder cb = mock(CriteriaBuilder.class);
         Predicate basePredicate = mock(Predicate.class);
+        Predicate interpreterPredicate = mock(Predicate.class);
         Predicate cityPredicate = mock(Predicate.class);
+        Predicate locationPredicate = mock(Predicate.class);
+        Predicate existsPredicate = mock(Predicate.class);
 
-        Join<Interpreter, ?> locationJoin = mock(Join.class);
+        Subquery<Integer> subquery = mock(Subquery.class);
+        Root locationRoot = mock(Root.class);
+        Path interpreterPath = mock(Path.class);
         Path cityPath = mock(Path.class);
-        Expression<String> lowerCityExpression = mock(Expression.class);
+        Expression<String> normalizedCityExpression = mock(Expression.class);
+        Expression<Integer> literal = mock(Expression.class);
 
         when(cb.conjunction()).thenReturn(basePredicate);
-        when(root.join("locations", JoinType.LEFT)).thenReturn((Join) locationJoin);
-        when(locationJoin.get("city")).thenReturn(cityPath);
-        when(cb.lower(cityPath)).thenReturn(lowerCityExpression);
-        when(cb.like(lowerCityExpression, "%são paulo%")).thenReturn(cityPredicate);
-        when(cb.and(basePredicate, cityPredicate)).thenReturn(cityPredicate);
+        when(query.subquery(Integer.class)).thenReturn(subquery);
+        when(subquery.from(Location.class)).thenReturn(locationRoot);
+        when(locationRoot.get("interpreter")).thenReturn(interpreterPath);
+        when(locationRoot.get("city")).thenReturn(cityPath);
+        when(cb.equal(interpreterPath, root)).thenReturn(interpreterPredicate);
+        when(cb.function("search_normalize", String.class, cityPath)).thenReturn(normalizedCityExpression);
+        when(cb.like(normalizedCityExpression, "%sao paulo%")).thenReturn(cityPredicate);
+        when(cb.and(interpreterPredicate, cityPredicate)).thenReturn(locationPredicate);
+        when(cb.literal(1)).thenReturn(literal);
+        when(subquery.select(literal)).thenReturn(subquery);
+        when(subquery.where(locationPredicate)).thenReturn(subquery);
+        when(cb.exists(subquery)).thenReturn(existsPredicate);
+        when(cb.and(basePredicate, existsPredicate)).thenReturn(existsPredicate);
 
         // Preencher o DTO
         InterpreterSpecificationFilterDTO filterDTO = new InterpreterSpecificationFilterDTO();
@@ -145,8 +166,8 @@ class InterpreterSpecificationTest {
         Specification<Interpreter> spec = InterpreterSpecification.filter(filterDTO);
         Predicate result = spec.toPredicate(root, query, cb);
 
-        assertThat(result).isEqualTo(cityPredicate);
-        verify(cb).like(lowerCityExpression, "%são paulo%");
+        assertThat(result).isEqualTo(existsPredicate);
+        verify(cb).like(normalizedCityExpression, "%sao paulo%");
     }
 
     @Test
@@ -155,16 +176,30 @@ class InterpreterSpecificationTest {
         CriteriaQuery<?> query = mock(CriteriaQuery.class);
         CriteriaBuilder cb = mock(CriteriaBuilder.class);
         Predicate basePredicate = mock(Predicate.class);
+        Predicate interpreterPredicate = mock(Predicate.class);
         Predicate ufPredicate = mock(Predicate.class);
+        Predicate locationPredicate = mock(Predicate.class);
+        Predicate existsPredicate = mock(Predicate.class);
 
-        Join<Interpreter, ?> locationJoin = mock(Join.class);
+        Subquery<Integer> subquery = mock(Subquery.class);
+        Root locationRoot = mock(Root.class);
+        Path interpreterPath = mock(Path.class);
         Path ufPath = mock(Path.class);
+        Expression<Integer> literal = mock(Expression.class);
 
         when(cb.conjunction()).thenReturn(basePredicate);
-        when(root.join("locations", JoinType.LEFT)).thenReturn((Join) locationJoin);
-        when(locationJoin.get("uf")).thenReturn(ufPath);
+        when(query.subquery(Integer.class)).thenReturn(subquery);
+        when(subquery.from(Location.class)).thenReturn(locationRoot);
+        when(locationRoot.get("interpreter")).thenReturn(interpreterPath);
+        when(locationRoot.get("uf")).thenReturn(ufPath);
+        when(cb.equal(interpreterPath, root)).thenReturn(interpreterPredicate);
         when(cb.equal(ufPath, "RS")).thenReturn(ufPredicate);
-        when(cb.and(basePredicate, ufPredicate)).thenReturn(ufPredicate);
+        when(cb.and(interpreterPredicate, ufPredicate)).thenReturn(locationPredicate);
+        when(cb.literal(1)).thenReturn(literal);
+        when(subquery.select(literal)).thenReturn(subquery);
+        when(subquery.where(locationPredicate)).thenReturn(subquery);
+        when(cb.exists(subquery)).thenReturn(existsPredicate);
+        when(cb.and(basePredicate, existsPredicate)).thenReturn(existsPredicate);
 
         // Preencher o DTO
         InterpreterSpecificationFilterDTO filterDTO = new InterpreterSpecificationFilterDTO();
@@ -173,7 +208,7 @@ class InterpreterSpecificationTest {
         Specification<Interpreter> spec = InterpreterSpecification.filter(filterDTO);
         Predicate result = spec.toPredicate(root, query, cb);
 
-        assertThat(result).isEqualTo(ufPredicate);
+        assertThat(result).isEqualTo(existsPredicate);
         verify(cb).equal(ufPath, "RS");
     }
 
@@ -186,18 +221,26 @@ class InterpreterSpecificationTest {
         Predicate basePredicate = mock(Predicate.class);
         when(cb.conjunction()).thenReturn(basePredicate);
 
-        // Mock do join de schedules
-        Join scheduleJoin = mock(Join.class);
-        when(root.join("schedules", JoinType.LEFT)).thenReturn(scheduleJoin);
+        // Mock do subquery de schedules
+        Subquery<Integer> scheduleSubquery = mock(Subquery.class);
+        when(query.subquery(Integer.class)).thenReturn(scheduleSubquery);
+        Root scheduleRoot = mock(Root.class);
+        when(scheduleSubquery.from(Schedule.class)).thenReturn(scheduleRoot);
+        Expression<Integer> literal = mock(Expression.class);
+        when(cb.literal(1)).thenReturn(literal);
+        when(scheduleSubquery.select(literal)).thenReturn(scheduleSubquery);
 
+        Path scheduleInterpreterPath = mock(Path.class);
         Path dayPath = mock(Path.class);
         Path startTimePath = mock(Path.class);
         Path endTimePath = mock(Path.class);
 
-        when(scheduleJoin.get("day")).thenReturn(dayPath);
-        when(scheduleJoin.get("startTime")).thenReturn(startTimePath);
-        when(scheduleJoin.get("endTime")).thenReturn(endTimePath);
+        when(scheduleRoot.get("interpreter")).thenReturn(scheduleInterpreterPath);
+        when(scheduleRoot.get("day")).thenReturn(dayPath);
+        when(scheduleRoot.get("startTime")).thenReturn(startTimePath);
+        when(scheduleRoot.get("endTime")).thenReturn(endTimePath);
 
+        Predicate scheduleInterpreterPredicate = mock(Predicate.class);
         Predicate dayPredicate = mock(Predicate.class);
         Predicate startPredicate = mock(Predicate.class);
         Predicate endPredicate = mock(Predicate.class);
@@ -207,11 +250,15 @@ class InterpreterSpecificationTest {
         LocalTime requestedStart = availableDate.toLocalTime();
         LocalTime requestedEnd = requestedStart.plusHours(1);
 
+        when(cb.equal(scheduleInterpreterPath, root)).thenReturn(scheduleInterpreterPredicate);
         when(cb.equal(dayPath, DayOfWeek.MON)).thenReturn(dayPredicate);
         when(cb.lessThanOrEqualTo(startTimePath, requestedStart)).thenReturn(startPredicate);
         when(cb.greaterThanOrEqualTo(endTimePath, requestedEnd)).thenReturn(endPredicate);
-        when(cb.and(dayPredicate, startPredicate, endPredicate)).thenReturn(schedulePredicate);
-        when(cb.and(basePredicate, schedulePredicate)).thenReturn(schedulePredicate);
+        when(cb.and(scheduleInterpreterPredicate, dayPredicate, startPredicate, endPredicate)).thenReturn(schedulePredicate);
+        when(scheduleSubquery.where(schedulePredicate)).thenReturn(scheduleSubquery);
+        Predicate existsSchedulePredicate = mock(Predicate.class);
+        when(cb.exists(scheduleSubquery)).thenReturn(existsSchedulePredicate);
+        when(cb.and(basePredicate, existsSchedulePredicate)).thenReturn(existsSchedulePredicate);
 
         // Mock do Subquery de appointments
         Subquery<UUID> subquery = mock(Subquery.class);
@@ -248,7 +295,7 @@ class InterpreterSpecificationTest {
         Predicate inSubqueryPredicate = mock(Predicate.class);
         when(idPath.in(subquery)).thenReturn(inSubqueryPredicate);
         when(cb.not(inSubqueryPredicate)).thenReturn(inSubqueryPredicate);
-        when(cb.and(schedulePredicate, inSubqueryPredicate)).thenReturn(inSubqueryPredicate);
+        when(cb.and(existsSchedulePredicate, inSubqueryPredicate)).thenReturn(inSubqueryPredicate);
 
         // DTO
         InterpreterSpecificationFilterDTO filterDTO = new InterpreterSpecificationFilterDTO();
@@ -259,6 +306,84 @@ class InterpreterSpecificationTest {
 
         // Executa e verifica se não lança exception
         assertDoesNotThrow(() -> spec.toPredicate(root, query, cb));
+        verify(cb).exists(scheduleSubquery);
+    }
+
+    @Test
+    void shouldBuildPredicateWithMaterializedSlotsOnAvailableDate() {
+        Root<Interpreter> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Predicate basePredicate = mock(Predicate.class);
+        when(cb.conjunction()).thenReturn(basePredicate);
+
+        LocalDateTime availableDate = LocalDateTime.of(2025, 10, 6, 10, 0);
+
+        Subquery<Long> subquery = mock(Subquery.class);
+        when(query.subquery(Long.class)).thenReturn(subquery);
+        Root slotRoot = mock(Root.class);
+        when(subquery.from(InterpreterSlot.class)).thenReturn(slotRoot);
+        Expression<Long> countExpression = mock(Expression.class);
+        when(cb.count(slotRoot)).thenReturn(countExpression);
+        when(subquery.select(countExpression)).thenReturn(subquery);
+
+        Path interpreterPath = mock(Path.class);
+        Path slotDatePath = mock(Path.class);
+        Path startTimePath = mock(Path.class);
+        when(slotRoot.get("interpreter")).thenReturn(interpreterPath);
+        when(slotRoot.get("slotDate")).thenReturn(slotDatePath);
+        when(slotRoot.get("startTime")).thenReturn(startTimePath);
+
+        Predicate interpreterPredicate = mock(Predicate.class);
+        Predicate datePredicate = mock(Predicate.class);
+        Predicate startTimePredicate = mock(Predicate.class);
+        Predicate slotPredicate = mock(Predicate.class);
+        when(cb.equal(interpreterPath, root)).thenReturn(interpreterPredicate);
+        when(cb.equal(slotDatePath, availableDate.toLocalDate())).thenReturn(datePredicate);
+        when(startTimePath.in(LocalTime.of(10, 0), LocalTime.of(10, 30))).thenReturn(startTimePredicate);
+        when(cb.and(interpreterPredicate, datePredicate, startTimePredicate)).thenReturn(slotPredicate);
+        when(subquery.where(slotPredicate)).thenReturn(subquery);
+
+        Predicate freeSlotsPredicate = mock(Predicate.class);
+        when(cb.equal(subquery, 2L)).thenReturn(freeSlotsPredicate);
+        when(cb.and(basePredicate, freeSlotsPredicate)).thenReturn(freeSlotsPredicate);
+
+        InterpreterSpecificationFilterDTO filterDTO = new InterpreterSpecificationFilterDTO();
+        filterDTO.setAvailableDate(availableDate);
+        filterDTO.setMaterializedAvailability(true);
+
+        Predicate result = InterpreterSpecification.filter(filterDTO).toPredicate(root, query, cb);
+
+        assertThat(result).isEqualTo(freeSlotsPredicate);
+        verify(query, never()).subquery(UUID.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2025-10-06T10:15", "2025-10-06T10:00:30", "2025-10-06T23:30"})
+    void shouldFallBackToSchedulesWhenRequestedTimeDoesNotFitSlots(String requestedDateTime) {
+        Root<Interpreter> root = mock(Root.class, RETURNS_DEEP_STUBS);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class, RETURNS_DEEP_STUBS);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_DEEP_STUBS);
+
+        InterpreterSpecificationFilterDTO filterDTO = new InterpreterSpecificationFilterDTO();
+        filterDTO.setAvailableDate(LocalDateTime.parse(requestedDateTime));
+        filterDTO.setMaterializedAvailability(true);
+
+        InterpreterSpecification.filter(filterDTO).toPredicate(root, query, cb);
+
+        verify(query, never()).subquery(Long.class);
+        verify(query).subquery(Integer.class);
+        verify(query).subquery(UUID.class);
+    }
+
+    @Test
+    void shouldFitMaterializedSlotsOnlyForAlignedTimesEndingOnTheSameDay() {
+        assertThat(InterpreterSpecification.fitsMaterializedSlots(LocalDateTime.of(2025, 10, 6, 10, 30))).isTrue();
+        assertThat(InterpreterSpecification.fitsMaterializedSlots(LocalDateTime.of(2025, 10, 6, 23, 0))).isTrue();
+        assertThat(InterpreterSpecification.fitsMaterializedSlots(LocalDateTime.of(2025, 10, 6, 10, 15))).isFalse();
+        assertThat(InterpreterSpecification.fitsMaterializedSlots(LocalDateTime.of(2025, 10, 6, 10, 0, 30))).isFalse();
+        assertThat(InterpreterSpecification.fitsMaterializedSlots(LocalDateTime.of(2025, 10, 6, 23, 30))).isFalse();
+        assertThat(InterpreterSpecification.fitsMaterializedSlots(null)).isFalse();
     }
 
     @Test
@@ -270,23 +395,59 @@ class InterpreterSpecificationTest {
         Predicate namePredicate = mock(Predicate.class);
 
         Path namePath = mock(Path.class);
-        Expression<String> lowerNameExpression = mock(Expression.class);
+        Expression<String> normalizedNameExpression = mock(Expression.class);
+        Expression<String> termLiteral = mock(Expression.class);
+        Expression<Double> similarityExpression = mock(Expression.class);
+        Order similarityOrder = mock(Order.class);
 
         when(cb.conjunction()).thenReturn(basePredicate);
         when(root.get("name")).thenReturn(namePath);
-        when(cb.lower(namePath)).thenReturn(lowerNameExpression);
-        when(cb.like(lowerNameExpression, "%souza%")).thenReturn(namePredicate);
+        when(cb.function("search_normalize", String.class, namePath)).thenReturn(normalizedNameExpression);
+        when(cb.like(normalizedNameExpression, "%joao souza%")).thenReturn(namePredicate);
         when(cb.and(basePredicate, namePredicate)).thenReturn(namePredicate);
+        when(query.getResultType()).thenReturn((Class) Interpreter.class);
+        when(cb.literal("joao souza")).thenReturn(termLiteral);
+        when(cb.function("similarity", Double.class, normalizedNameExpression, termLiteral)).thenReturn(similarityExpression);
+        when(cb.desc(similarityExpression)).thenReturn(similarityOrder);
 
-        // Preencher DTO com nome
+        // Preencher DTO com nome acentuado
         InterpreterSpecificationFilterDTO filterDTO = new InterpreterSpecificationFilterDTO();
-        filterDTO.setName("Souza");
+        filterDTO.setName("João Souza");
 
         Specification<Interpreter> spec = InterpreterSpecification.filter(filterDTO);
         Predicate result = spec.toPredicate(root, query, cb);
 
         assertThat(result).isEqualTo(namePredicate);
-        verify(cb).like(lowerNameExpression, "%souza%");
+        verify(cb).like(normalizedNameExpression, "%joao souza%");
+        verify(query).orderBy(similarityOrder);
+    }
+
+    @Test
+    void shouldNotOrderByRelevanceOnCountQuery() {
+        Root<Interpreter> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Predicate basePredicate = mock(Predicate.class);
+        Path namePath = mock(Path.class);
+        Expression<String> normalizedNameExpression = mock(Expression.class);
+
+        when(cb.conjunction()).thenReturn(basePredicate);
+        when(root.get("name")).thenReturn(namePath);
+        when(cb.function("search_normalize", String.class, namePath)).thenReturn(normalizedNameExpression);
+        when(query.getResultType()).thenReturn((Class) Long.class);
+
+        InterpreterSpecificationFilterDTO filterDTO = new InterpreterSpecificationFilterDTO();
+        filterDTO.setName("Souza");
+
+        InterpreterSpecification.filter(filterDTO).toPredicate(root, query, cb);
+
+        verify(query, never()).orderBy(any(Order.class));
+    }
+
+    @Test
+    void shouldNormalizeSearchTermRemovingAccentsAndCase() {
+        assertEquals("sao paulo", InterpreterSpecification.normalizeSearchTerm(" São Paulo "));
+        assertEquals("conceicao", InterpreterSpecification.normalizeSearchTerm("CONCEIÇÃO"));
     }
 
-}
\ No newline at end of file
+}
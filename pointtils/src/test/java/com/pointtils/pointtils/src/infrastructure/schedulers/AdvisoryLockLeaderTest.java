@@ -0,0 +1,81 @@
+package com.pointtils.pointtils.src.infrastructure.schedulers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdvisoryLockLeaderTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement tryLockStatement;
+    @Mock
+    private ResultSet resultSet;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT pg_try_advisory_lock(?)")).thenReturn(tryLockStatement);
+        when(tryLockStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+    }
+
+    @Test
+    void shouldKeepConnectionWhileHoldingTheLock() throws SQLException {
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        AdvisoryLockLeader leader = new AdvisoryLockLeader(dataSource, 42L, Duration.ofMinutes(1));
+
+        assertTrue(leader.isLeader());
+        assertTrue(leader.isLeader());
+
+        verify(tryLockStatement).setLong(1, 42L);
+        verify(dataSource, times(1)).getConnection();
+        verify(connection, never()).close();
+    }
+
+    @Test
+    void shouldReturnConnectionWhenAnotherInstanceHoldsTheLock() throws SQLException {
+        when(resultSet.getBoolean(1)).thenReturn(false);
+        AdvisoryLockLeader leader = new AdvisoryLockLeader(dataSource, 42L, Duration.ZERO);
+
+        assertFalse(leader.isLeader());
+
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldUnlockBeforeClosingOnRelease() throws SQLException {
+        PreparedStatement unlockStatement = mock(PreparedStatement.class);
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        when(connection.prepareStatement("SELECT pg_advisory_unlock(?)")).thenReturn(unlockStatement);
+        AdvisoryLockLeader leader = new AdvisoryLockLeader(dataSource, 42L, Duration.ofMinutes(1));
+        leader.isLeader();
+
+        leader.release();
+
+        verify(unlockStatement).setLong(1, 42L);
+        verify(unlockStatement).execute();
+        verify(connection).close();
+    }
+}
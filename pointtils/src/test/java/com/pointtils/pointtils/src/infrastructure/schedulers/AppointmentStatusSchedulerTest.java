@@ -1,63 +1,125 @@
 package com.pointtils.pointtils.src.infrastructure.schedulers;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.pointtils.pointtils.src.infrastructure.repositories.AppointmentRepository;
+import com.pointtils.pointtils.src.application.services.AppointmentExpiryService;
 
 @ExtendWith(MockitoExtension.class)
 class AppointmentStatusSchedulerTest {
 
+    private static final LocalDateTime NOW = LocalDateTime.now(ZoneId.of("America/Sao_Paulo"));
+
     @Mock
-    private AppointmentRepository appointmentRepository;
+    private AppointmentExpiryService appointmentExpiryService;
 
-    @InjectMocks
-    private AppointmentStatusScheduler scheduler;
+    @Mock
+    private AdvisoryLockLeader leader;
 
     @Test
-    void shouldCallRepositoryToUpdateExpiredAppointments() {
+    void shouldExpireAppointmentsInBatchesWhenDeadlineHasPassed() {
         // Given
-        when(appointmentRepository.updateExpiredPendingAppointmentsToCanceled()).thenReturn(2);
-        when(appointmentRepository.updateExpiredAcceptedAppointmentsToCompleted()).thenReturn(3);
+        AppointmentStatusScheduler scheduler = newScheduler(true);
+        when(leader.isLeader()).thenReturn(true);
+        when(appointmentExpiryService.findNextDeadlines(10)).thenReturn(List.of(NOW.minusMinutes(1), NOW.plusHours(1)));
+        when(appointmentExpiryService.expireDueAppointments(2)).thenReturn(2, 1);
 
         // When
         scheduler.updateExpiredAppointments();
 
         // Then
-        verify(appointmentRepository, times(1)).updateExpiredPendingAppointmentsToCanceled();
-        verify(appointmentRepository, times(1)).updateExpiredAcceptedAppointmentsToCompleted();
+        verify(appointmentExpiryService, times(2)).expireDueAppointments(2);
     }
 
     @Test
-    void shouldHandleExceptionGracefully() {
+    void shouldNotTouchDatabaseUntilNextDeadline() {
         // Given
-        when(appointmentRepository.updateExpiredPendingAppointmentsToCanceled()).thenThrow(new RuntimeException("Database error"));
+        AppointmentStatusScheduler scheduler = newScheduler(true);
+        when(leader.isLeader()).thenReturn(true);
+        when(appointmentExpiryService.findNextDeadlines(10)).thenReturn(List.of(NOW.plusHours(1)));
 
         // When
-        scheduler.updateExpiredAppointments(); // Should not throw exception
+        scheduler.updateExpiredAppointments();
+        scheduler.updateExpiredAppointments();
+
+        // Then
+        verify(appointmentExpiryService, times(1)).findNextDeadlines(10);
+        verify(appointmentExpiryService, never()).expireDueAppointments(2);
+    }
+
+    @Test
+    void shouldReloadDeadlinesWhenLoadedOnesAreConsumed() {
+        // Given
+        AppointmentStatusScheduler scheduler = newScheduler(true);
+        when(leader.isLeader()).thenReturn(true);
+        when(appointmentExpiryService.findNextDeadlines(10)).thenReturn(List.of(NOW.minusMinutes(1)), List.of());
+        when(appointmentExpiryService.expireDueAppointments(2)).thenReturn(1);
+
+        // When
+        scheduler.updateExpiredAppointments();
+        scheduler.updateExpiredAppointments();
+
+        // Then
+        verify(appointmentExpiryService, times(2)).findNextDeadlines(10);
+        verify(appointmentExpiryService, times(1)).expireDueAppointments(2);
+    }
+
+    @Test
+    void shouldSkipWhenAnotherInstanceIsLeader() {
+        // Given
+        AppointmentStatusScheduler scheduler = newScheduler(true);
+        when(leader.isLeader()).thenReturn(false);
+
+        // When
+        scheduler.updateExpiredAppointments();
 
         // Then
-        verify(appointmentRepository, times(1)).updateExpiredPendingAppointmentsToCanceled();
+        verify(appointmentExpiryService, never()).findNextDeadlines(10);
     }
 
     @Test
-    void shouldHandleNoExpiredAppointments() {
+    void shouldRunWithoutLeaderElectionWhenDisabled() {
         // Given
-        when(appointmentRepository.updateExpiredPendingAppointmentsToCanceled()).thenReturn(0);
-        when(appointmentRepository.updateExpiredAcceptedAppointmentsToCompleted()).thenReturn(0);
+        AppointmentStatusScheduler scheduler = newScheduler(false);
+        when(appointmentExpiryService.findNextDeadlines(10)).thenReturn(List.of(NOW.minusMinutes(1)));
+        when(appointmentExpiryService.expireDueAppointments(2)).thenReturn(1);
 
         // When
         scheduler.updateExpiredAppointments();
 
         // Then
-        verify(appointmentRepository, times(1)).updateExpiredPendingAppointmentsToCanceled();
-        verify(appointmentRepository, times(1)).updateExpiredAcceptedAppointmentsToCompleted();
+        verify(leader, never()).isLeader();
+        verify(appointmentExpiryService, times(1)).expireDueAppointments(2);
+    }
+
+    @Test
+    void shouldHandleExceptionGracefully() {
+        // Given
+        AppointmentStatusScheduler scheduler = newScheduler(true);
+        when(leader.isLeader()).thenReturn(true);
+        when(appointmentExpiryService.findNextDeadlines(10)).thenThrow(new RuntimeException("Database error"));
+
+        // When
+        scheduler.updateExpiredAppointments(); // Should not throw exception
+
+        // Then
+        verify(appointmentExpiryService, times(1)).findNextDeadlines(10);
+    }
+
+    private AppointmentStatusScheduler newScheduler(boolean leaderElection) {
+        return new AppointmentStatusScheduler(appointmentExpiryService, leader, leaderElection, 2, 10,
+                Duration.ofMinutes(1));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.pointtils.pointtils.src.infrastructure.schedulers;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pointtils.pointtils.src.application.services.AvailabilityEngine;
+import com.pointtils.pointtils.src.application.services.InterpreterSlotService;
+
+@ExtendWith(MockitoExtension.class)
+class InterpreterSlotSchedulerTest {
+
+    @Mock
+    private InterpreterSlotService interpreterSlotService;
+
+    @Mock
+    private AvailabilityEngine availabilityEngine;
+
+    @Mock
+    private AdvisoryLockLeader schedulerLeader;
+
+    @InjectMocks
+    private InterpreterSlotScheduler scheduler;
+
+    @Test
+    void shouldAdvanceHorizonOnStartup() {
+        ReflectionTestUtils.setField(scheduler, "materializationEnabled", true);
+        when(schedulerLeader.isLeader()).thenReturn(true);
+
+        scheduler.advanceAvailableSlotsOnStartup();
+
+        verify(interpreterSlotService).advanceHorizon();
+    }
+
+    @Test
+    void shouldAdvanceHorizonDaily() {
+        ReflectionTestUtils.setField(scheduler, "materializationEnabled", true);
+        when(schedulerLeader.isLeader()).thenReturn(true);
+
+        scheduler.advanceAvailableSlotsHorizon();
+
+        verify(interpreterSlotService).advanceHorizon();
+    }
+
+    @Test
+    void shouldNotAdvanceHorizonWhenNotLeader() {
+        ReflectionTestUtils.setField(scheduler, "materializationEnabled", true);
+        when(schedulerLeader.isLeader()).thenReturn(false);
+
+        scheduler.advanceAvailableSlotsOnStartup();
+        scheduler.advanceAvailableSlotsHorizon();
+
+        verifyNoInteractions(interpreterSlotService);
+    }
+
+    @Test
+    void shouldHandleExceptionGracefully() {
+        ReflectionTestUtils.setField(scheduler, "materializationEnabled", true);
+        when(schedulerLeader.isLeader()).thenReturn(true);
+        doThrow(new RuntimeException("Database error")).when(interpreterSlotService).advanceHorizon();
+
+        scheduler.advanceAvailableSlotsOnStartup(); // Should not throw exception
+
+        verify(interpreterSlotService).advanceHorizon();
+    }
+
+    @Test
+    void shouldSkipWhenMaterializationIsDisabled() {
+        ReflectionTestUtils.setField(scheduler, "materializationEnabled", false);
+
+        scheduler.advanceAvailableSlotsOnStartup();
+        scheduler.advanceAvailableSlotsHorizon();
+
+        verifyNoInteractions(interpreterSlotService, schedulerLeader);
+    }
+
+    @Test
+    void shouldRebuildAvailabilityIndexEvenWhenMaterializationIsDisabled() {
+        ReflectionTestUtils.setField(scheduler, "materializationEnabled", false);
+
+        scheduler.rebuildAvailabilityIndex();
+
+        verify(availabilityEngine).rebuildIfLoaded();
+    }
+}
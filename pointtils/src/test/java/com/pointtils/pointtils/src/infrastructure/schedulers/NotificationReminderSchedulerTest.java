@@ -0,0 +1,104 @@
+package com.pointtils.pointtils.src.infrastructure.schedulers;
+
+import com.pointtils.pointtils.src.application.services.NotificationService;
+import com.pointtils.pointtils.src.core.domain.entities.ScheduledNotification;
+import com.pointtils.pointtils.src.core.domain.entities.enums.NotificationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationReminderSchedulerTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(300);
+
+    @Mock
+    private NotificationService notificationService;
+
+    private NotificationReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new NotificationReminderScheduler(notificationService, 2, LEASE.toSeconds(), 3);
+    }
+
+    @Test
+    void shouldClaimBatchesUntilNoFullBatchIsReturned() {
+        ScheduledNotification first = reminder(1);
+        ScheduledNotification second = reminder(1);
+        ScheduledNotification third = reminder(1);
+        when(notificationService.claimDueNotifications(2, LEASE))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+        when(notificationService.deliverScheduledNotification(any())).thenReturn(true);
+
+        scheduler.dispatchDueNotifications();
+
+        verify(notificationService, times(2)).claimDueNotifications(2, LEASE);
+        verify(notificationService).completeScheduledNotification(first.getId());
+        verify(notificationService).completeScheduledNotification(second.getId());
+        verify(notificationService).completeScheduledNotification(third.getId());
+    }
+
+    @Test
+    void shouldKeepClaimedNotificationWhenDeliveryFails() {
+        ScheduledNotification failed = reminder(1);
+        ScheduledNotification thrown = reminder(1);
+        ScheduledNotification delivered = reminder(1);
+        when(notificationService.claimDueNotifications(2, LEASE))
+                .thenReturn(List.of(failed, thrown, delivered))
+                .thenReturn(List.of());
+        when(notificationService.deliverScheduledNotification(failed)).thenReturn(false);
+        when(notificationService.deliverScheduledNotification(thrown)).thenThrow(new RuntimeException("Erro"));
+        when(notificationService.deliverScheduledNotification(delivered)).thenReturn(true);
+
+        scheduler.dispatchDueNotifications();
+
+        verify(notificationService, never()).completeScheduledNotification(failed.getId());
+        verify(notificationService, never()).completeScheduledNotification(thrown.getId());
+        verify(notificationService).completeScheduledNotification(delivered.getId());
+    }
+
+    @Test
+    void shouldDropNotificationAfterMaxAttempts() {
+        ScheduledNotification exhausted = reminder(3);
+        when(notificationService.claimDueNotifications(2, LEASE)).thenReturn(List.of(exhausted));
+        when(notificationService.deliverScheduledNotification(exhausted)).thenReturn(false);
+
+        scheduler.dispatchDueNotifications();
+
+        verify(notificationService).completeScheduledNotification(exhausted.getId());
+    }
+
+    @Test
+    void shouldHandleClaimExceptionGracefully() {
+        when(notificationService.claimDueNotifications(2, LEASE)).thenThrow(new RuntimeException("Database error"));
+
+        scheduler.dispatchDueNotifications(); // Should not throw exception
+
+        verify(notificationService).claimDueNotifications(2, LEASE);
+    }
+
+    private static ScheduledNotification reminder(int attempts) {
+        return ScheduledNotification.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .type(NotificationType.APPOINTMENT_REMINDER)
+                .dueAt(LocalDateTime.now().minusMinutes(1))
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.pointtils.pointtils.src.infrastructure.schedulers;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.pointtils.pointtils.src.application.services.RatingService;
+
+@ExtendWith(MockitoExtension.class)
+class RatingAggregateSchedulerTest {
+
+    @Mock
+    private RatingService ratingService;
+
+    @Mock
+    private AdvisoryLockLeader schedulerLeader;
+
+    @InjectMocks
+    private RatingAggregateScheduler scheduler;
+
+    @Test
+    void shouldRebuildAggregatesOnLeader() {
+        when(schedulerLeader.isLeader()).thenReturn(true);
+
+        scheduler.rebuildRatingAggregates();
+
+        verify(ratingService).rebuildInterpreterRatingAggregates();
+    }
+
+    @Test
+    void shouldSkipRebuildWhenNotLeader() {
+        when(schedulerLeader.isLeader()).thenReturn(false);
+
+        scheduler.rebuildRatingAggregates();
+
+        verifyNoInteractions(ratingService);
+    }
+
+    @Test
+    void shouldHandleExceptionGracefully() {
+        when(schedulerLeader.isLeader()).thenReturn(true);
+        doThrow(new RuntimeException("Database error")).when(ratingService).rebuildInterpreterRatingAggregates();
+
+        scheduler.rebuildRatingAggregates(); // Should not throw exception
+
+        verify(ratingService).rebuildInterpreterRatingAggregates();
+    }
+}
@@ -0,0 +1,198 @@
+package com.pointtils.pointtils.src.util;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link S3Client} em memória para testes de upload e download sem um bucket real. Guarda os objetos por key e
+ * implementa apenas as operações usadas pelo S3Service, incluindo o upload em partes.
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, SortedMap<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+    private final Set<String> abortedUploads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger putObjectCount = new AtomicInteger();
+    private final AtomicInteger uploadPartCount = new AtomicInteger();
+    private final AtomicInteger deleteObjectsCount = new AtomicInteger();
+    private final AtomicInteger uploadIds = new AtomicInteger();
+
+    @Override
+    public String serviceName() {
+        return S3Client.SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        // Nada a liberar
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+        putObjectCount.incrementAndGet();
+        objects.put(request.key(), readBody(requestBody));
+        return PutObjectResponse.builder().eTag(Integer.toString(putObjectCount.get())).build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = "upload-" + uploadIds.incrementAndGet();
+        multipartUploads.put(uploadId, new ConcurrentSkipListMap<>());
+        return CreateMultipartUploadResponse.builder().bucket(request.bucket()).key(request.key())
+                .uploadId(uploadId).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+        uploadPartCount.incrementAndGet();
+        getUpload(request.uploadId()).put(request.partNumber(), readBody(requestBody));
+        return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        SortedMap<Integer, byte[]> parts = new TreeMap<>(multipartUploads.remove(request.uploadId()));
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (CompletedPart part : request.multipartUpload().parts()) {
+            content.writeBytes(parts.get(part.partNumber()));
+        }
+        objects.put(request.key(), content.toByteArray());
+        return CompleteMultipartUploadResponse.builder().bucket(request.bucket()).key(request.key()).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        multipartUploads.remove(request.uploadId());
+        abortedUploads.add(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest request,
+                                       ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        byte[] content = objects.get(request.key());
+        if (content == null) {
+            throw NoSuchKeyException.builder()
+                    .awsErrorDetails(AwsErrorDetails.builder().errorCode("NoSuchKey")
+                            .errorMessage("The specified key does not exist.").build())
+                    .statusCode(404)
+                    .build();
+        }
+        GetObjectResponse response = GetObjectResponse.builder().contentLength((long) content.length).build();
+        try {
+            return responseTransformer.transform(response,
+                    AbortableInputStream.create(new ByteArrayInputStream(content)));
+        } catch (Exception e) {
+            throw SdkClientException.create("Falha ao ler o objeto " + request.key(), e);
+        }
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        byte[] content = objects.get(request.key());
+        if (content == null) {
+            throw NoSuchKeyException.builder()
+                    .awsErrorDetails(AwsErrorDetails.builder().errorCode("NoSuchKey").build())
+                    .statusCode(404)
+                    .build();
+        }
+        return HeadObjectResponse.builder().contentLength((long) content.length).build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return (DeleteObjectResponse) DeleteObjectResponse.builder()
+                .sdkHttpResponse(SdkHttpResponse.builder().statusCode(204).build())
+                .build();
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+        deleteObjectsCount.incrementAndGet();
+        request.delete().objects().forEach(object -> objects.remove(object.key()));
+        return DeleteObjectsResponse.builder().build();
+    }
+
+    public void putObjectContent(String key, byte[] content) {
+        objects.put(key, content);
+    }
+
+    public byte[] getObjectContent(String key) {
+        return objects.get(key);
+    }
+
+    public int getPutObjectCount() {
+        return putObjectCount.get();
+    }
+
+    public int getDeleteObjectsCount() {
+        return deleteObjectsCount.get();
+    }
+
+    public int getUploadPartCount() {
+        return uploadPartCount.get();
+    }
+
+    public int getPendingMultipartUploads() {
+        return multipartUploads.size();
+    }
+
+    public Set<String> getAbortedUploads() {
+        return abortedUploads;
+    }
+
+    private SortedMap<Integer, byte[]> getUpload(String uploadId) {
+        SortedMap<Integer, byte[]> parts = multipartUploads.get(uploadId);
+        if (parts == null) {
+            throw SdkClientException.create("Upload em partes inexistente: " + uploadId);
+        }
+        return parts;
+    }
+
+    private static byte[] readBody(RequestBody requestBody) {
+        try (InputStream content = requestBody.contentStreamProvider().newStream()) {
+            return content.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
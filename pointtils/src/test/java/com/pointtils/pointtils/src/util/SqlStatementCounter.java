@@ -0,0 +1,39 @@
+package com.pointtils.pointtils.src.util;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate entre {@link #reset()} e {@link #assertAtMost(long, String)},
+ * usando as estatísticas da {@link SessionFactory}. As estatísticas são ligadas na criação do contador.
+ */
+public class SqlStatementCounter {
+
+    private final Statistics statistics;
+
+    public SqlStatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    public void assertAtMost(long expected, String operation) {
+        long executed = count();
+        assertTrue(executed <= expected,
+                operation + " executou " + executed + " comandos SQL, o limite é " + expected);
+    }
+
+    public void disable() {
+        statistics.setStatisticsEnabled(false);
+    }
+}
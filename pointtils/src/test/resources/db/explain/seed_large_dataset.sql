@@ -0,0 +1,68 @@
+-- Massa de dados para os testes de plano de execucao (EXPLAIN) das consultas mais frequentes.
+-- Os volumes sao grandes o suficiente para que o planner prefira indices a leituras sequenciais.
+
+CREATE TEMP TABLE seed_interpreter AS
+SELECT uuid_generate_v4() AS id, n FROM generate_series(1, 2000) AS n;
+
+CREATE TEMP TABLE seed_person AS
+SELECT uuid_generate_v4() AS id, n FROM generate_series(1, 20000) AS n;
+
+INSERT INTO user_account (id, email, password, phone, status, type)
+SELECT id, 'explain-interpreter-' || n || '@pointtils.com', 'senha', '51999999999', 'ACTIVE', 'INTERPRETER'
+FROM seed_interpreter;
+
+INSERT INTO user_account (id, email, password, phone, status, type)
+SELECT id, 'explain-person-' || n || '@pointtils.com', 'senha', '51999999999', 'ACTIVE', 'PERSON'
+FROM seed_person;
+
+INSERT INTO person (id, name, gender, birthday, cpf)
+SELECT id, 'Interprete ' || n, 'FEMALE', DATE '1990-01-01', lpad((90000000000 + n)::text, 11, '0')
+FROM seed_interpreter;
+
+INSERT INTO person (id, name, gender, birthday, cpf)
+SELECT id, 'Pessoa ' || n, 'MALE', DATE '1995-01-01', lpad((10000000000 + n)::text, 11, '0')
+FROM seed_person;
+
+INSERT INTO interpreter (id, rating, image_rights, modality, description)
+SELECT id, 4.5, true, 'ALL', 'Interprete gerado para testes'
+FROM seed_interpreter;
+
+INSERT INTO location (uf, city, neighborhood, user_id)
+SELECT (ARRAY['RS', 'SP', 'RJ', 'MG', 'SC'])[1 + n % 5], 'Cidade ' || (n % 300), 'Bairro ' || (n % 50), id
+FROM seed_interpreter;
+
+INSERT INTO schedule (interpreter_id, day, start_time, end_time)
+SELECT i.id, d.day::schedule_day_enum, TIME '08:00', TIME '18:00'
+FROM seed_interpreter i
+CROSS JOIN unnest(ARRAY['MON', 'TUE', 'WED', 'THU', 'FRI']) AS d(day);
+
+INSERT INTO user_specialties (specialtie_id, user_id)
+SELECT s.id, i.id
+FROM seed_interpreter i
+JOIN LATERAL (SELECT id FROM specialties ORDER BY id OFFSET i.n % 10 LIMIT 3) s ON true;
+
+INSERT INTO user_app (device_id, token, platform, user_id, created_at, modified_at)
+SELECT 'device-' || n, 'token-' || n, 'android', id, now(), now()
+FROM seed_person;
+
+INSERT INTO appointment (uf, city, modality, date, description, status, interpreter_id, user_id, start_time, end_time)
+SELECT 'RS',
+       'Porto Alegre',
+       'ONLINE',
+       DATE '2024-01-01' + (g % 730),
+       'Agendamento gerado para testes',
+       (ARRAY['PENDING', 'ACCEPTED', 'CANCELED', 'COMPLETED'])[1 + g % 4]::appointment_status_enum,
+       ids.interpreters[1 + g % 2000],
+       ids.persons[1 + g % 20000],
+       TIME '08:00' + (g % 10) * INTERVAL '1 hour',
+       TIME '09:00' + (g % 10) * INTERVAL '1 hour'
+FROM generate_series(1, 200000) AS g
+CROSS JOIN (SELECT (SELECT array_agg(id ORDER BY n) FROM seed_interpreter) AS interpreters,
+                   (SELECT array_agg(id ORDER BY n) FROM seed_person) AS persons) AS ids;
+
+INSERT INTO rating (stars, description, appointment_id, interpreter_id)
+SELECT 1 + (row_number() OVER ()) % 5, 'Avaliacao gerada para testes', id, interpreter_id
+FROM appointment
+WHERE status = 'COMPLETED';
+
+ANALYZE;